@@ -0,0 +1,106 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of a batch request body and encoding of its response body, in JSON through Jackson and in the
+ * {@link BinaryBatchCodec} columnar format. One operation decodes or encodes the whole batch; the JSON response echoes
+ * every request as the batch endpoint does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchWireFormatBenchmark {
+
+    private static final TypeReference<List<OptionRequestDto>> REQUESTS = new TypeReference<>() {};
+
+    @Param({"100", "10000"})
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private byte[] jsonRequest;
+    private byte[] binaryRequest;
+    private BatchPricingResponseDto jsonResponse;
+    private PricingResults results;
+
+    @Setup
+    public void setUp() throws IOException {
+        OptionRequestDto[] requests = BenchmarkData.randomRequests(batchSize, new SplittableRandom(42));
+        OptionBatch batch = new OptionBatch(batchSize);
+        for (OptionRequestDto request : requests) {
+            batch.add(request);
+        }
+        results = new PricingResults(batchSize);
+        BlackScholesBatchKernel.price(batch, results);
+
+        List<OptionPricingResponseDto> responses = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            responses.add(OptionPricingResponseDto.builder()
+                    .price(results.price()[i])
+                    .delta(results.delta()[i])
+                    .gamma(results.gamma()[i])
+                    .vega(results.vega()[i])
+                    .volatilityUsed(batch.volatility()[i])
+                    .pricingModel(PricingModel.BLACK_SCHOLES)
+                    .input(requests[i])
+                    .build());
+        }
+        jsonResponse = BatchPricingResponseDto.builder().results(responses).errors(List.of()).build();
+        jsonRequest = objectMapper.writeValueAsBytes(requests);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        BinaryBatchCodec.writeRequest(batch, body);
+        binaryRequest = body.toByteArray();
+    }
+
+    @Benchmark
+    public List<OptionRequestDto> decodeJson() throws IOException {
+        return objectMapper.readValue(jsonRequest, REQUESTS);
+    }
+
+    @Benchmark
+    public OptionBatch decodeBinary() throws IOException {
+        return BinaryBatchCodec.readRequest(new ByteArrayInputStream(binaryRequest));
+    }
+
+    @Benchmark
+    public int encodeJson() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, jsonResponse);
+        return out.size();
+    }
+
+    @Benchmark
+    public int encodeBinary() throws IOException {
+        out.reset();
+        BinaryBatchCodec.writeResponse(results, batchSize, 0, out);
+        return out.size();
+    }
+}
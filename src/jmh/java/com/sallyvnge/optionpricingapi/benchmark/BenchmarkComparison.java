@@ -0,0 +1,99 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, typically a saved baseline and the result of the current commit.
+ *
+ * For every benchmark present in both files it prints the primary score and the normalized allocation rate
+ * reported by the GC profiler, with their relative change. Benchmarks whose score got worse by more than the
+ * threshold (10% by default) are flagged and make the process exit with status 1.
+ *
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold]}
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s %12s %12s%n", "Benchmark", "Baseline", "Current", "Change", "B/op before", "B/op after");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+
+            double scoreBefore = before.path("primaryMetric").path("score").asDouble();
+            double scoreAfter = after.path("primaryMetric").path("score").asDouble();
+            double change = (scoreAfter - scoreBefore) / scoreBefore;
+            // Average time and sample modes: lower is better. Throughput modes: higher is better.
+            boolean lowerIsBetter = !"thrpt".equals(after.path("mode").asText());
+            boolean regression = lowerIsBetter ? change > threshold : change < -threshold;
+            if (regression) {
+                regressions++;
+            }
+
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %12.1f %12.1f%s%n",
+                    entry.getKey(), scoreBefore, scoreAfter, 100.0 * change,
+                    allocation(before), allocation(after), regression ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions, 100.0 * threshold);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Indexes the results of a JMH JSON file by benchmark name and parameters.
+     */
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String benchmark = result.path("benchmark").asText();
+            // Keep "Class.method" only, the package is the same for every benchmark
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    /**
+     * @return The bytes allocated per operation, or NaN when the GC profiler was not enabled
+     */
+    private static double allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+}
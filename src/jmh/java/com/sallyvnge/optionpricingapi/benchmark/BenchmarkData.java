@@ -0,0 +1,38 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible random contracts shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    static OptionRequestDto[] randomRequests(int n, SplittableRandom random) {
+        OptionRequestDto[] requests = new OptionRequestDto[n];
+        for (int i = 0; i < n; i++) {
+            requests[i] = OptionRequestDto.builder()
+                    .underlyingPrice(100.0)
+                    .strikePrice(random.nextDouble(50.0, 150.0))
+                    .timeToMaturity(random.nextDouble(0.02, 3.0))
+                    .riskFreeRate(random.nextDouble(-0.01, 0.06))
+                    .volatility(random.nextDouble(0.05, 0.8))
+                    .optionType(random.nextBoolean() ? OptionType.CALL : OptionType.PUT)
+                    .build();
+        }
+        return requests;
+    }
+
+    /**
+     * @return Pricing metrics backed by a registry without children, whose meters record nothing
+     */
+    static PricingMetrics noopMetrics() {
+        return new PricingMetrics(new CompositeMeterRegistry());
+    }
+}
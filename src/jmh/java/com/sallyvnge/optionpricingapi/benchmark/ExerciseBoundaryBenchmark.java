@@ -0,0 +1,68 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.boundary.ExerciseBoundaryPricer;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per contract of {@link ExerciseBoundaryPricer} on the random American options of {@link LatticeBenchmark}, and
+ * on random puts with positive rates, all of which are exercised early.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExerciseBoundaryBenchmark {
+
+    private static final int CONTRACTS = 64;
+
+    private OptionRequestDto[] contracts;
+    private OptionRequestDto[] puts;
+
+    @Setup
+    public void setUp() {
+        contracts = BenchmarkData.randomRequests(CONTRACTS, new SplittableRandom(42));
+        SplittableRandom random = new SplittableRandom(42);
+        puts = new OptionRequestDto[CONTRACTS];
+        for (int i = 0; i < CONTRACTS; i++) {
+            puts[i] = OptionRequestDto.builder()
+                    .underlyingPrice(100.0)
+                    .strikePrice(random.nextDouble(50.0, 150.0))
+                    .timeToMaturity(random.nextDouble(0.02, 3.0))
+                    .riskFreeRate(random.nextDouble(0.001, 0.06))
+                    .volatility(random.nextDouble(0.05, 0.8))
+                    .optionType(OptionType.PUT)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONTRACTS)
+    public void american(Blackhole blackhole) {
+        price(blackhole, contracts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONTRACTS)
+    public void americanPut(Blackhole blackhole) {
+        price(blackhole, puts);
+    }
+
+    private static void price(Blackhole blackhole, OptionRequestDto[] contracts) {
+        for (OptionRequestDto contract : contracts) {
+            blackhole.consume(ExerciseBoundaryPricer.priceAndGreeks(contract.underlyingPrice(), contract.strikePrice(),
+                    contract.timeToMaturity(), contract.riskFreeRate(), contract.volatility(), contract.optionType()));
+        }
+    }
+}
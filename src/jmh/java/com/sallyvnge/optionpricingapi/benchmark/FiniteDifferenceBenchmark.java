@@ -0,0 +1,80 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.lattice.LatticePricer;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import com.sallyvnge.optionpricingapi.pde.FiniteDifferencePricer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per chain of American puts of evenly spaced strikes, priced by a single {@link FiniteDifferencePricer} solve
+ * on the default grid against one {@link LatticePricer} run per strike on the default lattice, and the same chain
+ * with the vega and rho of the differentiated solve.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FiniteDifferenceBenchmark {
+
+    private static final int SPACE_STEPS = 400;
+    private static final int TIME_STEPS = 200;
+    private static final int LATTICE_STEPS = 128;
+
+    @Param({"1", "16", "128"})
+    private int strikes;
+
+    private double[] strikePrices;
+    private double[] prices;
+    private double[] deltas;
+    private double[] gammas;
+    private double[] vegas;
+    private double[] rhos;
+
+    @Setup
+    public void setUp() {
+        strikePrices = new double[strikes];
+        for (int j = 0; j < strikes; j++) {
+            strikePrices[j] = strikes == 1 ? 100.0 : 50.0 + 100.0 * j / (strikes - 1);
+        }
+        prices = new double[strikes];
+        deltas = new double[strikes];
+        gammas = new double[strikes];
+        vegas = new double[strikes];
+        rhos = new double[strikes];
+    }
+
+    @Benchmark
+    public double[] finiteDifferenceChain() {
+        FiniteDifferencePricer.price(100.0, strikePrices, strikes, 1.0, 0.05, 0.2, OptionType.PUT,
+                ExerciseStyle.AMERICAN, PayoffType.EUROPEAN, 0.0, SPACE_STEPS, TIME_STEPS, prices, deltas, gammas);
+        return prices;
+    }
+
+    @Benchmark
+    public double[] finiteDifferenceChainWithGreeks() {
+        FiniteDifferencePricer.price(100.0, strikePrices, strikes, 1.0, 0.05, 0.2, OptionType.PUT,
+                ExerciseStyle.AMERICAN, PayoffType.EUROPEAN, 0.0, SPACE_STEPS, TIME_STEPS, prices, deltas, gammas,
+                vegas, rhos);
+        return vegas;
+    }
+
+    @Benchmark
+    public void latticePerStrike(Blackhole blackhole) {
+        for (double strikePrice : strikePrices) {
+            blackhole.consume(LatticePricer.priceAndGreeks(100.0, strikePrice, 1.0, 0.05, 0.2, OptionType.PUT,
+                    ExerciseStyle.AMERICAN, PricingModel.BINOMIAL, LATTICE_STEPS, true, false));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.model.PricedGreeks;
+import com.sallyvnge.optionpricingapi.service.BlackScholesPricingService;
+import com.sallyvnge.optionpricingapi.service.GreeksCalculatorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the fused {@link BlackScholesKernel} with the price-then-Greeks path through
+ * {@link BlackScholesPricingService} and {@link GreeksCalculatorService}, and the higher-order Greeks computed in the
+ * same pass as the price with those of a second call to {@link GreeksCalculatorService} and with the bump-and-reprice
+ * they replace: central differences of the fused kernel for theta, rho, vanna, volga, charm and veta, eight repricings
+ * in all.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FusedPricingBenchmark {
+
+    private static final int CONTRACTS = 1024;
+    private static final double BUMP = 1e-4;
+    private static final Set<Greek> HIGHER_ORDER = EnumSet.complementOf(EnumSet.copyOf(Greek.STANDARD));
+
+    private final BlackScholesPricingService blackScholesPricingService = new BlackScholesPricingService();
+    private final GreeksCalculatorService greeksCalculatorService = new GreeksCalculatorService();
+
+    private OptionRequestDto[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkData.randomRequests(CONTRACTS, new SplittableRandom(42));
+    }
+
+    @Benchmark
+    public void twoServicePath(Blackhole blackhole) {
+        OptionRequestDto request = nextRequest();
+        double price = blackScholesPricingService.calculatePrice(request);
+        Greeks greeks = greeksCalculatorService.calculate(request, Greek.STANDARD);
+        blackhole.consume(price);
+        blackhole.consume(greeks);
+    }
+
+    @Benchmark
+    public PriceAndGreeks fusedKernel() {
+        return BlackScholesKernel.priceAndGreeks(nextRequest());
+    }
+
+    @Benchmark
+    public PricedGreeks fusedHigherOrderGreeks() {
+        OptionRequestDto request = nextRequest();
+        return BlackScholesKernel.priceAndGreeks(request.underlyingPrice(), request.strikePrice(),
+                request.timeToMaturity(), request.riskFreeRate(), request.volatility(), request.optionType(), HIGHER_ORDER);
+    }
+
+    @Benchmark
+    public void analyticHigherOrderGreeks(Blackhole blackhole) {
+        OptionRequestDto request = nextRequest();
+        blackhole.consume(BlackScholesKernel.priceAndGreeks(request));
+        blackhole.consume(greeksCalculatorService.calculate(request, HIGHER_ORDER));
+    }
+
+    @Benchmark
+    public void bumpAndReprice(Blackhole blackhole) {
+        OptionRequestDto request = nextRequest();
+        double S = request.underlyingPrice();
+        double K = request.strikePrice();
+        double T = request.timeToMaturity();
+        double r = request.riskFreeRate();
+        double sigma = request.volatility();
+        blackhole.consume(BlackScholesKernel.priceAndGreeks(request));
+
+        PriceAndGreeks later = BlackScholesKernel.priceAndGreeks(S, K, T + BUMP, r, sigma, request.optionType());
+        PriceAndGreeks earlier = BlackScholesKernel.priceAndGreeks(S, K, T - BUMP, r, sigma, request.optionType());
+        blackhole.consume((earlier.price() - later.price()) / (2 * BUMP));
+        blackhole.consume((earlier.delta() - later.delta()) / (2 * BUMP));
+        blackhole.consume((earlier.vega() - later.vega()) / (2 * BUMP));
+
+        double rateUp = BlackScholesKernel.priceAndGreeks(S, K, T, r + BUMP, sigma, request.optionType()).price();
+        double rateDown = BlackScholesKernel.priceAndGreeks(S, K, T, r - BUMP, sigma, request.optionType()).price();
+        blackhole.consume((rateUp - rateDown) / (2 * BUMP));
+
+        double spotUp = BlackScholesKernel.priceAndGreeks(S + BUMP, K, T, r, sigma, request.optionType()).vega();
+        double spotDown = BlackScholesKernel.priceAndGreeks(S - BUMP, K, T, r, sigma, request.optionType()).vega();
+        blackhole.consume((spotUp - spotDown) / (2 * BUMP));
+
+        double volUp = BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma + BUMP, request.optionType()).vega();
+        double volDown = BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma - BUMP, request.optionType()).vega();
+        blackhole.consume((volUp - volDown) / (2 * BUMP));
+    }
+
+    private OptionRequestDto nextRequest() {
+        OptionRequestDto request = requests[next];
+        next = (next + 1) & (CONTRACTS - 1);
+        return request;
+    }
+}
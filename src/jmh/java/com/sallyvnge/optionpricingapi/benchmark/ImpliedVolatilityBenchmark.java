@@ -0,0 +1,59 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.volatility.ImpliedVolatilitySolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one implied volatility inversion with {@link ImpliedVolatilitySolver}, next to the cost of the
+ * Black-Scholes pricing it inverts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImpliedVolatilityBenchmark {
+
+    private static final int CONTRACTS = 1024;
+
+    private OptionRequestDto[] requests;
+    private double[] prices;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkData.randomRequests(CONTRACTS, new SplittableRandom(42));
+        prices = new double[CONTRACTS];
+        for (int i = 0; i < CONTRACTS; i++) {
+            prices[i] = BlackScholesKernel.priceAndGreeks(requests[i]).price();
+        }
+    }
+
+    @Benchmark
+    public double price() {
+        return BlackScholesKernel.priceAndGreeks(requests[nextIndex()]).price();
+    }
+
+    @Benchmark
+    public double impliedVolatility() {
+        int i = nextIndex();
+        OptionRequestDto request = requests[i];
+        return ImpliedVolatilitySolver.impliedVolatility(prices[i], request.underlyingPrice(), request.strikePrice(),
+                request.timeToMaturity(), request.riskFreeRate(), request.optionType());
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = (next + 1) & (CONTRACTS - 1);
+        return i;
+    }
+}
@@ -0,0 +1,108 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.codec.PricingResponseJsonWriter;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing of the JSON batch response from priced result columns: through response objects serialized by Jackson, as
+ * {@code BatchPricingService#calculate} and the message converter do, and straight from the columns by
+ * {@link PricingResponseJsonWriter}, with and without the input echo. Bytes go to a discarding stream, so that the
+ * allocation rate is that of the serialization alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonResponseWriterBenchmark {
+
+    @Param({"100", "10000"})
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    /** Discards bytes and stays open, Jackson closing the stream it writes a value to. */
+    private final OutputStream out = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private OptionRequestDto[] requests;
+    private OptionBatch batch;
+    private PricingResults results;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkData.randomRequests(batchSize, new SplittableRandom(42));
+        batch = new OptionBatch(batchSize);
+        for (OptionRequestDto request : requests) {
+            batch.add(request);
+        }
+        results = new PricingResults(batchSize);
+        BlackScholesBatchKernel.price(batch, results);
+    }
+
+    @Benchmark
+    public void jackson() throws IOException {
+        List<OptionPricingResponseDto> responses = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            responses.add(OptionPricingResponseDto.builder()
+                    .price(results.price()[i])
+                    .delta(results.delta()[i])
+                    .gamma(results.gamma()[i])
+                    .vega(results.vega()[i])
+                    .volatilityUsed(batch.volatility()[i])
+                    .pricingModel(PricingModel.BLACK_SCHOLES)
+                    .input(requests[i])
+                    .build());
+        }
+        objectMapper.writeValue(out, BatchPricingResponseDto.builder().results(responses).errors(List.of()).build());
+    }
+
+    @Benchmark
+    public void writer() throws IOException {
+        write(true);
+    }
+
+    @Benchmark
+    public void writerWithoutEcho() throws IOException {
+        write(false);
+    }
+
+    private void write(boolean echo) throws IOException {
+        PricingResponseJsonWriter writer = new PricingResponseJsonWriter(out);
+        writer.writeRaw("{\"results\":[");
+        for (int i = 0; i < batchSize; i++) {
+            if (i > 0) {
+                writer.writeRaw(",");
+            }
+            writer.writeResult(results, i, batch.volatility()[i], echo ? requests[i] : null);
+        }
+        writer.writeRaw("],\"errors\":[]}");
+        writer.flush();
+    }
+}
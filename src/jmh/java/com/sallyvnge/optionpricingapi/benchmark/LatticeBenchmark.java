@@ -0,0 +1,74 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.lattice.LatticePricer;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per contract of {@link LatticePricer} on random American options, with Richardson extrapolation alone and
+ * together with the European control variate, against the closed-form European price as a floor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LatticeBenchmark {
+
+    private static final int CONTRACTS = 64;
+
+    @Param({"BINOMIAL", "TRINOMIAL"})
+    private PricingModel lattice;
+
+    @Param({"64", "128", "256"})
+    private int steps;
+
+    private OptionRequestDto[] contracts;
+
+    @Setup
+    public void setUp() {
+        contracts = BenchmarkData.randomRequests(CONTRACTS, new SplittableRandom(42));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONTRACTS)
+    public void american(Blackhole blackhole) {
+        price(blackhole, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONTRACTS)
+    public void americanWithControlVariate(Blackhole blackhole) {
+        price(blackhole, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONTRACTS)
+    public void europeanBlackScholes(Blackhole blackhole) {
+        for (OptionRequestDto contract : contracts) {
+            blackhole.consume(BlackScholesKernel.priceAndGreeks(contract.underlyingPrice(), contract.strikePrice(),
+                    contract.timeToMaturity(), contract.riskFreeRate(), contract.volatility(), contract.optionType()));
+        }
+    }
+
+    private void price(Blackhole blackhole, boolean controlVariate) {
+        for (OptionRequestDto contract : contracts) {
+            blackhole.consume(LatticePricer.priceAndGreeks(contract.underlyingPrice(), contract.strikePrice(),
+                    contract.timeToMaturity(), contract.riskFreeRate(), contract.volatility(), contract.optionType(),
+                    ExerciseStyle.AMERICAN, lattice, steps, true, controlVariate));
+        }
+    }
+}
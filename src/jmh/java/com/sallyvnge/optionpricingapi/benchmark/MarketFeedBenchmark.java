@@ -0,0 +1,148 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.market.AsyncQuoteListener;
+import com.sallyvnge.optionpricingapi.market.MarketFeed;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spot ticks into a {@link MarketFeed} of 100 underlyings, each with {@code contracts} subscribed contracts, repriced
+ * on one repricing thread and delivered on one push thread through an {@link AsyncQuoteListener}, as quote streams
+ * are:
+ * - {@code tickToPush} sends a tick and waits until its repricing reaches the subscriber, sampling the tick-to-push
+ *   latency; read its percentiles from the sample mode output.
+ * - {@code sustainedTicks} sends ticks as fast as the feed accepts them while repricing runs behind, conflating
+ *   bursts; the {@code updates} counter reports the repricings pushed per second.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarketFeedBenchmark {
+
+    private static final int UNDERLYINGS = 100;
+
+    @Param({"10", "100"})
+    private int contracts;
+
+    private PortfolioRevaluationService portfolioRevaluationService;
+    private ExecutorService executor;
+    private ExecutorService pushExecutor;
+    private MarketFeed marketFeed;
+    private final AtomicLongArray published = new AtomicLongArray(UNDERLYINGS);
+    private final LongAdder updates = new LongAdder();
+    private final String[] underlyings = new String[UNDERLYINGS];
+    private final SplittableRandom random = new SplittableRandom(42);
+    private int next;
+
+    @Setup
+    public void setUp() {
+        portfolioRevaluationService = new PortfolioRevaluationService(1, 2048);
+        executor = daemonThread("market-repricer");
+        pushExecutor = daemonThread("market-pusher");
+        PricingMetrics pricingMetrics = BenchmarkData.noopMetrics();
+        marketFeed = new MarketFeed(executor, portfolioRevaluationService, pricingMetrics);
+        OptionRequestDto[] requests = BenchmarkData.randomRequests(UNDERLYINGS * contracts, new SplittableRandom(42));
+        for (int u = 0; u < UNDERLYINGS; u++) {
+            int index = u;
+            underlyings[u] = "UND" + u;
+            for (int c = 0; c < contracts; c++) {
+                OptionRequestDto request = requests[u * contracts + c];
+                marketFeed.putContract(underlyings[u] + "-" + c, ContractDto.builder()
+                        .underlying(underlyings[u])
+                        .strikePrice(request.strikePrice())
+                        .timeToMaturity(request.timeToMaturity())
+                        .riskFreeRate(request.riskFreeRate())
+                        .optionType(request.optionType())
+                        .build());
+            }
+            marketFeed.subscribe(underlyings[u], new AsyncQuoteListener(update -> {
+                published.set(index, update.sequence());
+                updates.increment();
+            }, pushExecutor, pricingMetrics));
+            marketFeed.tick(underlyings[u], 100.0, 0.2);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        pushExecutor.shutdownNow();
+        portfolioRevaluationService.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public long tickToPush() {
+        int u = next();
+        long sequence = marketFeed.tick(underlyings[u], spot(), Double.NaN);
+        while (published.get(u) < sequence) {
+            // Yielding lets the repricing thread run even when it shares the core
+            Thread.yield();
+        }
+        return sequence;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public long sustainedTicks(PushCounters counters) {
+        return marketFeed.tick(underlyings[next()], spot(), Double.NaN);
+    }
+
+    private static ExecutorService daemonThread(String name) {
+        return Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private int next() {
+        int u = next;
+        next = u + 1 == UNDERLYINGS ? 0 : u + 1;
+        return u;
+    }
+
+    private double spot() {
+        return 90.0 + 20.0 * random.nextDouble();
+    }
+
+    /**
+     * Repricings pushed during an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PushCounters {
+
+        private MarketFeedBenchmark benchmark;
+        private long start;
+
+        @Setup(Level.Iteration)
+        public void setUp(MarketFeedBenchmark benchmark) {
+            this.benchmark = benchmark;
+            this.start = benchmark.updates.sum();
+        }
+
+        public long updates() {
+            return benchmark.updates.sum() - start;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.cache.PricingResultCache;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.service.BatchPricingService;
+import com.sallyvnge.optionpricingapi.service.OptionPricingService;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import com.sallyvnge.optionpricingapi.service.ProxyPricingService;
+import com.sallyvnge.optionpricingapi.service.VolSurfaceService;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the pricing metrics: the same services priced with meters recording into a Prometheus registry, and with
+ * meters recording nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"noop", "prometheus"})
+    private String registry;
+
+    private OptionPricingService optionPricingService;
+    private BatchPricingService batchPricingService;
+    private OptionRequestDto[] requests;
+    private List<OptionRequestDto> batch;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        PricingMetrics pricingMetrics = registry.equals("noop")
+                ? BenchmarkData.noopMetrics()
+                : new PricingMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        VolSurfaceService volSurfaceService = new VolSurfaceService();
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        optionPricingService = new OptionPricingService(volSurfaceService, PricingResultCache.disabled(), pricingMetrics,
+                ProxyPricingService.disabled());
+        batchPricingService = new BatchPricingService(validator, volSurfaceService, pricingMetrics,
+                new PortfolioRevaluationService(1, BATCH_SIZE));
+
+        requests = BenchmarkData.randomRequests(BATCH_SIZE, new SplittableRandom(42));
+        batch = Arrays.asList(requests);
+    }
+
+    @Benchmark
+    public void optionPricing(Blackhole blackhole) {
+        blackhole.consume(optionPricingService.calculate(requests[next]));
+        next = (next + 1) % BATCH_SIZE;
+    }
+
+    @Benchmark
+    public BatchPricingResponseDto batchPricing() {
+        return batchPricingService.calculate(batch);
+    }
+}
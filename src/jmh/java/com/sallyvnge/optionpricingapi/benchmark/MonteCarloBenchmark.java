@@ -0,0 +1,95 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.MonteCarloRequestDto;
+import com.sallyvnge.optionpricingapi.dto.MonteCarloResponseDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.service.MonteCarloPricingService;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One million path Monte Carlo pricing of a European and of a 12-date Asian call at increasing parallelism, alone and
+ * with the pathwise Greeks of adjoint differentiation, which should cost a small multiple of the price alone.
+ *
+ * Scaling is only meaningful up to the number of cores of the machine; pass for instance
+ * {@code -p parallelism=1,8,32} to measure a larger box.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MonteCarloBenchmark {
+
+    private static final long PATHS = 1_000_000L;
+
+    @Param({"1", "2", "4"})
+    private int parallelism;
+
+    private PortfolioRevaluationService portfolioRevaluationService;
+    private MonteCarloPricingService monteCarloPricingService;
+    private MonteCarloRequestDto european;
+    private MonteCarloRequestDto asian;
+    private MonteCarloRequestDto europeanWithGreeks;
+    private MonteCarloRequestDto asianWithGreeks;
+
+    @Setup
+    public void setUp() {
+        portfolioRevaluationService = new PortfolioRevaluationService(parallelism, 2048);
+        monteCarloPricingService = new MonteCarloPricingService(portfolioRevaluationService, BenchmarkData.noopMetrics());
+        european = request(PayoffType.EUROPEAN, false);
+        asian = request(PayoffType.ASIAN, false);
+        europeanWithGreeks = request(PayoffType.EUROPEAN, true);
+        asianWithGreeks = request(PayoffType.ASIAN, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Benchmark
+    public MonteCarloResponseDto european() {
+        return monteCarloPricingService.calculate(european);
+    }
+
+    @Benchmark
+    public MonteCarloResponseDto asian() {
+        return monteCarloPricingService.calculate(asian);
+    }
+
+    @Benchmark
+    public MonteCarloResponseDto europeanWithGreeks() {
+        return monteCarloPricingService.calculate(europeanWithGreeks);
+    }
+
+    @Benchmark
+    public MonteCarloResponseDto asianWithGreeks() {
+        return monteCarloPricingService.calculate(asianWithGreeks);
+    }
+
+    private static MonteCarloRequestDto request(PayoffType payoffType, boolean greeks) {
+        return MonteCarloRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .payoffType(payoffType)
+                .monitoringDates(12)
+                .paths(PATHS)
+                .controlVariate(false)
+                .greeks(greeks)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.util.NormalDistributionStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link NormalDistributionStrategy} implementations on arguments typical of d1 and d2.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NormalDistributionBenchmark {
+
+    private static final int POINTS = 1024;
+
+    @Param({"COMMONS_MATH", "RATIONAL"})
+    private NormalDistributionStrategy strategy;
+
+    private double[] points;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        points = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = random.nextDouble(-6.0, 6.0);
+        }
+    }
+
+    @Benchmark
+    public double cumulativeDistribution() {
+        return strategy.cumulativeDistribution(nextPoint());
+    }
+
+    @Benchmark
+    public double probabilityDensity() {
+        return strategy.probabilityDensity(nextPoint());
+    }
+
+    private double nextPoint() {
+        double x = points[next];
+        next = (next + 1) & (POINTS - 1);
+        return x;
+    }
+}
@@ -0,0 +1,103 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.PositionDto;
+import com.sallyvnge.optionpricingapi.dto.UnderlyingRiskDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.position.PositionBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spot ticks on one underlying of a {@link PositionBook} spread over 100 underlyings, against a full revaluation of
+ * the whole book by the batch kernel followed by the aggregation of the ticked underlying, and the cost of reading
+ * the aggregates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PositionBookBenchmark {
+
+    private static final int UNDERLYINGS = 100;
+    private static final String TICKED = underlying(0);
+
+    @Param({"1000", "100000"})
+    private int bookSize;
+
+    private PositionBook positionBook;
+    private OptionBatch book;
+    private PricingResults results;
+    private double[] quantities;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        OptionRequestDto[] requests = BenchmarkData.randomRequests(bookSize, new SplittableRandom(42));
+        positionBook = new PositionBook();
+        book = new OptionBatch(bookSize);
+        results = new PricingResults(bookSize);
+        quantities = new double[bookSize];
+        for (int i = 0; i < bookSize; i++) {
+            OptionRequestDto request = requests[i];
+            quantities[i] = 1.0 + i % 10;
+            positionBook.upsert("position-" + i, PositionDto.builder()
+                    .underlying(underlying(i))
+                    .strikePrice(request.strikePrice())
+                    .timeToMaturity(request.timeToMaturity())
+                    .riskFreeRate(request.riskFreeRate())
+                    .volatility(request.volatility())
+                    .optionType(request.optionType())
+                    .quantity(quantities[i])
+                    .build());
+            book.add(100.0, request.strikePrice(), request.timeToMaturity(), request.riskFreeRate(),
+                    request.volatility(), request.optionType());
+        }
+        for (int u = 0; u < UNDERLYINGS; u++) {
+            positionBook.move(underlying(u), 100.0, 0.0);
+        }
+    }
+
+    @Benchmark
+    public UnderlyingRiskDto incrementalTick() {
+        return positionBook.move(TICKED, nextSpot(), null);
+    }
+
+    @Benchmark
+    public double fullRevaluationTick() {
+        double spot = nextSpot();
+        double[] underlyingPrice = book.underlyingPrice();
+        for (int i = 0; i < bookSize; i += UNDERLYINGS) {
+            underlyingPrice[i] = spot;
+        }
+        BlackScholesBatchKernel.price(book, results);
+        double netDelta = 0.0;
+        for (int i = 0; i < bookSize; i += UNDERLYINGS) {
+            netDelta += quantities[i] * results.delta()[i];
+        }
+        return netDelta;
+    }
+
+    @Benchmark
+    public UnderlyingRiskDto readAggregates() {
+        return positionBook.risk(TICKED).orElseThrow();
+    }
+
+    private double nextSpot() {
+        return 99.0 + (tick++ & 7) * 0.25;
+    }
+
+    private static String underlying(int i) {
+        return "U" + i % UNDERLYINGS;
+    }
+}
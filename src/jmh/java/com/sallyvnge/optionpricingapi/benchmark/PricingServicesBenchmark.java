@@ -0,0 +1,95 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.cache.PricingResultCache;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.service.BlackScholesPricingService;
+import com.sallyvnge.optionpricingapi.service.GreeksCalculatorService;
+import com.sallyvnge.optionpricingapi.service.OptionPricingService;
+import com.sallyvnge.optionpricingapi.service.ProxyPricingService;
+import com.sallyvnge.optionpricingapi.service.VolSurfaceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prices a batch of random contracts through each pricing entry point. One operation prices the whole batch.
+ * The same contracts are priced on every invocation, so {@link #cachedOptionPricing} measures cache hits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PricingServicesBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int batchSize;
+
+    private final BlackScholesPricingService blackScholesPricingService = new BlackScholesPricingService();
+    private final GreeksCalculatorService greeksCalculatorService = new GreeksCalculatorService();
+    private final OptionPricingService optionPricingService =
+            new OptionPricingService(new VolSurfaceService(), PricingResultCache.disabled(), BenchmarkData.noopMetrics(),
+                    ProxyPricingService.disabled());
+    private final OptionPricingService cachedOptionPricingService = new OptionPricingService(new VolSurfaceService(),
+            new PricingResultCache(100_000, Duration.ofMinutes(10), 0.0, 0.0, 0.0), BenchmarkData.noopMetrics(),
+            ProxyPricingService.disabled());
+
+    private OptionRequestDto[] requests;
+    private OptionBatch batch;
+    private PricingResults results;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkData.randomRequests(batchSize, new SplittableRandom(42));
+        batch = new OptionBatch(batchSize);
+        for (OptionRequestDto request : requests) {
+            batch.add(request);
+        }
+        results = new PricingResults(batchSize);
+    }
+
+    @Benchmark
+    public void blackScholesPrice(Blackhole blackhole) {
+        for (OptionRequestDto request : requests) {
+            blackhole.consume(blackScholesPricingService.calculatePrice(request));
+        }
+    }
+
+    @Benchmark
+    public void greeks(Blackhole blackhole) {
+        for (OptionRequestDto request : requests) {
+            blackhole.consume(greeksCalculatorService.calculate(request));
+        }
+    }
+
+    @Benchmark
+    public void optionPricing(Blackhole blackhole) {
+        for (OptionRequestDto request : requests) {
+            blackhole.consume(optionPricingService.calculate(request));
+        }
+    }
+
+    @Benchmark
+    public void cachedOptionPricing(Blackhole blackhole) {
+        for (OptionRequestDto request : requests) {
+            blackhole.consume(cachedOptionPricingService.calculate(request));
+        }
+    }
+
+    @Benchmark
+    public PricingResults batchKernel() {
+        BlackScholesBatchKernel.price(batch, results);
+        return results;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.service.BlackScholesPricingService;
+import com.sallyvnge.optionpricingapi.service.GreeksCalculatorService;
+import com.sallyvnge.optionpricingapi.service.ProxyPricingService;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionStrategy;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the price and Greeks interpolated from the default table of {@link ProxyPricingService} with the fused
+ * {@link BlackScholesKernel}, with each normal distribution implementation. Contracts outside the domain of the table
+ * fall back to the kernel, as in {@code OptionPricingService}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyPricingBenchmark {
+
+    private static final int CONTRACTS = 1024;
+
+    @Param({"RATIONAL", "COMMONS_MATH"})
+    private NormalDistributionStrategy normalDistribution;
+
+    private ProxyPricingService proxyPricingService;
+    private OptionRequestDto[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        NormalDistributionUtil.useStrategy(normalDistribution);
+        proxyPricingService = new ProxyPricingService(new BlackScholesPricingService(), new GreeksCalculatorService(),
+                true, 481, 481, 1e-6, 1e-5);
+        while (!proxyPricingService.isReady()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        requests = BenchmarkData.randomRequests(CONTRACTS, new SplittableRandom(42));
+    }
+
+    @Benchmark
+    public PriceAndGreeks fusedKernel() {
+        return BlackScholesKernel.priceAndGreeks(nextRequest());
+    }
+
+    @Benchmark
+    public PriceAndGreeks proxyTable() {
+        OptionRequestDto request = nextRequest();
+        PriceAndGreeks result = proxyPricingService.priceAndGreeks(request.underlyingPrice(), request.strikePrice(),
+                request.timeToMaturity(), request.riskFreeRate(), request.volatility(), request.optionType());
+        return result != null ? result : BlackScholesKernel.priceAndGreeks(request);
+    }
+
+    private OptionRequestDto nextRequest() {
+        OptionRequestDto request = requests[next];
+        next = (next + 1) & (CONTRACTS - 1);
+        return request;
+    }
+}
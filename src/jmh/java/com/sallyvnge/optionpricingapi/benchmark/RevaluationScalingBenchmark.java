@@ -0,0 +1,71 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revalues a one million option book on the {@link PortfolioRevaluationService} pool at increasing parallelism,
+ * against the sequential kernel on the benchmark thread. One operation prices the whole book.
+ *
+ * Scaling is only meaningful up to the number of cores of the machine; pass for instance
+ * {@code -p parallelism=1,8,32,64} to measure a larger box.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RevaluationScalingBenchmark {
+
+    private static final int BOOK_SIZE = 1_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"2048"})
+    private int chunkSize;
+
+    private PortfolioRevaluationService portfolioRevaluationService;
+    private OptionBatch book;
+    private PricingResults results;
+
+    @Setup
+    public void setUp() {
+        portfolioRevaluationService = new PortfolioRevaluationService(parallelism, chunkSize);
+        book = new OptionBatch(BOOK_SIZE);
+        for (OptionRequestDto request : BenchmarkData.randomRequests(BOOK_SIZE, new SplittableRandom(42))) {
+            book.add(request);
+        }
+        results = new PricingResults(BOOK_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Benchmark
+    public PricingResults sequentialKernel() {
+        BlackScholesBatchKernel.price(book, results);
+        return results;
+    }
+
+    @Benchmark
+    public PricingResults parallelRevaluation() {
+        portfolioRevaluationService.price(book, results);
+        return results;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.cache.PricingResultCache;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridResponseDto;
+import com.sallyvnge.optionpricingapi.service.OptionPricingService;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import com.sallyvnge.optionpricingapi.service.ProxyPricingService;
+import com.sallyvnge.optionpricingapi.service.ScenarioGridService;
+import com.sallyvnge.optionpricingapi.service.VolSurfaceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 21 spot × 11 volatility PnL ladder over a book of options: {@link ScenarioGridService} against one
+ * {@link OptionPricingService#calculate} call per option and scenario, as clients built ladders before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScenarioGridBenchmark {
+
+    private static final int SPOT_SHOCKS = 21;
+    private static final int VOLATILITY_SHOCKS = 11;
+
+    @Param({"1", "100"})
+    private int bookSize;
+
+    private final OptionPricingService optionPricingService =
+            new OptionPricingService(new VolSurfaceService(), PricingResultCache.disabled(), BenchmarkData.noopMetrics(),
+            ProxyPricingService.disabled());
+    private PortfolioRevaluationService portfolioRevaluationService;
+    private ScenarioGridService scenarioGridService;
+    private ScenarioGridRequestDto request;
+
+    @Setup
+    public void setUp() {
+        portfolioRevaluationService = new PortfolioRevaluationService(0, 2048);
+        scenarioGridService = new ScenarioGridService(new VolSurfaceService(), portfolioRevaluationService,
+                BenchmarkData.noopMetrics());
+
+        List<Double> spotShocks = new ArrayList<>();
+        for (int s = 0; s < SPOT_SHOCKS; s++) {
+            spotShocks.add(-0.2 + 0.02 * s);
+        }
+        List<Double> volatilityShocks = new ArrayList<>();
+        for (int v = 0; v < VOLATILITY_SHOCKS; v++) {
+            volatilityShocks.add(-0.05 + 0.01 * v);
+        }
+        request = new ScenarioGridRequestDto(
+                List.of(BenchmarkData.randomRequests(bookSize, new SplittableRandom(42))), spotShocks, volatilityShocks, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Benchmark
+    public ScenarioGridResponseDto scenarioGrid() {
+        return scenarioGridService.calculate(request);
+    }
+
+    @Benchmark
+    public void repricedPerScenario(Blackhole blackhole) {
+        for (OptionRequestDto option : request.options()) {
+            for (double spotShock : request.spotShocks()) {
+                for (double volatilityShock : request.volatilityShocks()) {
+                    blackhole.consume(optionPricingService.calculate(OptionRequestDto.builder()
+                            .underlyingPrice(option.underlyingPrice() * (1.0 + spotShock))
+                            .strikePrice(option.strikePrice())
+                            .timeToMaturity(option.timeToMaturity())
+                            .riskFreeRate(option.riskFreeRate())
+                            .volatility(option.volatility() + volatilityShock)
+                            .optionType(option.optionType())
+                            .build()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.volatility.CompiledVolSmile;
+import com.sallyvnge.optionpricingapi.volatility.CubicSplineSmileInterpolator;
+import com.sallyvnge.optionpricingapi.volatility.LinearSmileInterpolator;
+import com.sallyvnge.optionpricingapi.volatility.SviSmileInterpolator;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import com.sallyvnge.optionpricingapi.volatility.VolSmile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interpolates random strikes on smiles of increasing size, through {@link LinearSmileInterpolator}, directly on a
+ * {@link CompiledVolSmile}, and through the cached fits of {@link CubicSplineSmileInterpolator} and
+ * {@link SviSmileInterpolator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SmileInterpolationBenchmark {
+
+    private static final int STRIKES = 1024;
+    private static final double FORWARD = 100.0;
+
+    @Param({"5", "25", "100"})
+    private int smileSize;
+
+    private final LinearSmileInterpolator interpolator = new LinearSmileInterpolator();
+    private final CubicSplineSmileInterpolator splineInterpolator = new CubicSplineSmileInterpolator();
+    private final SviSmileInterpolator sviInterpolator = new SviSmileInterpolator();
+
+    private VolSmile smile;
+    private CompiledVolSmile compiledSmile;
+    private double[] strikes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<VolPoint> points = new ArrayList<>(smileSize);
+        for (int i = 0; i < smileSize; i++) {
+            double strike = 50.0 + 100.0 * i / Math.max(1, smileSize - 1);
+            double moneyness = Math.log(strike / FORWARD);
+            points.add(new VolPoint(strike, 0.2 + 0.3 * moneyness * moneyness - 0.05 * moneyness));
+        }
+        smile = new VolSmile(points);
+        compiledSmile = new CompiledVolSmile(smile);
+
+        SplittableRandom random = new SplittableRandom(42);
+        strikes = new double[STRIKES];
+        for (int i = 0; i < STRIKES; i++) {
+            strikes[i] = random.nextDouble(45.0, 155.0);
+        }
+    }
+
+    @Benchmark
+    public double ivAtStrike() {
+        return interpolator.ivAtStrike(smile, nextStrike());
+    }
+
+    @Benchmark
+    public double ivAtStrikeLogMoneyness() {
+        return interpolator.ivAtStrikeLogMoneyness(smile, nextStrike(), FORWARD);
+    }
+
+    @Benchmark
+    public double compiledIvAtStrike() {
+        return compiledSmile.ivAtStrike(nextStrike());
+    }
+
+    @Benchmark
+    public double compiledIvAtStrikeLogMoneyness() {
+        return compiledSmile.ivAtStrikeLogMoneyness(nextStrike());
+    }
+
+    @Benchmark
+    public double cubicSplineIvAtStrike() {
+        return splineInterpolator.ivAtStrike(smile, nextStrike());
+    }
+
+    @Benchmark
+    public double sviIvAtStrike() {
+        return sviInterpolator.ivAtStrike(smile, nextStrike());
+    }
+
+    private double nextStrike() {
+        double strike = strikes[next];
+        next = (next + 1) & (STRIKES - 1);
+        return strike;
+    }
+}
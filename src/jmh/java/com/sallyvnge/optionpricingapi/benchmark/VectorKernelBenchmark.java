@@ -0,0 +1,54 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and SIMD batch kernels. The vectorized benchmark only differs from the scalar one when the
+ * JVM runs with {@code --add-modules jdk.incubator.vector}, which the jmh profile passes by default.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorKernelBenchmark {
+
+    @Param({"1000", "100000"})
+    private int batchSize;
+
+    private OptionBatch batch;
+    private PricingResults results;
+
+    @Setup
+    public void setUp() {
+        batch = new OptionBatch(batchSize);
+        for (OptionRequestDto request : BenchmarkData.randomRequests(batchSize, new SplittableRandom(42))) {
+            batch.add(request);
+        }
+        results = new PricingResults(batchSize);
+    }
+
+    @Benchmark
+    public PricingResults scalar() {
+        BlackScholesBatchKernel.priceScalar(batch, results, 0, batchSize);
+        return results;
+    }
+
+    @Benchmark
+    public PricingResults vectorized() {
+        BlackScholesBatchKernel.price(batch, results);
+        return results;
+    }
+}
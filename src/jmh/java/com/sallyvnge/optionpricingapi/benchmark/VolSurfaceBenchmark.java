@@ -0,0 +1,92 @@
+package com.sallyvnge.optionpricingapi.benchmark;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import com.sallyvnge.optionpricingapi.volatility.VolSlice;
+import com.sallyvnge.optionpricingapi.volatility.VolSmile;
+import com.sallyvnge.optionpricingapi.volatility.VolSurface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills and prices a book of listed options, with flat volatilities and with volatilities read from a
+ * {@link VolSurface}. One operation prices the whole book.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VolSurfaceBenchmark {
+
+    private static final int BOOK_SIZE = 10_000;
+    private static final double[] EXPIRIES = {1.0 / 12, 2.0 / 12, 0.25, 0.5, 0.75, 1.0, 1.5, 2.0};
+
+    private VolSurface surface;
+    private double[] strikes;
+    private double[] maturities;
+    private double[] volatilities;
+    private boolean[] calls;
+    private OptionBatch batch;
+    private PricingResults results;
+
+    @Setup
+    public void setUp() {
+        List<VolSlice> slices = new ArrayList<>();
+        for (double expiry : EXPIRIES) {
+            List<VolPoint> points = new ArrayList<>();
+            for (int strike = 50; strike <= 150; strike += 5) {
+                double moneyness = Math.log(strike / 100.0);
+                points.add(new VolPoint(strike, 0.18 + 0.02 / Math.sqrt(expiry) * moneyness * moneyness - 0.05 * moneyness));
+            }
+            slices.add(new VolSlice(expiry, new VolSmile(points)));
+        }
+        surface = new VolSurface(slices);
+
+        SplittableRandom random = new SplittableRandom(42);
+        strikes = new double[BOOK_SIZE];
+        maturities = new double[BOOK_SIZE];
+        volatilities = new double[BOOK_SIZE];
+        calls = new boolean[BOOK_SIZE];
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            strikes[i] = 5.0 * random.nextInt(10, 31);
+            maturities[i] = EXPIRIES[random.nextInt(EXPIRIES.length)];
+            volatilities[i] = surface.iv(maturities[i], strikes[i]);
+            calls[i] = random.nextBoolean();
+        }
+        batch = new OptionBatch(BOOK_SIZE);
+        results = new PricingResults(BOOK_SIZE);
+    }
+
+    @Benchmark
+    public PricingResults flatVolatilities() {
+        batch.clear();
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            batch.add(100.0, strikes[i], maturities[i], 0.02, volatilities[i], calls[i] ? OptionType.CALL : OptionType.PUT);
+        }
+        BlackScholesBatchKernel.price(batch, results);
+        return results;
+    }
+
+    @Benchmark
+    public PricingResults surfaceVolatilities() {
+        batch.clear();
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            double volatility = surface.iv(maturities[i], strikes[i]);
+            batch.add(100.0, strikes[i], maturities[i], 0.02, volatility, calls[i] ? OptionType.CALL : OptionType.PUT);
+        }
+        BlackScholesBatchKernel.price(batch, results);
+        return results;
+    }
+}
@@ -0,0 +1,179 @@
+package com.sallyvnge.optionpricingapi.aad;
+
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+
+import java.util.Arrays;
+
+/**
+ * Reverse-mode algorithmic differentiation tape.
+ *
+ * A computation is recorded as it is evaluated: every operation appends a node holding its value, the indices of its
+ * at most two arguments and its partial derivatives with respect to them. A single backward sweep from an output then
+ * propagates adjoints down the tape and yields the derivative of the output with respect to every node, so that all
+ * the sensitivities of a price cost a small multiple of the price itself, however many inputs it has.
+ *
+ * Nodes are plain {@code int} indices into parallel arrays, so that recording creates no object per node. The arrays
+ * grow by doubling and are kept by {@link #rewind(int)}: a tape reused through {@link #current()} stops allocating once
+ * it has reached the size of the largest computation of its thread. Operands that are not differentiated, such as
+ * random draws or contract terms, are passed as doubles and take no node.
+ *
+ * A typical recording registers the inputs with {@link #variable(double)}, records the computation, calls
+ * {@link #backward(int)} on the output and reads {@link #adjoint(int)} of each input. Computations sharing a prefix,
+ * such as the paths of a simulation, record the prefix once, note {@link #size()} and rewind to it before each one.
+ * A tape is not thread-safe.
+ */
+public final class Tape {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ThreadLocal<Tape> CURRENT = ThreadLocal.withInitial(Tape::new);
+
+    private double[] values = new double[INITIAL_CAPACITY];
+    private double[] adjoints = new double[INITIAL_CAPACITY];
+    private int[] firstArguments = new int[INITIAL_CAPACITY];
+    private int[] secondArguments = new int[INITIAL_CAPACITY];
+    private double[] firstPartials = new double[INITIAL_CAPACITY];
+    private double[] secondPartials = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @return The tape of the calling thread, rewound to empty
+     */
+    public static Tape current() {
+        Tape tape = CURRENT.get();
+        tape.rewind(0);
+        return tape;
+    }
+
+    /**
+     * @return The number of nodes recorded
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discards the nodes recorded after the first {@code size}, keeping the arrays for the next recording.
+     */
+    public void rewind(int size) {
+        if (size < 0 || size > this.size) {
+            throw new IllegalArgumentException("Cannot rewind a tape of " + this.size + " nodes to " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Records an input to differentiate with respect to.
+     */
+    public int variable(double value) {
+        return record(value, 0, 0.0, 0, 0.0);
+    }
+
+    public int add(int a, int b) {
+        return record(values[a] + values[b], a, 1.0, b, 1.0);
+    }
+
+    public int add(int a, double b) {
+        return record(values[a] + b, a, 1.0, 0, 0.0);
+    }
+
+    public int sub(int a, int b) {
+        return record(values[a] - values[b], a, 1.0, b, -1.0);
+    }
+
+    public int mul(int a, int b) {
+        return record(values[a] * values[b], a, values[b], b, values[a]);
+    }
+
+    public int mul(int a, double b) {
+        return record(values[a] * b, a, b, 0, 0.0);
+    }
+
+    public int div(int a, int b) {
+        double inverse = 1.0 / values[b];
+        double quotient = values[a] * inverse;
+        return record(quotient, a, inverse, b, -quotient * inverse);
+    }
+
+    public int exp(int a) {
+        double value = Math.exp(values[a]);
+        return record(value, a, value, 0, 0.0);
+    }
+
+    public int log(int a) {
+        return record(Math.log(values[a]), a, 1.0 / values[a], 0, 0.0);
+    }
+
+    public int sqrt(int a) {
+        double value = Math.sqrt(values[a]);
+        return record(value, a, 0.5 / value, 0, 0.0);
+    }
+
+    /**
+     * @return The standard normal cumulative distribution N(a), whose derivative is the density n(a)
+     */
+    public int cumulativeNormal(int a) {
+        return record(NormalDistributionUtil.cumulativeDistribution(values[a]), a,
+                NormalDistributionUtil.probabilityDensity(values[a]), 0, 0.0);
+    }
+
+    /**
+     * @return max(a, floor), whose derivative is taken as 0 at the kink, as for the payoff of an option at the money
+     */
+    public int max(int a, double floor) {
+        return values[a] > floor ? record(values[a], a, 1.0, 0, 0.0) : record(floor, 0, 0.0, 0, 0.0);
+    }
+
+    /**
+     * @return The value of a node
+     */
+    public double value(int node) {
+        return values[node];
+    }
+
+    /**
+     * Propagates the adjoints from {@code output} down to the first node, overwriting those of a previous sweep.
+     * The nodes recorded after the output are ignored.
+     */
+    public void backward(int output) {
+        Arrays.fill(adjoints, 0, output + 1, 0.0);
+        adjoints[output] = 1.0;
+        for (int i = output; i >= 0; i--) {
+            double adjoint = adjoints[i];
+            adjoints[firstArguments[i]] += firstPartials[i] * adjoint;
+            adjoints[secondArguments[i]] += secondPartials[i] * adjoint;
+        }
+    }
+
+    /**
+     * @return The derivative of the output of the last {@link #backward(int)} with respect to a node
+     */
+    public double adjoint(int node) {
+        return adjoints[node];
+    }
+
+    /**
+     * Appends a node. Unused arguments point at node 0 with a zero partial, which keeps the backward sweep free of
+     * branches: they add nothing to its adjoint.
+     */
+    private int record(double value, int firstArgument, double firstPartial, int secondArgument, double secondPartial) {
+        if (size == values.length) {
+            grow();
+        }
+        values[size] = value;
+        firstArguments[size] = firstArgument;
+        firstPartials[size] = firstPartial;
+        secondArguments[size] = secondArgument;
+        secondPartials[size] = secondPartial;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = 2 * values.length;
+        values = Arrays.copyOf(values, capacity);
+        adjoints = Arrays.copyOf(adjoints, capacity);
+        firstArguments = Arrays.copyOf(firstArguments, capacity);
+        secondArguments = Arrays.copyOf(secondArguments, capacity);
+        firstPartials = Arrays.copyOf(firstPartials, capacity);
+        secondPartials = Arrays.copyOf(secondPartials, capacity);
+    }
+}
@@ -0,0 +1,377 @@
+package com.sallyvnge.optionpricingapi.boundary;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+
+/**
+ * American options from their early-exercise boundary, solved as in Andersen, Lake and Offengenden, "High-performance
+ * American option pricing" (2016).
+ *
+ * Kim's integral equation writes an American put, with spot S, strike K, rate r and yield q, as the European put plus
+ * the early exercise premium
+ *   P(S) = p(S) + ∫[0, T] (r K e^(-r z) N(-d2(z, S / B(T - z))) - q S e^(-q z) N(-d1(z, S / B(T - z)))) dz,
+ * B(τ) being the exercise boundary τ years before maturity, d1 and d2 those of Black-Scholes over z years. The boundary
+ * is the fixed point of B(τ) = K e^(-(r - q) τ) N(τ, B) / D(τ, B), whose integrals run over the boundary at shorter
+ * times to maturity (the FP-B' form of the paper):
+ *   N(τ, B) = n(d2(τ, B(τ) / K)) / (σ √τ) + r ∫[0, τ] e^(r u) n(d2(τ - u, B(τ) / B(u))) / (σ √(τ - u)) du
+ *   D(τ, B) = n(d1(τ, B(τ) / K)) / (σ √τ) + N(d1(τ, B(τ) / K))
+ *             + q ∫[0, τ] e^(q u) (N(d1(τ - u, B(τ) / B(u))) + n(d1(τ - u, B(τ) / B(u))) / (σ √(τ - u))) du
+ *
+ * - Boundary: H(√τ) = ln(B(τ) / X)², X = K min(1, r / q) being the boundary at maturity, is smooth in √τ where B is
+ *   not. It is kept at the {@link #NODES} + 1 Chebyshev nodes of √τ over [0, √T] and interpolated by its Chebyshev
+ *   series in between.
+ * - Iterations: all nodes are moved at once, starting from a closed-form guess blending the perpetual boundary into
+ *   X, until none moves by more than {@link #TOLERANCE} in ln B. A node whose right-hand side rises with its own
+ *   boundary moves straight to it, the paper's Newton step overshooting there, the nodes being coupled through the
+ *   interpolated boundary. One whose right-hand side falls takes the Newton step, without which low volatilities
+ *   and high rates make the iteration oscillate apart.
+ * - Integrals: Gauss-Legendre, the boundary integrals over √(τ - u), which absorbs their 1 / √(τ - u) singularity,
+ *   and the premium over √z, which resolves its steep rise at short times when the spot is close to the boundary.
+ * - Greeks: delta and gamma differentiate the premium under the integral, the boundary not depending on the spot. Vega
+ *   is carried through the iterations by differentiating every step with respect to sigma, and then through the
+ *   premium.
+ *
+ * Without dividends the yield is 0: a call, exercised early only when r < 0, is priced as the put with spot and
+ * strike, rate and yield swapped (McDonald-Schroder symmetry), its Greeks following by homogeneity. The solver
+ * allocates nothing but its result, its buffers belonging to the calling thread.
+ */
+public final class ExerciseBoundaryPricer {
+
+    /** Chebyshev nodes of the boundary beyond the one at maturity. */
+    public static final int NODES = 6;
+    /** Gauss-Legendre points of every boundary integral. */
+    static final int BOUNDARY_POINTS = 12;
+    /** Gauss-Legendre points of the premium integral. */
+    static final int PREMIUM_POINTS = 32;
+    /** Most iterations of the boundary. */
+    static final int MAX_ITERATIONS = 12;
+    /** Largest move of ln B at any node below which the boundary has converged. */
+    static final double TOLERANCE = 1e-5;
+
+    private static final double[][] BOUNDARY_RULE = gaussLegendre(BOUNDARY_POINTS);
+    private static final double[][] PREMIUM_RULE = gaussLegendre(PREMIUM_POINTS);
+    /** cos(i k π / NODES): the Chebyshev nodes and the discrete cosine transform to their series. */
+    private static final double[][] COSINES = new double[NODES + 1][NODES + 1];
+
+    static {
+        for (int i = 0; i <= NODES; i++) {
+            for (int k = 0; k <= NODES; k++) {
+                COSINES[i][k] = Math.cos(i * k * Math.PI / NODES);
+            }
+        }
+    }
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private ExerciseBoundaryPricer() {}
+
+    /**
+     * Prices an American option from its early-exercise boundary.
+     * @param S The underlying price
+     * @param K The strike price
+     * @param T The time to maturity in years
+     * @param r The risk-free rate
+     * @param sigma The volatility
+     * @param optionType CALL or PUT
+     * @return The price, delta, gamma and vega of the option, those of Black-Scholes when early exercise never pays
+     */
+    public static PriceAndGreeks priceAndGreeks(double S, double K, double T, double r, double sigma,
+                                                OptionType optionType) {
+        // Without dividends, exercising early never pays for a call when r >= 0, nor for a put when r <= 0
+        if (optionType == OptionType.CALL ? r >= 0.0 : r <= 0.0) {
+            return BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma, optionType);
+        }
+        Workspace workspace = WORKSPACE.get();
+        double[] results = workspace.results;
+        if (optionType == OptionType.PUT) {
+            put(workspace, S, K, T, r, 0.0, sigma);
+            return new PriceAndGreeks(results[0], results[1], results[2], results[3]);
+        }
+        // C(S, K, r, q) = P(K, S, q, r), homogeneous of degree 1 in its spot and strike
+        put(workspace, K, S, T, 0.0, r, sigma);
+        double price = results[0];
+        return new PriceAndGreeks(price, (price - K * results[1]) / S, K * K * results[2] / (S * S), results[3]);
+    }
+
+    /**
+     * Prices an American put with a dividend yield, writing its price, delta, gamma and vega to
+     * {@code workspace.results}. Early exercise must pay: r > 0 or q < 0.
+     */
+    private static void put(Workspace workspace, double S, double K, double T, double r, double q, double sigma) {
+        double[] logBoundary = workspace.logBoundary;
+        double[] dLogBoundary = workspace.dLogBoundary;
+        double[] series = workspace.series;
+        double[] dSeries = workspace.dSeries;
+
+        double sqrtT = Math.sqrt(T);
+        double carry = r - q;
+        double limit = q > r ? K * r / q : K;
+        double logLimit = Math.log(limit);
+        double logK = Math.log(K);
+
+        // Perpetual boundary K beta / (beta - 1), beta being the negative root of the perpetual put's ODE
+        double a = carry / (sigma * sigma);
+        double beta = 0.5 - a - Math.sqrt((a - 0.5) * (a - 0.5) + 2.0 * r / (sigma * sigma));
+        double perpetual = K * beta / (beta - 1.0);
+        for (int i = 0; i < NODES; i++) {
+            double sqrtTau = 0.5 * sqrtT * (1.0 + COSINES[i][1]);
+            double tau = sqrtTau * sqrtTau;
+            double h = -(carry * tau + 2.0 * sigma * sqrtTau) * limit / (limit - perpetual);
+            logBoundary[i] = Math.log(perpetual + (limit - perpetual) * Math.exp(h));
+            dLogBoundary[i] = 0.0;
+        }
+        logBoundary[NODES] = logLimit;
+        dLogBoundary[NODES] = 0.0;
+        prepare(workspace, T, r, q);
+
+        double[] weights = BOUNDARY_RULE[1];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            chebyshevSeries(logBoundary, dLogBoundary, logLimit, series, dSeries);
+            double largestStep = 0.0;
+            for (int i = 0; i < NODES; i++) {
+                double sqrtTau = 0.5 * sqrtT * (1.0 + COSINES[i][1]);
+                double tau = sqrtTau * sqrtTau;
+                double logB = logBoundary[i];
+                double vol = sigma * sqrtTau;
+
+                // First terms of N and D, their derivatives with respect to ln B and (holding B) to sigma
+                double d2 = (logB - logK + carry * tau) / vol - 0.5 * vol;
+                double d1 = d2 + vol;
+                double n2 = NormalDistributionUtil.probabilityDensity(d2) / vol;
+                double n1 = NormalDistributionUtil.probabilityDensity(d1) / vol;
+                double numerator = n2;
+                double denominator = n1 + NormalDistributionUtil.cumulativeDistribution(d1);
+                double numeratorL = -d2 * n2 / vol;
+                double denominatorL = -d2 * n1 / vol;
+                double numeratorS = n2 * (d1 * d2 - 1.0) / sigma;
+                double denominatorS = n1 * (d1 * d2 - 1.0) / sigma - n1 * sqrtTau * d2;
+
+                int offset = i * BOUNDARY_POINTS;
+                for (int k = 0; k < BOUNDARY_POINTS; k++) {
+                    int point = offset + k;
+                    // u = τ - s², s = √τ (1 + y) / 2: du = √τ s dy cancels the 1 / (σ s) of the integrands
+                    double s = workspace.pointRoots[point];
+                    double weight = weights[k] * sqrtTau;
+                    double h = chebyshev(series, workspace.pointCoordinates[point]);
+                    double dh = chebyshev(dSeries, workspace.pointCoordinates[point]);
+                    double root = Math.sqrt(Math.max(h, 0.0));
+                    // ln B(u) = ln X - √H(u), held while differentiating to ln B(τ)
+                    double lambda = logB - logLimit + root;
+                    double dLambda = root > 0.0 ? 0.5 * dh / root : 0.0;
+                    double vs = sigma * s;
+                    double e2 = (lambda + carry * s * s) / vs - 0.5 * vs;
+                    double e1 = e2 + vs;
+                    double dE2 = dLambda / vs - e1 / sigma;
+                    double dE1 = dLambda / vs - e2 / sigma;
+                    if (r != 0.0) {
+                        double term = r * workspace.pointRateGrowth[point] * weight
+                                * NormalDistributionUtil.probabilityDensity(e2) / sigma;
+                        numerator += term;
+                        numeratorL -= term * e2 / vs;
+                        numeratorS -= term * (e2 * dE2 + 1.0 / sigma);
+                    }
+                    if (q != 0.0) {
+                        double growth = q * workspace.pointYieldGrowth[point] * weight;
+                        double density = NormalDistributionUtil.probabilityDensity(e1);
+                        denominator += growth * (s * NormalDistributionUtil.cumulativeDistribution(e1) + density / sigma);
+                        denominatorL -= growth * density * e2 / (sigma * vs);
+                        denominatorS -= growth * density * (dE1 * e2 / sigma + 1.0 / (sigma * sigma));
+                    }
+                }
+                // ln f = ln K - (r - q) τ + ln N - ln D, of slope g in ln B with the other nodes held. Where g < 0,
+                // Newton on this node's ln B = ln f: moving straight to f there oscillates, and apart once g < -1,
+                // which a large r / σ² brings about
+                double logF = logK - carry * tau + Math.log(numerator / denominator);
+                double slope = numeratorL / numerator - denominatorL / denominator;
+                double damping = 1.0 - Math.min(slope, 0.0);
+                double step = (logF - logB) / damping;
+                logBoundary[i] = Math.min(logB + step, logLimit);
+                // Through the same step, converging to d ln B = (d ln f / dσ) / (1 - g) along with B, the other
+                // nodes' derivatives entering d ln f / dσ through the interpolated boundary
+                double dLogF = numeratorS / numerator - denominatorS / denominator;
+                dLogBoundary[i] += (dLogF + (slope - 1.0) * dLogBoundary[i]) / damping;
+                largestStep = Math.max(largestStep, Math.abs(step));
+            }
+            if (largestStep < TOLERANCE) {
+                break;
+            }
+        }
+        chebyshevSeries(logBoundary, dLogBoundary, logLimit, series, dSeries);
+        premium(workspace, S, K, T, r, q, sigma, logLimit);
+    }
+
+    /**
+     * Precomputes what the boundary integrals of every node need at their quadrature points, none of it depending on
+     * the boundary: the Chebyshev coordinate of √u, √(τ - u), e^(r u) and e^(q u).
+     */
+    private static void prepare(Workspace workspace, double T, double r, double q) {
+        double sqrtT = Math.sqrt(T);
+        double[] nodes = BOUNDARY_RULE[0];
+        for (int i = 0; i < NODES; i++) {
+            double sqrtTau = 0.5 * sqrtT * (1.0 + COSINES[i][1]);
+            double tau = sqrtTau * sqrtTau;
+            for (int k = 0; k < BOUNDARY_POINTS; k++) {
+                int point = i * BOUNDARY_POINTS + k;
+                double s = 0.5 * sqrtTau * (1.0 + nodes[k]);
+                double u = Math.max(tau - s * s, 0.0);
+                workspace.pointRoots[point] = s;
+                workspace.pointCoordinates[point] = 2.0 * Math.sqrt(u) / sqrtT - 1.0;
+                workspace.pointRateGrowth[point] = Math.exp(r * u);
+                workspace.pointYieldGrowth[point] = Math.exp(q * u);
+            }
+        }
+    }
+
+    /**
+     * Integrates the early exercise premium and adds it to the European put, writing the price, delta, gamma and
+     * vega to {@code workspace.results}.
+     */
+    private static void premium(Workspace workspace, double S, double K, double T, double r, double q, double sigma,
+                                double logLimit) {
+        double[] results = workspace.results;
+        double logS = Math.log(S);
+        double sqrtT = Math.sqrt(T);
+        double carry = r - q;
+        // The boundary at T years to maturity, below which the put is exercised right away
+        double h0 = chebyshev(workspace.series, 1.0);
+        if (logS <= logLimit - Math.sqrt(Math.max(h0, 0.0))) {
+            results[0] = K - S;
+            results[1] = -1.0;
+            results[2] = 0.0;
+            results[3] = 0.0;
+            return;
+        }
+
+        double vol = sigma * sqrtT;
+        double d1 = (logS - Math.log(K) + (carry + 0.5 * sigma * sigma) * T) / vol;
+        double d2 = d1 - vol;
+        double yieldDiscount = Math.exp(-q * T);
+        double density = NormalDistributionUtil.probabilityDensity(d1);
+        double price = K * Math.exp(-r * T) * NormalDistributionUtil.cumulativeDistribution(-d2)
+                - S * yieldDiscount * NormalDistributionUtil.cumulativeDistribution(-d1);
+        double delta = -yieldDiscount * NormalDistributionUtil.cumulativeDistribution(-d1);
+        double gamma = yieldDiscount * density / (S * vol);
+        double vega = S * yieldDiscount * density * sqrtT;
+
+        double[] nodes = PREMIUM_RULE[0];
+        double[] weights = PREMIUM_RULE[1];
+        for (int k = 0; k < PREMIUM_POINTS; k++) {
+            // z = T h², h = (1 + y) / 2: dz = T h dy
+            double h = 0.5 * (1.0 + nodes[k]);
+            double z = T * h * h;
+            double weight = weights[k] * T * h;
+            double coordinate = 2.0 * Math.sqrt(Math.max(1.0 - h * h, 0.0)) - 1.0;
+            double hz = chebyshev(workspace.series, coordinate);
+            double dhz = chebyshev(workspace.dSeries, coordinate);
+            double root = Math.sqrt(Math.max(hz, 0.0));
+            double lambda = logS - logLimit + root;
+            double dLambda = root > 0.0 ? 0.5 * dhz / root : 0.0;
+
+            double a = sigma * sqrtT * h;
+            double e2 = (lambda + carry * z) / a - 0.5 * a;
+            double e1 = e2 + a;
+            double rate = r * K * Math.exp(-r * z);
+            double yield = q * Math.exp(-q * z);
+            double n2 = NormalDistributionUtil.probabilityDensity(e2);
+            double n1 = NormalDistributionUtil.probabilityDensity(e1);
+            double tail1 = NormalDistributionUtil.cumulativeDistribution(-e1);
+
+            price += weight * (rate * NormalDistributionUtil.cumulativeDistribution(-e2) - yield * S * tail1);
+            delta += weight * (-rate * n2 / (S * a) - yield * tail1 + yield * n1 / a);
+            gamma += weight * (rate * n2 * (1.0 + e2 / a) / (S * S * a) + yield * n1 * (1.0 - e1 / a) / (S * a));
+            vega += weight * (-rate * n2 * (dLambda / a - e1 / sigma) + yield * S * n1 * (dLambda / a - e2 / sigma));
+        }
+        if (price < K - S) {
+            price = K - S;
+        }
+        results[0] = price;
+        results[1] = delta;
+        results[2] = gamma;
+        results[3] = vega;
+    }
+
+    /**
+     * Chebyshev series of H = (ln B - ln X)² and of its derivative with respect to sigma over the nodes, by the
+     * discrete cosine transform, the first and last terms halved so that {@link #chebyshev} sums them plainly.
+     */
+    private static void chebyshevSeries(double[] logBoundary, double[] dLogBoundary, double logLimit,
+                                        double[] series, double[] dSeries) {
+        for (int k = 0; k <= NODES; k++) {
+            double sum = 0.0;
+            double dSum = 0.0;
+            for (int i = 0; i <= NODES; i++) {
+                double x = logBoundary[i] - logLimit;
+                double weight = i == 0 || i == NODES ? 0.5 : 1.0;
+                sum += weight * x * x * COSINES[i][k];
+                dSum += weight * 2.0 * x * dLogBoundary[i] * COSINES[i][k];
+            }
+            double scale = k == 0 || k == NODES ? 1.0 / NODES : 2.0 / NODES;
+            series[k] = scale * sum;
+            dSeries[k] = scale * dSum;
+        }
+    }
+
+    /**
+     * Clenshaw's sum of a Chebyshev series at {@code x} in [-1, 1], x = 1 being T years to maturity.
+     */
+    private static double chebyshev(double[] series, double x) {
+        double b1 = 0.0;
+        double b2 = 0.0;
+        for (int k = NODES; k >= 1; k--) {
+            double b0 = series[k] + 2.0 * x * b1 - b2;
+            b2 = b1;
+            b1 = b0;
+        }
+        return series[0] + x * b1 - b2;
+    }
+
+    /**
+     * @return The nodes and weights of the Gauss-Legendre rule of {@code points} points over [-1, 1], found by Newton's
+     *         method on the Legendre polynomial
+     */
+    private static double[][] gaussLegendre(int points) {
+        double[] nodes = new double[points];
+        double[] weights = new double[points];
+        for (int i = 0; i < points; i++) {
+            double x = Math.cos(Math.PI * (i + 0.75) / (points + 0.5));
+            double derivative = 0.0;
+            for (int iteration = 0; iteration < 100; iteration++) {
+                double p1 = 1.0;
+                double p2 = 0.0;
+                for (int j = 1; j <= points; j++) {
+                    double p3 = p2;
+                    p2 = p1;
+                    p1 = ((2 * j - 1) * x * p2 - (j - 1) * p3) / j;
+                }
+                derivative = points * (x * p1 - p2) / (x * x - 1.0);
+                double step = p1 / derivative;
+                x -= step;
+                if (Math.abs(step) < 1e-15) {
+                    break;
+                }
+            }
+            nodes[i] = x;
+            weights[i] = 2.0 / ((1.0 - x * x) * derivative * derivative);
+        }
+        return new double[][]{nodes, weights};
+    }
+
+    /**
+     * Buffers of one thread: ln B and its sigma-derivative at the nodes, their Chebyshev series, what the boundary
+     * integrals need at their quadrature points, and the price and Greeks.
+     */
+    private static final class Workspace {
+
+        private final double[] logBoundary = new double[NODES + 1];
+        private final double[] dLogBoundary = new double[NODES + 1];
+        private final double[] series = new double[NODES + 1];
+        private final double[] dSeries = new double[NODES + 1];
+        private final double[] pointRoots = new double[NODES * BOUNDARY_POINTS];
+        private final double[] pointCoordinates = new double[NODES * BOUNDARY_POINTS];
+        private final double[] pointRateGrowth = new double[NODES * BOUNDARY_POINTS];
+        private final double[] pointYieldGrowth = new double[NODES * BOUNDARY_POINTS];
+        private final double[] results = new double[4];
+    }
+}
@@ -0,0 +1,144 @@
+package com.sallyvnge.optionpricingapi.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of Black-Scholes prices and Greeks, keyed by the option inputs.
+ *
+ * The underlying price, volatility and time to maturity can each be quantized to a configurable step: inputs are
+ * rounded to the nearest multiple of the step, and the option is priced at the rounded inputs, so that nearby
+ * requests share one entry and a cached value never depends on which request filled it. A step of 0 keys on the exact
+ * value. The strike, rate and option type are always keyed exactly.
+ *
+ * Entries are evicted once the cache exceeds its maximum size, and expire a fixed time after being computed. As a
+ * {@link MeterBinder}, the cache publishes its hit, miss, eviction and size metrics under the name
+ * {@value #METRIC_NAME}.
+ */
+public class PricingResultCache implements MeterBinder {
+
+    static final String METRIC_NAME = "pricing.results";
+
+    private final Cache<Key, CachedPricing> cache;
+    private final double underlyingPriceQuantum;
+    private final double volatilityQuantum;
+    private final double timeToMaturityQuantum;
+
+    /**
+     * @param maximumSize The maximum number of entries
+     * @param expireAfterWrite How long an entry is kept after being computed
+     * @param underlyingPriceQuantum The quantization step of the underlying price, 0 for none
+     * @param volatilityQuantum The quantization step of the volatility, 0 for none
+     * @param timeToMaturityQuantum The quantization step of the time to maturity in years, 0 for none
+     */
+    public PricingResultCache(long maximumSize, Duration expireAfterWrite, double underlyingPriceQuantum,
+                              double volatilityQuantum, double timeToMaturityQuantum) {
+        this(maximumSize, expireAfterWrite, underlyingPriceQuantum, volatilityQuantum, timeToMaturityQuantum,
+                Ticker.systemTicker());
+    }
+
+    PricingResultCache(long maximumSize, Duration expireAfterWrite, double underlyingPriceQuantum,
+                       double volatilityQuantum, double timeToMaturityQuantum, Ticker ticker) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size must be non-negative, got: " + maximumSize);
+        }
+        this.underlyingPriceQuantum = checkQuantum(underlyingPriceQuantum);
+        this.volatilityQuantum = checkQuantum(volatilityQuantum);
+        this.timeToMaturityQuantum = checkQuantum(timeToMaturityQuantum);
+        this.cache = maximumSize == 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                // Evictions run on the calling thread: they are cheap and keep the pricing threads self-contained
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return A cache that stores nothing and prices every option exactly
+     */
+    public static PricingResultCache disabled() {
+        return new PricingResultCache(0, Duration.ZERO, 0.0, 0.0, 0.0);
+    }
+
+    /**
+     * @return true if results are cached
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the price and Greeks of an option at its quantized inputs, from the cache when available.
+     * Options whose quantized inputs are not positive are priced exactly and not cached.
+     * @param S The underlying price
+     * @param K The strike price
+     * @param T The time to maturity in years
+     * @param r The risk-free rate
+     * @param sigma The volatility
+     * @param optionType CALL or PUT
+     * @return The price and Greeks, with the volatility they were computed at
+     */
+    public CachedPricing priceAndGreeks(double S, double K, double T, double r, double sigma, OptionType optionType) {
+        double quantizedS = quantize(S, underlyingPriceQuantum);
+        double quantizedT = quantize(T, timeToMaturityQuantum);
+        double quantizedSigma = quantize(sigma, volatilityQuantum);
+        if (cache == null || !(quantizedS > 0.0 && quantizedT > 0.0 && quantizedSigma > 0.0)) {
+            return price(S, K, T, r, sigma, optionType);
+        }
+
+        Key key = new Key(quantizedS, K, quantizedT, r, quantizedSigma, optionType);
+        return cache.get(key, k -> price(k.S(), k.K(), k.T(), k.r(), k.sigma(), k.optionType()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            new CaffeineCacheMetrics<>(cache, METRIC_NAME, Tags.empty()).bindTo(registry);
+        }
+    }
+
+    /**
+     * Performs pending evictions immediately.
+     */
+    void cleanUp() {
+        if (cache != null) {
+            cache.cleanUp();
+        }
+    }
+
+    private static CachedPricing price(double S, double K, double T, double r, double sigma, OptionType optionType) {
+        return new CachedPricing(BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma, optionType), sigma);
+    }
+
+    private static double quantize(double value, double quantum) {
+        return quantum > 0.0 ? Math.rint(value / quantum) * quantum : value;
+    }
+
+    private static double checkQuantum(double quantum) {
+        if (!(quantum >= 0.0 && Double.isFinite(quantum))) {
+            throw new IllegalArgumentException("Quantization step must be non-negative, got: " + quantum);
+        }
+        return quantum;
+    }
+
+    /**
+     * Price and Greeks of an option, with the volatility they were computed at.
+     */
+    public record CachedPricing(PriceAndGreeks priceAndGreeks, double volatility) {
+    }
+
+    private record Key(double S, double K, double T, double r, double sigma, OptionType optionType) {
+    }
+}
@@ -0,0 +1,296 @@
+package com.sallyvnge.optionpricingapi.codec;
+
+import com.sallyvnge.optionpricingapi.exception.MalformedBatchException;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Compact binary wire format of batch pricing, served as {@value #MEDIA_TYPE_VALUE}.
+ *
+ * Both directions are little-endian and columnar: a 16-byte header followed by one column per field, each holding the
+ * value of every row back to back. Columns are decoded straight into the {@link OptionBatch} and encoded straight from
+ * the {@link PricingResults} through one buffer of at most 64 KiB, without any per-row object.
+ *
+ * Header, both directions:
+ * - bytes 0-3: the magic number, ASCII "OBRQ" for a request and "OBRS" for a response
+ * - bytes 4-5: the format version, 1
+ * - bytes 6-7: reserved, 0
+ * - bytes 8-11: the number of rows n, at most {@link #MAX_ROWS}
+ * - bytes 12-15: reserved (0) in a request; the number of rejected rows in a response
+ *
+ * Request columns: underlyingPrice, strikePrice, timeToMaturity, riskFreeRate and volatility as n doubles each, then
+ * optionType as n bytes (1 for CALL, 0 for PUT). Response columns: price, delta, gamma and vega as n doubles each,
+ * rejected rows holding NaN in every column. Every double column thus starts on an 8-byte boundary.
+ */
+public final class BinaryBatchCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-option-batch";
+    /** Largest number of rows of a body, about 41 MiB of request. */
+    public static final int MAX_ROWS = 1 << 20;
+    public static final int HEADER_BYTES = 16;
+
+    static final int REQUEST_MAGIC = magic("OBRQ");
+    static final int RESPONSE_MAGIC = magic("OBRS");
+    static final short VERSION = 1;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private BinaryBatchCodec() {}
+
+    /**
+     * Decodes a request body into a batch of as many rows, its length being unknown.
+     * @see #readRequest(InputStream, long)
+     */
+    public static OptionBatch readRequest(InputStream in) throws IOException {
+        return readRequest(in, -1);
+    }
+
+    /**
+     * Decodes a request body into a batch of as many rows.
+     *
+     * The header is not trusted to size the columns: when the length of the body is known it must match the header
+     * before anything is allocated, and otherwise the first column is grown as its rows arrive, so that the memory
+     * allocated stays proportional to the bytes actually received.
+     * @param in The request body, read to its end and left open
+     * @param contentLength The length of the body in bytes, or -1 if unknown
+     * @return The batch, its size being the number of rows of the body
+     * @throws MalformedBatchException if the body does not follow the format: wrong magic number or version, too many
+     *                                 rows, an option type other than 0 or 1, or a body shorter or longer than its
+     *                                 header announces
+     * @throws IOException if reading the body fails
+     */
+    public static OptionBatch readRequest(InputStream in, long contentLength) throws IOException {
+        int rows = readHeader(in, REQUEST_MAGIC);
+        if (contentLength >= 0 && contentLength != requestBytes(rows)) {
+            throw new MalformedBatchException("Body of " + contentLength + " bytes does not hold the " + rows
+                    + " rows of its header");
+        }
+        ByteBuffer buffer = buffer(rows);
+        double[] underlyingPrice = readGrowingDoubles(in, buffer, rows);
+        OptionBatch batch = new OptionBatch(rows);
+        System.arraycopy(underlyingPrice, 0, batch.underlyingPrice(), 0, rows);
+        readDoubles(in, buffer, batch.strikePrice(), rows);
+        readDoubles(in, buffer, batch.timeToMaturity(), rows);
+        readDoubles(in, buffer, batch.riskFreeRate(), rows);
+        readDoubles(in, buffer, batch.volatility(), rows);
+
+        boolean[] call = batch.call();
+        byte[] bytes = buffer.array();
+        for (int from = 0; from < rows; from += bytes.length) {
+            int count = Math.min(rows - from, bytes.length);
+            readFully(in, bytes, count);
+            for (int i = 0; i < count; i++) {
+                if ((bytes[i] & ~1) != 0) {
+                    throw new MalformedBatchException("Option type of row " + (from + i) + " must be 0 or 1, got: " + bytes[i]);
+                }
+                call[from + i] = bytes[i] == 1;
+            }
+        }
+        if (in.read() != -1) {
+            throw new MalformedBatchException("Body is longer than its " + rows + " rows");
+        }
+        batch.setSize(rows);
+        return batch;
+    }
+
+    /**
+     * Encodes a batch as a request body.
+     * @param batch The rows to encode
+     * @param out The stream receiving the body, left open and not flushed
+     * @throws IOException if writing fails
+     */
+    public static void writeRequest(OptionBatch batch, OutputStream out) throws IOException {
+        int rows = batch.size();
+        ByteBuffer buffer = buffer(rows);
+        writeHeader(out, buffer, REQUEST_MAGIC, rows, 0);
+        writeDoubles(out, buffer, batch.underlyingPrice(), rows);
+        writeDoubles(out, buffer, batch.strikePrice(), rows);
+        writeDoubles(out, buffer, batch.timeToMaturity(), rows);
+        writeDoubles(out, buffer, batch.riskFreeRate(), rows);
+        writeDoubles(out, buffer, batch.volatility(), rows);
+
+        boolean[] call = batch.call();
+        byte[] bytes = buffer.array();
+        for (int from = 0; from < rows; from += bytes.length) {
+            int count = Math.min(rows - from, bytes.length);
+            for (int i = 0; i < count; i++) {
+                bytes[i] = (byte) (call[from + i] ? 1 : 0);
+            }
+            out.write(bytes, 0, count);
+        }
+    }
+
+    /**
+     * Encodes the first {@code rows} rows of pricing results as a response body.
+     * @param results The result columns, NaN in every column of rejected rows
+     * @param rows The number of rows to encode
+     * @param rejected The number of rejected rows, reported in the header
+     * @param out The stream receiving the body, left open and not flushed
+     * @throws IOException if writing fails
+     */
+    public static void writeResponse(PricingResults results, int rows, int rejected, OutputStream out) throws IOException {
+        ByteBuffer buffer = buffer(rows);
+        writeHeader(out, buffer, RESPONSE_MAGIC, rows, rejected);
+        writeDoubles(out, buffer, results.price(), rows);
+        writeDoubles(out, buffer, results.delta(), rows);
+        writeDoubles(out, buffer, results.gamma(), rows);
+        writeDoubles(out, buffer, results.vega(), rows);
+    }
+
+    /**
+     * Decodes a response body, for clients of the format.
+     * @param in The response body, read to its end and left open
+     * @return The result columns, with a capacity of exactly the number of rows of the body
+     * @throws MalformedBatchException if the body does not follow the format
+     * @throws IOException if reading the body fails
+     */
+    public static PricingResults readResponse(InputStream in) throws IOException {
+        int rows = readHeader(in, RESPONSE_MAGIC);
+        ByteBuffer buffer = buffer(rows);
+        PricingResults results = new PricingResults(rows);
+        readDoubles(in, buffer, results.price(), rows);
+        readDoubles(in, buffer, results.delta(), rows);
+        readDoubles(in, buffer, results.gamma(), rows);
+        readDoubles(in, buffer, results.vega(), rows);
+        if (in.read() != -1) {
+            throw new MalformedBatchException("Body is longer than its " + rows + " rows");
+        }
+        return results;
+    }
+
+    /**
+     * @return A buffer holding the header or a whole column of {@code rows} rows, up to {@link #BUFFER_BYTES}
+     */
+    private static ByteBuffer buffer(int rows) {
+        int bytes = (int) Math.min(BUFFER_BYTES, Math.max(HEADER_BYTES, (long) rows * Double.BYTES));
+        return ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @param header The first bytes of a body from its position, little-endian
+     * @return true if they start with the magic number of a request
+     */
+    public static boolean isRequest(ByteBuffer header) {
+        return header.remaining() >= Integer.BYTES && header.getInt(header.position()) == REQUEST_MAGIC;
+    }
+
+    /**
+     * Checks the header of a request body, such as the start of a memory-mapped request file.
+     * @param header The 16 bytes of the header from its position, little-endian
+     * @param maxRows The largest number of rows accepted
+     * @return The number of rows
+     * @throws MalformedBatchException if the header is not a request header or announces too many rows
+     */
+    public static int requestRows(ByteBuffer header, int maxRows) {
+        return rows(header, REQUEST_MAGIC, maxRows);
+    }
+
+    /**
+     * Writes the header of a response body, such as the start of a memory-mapped response file.
+     * @param header Receives the 16 bytes of the header from its position, little-endian
+     */
+    public static void putResponseHeader(ByteBuffer header, int rows, int rejected) {
+        header.putInt(RESPONSE_MAGIC).putShort(VERSION).putShort((short) 0).putInt(rows).putInt(rejected);
+    }
+
+    /**
+     * @return The size in bytes of a request body of {@code rows} rows
+     */
+    public static long requestBytes(long rows) {
+        return HEADER_BYTES + rows * (5 * Double.BYTES + 1);
+    }
+
+    /**
+     * @return The size in bytes of a response body of {@code rows} rows
+     */
+    public static long responseBytes(long rows) {
+        return HEADER_BYTES + rows * 4 * Double.BYTES;
+    }
+
+    /**
+     * Reads and checks a header.
+     * @return The number of rows
+     */
+    private static int readHeader(InputStream in, int magic) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(in, buffer.array(), HEADER_BYTES);
+        return rows(buffer, magic, MAX_ROWS);
+    }
+
+    private static int rows(ByteBuffer header, int magic, int maxRows) {
+        int start = header.position();
+        if (header.getInt(start) != magic) {
+            throw new MalformedBatchException("Not a " + (magic == REQUEST_MAGIC ? "request" : "response")
+                    + " body of " + MEDIA_TYPE_VALUE);
+        }
+        if (header.getShort(start + 4) != VERSION) {
+            throw new MalformedBatchException("Unsupported format version: " + header.getShort(start + 4));
+        }
+        int rows = header.getInt(start + 8);
+        if (rows < 0 || rows > maxRows) {
+            throw new MalformedBatchException("Number of rows must be between 0 and " + maxRows + ", got: " + rows);
+        }
+        return rows;
+    }
+
+    private static void writeHeader(OutputStream out, ByteBuffer buffer, int magic, int rows, int last) throws IOException {
+        buffer.clear();
+        buffer.putInt(magic).putShort(VERSION).putShort((short) 0).putInt(rows).putInt(last);
+        out.write(buffer.array(), 0, HEADER_BYTES);
+    }
+
+    private static void readDoubles(InputStream in, ByteBuffer buffer, double[] column, int rows) throws IOException {
+        int perBuffer = buffer.capacity() / Double.BYTES;
+        for (int from = 0; from < rows; from += perBuffer) {
+            int count = Math.min(rows - from, perBuffer);
+            readFully(in, buffer.array(), count * Double.BYTES);
+            buffer.clear();
+            buffer.asDoubleBuffer().get(column, from, count);
+        }
+    }
+
+    /**
+     * Reads a column of {@code rows} doubles into an array grown, at most twofold, as they arrive.
+     */
+    private static double[] readGrowingDoubles(InputStream in, ByteBuffer buffer, int rows) throws IOException {
+        int perBuffer = buffer.capacity() / Double.BYTES;
+        double[] column = new double[Math.min(rows, perBuffer)];
+        for (int from = 0; from < rows; from += perBuffer) {
+            int count = Math.min(rows - from, perBuffer);
+            readFully(in, buffer.array(), count * Double.BYTES);
+            if (from + count > column.length) {
+                column = Arrays.copyOf(column, (int) Math.min(rows, 2L * column.length));
+            }
+            buffer.clear();
+            buffer.asDoubleBuffer().get(column, from, count);
+        }
+        return column;
+    }
+
+    private static void writeDoubles(OutputStream out, ByteBuffer buffer, double[] column, int rows) throws IOException {
+        int perBuffer = buffer.capacity() / Double.BYTES;
+        for (int from = 0; from < rows; from += perBuffer) {
+            int count = Math.min(rows - from, perBuffer);
+            buffer.clear();
+            buffer.asDoubleBuffer().put(column, from, count);
+            out.write(buffer.array(), 0, count * Double.BYTES);
+        }
+    }
+
+    private static void readFully(InputStream in, byte[] bytes, int length) throws IOException {
+        if (in.readNBytes(bytes, 0, length) < length) {
+            throw new MalformedBatchException("Body is shorter than its header announces");
+        }
+    }
+
+    private static int magic(String ascii) {
+        return ascii.charAt(0) | ascii.charAt(1) << 8 | ascii.charAt(2) << 16 | ascii.charAt(3) << 24;
+    }
+}
@@ -0,0 +1,280 @@
+package com.sallyvnge.optionpricingapi.codec;
+
+import java.math.BigInteger;
+
+/**
+ * Writes doubles as ASCII bytes, exactly as {@link Double#toString(double)} does, without creating any object.
+ *
+ * The digits are the shortest that read back to the same double, chosen as by the Schubfach algorithm (R. Giulietti,
+ * "The Schubfach way to render doubles", 2020): a few 64-bit multiplications by a precomputed 126-bit power of ten
+ * yield the decimal interval that rounds to the double, and the shortest decimal inside it. They are laid out as
+ * {@link Double#toString(double)} does, in plain notation from 1e-3 included to 1e7 excluded and in computerized
+ * scientific notation otherwise, with at least one digit after the point.
+ *
+ * The digits of {@link Double#toString(double)} on Java 17 are not always the shortest: integers from 2^53 on, exact
+ * powers of two below 2^-23 and subnormals may get an extra digit. Those doubles, none of which a price or Greek is
+ * expected to be, fall back to {@link Double#toString(double)} itself, so that the output is always the same.
+ */
+final class DoubleFormatter {
+
+    /** Longest output, e.g. "-2.2250738585072014E-308". */
+    static final int MAX_CHARS = 24;
+
+    private static final int P = 53;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long T_MASK = C_MIN - 1;
+    private static final int BQ_MASK = 0x7ff;
+    private static final long MASK_63 = (1L << 63) - 1;
+    /** Doubles from 2^53 on fall back to {@link Double#toString(double)}. */
+    private static final int MAX_FAST_BIASED_EXPONENT = 1075 + 1;
+    /** Exact powers of two below 2^-23 fall back to {@link Double#toString(double)}. */
+    private static final int MIN_FAST_POWER_OF_TWO_BIASED_EXPONENT = 1023 - 23;
+
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    /** g(k) = floor(10^-k 2^(125 - flog2pow10(-k))) + 1 in 126 bits: 63 high bits, then 63 low bits. */
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+    private static final long[] POWERS_OF_TEN = new long[19];
+    /** "00" to "99", the digits of n at 2n and 2n + 1. */
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = 10 * POWERS_OF_TEN[i - 1];
+        }
+        for (int n = 0; n < 100; n++) {
+            DIGIT_PAIRS[2 * n] = (byte) ('0' + n / 10);
+            DIGIT_PAIRS[2 * n + 1] = (byte) ('0' + n % 10);
+        }
+        BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int shift = 125 - flog2pow10(-k);
+            // A negative shift of shiftLeft shifts right, flooring
+            BigInteger g = k <= 0
+                    ? BigInteger.TEN.pow(-k).shiftLeft(shift)
+                    : BigInteger.ONE.shiftLeft(shift).divide(BigInteger.TEN.pow(k));
+            g = g.add(BigInteger.ONE);
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValueExact();
+            G[2 * (k - K_MIN) + 1] = g.and(mask).longValue();
+        }
+    }
+
+    private DoubleFormatter() {}
+
+    /**
+     * Writes a finite {@code v} at {@code buffer[position]}, which must have room for {@link #MAX_CHARS} bytes.
+     * @return The position after the last byte written
+     */
+    static int write(double v, byte[] buffer, int position) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bits < 0) {
+            buffer[position++] = '-';
+        }
+        if (bq == 0 && t == 0) {
+            buffer[position] = '0';
+            buffer[position + 1] = '.';
+            buffer[position + 2] = '0';
+            return position + 3;
+        }
+        if (bq == 0 || bq >= MAX_FAST_BIASED_EXPONENT || t == 0 && bq < MIN_FAST_POWER_OF_TWO_BIASED_EXPONENT) {
+            return writeAscii(Double.toString(Math.abs(v)), buffer, position);
+        }
+
+        int mq = 1075 - bq;
+        long c = C_MIN | t;
+        if (mq <= 0) {
+            // 2^52 <= v < 2^53, an integer
+            return layout(c << -mq, 0, buffer, position);
+        }
+        if (mq < P) {
+            long f = c >> mq;
+            if (f << mq == c) {
+                return layout(f, 0, buffer, position);
+            }
+        }
+        return shortest(-mq, c, buffer, position);
+    }
+
+    /**
+     * Finds the shortest decimal f * 10^e rounding to c * 2^q, the closest one if several, then lays it out.
+     */
+    private static int shortest(int q, long c, byte[] buffer, int position) {
+        int out = (int) c & 1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // The double below a power of two is twice as close
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+
+        long vb = roundToOdd(g1, g0, cb << h);
+        long vbl = roundToOdd(g1, g0, cbl << h);
+        long vbr = roundToOdd(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // s / 10 * 10, through the multiplicative inverse of 10
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return layout(upin ? sp10 : tp10, k, buffer, position);
+            }
+        }
+        long u = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (u << 2) + out <= vbr;
+        if (uin != win) {
+            return layout(uin ? s : u, k, buffer, position);
+        }
+        long cmp = vb - (s + u << 1);
+        return layout(cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : u, k, buffer, position);
+    }
+
+    /**
+     * @return g * cp / 2^127 rounded to odd, g being the 126-bit g1 * 2^63 + g0
+     */
+    private static long roundToOdd(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Writes f * 10^e as {@link Double#toString(double)} does.
+     */
+    private static int layout(long f, int e, byte[] buffer, int position) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int digits = digits(f);
+        int exponent = e + digits - 1;
+
+        if (exponent >= 0 && exponent < 7) {
+            int integerDigits = exponent + 1;
+            if (digits <= integerDigits) {
+                position = writeDigits(f, digits, buffer, position);
+                for (int i = digits; i < integerDigits; i++) {
+                    buffer[position++] = '0';
+                }
+                buffer[position] = '.';
+                buffer[position + 1] = '0';
+                return position + 2;
+            }
+            // Digits are written one place to the right, then the integer part is moved back to make room for the point
+            int end = writeDigits(f, digits, buffer, position + 1);
+            System.arraycopy(buffer, position + 1, buffer, position, integerDigits);
+            buffer[position + integerDigits] = '.';
+            return end;
+        }
+        if (exponent < 0 && exponent >= -3) {
+            buffer[position++] = '0';
+            buffer[position++] = '.';
+            for (int i = -1; i > exponent; i--) {
+                buffer[position++] = '0';
+            }
+            return writeDigits(f, digits, buffer, position);
+        }
+
+        int end = writeDigits(f, digits, buffer, position + 1);
+        buffer[position] = buffer[position + 1];
+        buffer[position + 1] = '.';
+        if (digits == 1) {
+            buffer[end++] = '0';
+        }
+        buffer[end++] = 'E';
+        if (exponent < 0) {
+            buffer[end++] = '-';
+            exponent = -exponent;
+        }
+        if (exponent >= 100) {
+            buffer[end++] = (byte) ('0' + exponent / 100);
+            exponent %= 100;
+            buffer[end++] = (byte) ('0' + exponent / 10);
+        } else if (exponent >= 10) {
+            buffer[end++] = (byte) ('0' + exponent / 10);
+        }
+        buffer[end++] = (byte) ('0' + exponent % 10);
+        return end;
+    }
+
+    /**
+     * @return The number of decimal digits of 0 < f < 10^18
+     */
+    private static int digits(long f) {
+        // log10(2) ~ 1233 / 4096, off by one at most
+        int digits = (64 - Long.numberOfLeadingZeros(f)) * 1233 >> 12;
+        return f >= POWERS_OF_TEN[digits] ? digits + 1 : digits;
+    }
+
+    /**
+     * Writes the digits of f two at a time, through ints once f is below 10^8.
+     */
+    private static int writeDigits(long f, int digits, byte[] buffer, int position) {
+        int end = position + digits;
+        int i = end;
+        while (f >= 100_000_000L) {
+            long q = f / 100_000_000L;
+            int r = (int) (f - q * 100_000_000L);
+            f = q;
+            for (int j = 0; j < 4; j++) {
+                int p = r / 100;
+                writePair(r - p * 100, buffer, i -= 2);
+                r = p;
+            }
+        }
+        int n = (int) f;
+        while (n >= 100) {
+            int p = n / 100;
+            writePair(n - p * 100, buffer, i -= 2);
+            n = p;
+        }
+        if (n >= 10) {
+            writePair(n, buffer, i - 2);
+        } else {
+            buffer[i - 1] = (byte) ('0' + n);
+        }
+        return end;
+    }
+
+    private static void writePair(int pair, byte[] buffer, int position) {
+        buffer[position] = DIGIT_PAIRS[2 * pair];
+        buffer[position + 1] = DIGIT_PAIRS[2 * pair + 1];
+    }
+
+    private static int writeAscii(String s, byte[] buffer, int position) {
+        for (int i = 0; i < s.length(); i++) {
+            buffer[position++] = (byte) s.charAt(i);
+        }
+        return position;
+    }
+
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
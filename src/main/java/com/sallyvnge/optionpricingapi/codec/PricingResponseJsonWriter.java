@@ -0,0 +1,266 @@
+package com.sallyvnge.optionpricingapi.codec;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Writes pricing responses as UTF-8 JSON straight from the primitive result columns, without building any response
+ * object nor going through Jackson.
+ *
+ * The bytes are those Jackson writes for {@link com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto} and
+ * {@link com.sallyvnge.optionpricingapi.dto.BatchPricingErrorDto} with its default settings: same field order, doubles
+ * as {@link Double#toString(double)} writes them (through {@link DoubleFormatter}), non-finite doubles as the quoted
+ * strings "NaN", "Infinity" and "-Infinity", and strings escaped alike. The only difference is that the input of a
+ * result may be left out, the {@code input} field then being absent rather than null.
+ *
+ * Bytes are gathered in a buffer of {@value #BUFFER_BYTES} bytes kept by each thread and reused across responses, so
+ * that writing a response allocates nothing per result. A thread must therefore use one writer at a time. Structural
+ * bytes between values (brackets, commas, line feeds) are left to the caller through {@link #writeRaw(String)}.
+ */
+public final class PricingResponseJsonWriter {
+
+    static final int BUFFER_BYTES = 8192;
+    /** Room for the longest value written without checking the buffer again: a result without its strings. */
+    private static final int MAX_FIXED_BYTES = 512;
+    /** Longest escape of a single char: backslash, 'u' and four hex digits. */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_BYTES]);
+
+    private static final byte[] PRICE = ascii("{\"price\":");
+    private static final byte[] DELTA = ascii(",\"delta\":");
+    private static final byte[] GAMMA = ascii(",\"gamma\":");
+    private static final byte[] VEGA = ascii(",\"vega\":");
+    private static final byte[] VOLATILITY_USED = ascii(",\"volatilityUsed\":");
+    private static final byte[] PRICING_MODEL = ascii(",\"pricingModel\":\"BLACK_SCHOLES\"");
+    private static final byte[] UNDERLYING_PRICE = ascii(",\"input\":{\"underlyingPrice\":");
+    private static final byte[] STRIKE_PRICE = ascii(",\"strikePrice\":");
+    private static final byte[] TIME_TO_MATURITY = ascii(",\"timeToMaturity\":");
+    private static final byte[] RISK_FREE_RATE = ascii(",\"riskFreeRate\":");
+    private static final byte[] VOLATILITY = ascii(",\"volatility\":");
+    private static final byte[] OPTION_TYPE = ascii(",\"optionType\":");
+    private static final byte[] SURFACE_ID = ascii(",\"surfaceId\":");
+    private static final byte[] INDEX = ascii("{\"index\":");
+    private static final byte[] FIELDS = ascii(",\"fields\":{");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] NAN = ascii("\"NaN\"");
+    private static final byte[] POSITIVE_INFINITY = ascii("\"Infinity\"");
+    private static final byte[] NEGATIVE_INFINITY = ascii("\"-Infinity\"");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * @param out The stream receiving the JSON bytes, written to when the buffer fills up and on {@link #flush()}
+     */
+    public PricingResponseJsonWriter(OutputStream out) {
+        this.out = out;
+        this.buffer = BUFFERS.get();
+    }
+
+    /**
+     * Writes the price and Greeks of a row as an {@link com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto}
+     * object priced with the Black-Scholes model.
+     * @param volatilityUsed The volatility the row was priced with
+     * @param input The request of the row, or null to leave out the {@code input} field
+     */
+    public void writeResult(PricingResults results, int row, double volatilityUsed, OptionRequestDto input)
+            throws IOException {
+        ensure(MAX_FIXED_BYTES);
+        put(PRICE);
+        putDouble(results.price()[row]);
+        put(DELTA);
+        putDouble(results.delta()[row]);
+        put(GAMMA);
+        putDouble(results.gamma()[row]);
+        put(VEGA);
+        putDouble(results.vega()[row]);
+        put(VOLATILITY_USED);
+        putDouble(volatilityUsed);
+        put(PRICING_MODEL);
+        if (input != null) {
+            put(UNDERLYING_PRICE);
+            putDouble(input.underlyingPrice());
+            put(STRIKE_PRICE);
+            putDouble(input.strikePrice());
+            put(TIME_TO_MATURITY);
+            putDouble(input.timeToMaturity());
+            put(RISK_FREE_RATE);
+            putDouble(input.riskFreeRate());
+            put(VOLATILITY);
+            putDouble(input.volatility());
+            put(OPTION_TYPE);
+            writeString(input.optionType() == null ? null : input.optionType().name());
+            ensure(MAX_FIXED_BYTES);
+            put(SURFACE_ID);
+            writeString(input.surfaceId());
+            writeRaw("}");
+        }
+        writeRaw("}");
+    }
+
+    /**
+     * Writes the validation errors of an element as a {@link com.sallyvnge.optionpricingapi.dto.BatchPricingErrorDto}
+     * object, its fields in their iteration order. The index is a {@code long} so that positions in a stream of any
+     * length are written exactly.
+     */
+    public void writeError(long index, Map<String, String> fields) throws IOException {
+        ensure(MAX_FIXED_BYTES);
+        put(INDEX);
+        putLong(index);
+        put(FIELDS);
+        boolean first = true;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            if (!first) {
+                writeRaw(",");
+            }
+            first = false;
+            writeString(field.getKey());
+            writeRaw(":");
+            writeString(field.getValue());
+        }
+        writeRaw("}}");
+    }
+
+    public void writeNull() throws IOException {
+        ensure(NULL.length);
+        put(NULL);
+    }
+
+    /**
+     * Writes ASCII text as is, e.g. the brackets and commas between values.
+     */
+    public void writeRaw(String ascii) throws IOException {
+        ensure(ascii.length());
+        for (int i = 0; i < ascii.length(); i++) {
+            buffer[position++] = (byte) ascii.charAt(i);
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the stream and flushes it.
+     */
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    /**
+     * Writes a quoted, escaped string, or null.
+     */
+    private void writeString(String s) throws IOException {
+        if (s == null) {
+            writeNull();
+            return;
+        }
+        ensure(2);
+        buffer[position++] = '"';
+        for (int i = 0; i < s.length(); i++) {
+            ensure(MAX_CHAR_BYTES + 1);
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                int end = i + 1;
+                while (end < s.length() && s.charAt(end) >= 0x80) {
+                    end++;
+                }
+                writeUtf8(s.substring(i, end));
+                i = end - 1;
+            } else if (c == '"' || c == '\\') {
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) c;
+            } else if (c >= 0x20) {
+                buffer[position++] = (byte) c;
+            } else {
+                writeEscapedControl(c);
+            }
+        }
+        ensure(1);
+        buffer[position++] = '"';
+    }
+
+    private void writeEscapedControl(char c) {
+        buffer[position++] = '\\';
+        switch (c) {
+            case '\b' -> buffer[position++] = 'b';
+            case '\t' -> buffer[position++] = 't';
+            case '\n' -> buffer[position++] = 'n';
+            case '\f' -> buffer[position++] = 'f';
+            case '\r' -> buffer[position++] = 'r';
+            default -> {
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xf];
+            }
+        }
+    }
+
+    /**
+     * Non-ASCII text needs no escaping and is rare in responses, so it is simply encoded by the JDK.
+     */
+    private void writeUtf8(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > buffer.length - position) {
+            drain();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void putDouble(double v) {
+        if (Double.isFinite(v)) {
+            position = DoubleFormatter.write(v, buffer, position);
+        } else {
+            put(Double.isNaN(v) ? NAN : v > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY);
+        }
+    }
+
+    private void putLong(long value) {
+        if (value < 0) {
+            buffer[position++] = '-';
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + Math.abs(value % 10));
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (bytes > buffer.length - position) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
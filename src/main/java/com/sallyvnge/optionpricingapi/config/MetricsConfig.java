@@ -0,0 +1,36 @@
+package com.sallyvnge.optionpricingapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.metrics.TimedJacksonHttpMessageConverter;
+import com.sallyvnge.optionpricingapi.metrics.TimedValidator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Times the deserialization, validation and serialization of request and response bodies by replacing the JSON
+ * message converter and wrapping the MVC validator. The remaining stages are timed by the services.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   PricingMetrics pricingMetrics) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, pricingMetrics);
+    }
+
+    @Bean
+    public WebMvcConfigurer timedValidatorConfigurer(LocalValidatorFactoryBean validator, PricingMetrics pricingMetrics) {
+        return new WebMvcConfigurer() {
+            @Override
+            public Validator getValidator() {
+                return new TimedValidator(validator, pricingMetrics);
+            }
+        };
+    }
+}
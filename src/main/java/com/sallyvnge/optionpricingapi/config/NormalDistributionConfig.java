@@ -0,0 +1,17 @@
+package com.sallyvnge.optionpricingapi.config;
+
+import com.sallyvnge.optionpricingapi.util.NormalDistributionStrategy;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies the {@code pricing.normal-distribution} property (RATIONAL or COMMONS_MATH) to {@link NormalDistributionUtil}.
+ */
+@Configuration
+public class NormalDistributionConfig {
+
+    public NormalDistributionConfig(@Value("${pricing.normal-distribution:RATIONAL}") NormalDistributionStrategy strategy) {
+        NormalDistributionUtil.useStrategy(strategy);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sallyvnge.optionpricingapi.config;
+
+import com.sallyvnge.optionpricingapi.cache.PricingResultCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Creates the {@link PricingResultCache} from the {@code pricing.cache.*} properties. The cache is disabled unless
+ * {@code pricing.cache.enabled} is true.
+ */
+@Configuration
+public class PricingCacheConfig {
+
+    @Bean
+    public PricingResultCache pricingResultCache(
+            @Value("${pricing.cache.enabled:false}") boolean enabled,
+            @Value("${pricing.cache.maximum-size:100000}") long maximumSize,
+            @Value("${pricing.cache.expire-after-write:30s}") Duration expireAfterWrite,
+            @Value("${pricing.cache.quantum.underlying-price:0}") double underlyingPriceQuantum,
+            @Value("${pricing.cache.quantum.volatility:0}") double volatilityQuantum,
+            @Value("${pricing.cache.quantum.time-to-maturity:0}") double timeToMaturityQuantum) {
+        if (!enabled) {
+            return PricingResultCache.disabled();
+        }
+        return new PricingResultCache(maximumSize, expireAfterWrite, underlyingPriceQuantum, volatilityQuantum,
+                timeToMaturityQuantum);
+    }
+}
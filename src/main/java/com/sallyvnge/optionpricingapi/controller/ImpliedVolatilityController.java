@@ -0,0 +1,46 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityChainResponseDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionChainDto;
+import com.sallyvnge.optionpricingapi.service.ImpliedVolatilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/implied-volatility")
+@RequiredArgsConstructor
+public class ImpliedVolatilityController {
+
+    private final ImpliedVolatilityService impliedVolatilityService;
+
+    @Operation(
+            summary = "Compute the implied volatility of a European option",
+            description = "Returns the Black-Scholes volatility at which the option is worth the given market price"
+    )
+    @PostMapping
+    public ResponseEntity<ImpliedVolatilityResponseDto> computeImpliedVolatility(@Valid @RequestBody ImpliedVolatilityRequestDto impliedVolatilityRequestDto) {
+        ImpliedVolatilityResponseDto response = impliedVolatilityService.calculate(impliedVolatilityRequestDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Compute the implied volatilities of option chains",
+            description = "Returns one vol point (strike, implied volatility) per strike of each chain, from its out-of-the-money quote, ready to build a volatility smile. "
+                    + "Chains are inverted in parallel and invalid quotes are reported by index within their chain, the errors of a whole chain apart"
+    )
+    @PostMapping("/chains")
+    public ResponseEntity<List<ImpliedVolatilityChainResponseDto>> computeImpliedVolatilityChains(@RequestBody List<OptionChainDto> optionChainDtos) {
+        List<ImpliedVolatilityChainResponseDto> response = impliedVolatilityService.calculateChains(optionChainDtos);
+        return ResponseEntity.ok(response);
+    }
+}
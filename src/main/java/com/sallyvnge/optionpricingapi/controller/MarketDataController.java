@@ -0,0 +1,66 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.TickDto;
+import com.sallyvnge.optionpricingapi.service.MarketDataService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/market")
+@RequiredArgsConstructor
+public class MarketDataController {
+
+    private final MarketDataService marketDataService;
+
+    @Operation(
+            summary = "Ingest a market data tick",
+            description = "Updates the spot and/or volatility of an underlying; its contracts are repriced and pushed "
+                    + "to their subscribers asynchronously, bursts of ticks being conflated"
+    )
+    @PostMapping("/ticks")
+    public ResponseEntity<Void> ingestTick(@Valid @RequestBody TickDto tickDto) {
+        marketDataService.ingest(tickDto);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(
+            summary = "Add or replace a contract",
+            description = "Stores the contract under the given id; it is repriced on every tick of its underlying"
+    )
+    @PutMapping("/contracts/{contractId}")
+    public ResponseEntity<Void> putContract(@PathVariable String contractId, @Valid @RequestBody ContractDto contractDto) {
+        marketDataService.putContract(contractId, contractDto);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Remove a contract")
+    @DeleteMapping("/contracts/{contractId}")
+    public ResponseEntity<Void> removeContract(@PathVariable String contractId) {
+        return marketDataService.removeContract(contractId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @Operation(
+            summary = "Stream the quotes of an underlying",
+            description = "Server-sent events carrying the price and Greeks of every contract of the underlying, "
+                    + "first for the current market, then after every tick or conflated burst of ticks"
+    )
+    @GetMapping(value = "/underlyings/{underlying}/quotes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQuotes(@PathVariable String underlying) {
+        return marketDataService.openQuoteStream(underlying);
+    }
+}
@@ -1,31 +1,173 @@
 package com.sallyvnge.optionpricingapi.controller;
 
+import com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.FiniteDifferenceRequestDto;
+import com.sallyvnge.optionpricingapi.dto.FiniteDifferenceResponseDto;
+import com.sallyvnge.optionpricingapi.dto.LatticeRequestDto;
+import com.sallyvnge.optionpricingapi.dto.LatticeResponseDto;
+import com.sallyvnge.optionpricingapi.dto.MonteCarloRequestDto;
+import com.sallyvnge.optionpricingapi.dto.MonteCarloResponseDto;
 import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
 import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridResponseDto;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.service.BatchPricingService;
+import com.sallyvnge.optionpricingapi.service.BinaryBatchPricingService;
+import com.sallyvnge.optionpricingapi.service.FiniteDifferencePricingService;
+import com.sallyvnge.optionpricingapi.service.LatticePricingService;
+import com.sallyvnge.optionpricingapi.service.MonteCarloPricingService;
 import com.sallyvnge.optionpricingapi.service.OptionPricingService;
+import com.sallyvnge.optionpricingapi.service.ScenarioGridService;
+import com.sallyvnge.optionpricingapi.service.StreamingPricingService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/v1/price")
 @RequiredArgsConstructor
 public class OptionPricingController {
 
     private final OptionPricingService optionPricingService;
+    private final BatchPricingService batchPricingService;
+    private final BinaryBatchPricingService binaryBatchPricingService;
+    private final StreamingPricingService streamingPricingService;
+    private final ScenarioGridService scenarioGridService;
+    private final MonteCarloPricingService monteCarloPricingService;
+    private final LatticePricingService latticePricingService;
+    private final FiniteDifferencePricingService finiteDifferencePricingService;
 
     @Operation(
             summary = "Price a European option",
-            description = "Returns the price and Greeks (Delta, Gamma, Vega) for a given option using the Black-Scholes model"
+            description = "Returns the price and Greeks (Delta, Gamma, Vega) for a given option using the Black-Scholes model. "
+                    + "List further Greeks in 'greeks', e.g. '?greeks=THETA,RHO,VANNA,VOLGA,CHARM,VETA', to have them "
+                    + "computed analytically and added to the response. "
+                    + "When the result cache or proxy pricing is enabled, send 'Cache-Control: no-cache' to price the exact "
+                    + "inputs"
     )
     @PostMapping
-    public ResponseEntity<OptionPricingResponseDto> computeOptionPrice(@Valid @RequestBody OptionRequestDto optionRequestDto) {
-        OptionPricingResponseDto response = optionPricingService.calculate(optionRequestDto);
+    public ResponseEntity<OptionPricingResponseDto> computeOptionPrice(
+            @Valid @RequestBody OptionRequestDto optionRequestDto,
+            @RequestParam(value = "greeks", required = false) Set<Greek> greeks,
+            @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        boolean exact = cacheControl != null && cacheControl.contains(CacheControl.noCache().getHeaderValue());
+        OptionPricingResponseDto response = optionPricingService.calculate(optionRequestDto, !exact,
+                greeks == null ? Greek.STANDARD : greeks);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Price a batch of European options",
+            description = "Returns the price and Greeks (Delta, Gamma, Vega) of each option using a columnar Black-Scholes kernel. "
+                    + "Invalid elements are reported by index without rejecting the rest of the batch. "
+                    + "Send '?echo=false' to leave out the 'input' field of every result"
+    )
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = BatchPricingResponseDto.class)))
+    @PostMapping("/batch")
+    public void computeBatchOptionPrices(@RequestBody List<OptionRequestDto> optionRequestDtos,
+                                         @RequestParam(value = "echo", defaultValue = "true") boolean echo,
+                                         HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        batchPricingService.write(optionRequestDtos, echo, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Price a batch of European options in the binary columnar format",
+            description = "Reads little-endian columns of contract parameters and returns little-endian columns of price and "
+                    + "Greeks (Delta, Gamma, Vega), without echoing the input. Invalid rows hold NaN and are counted in "
+                    + "the response header"
+    )
+    @PostMapping(value = "/batch", consumes = BinaryBatchCodec.MEDIA_TYPE_VALUE, produces = BinaryBatchCodec.MEDIA_TYPE_VALUE)
+    public void computeBinaryBatchOptionPrices(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(BinaryBatchCodec.MEDIA_TYPE_VALUE);
+        binaryBatchPricingService.price(request.getInputStream(), request.getContentLengthLong(), response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Stream-price European options as newline-delimited JSON",
+            description = "Reads one option request per line and writes one line per request, in order: its price and Greeks, "
+                    + "or its validation errors with its position in the stream. Options are priced in bounded chunks, "
+                    + "each written back as soon as it completes, so that input of any size is priced with flat memory. "
+                    + "Send '?echo=false' to leave out the 'input' field of every result line"
+    )
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamOptionPrices(InputStream requestBody,
+                                   @RequestParam(value = "echo", defaultValue = "true") boolean echo,
+                                   HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        streamingPricingService.price(requestBody, response.getOutputStream(), echo);
+    }
+
+    @Operation(
+            summary = "Price European options over a grid of market scenarios",
+            description = "Returns the price and PnL of each option for every combination of relative spot shock, "
+                    + "absolute volatility shock and time shift, as dense matrices indexed [time][volatility][spot], "
+                    + "together with the PnL of all options summed per scenario"
+    )
+    @PostMapping("/scenarios")
+    public ResponseEntity<ScenarioGridResponseDto> computeScenarioGrid(@Valid @RequestBody ScenarioGridRequestDto scenarioGridRequestDto) {
+        ScenarioGridResponseDto response = scenarioGridService.calculate(scenarioGridRequestDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Price an option by Monte Carlo simulation",
+            description = "Returns the estimated price and its standard error for European, Asian and barrier payoffs. "
+                    + "Paths are simulated in parallel from reproducible random streams, with antithetic variates and "
+                    + "the Black-Scholes price of the European payoff as control variate unless disabled"
+    )
+    @PostMapping("/monte-carlo")
+    public ResponseEntity<MonteCarloResponseDto> computeMonteCarloPrice(@Valid @RequestBody MonteCarloRequestDto monteCarloRequestDto) {
+        MonteCarloResponseDto response = monteCarloPricingService.calculate(monteCarloRequestDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Price an American or European option from its exercise boundary or on a lattice",
+            description = "Returns the price, Greeks (Delta, Gamma, Vega) and early exercise premium of an option priced by "
+                    + "default from its early-exercise boundary, solved from Kim's integral equation, or on a binomial "
+                    + "(Leisen-Reimer) or trinomial lattice, with Richardson extrapolation unless disabled and the European "
+                    + "option as optional control variate"
+    )
+    @PostMapping("/american")
+    public ResponseEntity<LatticeResponseDto> computeLatticePrice(@Valid @RequestBody LatticeRequestDto latticeRequestDto) {
+        LatticeResponseDto response = latticePricingService.calculate(latticeRequestDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Price a chain of options on a finite-difference grid",
+            description = "Returns the price and grid Greeks (Delta, Gamma) of each strike of a European or American, vanilla "
+                    + "or barrier option chain, solving the Black-Scholes PDE by Crank-Nicolson with Rannacher smoothing "
+                    + "on a grid concentrated around the strike. A vanilla chain is priced by a single solve"
+    )
+    @PostMapping("/finite-difference")
+    public ResponseEntity<FiniteDifferenceResponseDto> computeFiniteDifferencePrices(
+            @Valid @RequestBody FiniteDifferenceRequestDto finiteDifferenceRequestDto) {
+        FiniteDifferenceResponseDto response = finiteDifferencePricingService.calculate(finiteDifferenceRequestDto);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,61 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.sallyvnge.optionpricingapi.dto.MarketMoveDto;
+import com.sallyvnge.optionpricingapi.dto.PositionDto;
+import com.sallyvnge.optionpricingapi.dto.UnderlyingRiskDto;
+import com.sallyvnge.optionpricingapi.service.PositionBookService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/position-book")
+@RequiredArgsConstructor
+public class PositionBookController {
+
+    private final PositionBookService positionBookService;
+
+    @Operation(
+            summary = "Add or replace a position",
+            description = "Stores the position under the given id and returns the updated Greeks of its underlying"
+    )
+    @PutMapping("/positions/{positionId}")
+    public ResponseEntity<UnderlyingRiskDto> upsertPosition(@PathVariable String positionId, @Valid @RequestBody PositionDto positionDto) {
+        UnderlyingRiskDto response = positionBookService.upsertPosition(positionId, positionDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Remove a position")
+    @DeleteMapping("/positions/{positionId}")
+    public ResponseEntity<Void> removePosition(@PathVariable String positionId) {
+        return positionBookService.removePosition(positionId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @Operation(
+            summary = "Apply a market move",
+            description = "Updates the spot and/or volatility shift of an underlying and recomputes the Greeks of its positions only"
+    )
+    @PostMapping("/underlyings/{underlying}/market")
+    public ResponseEntity<UnderlyingRiskDto> applyMarketMove(@PathVariable String underlying, @Valid @RequestBody MarketMoveDto marketMoveDto) {
+        UnderlyingRiskDto response = positionBookService.applyMarketMove(underlying, marketMoveDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get the aggregated Greeks of an underlying", description = "Net delta, gamma and vega over its positions")
+    @GetMapping("/underlyings/{underlying}")
+    public ResponseEntity<UnderlyingRiskDto> getRisk(@PathVariable String underlying) {
+        UnderlyingRiskDto response = positionBookService.getRisk(underlying);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,49 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.sallyvnge.optionpricingapi.dto.VolSurfaceDto;
+import com.sallyvnge.optionpricingapi.service.VolSurfaceService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/vol-surfaces")
+@RequiredArgsConstructor
+public class VolSurfaceController {
+
+    private final VolSurfaceService volSurfaceService;
+
+    @Operation(
+            summary = "Register a volatility surface",
+            description = "Registers the surface under the given id, replacing any previous surface with that id. "
+                    + "Pricing requests reference it through their surfaceId"
+    )
+    @PutMapping("/{surfaceId}")
+    public ResponseEntity<VolSurfaceDto> registerSurface(@PathVariable String surfaceId, @Valid @RequestBody VolSurfaceDto volSurfaceDto) {
+        VolSurfaceDto response = volSurfaceService.register(surfaceId, volSurfaceDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get a volatility surface", description = "Returns the smiles of a registered surface, sorted by maturity")
+    @GetMapping("/{surfaceId}")
+    public ResponseEntity<VolSurfaceDto> getSurface(@PathVariable String surfaceId) {
+        VolSurfaceDto response = volSurfaceService.get(surfaceId);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Remove a volatility surface")
+    @DeleteMapping("/{surfaceId}")
+    public ResponseEntity<Void> removeSurface(@PathVariable String surfaceId) {
+        return volSurfaceService.remove(surfaceId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * Describes why a single element of a batch pricing request was rejected.
+ *
+ * - Index: Position of the rejected element in the request array.
+ * - Fields: Validation messages keyed by the name of the offending field.
+ */
+@Builder
+public record BatchPricingErrorDto(
+        int index,
+        Map<String, String> fields
+) {
+}
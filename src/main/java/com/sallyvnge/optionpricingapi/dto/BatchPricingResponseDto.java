@@ -0,0 +1,18 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents the response of a batch pricing request.
+ *
+ * - Results: One entry per request element, in request order. Rejected elements are null.
+ * - Errors: Validation errors of the rejected elements, identified by their index in the request.
+ */
+@Builder
+public record BatchPricingResponseDto(
+        List<OptionPricingResponseDto> results,
+        List<BatchPricingErrorDto> errors
+) {
+}
@@ -0,0 +1,29 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Represents a European option contract repriced on every tick of its underlying and pushed to its subscribers.
+ * Its spot and volatility are those of the latest ticks of the underlying.
+ *
+ * - Underlying: Identifier of the underlying asset.
+ * - Strike Price: The price at which the option can be exercised (must be positive).
+ * - Time to Maturity: Time remaining until the option's expiration, expressed in years (must be positive).
+ * - Risk-Free Rate: Annualized risk-free interest rate, expressed as a decimal.
+ * - Option Type: The type of the option, specifying whether it is a CALL or PUT.
+ */
+@Builder
+public record ContractDto(
+
+    @NotBlank String underlying,
+    @Positive
+    @NotNull double strikePrice,
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotNull double riskFreeRate,
+    @NotNull OptionType optionType
+) {}
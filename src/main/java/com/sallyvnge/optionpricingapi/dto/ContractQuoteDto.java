@@ -0,0 +1,19 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import lombok.Builder;
+
+/**
+ * Represents the Black-Scholes price and Greeks of a subscribed contract.
+ *
+ * - Contract Id: The id the contract was registered under.
+ * - Price, Delta, Gamma, Vega: The price and sensitivities of the contract.
+ */
+@Builder
+public record ContractQuoteDto(
+        String contractId,
+        double price,
+        double delta,
+        double gamma,
+        double vega
+) {
+}
@@ -0,0 +1,58 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.pde.FiniteDifferencePricer;
+import com.sallyvnge.optionpricingapi.validation.BarrierForPayoff;
+import com.sallyvnge.optionpricingapi.validation.BarrierPayoffRequest;
+import com.sallyvnge.optionpricingapi.validation.GridPayoff;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents a request to price a chain of options differing only by their strike on a finite-difference grid.
+ *
+ * - Underlying Price, Time to Maturity, Risk-Free Rate, Volatility, Option Type: As for {@link OptionRequestDto},
+ *   the volatility being required.
+ * - Strike Prices: The strikes of the chain, at most 1000. A vanilla chain is priced by a single PDE solve whatever
+ *   its number of strikes; a barrier chain takes one solve per strike.
+ * - Exercise Style: EUROPEAN or AMERICAN (EUROPEAN when omitted). Knock-in payoffs require EUROPEAN exercise.
+ * - Payoff Type: EUROPEAN or a barrier payoff (EUROPEAN when omitted), ASIAN payoffs not being supported.
+ * - Barrier: The barrier level of barrier payoffs (must be positive for them), continuously monitored.
+ * - Space Steps: Number of steps of the moneyness grid (400 when omitted, between 16 and 20000).
+ * - Time Steps: Number of time steps (200 when omitted, between 4 and 20000).
+ * - Greeks: Whether to also compute vega and rho by differentiating the solve (false when omitted), for about three
+ *   times the cost of the prices alone.
+ */
+@Builder
+@BarrierForPayoff
+@GridPayoff
+public record FiniteDifferenceRequestDto(
+
+    @Positive
+    @NotNull double underlyingPrice,
+    @NotEmpty
+    @Size(max = 1_000) List<@NotNull @Positive Double> strikePrices,
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotNull double riskFreeRate,
+    @Positive
+    @NotNull double volatility,
+    @NotNull OptionType optionType,
+    ExerciseStyle exerciseStyle,
+    PayoffType payoffType,
+    Double barrier,
+    @Min(FiniteDifferencePricer.MIN_SPACE_STEPS)
+    @Max(20_000) Integer spaceSteps,
+    @Min(FiniteDifferencePricer.MIN_TIME_STEPS)
+    @Max(20_000) Integer timeSteps,
+    Boolean greeks
+) implements BarrierPayoffRequest {}
@@ -0,0 +1,31 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents the result of a finite-difference pricing request.
+ *
+ * - Results: The price, delta and gamma of each strike, in the order of the request, read off the grid, with its
+ *   vega and rho when requested.
+ * - Exercise Style, Payoff Type, Space Steps, Time Steps: The grid actually run, defaults included.
+ * - Solves: The number of PDE solves run, 1 for a vanilla chain.
+ * - Pricing Model: FINITE_DIFFERENCE.
+ * - Input: The original request.
+ */
+@Builder
+public record FiniteDifferenceResponseDto(
+        List<StrikeResultDto> results,
+        ExerciseStyle exerciseStyle,
+        PayoffType payoffType,
+        int spaceSteps,
+        int timeSteps,
+        int solves,
+        PricingModel pricingModel,
+        FiniteDifferenceRequestDto input
+) {
+}
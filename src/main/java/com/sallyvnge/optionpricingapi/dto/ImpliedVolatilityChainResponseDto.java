@@ -0,0 +1,27 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the implied volatilities of an option chain.
+ *
+ * - Time to Maturity: The maturity of the chain, in years.
+ * - Vol Points: One strike and implied volatility per inverted strike, in quote order, ready to build a
+ *   {@link com.sallyvnge.optionpricingapi.volatility.VolSmile}. A strike quoted by both a call and a put is inverted
+ *   from its out-of-the-money quote.
+ * - Errors: The quotes that could not be inverted or were left out, identified by their index in the chain.
+ * - Chain Errors: The validation errors of the chain itself, which apply to every quote; absent if there are none.
+ */
+@Builder
+public record ImpliedVolatilityChainResponseDto(
+        double timeToMaturity,
+        List<VolPoint> volPoints,
+        List<BatchPricingErrorDto> errors,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> chainErrors
+) {
+}
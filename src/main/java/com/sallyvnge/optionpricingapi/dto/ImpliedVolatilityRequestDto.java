@@ -0,0 +1,35 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Represents the request data required to compute the implied volatility of a European option
+ * from its market price.
+ *
+ * The request data fields are:
+ * - Underlying Price: Current price of the underlying asset (must be positive).
+ * - Strike Price: The price at which the option can be exercised (must be positive).
+ * - Time to Maturity: Time remaining until the option's expiration, expressed in years (must be positive).
+ * - Risk-Free Rate: Annualized risk-free interest rate, expressed as a decimal (can be negative or positive).
+ * - Option Price: Market price of the option (must be positive).
+ * - Option Type: The type of the option, specifying whether it is a CALL or PUT.
+ */
+@Builder
+@Validated
+public record ImpliedVolatilityRequestDto(
+
+    @Positive
+    @NotNull double underlyingPrice,
+    @Positive
+    @NotNull double strikePrice,
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotNull double riskFreeRate,
+    @Positive
+    @NotNull double optionPrice,
+    @NotNull OptionType optionType
+) {}
@@ -0,0 +1,16 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import lombok.Builder;
+
+/**
+ * Represents the response of an implied volatility calculation.
+ *
+ * - Implied Volatility: The Black-Scholes volatility at which the option is worth its market price.
+ * - Input: The request parameters provided for the calculation.
+ */
+@Builder
+public record ImpliedVolatilityResponseDto(
+        double impliedVolatility,
+        ImpliedVolatilityRequestDto input
+) {
+}
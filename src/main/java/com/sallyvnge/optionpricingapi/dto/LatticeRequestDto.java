@@ -0,0 +1,48 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.lattice.LatticePricer;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import com.sallyvnge.optionpricingapi.validation.LatticeModel;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Represents a request to price an option, possibly with early exercise, from its early-exercise boundary or on a
+ * binomial or trinomial lattice.
+ *
+ * - Underlying Price, Strike Price, Time to Maturity, Risk-Free Rate, Volatility, Option Type: As for
+ *   {@link OptionRequestDto}, the volatility being required.
+ * - Exercise Style: EUROPEAN or AMERICAN (AMERICAN when omitted).
+ * - Pricing Model: INTEGRAL_EQUATION to solve for the early-exercise boundary, or the lattice to price on, BINOMIAL
+ *   or TRINOMIAL (INTEGRAL_EQUATION when omitted).
+ * - Steps: Number of time steps of the lattice (128 when omitted, between 8 and 10000).
+ * - Richardson: Whether to extrapolate the lattice from n and about n / 2 steps (true when omitted).
+ * - Control Variate: Whether to correct the result by the lattice's error on the European option (false when
+ *   omitted).
+ * Steps, Richardson and Control Variate apply to the lattices only.
+ */
+@Builder
+public record LatticeRequestDto(
+
+    @Positive
+    @NotNull double underlyingPrice,
+    @Positive
+    @NotNull double strikePrice,
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotNull double riskFreeRate,
+    @Positive
+    @NotNull double volatility,
+    @NotNull OptionType optionType,
+    ExerciseStyle exerciseStyle,
+    @LatticeModel PricingModel pricingModel,
+    @Min(LatticePricer.MIN_STEPS)
+    @Max(10_000) Integer steps,
+    Boolean richardson,
+    Boolean controlVariate
+) {}
@@ -0,0 +1,28 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import lombok.Builder;
+
+/**
+ * Represents the result of a lattice pricing request.
+ *
+ * - Price, Delta, Gamma, Vega: The price of the option and its Greeks.
+ * - Early Exercise Premium: The price minus the Black-Scholes price of the European option, 0 for EUROPEAN exercise.
+ * - Exercise Style, Pricing Model, Steps: The model actually run, defaults included, the steps being the number of
+ *   Chebyshev nodes of the boundary for INTEGRAL_EQUATION.
+ * - Input: The original request.
+ */
+@Builder
+public record LatticeResponseDto(
+        double price,
+        double delta,
+        double gamma,
+        double vega,
+        double earlyExercisePremium,
+        ExerciseStyle exerciseStyle,
+        PricingModel pricingModel,
+        int steps,
+        LatticeRequestDto input
+) {
+}
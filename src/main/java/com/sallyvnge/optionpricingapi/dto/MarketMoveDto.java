@@ -0,0 +1,18 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Represents a market move of one underlying of the position book. Omitted fields are left unchanged.
+ *
+ * - Spot: New price of the underlying asset (must be positive).
+ * - Volatility Shift: New parallel shift added to the volatility of every position on the underlying, expressed as
+ *   a decimal (0.01 for one volatility point).
+ */
+@Builder
+public record MarketMoveDto(
+
+    @Positive Double spot,
+    Double volatilityShift
+) {}
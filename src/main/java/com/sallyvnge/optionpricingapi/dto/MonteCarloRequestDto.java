@@ -0,0 +1,63 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.validation.BarrierForPayoff;
+import com.sallyvnge.optionpricingapi.validation.BarrierPayoffRequest;
+import com.sallyvnge.optionpricingapi.validation.PathwiseGreeks;
+import com.sallyvnge.optionpricingapi.validation.SimulationBudget;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Represents a request to price an option, possibly path-dependent, by Monte Carlo simulation.
+ *
+ * - Underlying Price, Strike Price, Time to Maturity, Risk-Free Rate, Volatility, Option Type: As for
+ *   {@link OptionRequestDto}, the volatility being required.
+ * - Payoff Type: The payoff to price, EUROPEAN when omitted.
+ * - Barrier: The barrier level of barrier payoffs (must be positive for them).
+ * - Monitoring Dates: Number of evenly spaced dates at which path-dependent payoffs observe the underlying,
+ *   the last one being the maturity (252 when omitted, at most 10000).
+ * - Paths: Number of simulated paths, antithetic paths included (100000 when omitted, at most 100000000).
+ * - Seed: Seed of the random streams, a fixed default when omitted. The same seed and inputs always give the same
+ *   result, whatever the number of cores.
+ * - Antithetic: Whether to pair every path with its antithetic path (true when omitted).
+ * - Control Variate: Whether to use the European payoff as control variate (true when omitted).
+ * - Greeks: Whether to also estimate delta, vega, rho and theta by adjoint differentiation of every path (false when
+ *   omitted). Not available for barrier payoffs.
+ *
+ * The simulation as a whole is bounded too: at most {@value #MAX_PATH_STEPS} path steps, i.e. paths × monitoring
+ * dates, a European payoff counting one step per path.
+ */
+@Builder
+@BarrierForPayoff
+@PathwiseGreeks
+@SimulationBudget(max = MonteCarloRequestDto.MAX_PATH_STEPS)
+public record MonteCarloRequestDto(
+
+    @Positive
+    @NotNull double underlyingPrice,
+    @Positive
+    @NotNull double strikePrice,
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotNull double riskFreeRate,
+    @Positive
+    @NotNull double volatility,
+    @NotNull OptionType optionType,
+    PayoffType payoffType,
+    Double barrier,
+    @Positive
+    @Max(10_000) Integer monitoringDates,
+    @Positive
+    @Max(100_000_000) Long paths,
+    Long seed,
+    Boolean antithetic,
+    Boolean controlVariate,
+    Boolean greeks
+) implements BarrierPayoffRequest {
+
+    public static final long MAX_PATH_STEPS = 1_000_000_000L;
+}
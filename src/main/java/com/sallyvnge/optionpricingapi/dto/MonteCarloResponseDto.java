@@ -0,0 +1,36 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import lombok.Builder;
+
+/**
+ * Represents the result of a Monte Carlo pricing request.
+ *
+ * - Price: The estimated price of the option.
+ * - Standard Error: The standard deviation of the estimated price.
+ * - Control Variate Beta: The coefficient applied to the control variate, 0 without control.
+ * - Delta, Vega, Rho, Theta: The pathwise Greeks, averaged over the paths without control variate, only present
+ *   when requested. Theta is per year of calendar time.
+ * - Payoff Type, Monitoring Dates, Paths, Seed: The simulation actually run, defaults included.
+ * - Pricing Model: Always MONTE_CARLO.
+ * - Input: The original request.
+ */
+@Builder
+public record MonteCarloResponseDto(
+        double price,
+        double standardError,
+        double controlVariateBeta,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double delta,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double vega,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double rho,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double theta,
+        PayoffType payoffType,
+        int monitoringDates,
+        long paths,
+        long seed,
+        PricingModel pricingModel,
+        MonteCarloRequestDto input
+) {
+}
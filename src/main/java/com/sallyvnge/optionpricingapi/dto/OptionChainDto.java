@@ -0,0 +1,30 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents the quotes of the options sharing an underlying and a maturity, from which an implied volatility
+ * smile is built.
+ *
+ * - Underlying Price: Current price of the underlying asset (must be positive).
+ * - Time to Maturity: Time remaining until the options' expiration, expressed in years (must be positive).
+ * - Risk-Free Rate: Annualized risk-free interest rate, expressed as a decimal (can be negative or positive).
+ * - Quotes: The strike, price and type of each option of the chain (must not be empty).
+ */
+@Builder
+public record OptionChainDto(
+
+    @Positive
+    @NotNull double underlyingPrice,
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotNull double riskFreeRate,
+    @NotEmpty
+    List<@Valid @NotNull OptionQuoteDto> quotes
+) {}
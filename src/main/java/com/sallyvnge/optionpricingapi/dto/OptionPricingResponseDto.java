@@ -1,5 +1,6 @@
 package com.sallyvnge.optionpricingapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sallyvnge.optionpricingapi.model.PricingModel;
 import lombok.Builder;
 
@@ -12,6 +13,8 @@ import lombok.Builder;
  * - Delta: Measures the sensitivity of the option's price to changes in the price of the underlying asset.
  * - Gamma: Measures the sensitivity of the option's delta to changes in the price of the underlying asset.
  * - Vega: Measures the sensitivity of the option's price to changes in the volatility of the underlying asset.
+ * - Theta, Rho, Vanna, Volga, Charm, Veta: The other Greeks, see {@link com.sallyvnge.optionpricingapi.model.Greeks}.
+ *   Each is only computed, and only present, when requested.
  * - Volatility Used: The volatility value input used in the pricing calculation.
  * - Pricing Model: The pricing model employed, such as Black-Scholes.
  * - Input: The request parameters provided for the pricing calculation.
@@ -22,6 +25,12 @@ public record OptionPricingResponseDto(
         double delta,
         double gamma,
         double vega,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double theta,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double rho,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double vanna,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double volga,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double charm,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double veta,
         double volatilityUsed,
         PricingModel pricingModel,
         OptionRequestDto input
@@ -0,0 +1,23 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Represents the market quote of one option of an {@link OptionChainDto}.
+ *
+ * - Strike Price: The price at which the option can be exercised (must be positive).
+ * - Option Price: Market price of the option (must be positive).
+ * - Option Type: The type of the option, specifying whether it is a CALL or PUT.
+ */
+@Builder
+public record OptionQuoteDto(
+
+    @Positive
+    @NotNull double strikePrice,
+    @Positive
+    @NotNull double optionPrice,
+    @NotNull OptionType optionType
+) {}
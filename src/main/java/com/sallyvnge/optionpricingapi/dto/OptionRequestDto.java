@@ -1,6 +1,7 @@
 package com.sallyvnge.optionpricingapi.dto;
 
 import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.validation.VolatilityOrSurface;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Builder;
@@ -16,11 +17,15 @@ import org.springframework.validation.annotation.Validated;
  * - Strike Price: The price at which the option can be exercised (must be positive).
  * - Time to Maturity: Time remaining until the option's expiration, expressed in years (must be positive).
  * - Risk-Free Rate: Annualized risk-free interest rate, expressed as a decimal (can be negative or positive).
- * - Volatility: Annualized standard deviation of the returns of the underlying asset (must be positive).
+ * - Volatility: Annualized standard deviation of the returns of the underlying asset (must be positive unless a
+ *   surface id is given).
  * - Option Type: The type of the option, specifying whether it is a CALL or PUT.
+ * - Surface Id: Optional id of a registered volatility surface. When set, the volatility is read from the surface
+ *   at the option's maturity and strike, and the volatility field is ignored.
  */
 @Builder
 @Validated
+@VolatilityOrSurface
 public record OptionRequestDto (
 
     @Positive
@@ -30,7 +35,7 @@ public record OptionRequestDto (
     @Positive
     @NotNull double timeToMaturity,
     @NotNull double riskFreeRate,
-    @Positive
     @NotNull double volatility,
-    @NotNull OptionType optionType
+    @NotNull OptionType optionType,
+    String surfaceId
 ) {}
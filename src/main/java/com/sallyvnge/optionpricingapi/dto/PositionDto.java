@@ -0,0 +1,34 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Represents a position of the position book: a European option contract held in a given quantity.
+ *
+ * - Underlying: Identifier of the underlying asset, shared by all positions whose Greeks are aggregated together.
+ * - Strike Price: The price at which the option can be exercised (must be positive).
+ * - Time to Maturity: Time remaining until the option's expiration, expressed in years (must be positive).
+ * - Risk-Free Rate: Annualized risk-free interest rate, expressed as a decimal.
+ * - Volatility: Annualized implied volatility of the contract, before any volatility shift of its underlying
+ *   (must be positive).
+ * - Option Type: The type of the option, specifying whether it is a CALL or PUT.
+ * - Quantity: Number of contracts held, negative for a short position.
+ */
+@Builder
+public record PositionDto(
+
+    @NotBlank String underlying,
+    @Positive
+    @NotNull double strikePrice,
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotNull double riskFreeRate,
+    @Positive
+    @NotNull double volatility,
+    @NotNull OptionType optionType,
+    @NotNull double quantity
+) {}
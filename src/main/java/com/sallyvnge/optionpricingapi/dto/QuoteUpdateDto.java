@@ -0,0 +1,28 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents the repricing of every contract of an underlying, pushed to its subscribers.
+ *
+ * - Underlying: Identifier of the underlying asset.
+ * - Spot, Volatility: The market state the contracts were priced with.
+ * - Sequence: Number of ticks received by the underlying up to the latest one included. Ticks received during a
+ *   repricing are conflated into the next one, so consecutive updates may skip sequence numbers.
+ * - Quotes: One quote per contract of the underlying.
+ * - Oldest Tick Nanos: {@link System#nanoTime()} at the oldest tick the repricing includes, or null for a repricing
+ *   caused by no tick, such as a contract change; timing the push, not serialized.
+ */
+@Builder
+public record QuoteUpdateDto(
+        String underlying,
+        double spot,
+        double volatility,
+        long sequence,
+        List<ContractQuoteDto> quotes,
+        @JsonIgnore Long oldestTickNanos
+) {
+}
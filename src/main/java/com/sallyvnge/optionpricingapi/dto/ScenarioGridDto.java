@@ -0,0 +1,20 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import lombok.Builder;
+
+/**
+ * Represents the scenario grid of one option.
+ *
+ * - Base Price: The price of the option without any shock.
+ * - Volatility Used: The unshocked volatility, read from the surface when the option references one.
+ * - Prices: The price in every scenario, indexed [time shift][volatility shock][spot shock].
+ * - PnL: The price in every scenario minus the base price, with the same indexing.
+ */
+@Builder
+public record ScenarioGridDto(
+        double basePrice,
+        double volatilityUsed,
+        double[][][] prices,
+        double[][][] pnl
+) {
+}
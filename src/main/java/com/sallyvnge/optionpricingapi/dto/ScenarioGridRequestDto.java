@@ -0,0 +1,37 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.validation.ScenarioGridSize;
+import com.sallyvnge.optionpricingapi.validation.TimeShiftsBeforeMaturity;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents a request to price options over a grid of market scenarios.
+ *
+ * - Options: The contracts to shock, each priced with its own volatility or the volatility of its surface.
+ * - Spot Shocks: Relative shocks of the underlying price, greater than -1 (0.05 for +5%).
+ * - Volatility Shocks: Absolute shocks of the volatility (0.01 for one volatility point).
+ * - Time Shifts: Optional time elapsed in years, [0] when omitted, each shorter than the maturity of every option.
+ *
+ * Each axis is bounded, and so is the whole grid: at most {@value #MAX_CELLS} cells, i.e. options × spot shocks ×
+ * volatility shocks × time shifts, each cell holding a price and a PnL in the response.
+ */
+@Builder
+@ScenarioGridSize(max = ScenarioGridRequestDto.MAX_CELLS)
+@TimeShiftsBeforeMaturity
+public record ScenarioGridRequestDto(
+
+    @NotEmpty @Size(max = 10_000) List<@Valid @NotNull OptionRequestDto> options,
+    @NotEmpty @Size(max = 1_000) List<@NotNull @DecimalMin(value = "-1.0", inclusive = false) Double> spotShocks,
+    @NotEmpty @Size(max = 1_000) List<@NotNull Double> volatilityShocks,
+    @Size(max = 1_000) List<@NotNull Double> timeShifts
+) {
+
+    public static final long MAX_CELLS = 1_000_000;
+}
@@ -0,0 +1,22 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents the response of a scenario grid request.
+ *
+ * - Spot Shocks, Volatility Shocks, Time Shifts: The axes of the grid, as applied.
+ * - Grids: One scenario grid per option, in request order.
+ * - Total PnL: The PnL of all options summed per scenario, indexed [time shift][volatility shock][spot shock].
+ */
+@Builder
+public record ScenarioGridResponseDto(
+        List<Double> spotShocks,
+        List<Double> volatilityShocks,
+        List<Double> timeShifts,
+        List<ScenarioGridDto> grids,
+        double[][][] totalPnl
+) {
+}
@@ -0,0 +1,19 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+/**
+ * Represents the price and grid Greeks of one strike of a finite-difference chain, vega and rho only being present
+ * when requested.
+ */
+@Builder
+public record StrikeResultDto(
+        double strikePrice,
+        double price,
+        double delta,
+        double gamma,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double vega,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Double rho
+) {
+}
@@ -0,0 +1,20 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Represents a market data tick of one underlying. Omitted fields are left unchanged.
+ *
+ * - Underlying: Identifier of the underlying asset.
+ * - Spot: New price of the underlying asset (must be positive).
+ * - Volatility: New annualized implied volatility of the underlying, expressed as a decimal (must be positive).
+ */
+@Builder
+public record TickDto(
+
+    @NotBlank String underlying,
+    @Positive Double spot,
+    @Positive Double volatility
+) {}
@@ -0,0 +1,26 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import lombok.Builder;
+
+/**
+ * Represents the aggregated Greeks of all positions on one underlying of the position book.
+ *
+ * - Underlying: Identifier of the underlying asset.
+ * - Spot: Last price of the underlying, null until the first market move. Until then the Greeks are 0.
+ * - Volatility Shift: Parallel shift currently applied to the volatilities of the positions.
+ * - Positions: Number of positions on the underlying.
+ * - Net Delta, Net Gamma, Net Vega: Sums of the Greeks of the positions, weighted by their quantities.
+ * - Version: Incremented on every change to the positions or market of the underlying.
+ */
+@Builder
+public record UnderlyingRiskDto(
+        String underlying,
+        Double spot,
+        double volatilityShift,
+        int positions,
+        double netDelta,
+        double netGamma,
+        double netVega,
+        long version
+) {
+}
@@ -0,0 +1,25 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents the smile of one expiry of a volatility surface.
+ *
+ * - Time to Maturity: Time to the expiry, expressed in years (must be positive).
+ * - Vol Points: The strikes and implied volatilities of the expiry (must not be empty), for instance the vol points
+ *   of an {@link ImpliedVolatilityChainResponseDto}.
+ */
+@Builder
+public record VolSliceDto(
+
+    @Positive
+    @NotNull double timeToMaturity,
+    @NotEmpty
+    List<@NotNull VolPoint> volPoints
+) {}
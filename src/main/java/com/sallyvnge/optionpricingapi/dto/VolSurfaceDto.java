@@ -0,0 +1,20 @@
+package com.sallyvnge.optionpricingapi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents a volatility surface as the smiles of its expiries.
+ *
+ * - Slices: One smile per expiry, with distinct maturities (must not be empty).
+ */
+@Builder
+public record VolSurfaceDto(
+
+    @NotEmpty
+    List<@Valid @NotNull VolSliceDto> slices
+) {}
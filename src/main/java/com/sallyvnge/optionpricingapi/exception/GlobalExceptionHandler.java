@@ -1,20 +1,29 @@
 package com.sallyvnge.optionpricingapi.exception;
 
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final PricingMetrics pricingMetrics;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
+        pricingMetrics.countError("validation");
         Map<String, Object> response = new HashMap<>();
         response.put("status", 400);
         response.put("error", "Validation error");
@@ -30,6 +39,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<Map<String, Object>> handleInvalidJson(HttpMessageNotReadableException ex) {
+        pricingMetrics.countError("malformed-request");
         Map<String, Object> response = new HashMap<>();
         response.put("status", 400);
         response.put("error", "Malformed request");
@@ -37,12 +47,74 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidParameter(MethodArgumentTypeMismatchException ex) {
+        pricingMetrics.countError("malformed-request");
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", 400);
+        response.put("error", "Malformed request");
+        response.put("message", "Invalid value of parameter '" + ex.getName() + "': " + ex.getValue());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(MalformedBatchException.class)
+    public ResponseEntity<Map<String, Object>> handleMalformedBatch(MalformedBatchException ex) {
+        pricingMetrics.countError("malformed-request");
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", 400);
+        response.put("error", "Malformed request");
+        response.put("message", ex.getMessage());
+        // Errors are reported as JSON even to clients accepting only the binary format
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
     @ExceptionHandler(UnsupportedOrMissingOptionTypeException.class)
     public ResponseEntity<Map<String, Object>> handleOptionTypeError(UnsupportedOrMissingOptionTypeException ex) {
+        pricingMetrics.countError("option-type");
         Map<String, Object> response = new HashMap<>();
         response.put("status", 400);
         response.put("error", "Unsupported or missing option type");
         response.put("message", ex.getMessage());
         return ResponseEntity.badRequest().body(response);
     }
+
+    @ExceptionHandler(PriceOutsideArbitrageBoundsException.class)
+    public ResponseEntity<Map<String, Object>> handleArbitrageBoundsError(PriceOutsideArbitrageBoundsException ex) {
+        pricingMetrics.countError("arbitrage-bounds");
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", 400);
+        response.put("error", "No implied volatility");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(UnknownVolSurfaceException.class)
+    public ResponseEntity<Map<String, Object>> handleUnknownVolSurface(UnknownVolSurfaceException ex) {
+        pricingMetrics.countError("unknown-vol-surface");
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", 404);
+        response.put("error", "Unknown volatility surface");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    @ExceptionHandler(UnknownUnderlyingException.class)
+    public ResponseEntity<Map<String, Object>> handleUnknownUnderlying(UnknownUnderlyingException ex) {
+        pricingMetrics.countError("unknown-underlying");
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", 404);
+        response.put("error", "Unknown underlying");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    @ExceptionHandler(InvalidVolSurfaceException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidVolSurface(InvalidVolSurfaceException ex) {
+        pricingMetrics.countError("invalid-vol-surface");
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", 400);
+        response.put("error", "Invalid volatility surface");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
 }
@@ -0,0 +1,12 @@
+package com.sallyvnge.optionpricingapi.exception;
+
+/**
+ * Exception thrown when the slices of a volatility surface cannot be assembled, for instance because two slices
+ * share a maturity, a slice repeats a strike or a point has a non-positive strike or volatility.
+ */
+public class InvalidVolSurfaceException extends RuntimeException {
+
+    public InvalidVolSurfaceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
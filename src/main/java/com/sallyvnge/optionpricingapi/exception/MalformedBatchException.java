@@ -0,0 +1,11 @@
+package com.sallyvnge.optionpricingapi.exception;
+
+/**
+ * Exception thrown when a binary batch body does not follow the columnar wire format.
+ */
+public class MalformedBatchException extends RuntimeException {
+
+    public MalformedBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sallyvnge.optionpricingapi.exception;
+
+/**
+ * Exception thrown when an option price admits no implied volatility because it violates the no-arbitrage bounds.
+ */
+public class PriceOutsideArbitrageBoundsException extends RuntimeException {
+
+    public PriceOutsideArbitrageBoundsException(String message) {
+        super(message);
+    }
+}
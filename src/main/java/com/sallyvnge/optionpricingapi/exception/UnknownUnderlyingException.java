@@ -0,0 +1,12 @@
+package com.sallyvnge.optionpricingapi.exception;
+
+/**
+ * Exception thrown when the risk of an underlying without positions or market data is requested, or when a tick is
+ * received for an underlying without contracts.
+ */
+public class UnknownUnderlyingException extends RuntimeException {
+
+    public UnknownUnderlyingException(String message) {
+        super(message);
+    }
+}
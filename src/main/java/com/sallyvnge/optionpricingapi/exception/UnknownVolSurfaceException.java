@@ -0,0 +1,11 @@
+package com.sallyvnge.optionpricingapi.exception;
+
+/**
+ * Exception thrown when a request references a volatility surface that is not registered.
+ */
+public class UnknownVolSurfaceException extends RuntimeException {
+
+    public UnknownVolSurfaceException(String message) {
+        super(message);
+    }
+}
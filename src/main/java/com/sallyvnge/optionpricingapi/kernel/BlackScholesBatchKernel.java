@@ -0,0 +1,95 @@
+package com.sallyvnge.optionpricingapi.kernel;
+
+import com.sallyvnge.optionpricingapi.util.NormalDistributionStrategy;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+
+/**
+ * Columnar Black-Scholes kernel pricing a whole {@link OptionBatch} in one pass.
+ *
+ * Calls and puts share the same loop body: with {@code w = +1} for a call and {@code w = -1} for a put,
+ * price = w * (S * N(w * d1) - K * e^(-rT) * N(w * d2)) and delta = w * N(w * d1).
+ * This keeps the loop free of per-row dispatch and evaluates d1, d2 and the discount factor once per row.
+ *
+ * When the JVM is started with {@code --add-modules jdk.incubator.vector}, batches are priced by
+ * {@link VectorBlackScholesKernel} across SIMD lanes. Otherwise, or when the normal distribution strategy is not
+ * {@link NormalDistributionStrategy#RATIONAL} (the only one implemented lane-wise), the scalar loop is used.
+ */
+public final class BlackScholesBatchKernel {
+
+    private static final boolean VECTOR_API_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private BlackScholesBatchKernel() {}
+
+    /**
+     * @return true if batches are currently priced by the SIMD kernel
+     */
+    public static boolean isVectorized() {
+        return VECTOR_API_AVAILABLE && NormalDistributionUtil.strategy() == NormalDistributionStrategy.RATIONAL;
+    }
+
+    /**
+     * Prices every row of the batch.
+     * @param batch The input columns
+     * @param results The output columns, with a capacity of at least {@code batch.size()}
+     */
+    public static void price(OptionBatch batch, PricingResults results) {
+        price(batch, results, 0, batch.size());
+    }
+
+    /**
+     * Prices rows {@code [from, to)} of the batch, writing into the same rows of the results.
+     * @param batch The input columns
+     * @param results The output columns
+     * @param from The first row to price, inclusive
+     * @param to The last row to price, exclusive
+     */
+    public static void price(OptionBatch batch, PricingResults results, int from, int to) {
+        if (isVectorized()) {
+            VectorBlackScholesKernel.price(batch, results, from, to);
+        } else {
+            priceScalar(batch, results, from, to);
+        }
+    }
+
+    /**
+     * Prices rows {@code [from, to)} of the batch one row at a time, whatever the availability of the Vector API.
+     */
+    public static void priceScalar(OptionBatch batch, PricingResults results, int from, int to) {
+        double[] spot = batch.underlyingPrice();
+        double[] strike = batch.strikePrice();
+        double[] maturity = batch.timeToMaturity();
+        double[] rate = batch.riskFreeRate();
+        double[] vol = batch.volatility();
+        boolean[] call = batch.call();
+
+        double[] price = results.price();
+        double[] delta = results.delta();
+        double[] gamma = results.gamma();
+        double[] vega = results.vega();
+
+        for (int i = from; i < to; i++) {
+            double S = spot[i];
+            double K = strike[i];
+            double T = maturity[i];
+            double r = rate[i];
+            double sigma = vol[i];
+            double w = call[i] ? 1.0 : -1.0;
+
+            double sqrtT = Math.sqrt(T);
+            double volSqrtT = sigma * sqrtT;
+            double d1 = (Math.log(S / K) + (r + 0.5 * sigma * sigma) * T) / volSqrtT;
+            double d2 = d1 - volSqrtT;
+            double discountedStrike = K * Math.exp(-r * T);
+
+            double nd1 = NormalDistributionUtil.cumulativeDistribution(w * d1);
+            double nd2 = NormalDistributionUtil.cumulativeDistribution(w * d2);
+            double pdf = NormalDistributionUtil.probabilityDensity(d1);
+
+            price[i] = w * (S * nd1 - discountedStrike * nd2);
+            delta[i] = w * nd1;
+            gamma[i] = pdf / (S * volSqrtT);
+            vega[i] = S * pdf * sqrtT;
+        }
+    }
+}
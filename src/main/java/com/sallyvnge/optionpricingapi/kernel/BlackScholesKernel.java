@@ -0,0 +1,111 @@
+package com.sallyvnge.optionpricingapi.kernel;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.model.PricedGreeks;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+
+import java.util.Set;
+
+/**
+ * Fused single-option Black-Scholes kernel.
+ *
+ * Computing the price with {@code BlackScholesPricingService} and then the Greeks with {@code GreeksCalculatorService}
+ * evaluates d1, sqrt(T) and the normal density twice. This kernel evaluates d1, d2, the discount factor,
+ * N(d1), N(d2) and n(d1) exactly once and derives the price and every Greek from them, theta, rho and the
+ * second-order Greeks included on request.
+ */
+public final class BlackScholesKernel {
+
+    private BlackScholesKernel() {}
+
+    /**
+     * Prices a European option and computes its Greeks in a single pass.
+     * @param optionRequestDto the details of the option
+     * @return the price, delta, gamma and vega of the option
+     */
+    public static PriceAndGreeks priceAndGreeks(OptionRequestDto optionRequestDto) {
+        return priceAndGreeks(optionRequestDto.underlyingPrice(), optionRequestDto.strikePrice(),
+                optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(),
+                optionRequestDto.volatility(), optionRequestDto.optionType());
+    }
+
+    /**
+     * Prices a European option and computes its Greeks in a single pass.
+     * With {@code w = +1} for a call and {@code w = -1} for a put:
+     * price = w * (S * N(w * d1) - K * e^(-rT) * N(w * d2)), delta = w * N(w * d1),
+     * gamma = n(d1) / (S * sigma * sqrt(T)) and vega = S * n(d1) * sqrt(T).
+     */
+    public static PriceAndGreeks priceAndGreeks(double S, double K, double T, double r, double sigma, OptionType optionType) {
+        double w = switch (optionType) {
+            case CALL -> 1.0;
+            case PUT -> -1.0;
+        };
+
+        double sqrtT = Math.sqrt(T);
+        double volSqrtT = sigma * sqrtT;
+        double d1 = (Math.log(S / K) + (r + 0.5 * sigma * sigma) * T) / volSqrtT;
+        double d2 = d1 - volSqrtT;
+        double discountedStrike = K * Math.exp(-r * T);
+
+        double nd1 = NormalDistributionUtil.cumulativeDistribution(w * d1);
+        double nd2 = NormalDistributionUtil.cumulativeDistribution(w * d2);
+        double pdf = NormalDistributionUtil.probabilityDensity(d1);
+
+        return new PriceAndGreeks(
+                w * (S * nd1 - discountedStrike * nd2),
+                w * nd1,
+                pdf / (S * volSqrtT),
+                S * pdf * sqrtT
+        );
+    }
+
+    /**
+     * Prices a European option and computes delta, gamma, vega and the requested higher-order Greeks in a single
+     * pass, those reusing the terms of the price. With {@code w = +1} for a call and {@code w = -1} for a put, besides
+     * the Greeks of {@link #priceAndGreeks(double, double, double, double, double, OptionType)}:
+     * - theta = -S * n(d1) * sigma / (2 * sqrt(T)) - w * r * K * e^(-rT) * N(w * d2)
+     * - rho = w * K * T * e^(-rT) * N(w * d2)
+     * - vanna = -n(d1) * d2 / sigma, volga = vega * d1 * d2 / sigma
+     * - charm = -n(d1) * (2 * r * T - d2 * sigma * sqrt(T)) / (2 * T * sigma * sqrt(T))
+     * - veta = vega * (r * d1 / (sigma * sqrt(T)) - (1 + d1 * d2) / (2 * T))
+     *
+     * @param greeks The Greeks to compute beyond delta, gamma and vega
+     * @return The price and Greeks of the option, NaN for the higher-order Greeks not requested
+     */
+    public static PricedGreeks priceAndGreeks(double S, double K, double T, double r, double sigma,
+                                              OptionType optionType, Set<Greek> greeks) {
+        double w = switch (optionType) {
+            case CALL -> 1.0;
+            case PUT -> -1.0;
+        };
+
+        double sqrtT = Math.sqrt(T);
+        double volSqrtT = sigma * sqrtT;
+        double d1 = (Math.log(S / K) + (r + 0.5 * sigma * sigma) * T) / volSqrtT;
+        double d2 = d1 - volSqrtT;
+        double discountedStrike = K * Math.exp(-r * T);
+
+        double nd1 = NormalDistributionUtil.cumulativeDistribution(w * d1);
+        double nd2 = NormalDistributionUtil.cumulativeDistribution(w * d2);
+        double pdf = NormalDistributionUtil.probabilityDensity(d1);
+        double discountedStrikeNd2 = discountedStrike * nd2;
+        double vega = S * pdf * sqrtT;
+
+        Greeks result = Greeks.builder()
+                .delta(w * nd1)
+                .gamma(pdf / (S * volSqrtT))
+                .vega(vega)
+                .theta(greeks.contains(Greek.THETA) ? -0.5 * S * pdf * sigma / sqrtT - w * r * discountedStrikeNd2 : Double.NaN)
+                .rho(greeks.contains(Greek.RHO) ? w * T * discountedStrikeNd2 : Double.NaN)
+                .vanna(greeks.contains(Greek.VANNA) ? -pdf * d2 / sigma : Double.NaN)
+                .volga(greeks.contains(Greek.VOLGA) ? vega * d1 * d2 / sigma : Double.NaN)
+                .charm(greeks.contains(Greek.CHARM) ? -pdf * (2 * r * T - d2 * volSqrtT) / (2 * T * volSqrtT) : Double.NaN)
+                .veta(greeks.contains(Greek.VETA) ? vega * (r * d1 / volSqrtT - (1 + d1 * d2) / (2 * T)) : Double.NaN)
+                .build();
+        return new PricedGreeks(w * (S * nd1 - discountedStrikeNd2), result);
+    }
+}
@@ -0,0 +1,128 @@
+package com.sallyvnge.optionpricingapi.kernel;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+
+/**
+ * Structure-of-arrays view of a batch of European options.
+ *
+ * Each contract parameter lives in its own primitive column so that pricing kernels can stream
+ * over contiguous {@code double[]} data instead of dereferencing one request object per contract.
+ * Row {@code i} of every column describes the same contract.
+ */
+public final class OptionBatch {
+
+    private final double[] underlyingPrice;
+    private final double[] strikePrice;
+    private final double[] timeToMaturity;
+    private final double[] riskFreeRate;
+    private final double[] volatility;
+    private final boolean[] call;
+    private int size;
+
+    /**
+     * Creates an empty batch able to hold {@code capacity} contracts.
+     * @param capacity The number of rows allocated for each column
+     */
+    public OptionBatch(int capacity) {
+        this.underlyingPrice = new double[capacity];
+        this.strikePrice = new double[capacity];
+        this.timeToMaturity = new double[capacity];
+        this.riskFreeRate = new double[capacity];
+        this.volatility = new double[capacity];
+        this.call = new boolean[capacity];
+    }
+
+    /**
+     * Appends a contract at the end of the batch.
+     * @return The row index assigned to the contract
+     */
+    public int add(double S, double K, double T, double r, double sigma, OptionType optionType) {
+        int row = size++;
+        underlyingPrice[row] = S;
+        strikePrice[row] = K;
+        timeToMaturity[row] = T;
+        riskFreeRate[row] = r;
+        volatility[row] = sigma;
+        call[row] = optionType == OptionType.CALL;
+        return row;
+    }
+
+    /**
+     * Appends the parameters of a pricing request at the end of the batch.
+     * @return The row index assigned to the contract
+     */
+    public int add(OptionRequestDto optionRequestDto) {
+        return add(optionRequestDto.underlyingPrice(), optionRequestDto.strikePrice(),
+                optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(),
+                optionRequestDto.volatility(), optionRequestDto.optionType());
+    }
+
+    /**
+     * Sets the number of rows of a batch whose columns were filled in place, such as by decoding straight into them.
+     * @param size The number of rows, at most the capacity
+     * @throws IllegalArgumentException if the size is negative or exceeds the capacity
+     */
+    public void setSize(int size) {
+        if (size < 0 || size > capacity()) {
+            throw new IllegalArgumentException("Size must be between 0 and " + capacity() + ", got: " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Checks a row against the constraints of {@link OptionRequestDto} with a flat volatility: a positive underlying
+     * price, strike, maturity and volatility, and a finite rate.
+     * @return true if the row can be priced
+     */
+    public boolean isValid(int row) {
+        return isPositive(underlyingPrice[row])
+                && isPositive(strikePrice[row])
+                && isPositive(timeToMaturity[row])
+                && Double.isFinite(riskFreeRate[row])
+                && isPositive(volatility[row]);
+    }
+
+    /**
+     * Empties the batch so that its columns can be reused.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return call.length;
+    }
+
+    public double[] underlyingPrice() {
+        return underlyingPrice;
+    }
+
+    public double[] strikePrice() {
+        return strikePrice;
+    }
+
+    public double[] timeToMaturity() {
+        return timeToMaturity;
+    }
+
+    public double[] riskFreeRate() {
+        return riskFreeRate;
+    }
+
+    public double[] volatility() {
+        return volatility;
+    }
+
+    public boolean[] call() {
+        return call;
+    }
+
+    private static boolean isPositive(double value) {
+        return value > 0.0 && value < Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,54 @@
+package com.sallyvnge.optionpricingapi.kernel;
+
+/**
+ * Structure-of-arrays output of the batch pricing kernels.
+ * Row {@code i} holds the price and Greeks of row {@code i} of the priced {@link OptionBatch}.
+ */
+public final class PricingResults {
+
+    private final double[] price;
+    private final double[] delta;
+    private final double[] gamma;
+    private final double[] vega;
+
+    /**
+     * Creates result columns able to hold {@code capacity} rows.
+     * @param capacity The number of rows allocated for each column
+     */
+    public PricingResults(int capacity) {
+        this.price = new double[capacity];
+        this.delta = new double[capacity];
+        this.gamma = new double[capacity];
+        this.vega = new double[capacity];
+    }
+
+    /**
+     * Marks a row as rejected, setting NaN in every column.
+     */
+    public void reject(int row) {
+        price[row] = Double.NaN;
+        delta[row] = Double.NaN;
+        gamma[row] = Double.NaN;
+        vega[row] = Double.NaN;
+    }
+
+    public int capacity() {
+        return price.length;
+    }
+
+    public double[] price() {
+        return price;
+    }
+
+    public double[] delta() {
+        return delta;
+    }
+
+    public double[] gamma() {
+        return gamma;
+    }
+
+    public double[] vega() {
+        return vega;
+    }
+}
@@ -0,0 +1,82 @@
+package com.sallyvnge.optionpricingapi.kernel;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+
+/**
+ * Black-Scholes prices of one option over a spot × volatility × time grid of shocks.
+ *
+ * Every term is computed at the outermost level of the grid it depends on:
+ * - per spot shock: the shocked spot and ln(S' / K), i.e. one logarithm per spot shock for the whole grid;
+ * - per time shift: sqrt(T') and the discounted strike K * e^(-rT');
+ * - per (time, volatility): sigma' * sqrt(T') and the drift (r + sigma'²/2) * T'.
+ * The innermost loop over spot shocks is then left with d1, d2 and the two normal cumulative distributions.
+ *
+ * Volatility shocks are additive and floored at {@link #MIN_VOLATILITY}. Time shifts are the time elapsed, in years:
+ * at or past the maturity, the option is worth its payoff at the shocked spot.
+ */
+public final class ScenarioGridKernel {
+
+    /** Floor of the shocked volatility, keeping d1 finite when a negative shock exceeds the volatility. */
+    public static final double MIN_VOLATILITY = 1e-4;
+
+    private ScenarioGridKernel() {}
+
+    /**
+     * Prices an option on every point of a scenario grid.
+     * @param S The underlying price
+     * @param K The strike price
+     * @param T The time to maturity in years
+     * @param r The risk-free rate
+     * @param sigma The volatility
+     * @param optionType CALL or PUT
+     * @param spotShocks Relative spot shocks, each greater than -1 (0.05 for +5%)
+     * @param volatilityShocks Absolute volatility shocks (0.01 for one volatility point)
+     * @param timeShifts Time elapsed in years
+     * @param prices The output grid, indexed [time shift][volatility shock][spot shock]
+     */
+    public static void price(double S, double K, double T, double r, double sigma, OptionType optionType,
+                             double[] spotShocks, double[] volatilityShocks, double[] timeShifts, double[][][] prices) {
+        double w = switch (optionType) {
+            case CALL -> 1.0;
+            case PUT -> -1.0;
+        };
+
+        int spots = spotShocks.length;
+        double[] shockedSpot = new double[spots];
+        double[] logMoneyness = new double[spots];
+        double logSpotOverStrike = Math.log(S / K);
+        for (int s = 0; s < spots; s++) {
+            shockedSpot[s] = S * (1.0 + spotShocks[s]);
+            logMoneyness[s] = logSpotOverStrike + Math.log1p(spotShocks[s]);
+        }
+
+        for (int t = 0; t < timeShifts.length; t++) {
+            double remaining = T - timeShifts[t];
+            if (remaining <= 0.0) {
+                for (double[] row : prices[t]) {
+                    for (int s = 0; s < spots; s++) {
+                        row[s] = Math.max(w * (shockedSpot[s] - K), 0.0);
+                    }
+                }
+                continue;
+            }
+
+            double sqrtT = Math.sqrt(remaining);
+            double discountedStrike = K * Math.exp(-r * remaining);
+            for (int v = 0; v < volatilityShocks.length; v++) {
+                double shockedVol = Math.max(sigma + volatilityShocks[v], MIN_VOLATILITY);
+                double volSqrtT = shockedVol * sqrtT;
+                double drift = (r + 0.5 * shockedVol * shockedVol) * remaining;
+                double[] row = prices[t][v];
+                for (int s = 0; s < spots; s++) {
+                    double d1 = (logMoneyness[s] + drift) / volSqrtT;
+                    double d2 = d1 - volSqrtT;
+                    double nd1 = NormalDistributionUtil.cumulativeDistribution(w * d1);
+                    double nd2 = NormalDistributionUtil.cumulativeDistribution(w * d2);
+                    row[s] = w * (shockedSpot[s] * nd1 - discountedStrike * nd2);
+                }
+            }
+        }
+    }
+}
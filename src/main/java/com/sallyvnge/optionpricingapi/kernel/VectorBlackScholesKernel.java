@@ -0,0 +1,129 @@
+package com.sallyvnge.optionpricingapi.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD version of {@link BlackScholesBatchKernel} built on the incubating Vector API.
+ *
+ * The formula is the same branch-free one as the scalar kernel, evaluated on {@code SPECIES.length()} rows at once
+ * with the lane-wise log, exp and normal CDF of {@link VectorMath}. Rows left over after the last full vector are
+ * priced by the scalar kernel.
+ *
+ * C2 only keeps vectors in registers when everything they flow through is inlined, and its inlining node budget is
+ * exhausted by more than one of log, exp or the CDF polynomials per method. Beyond that budget every vector silently
+ * becomes a heap object. The work is therefore split into small passes over L1-sized blocks, each calling a single
+ * heavy function, that hand their intermediates over through the result columns and one scratch block.
+ *
+ * This class must only be loaded when the {@code jdk.incubator.vector} module is part of the boot layer,
+ * see {@link BlackScholesBatchKernel#isVectorized()}.
+ */
+final class VectorBlackScholesKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int BLOCK = 512;
+
+    private VectorBlackScholesKernel() {}
+
+    static void price(OptionBatch batch, PricingResults results, int from, int to) {
+        int upperBound = from + SPECIES.loopBound(to - from);
+        double[] scratch = new double[BLOCK];
+
+        for (int blockStart = from; blockStart < upperBound; blockStart += BLOCK) {
+            int blockEnd = Math.min(blockStart + BLOCK, upperBound);
+            logMoneyness(batch, results, blockStart, blockEnd);
+            d1d2(batch, results, blockStart, blockEnd);
+            gaussian(results.gamma(), results.delta(), blockStart, blockEnd, 0);
+            firstLeg(batch, results, blockStart, blockEnd);
+            gaussian(results.vega(), scratch, blockStart, blockEnd, -blockStart);
+            secondLeg(batch, results, scratch, blockStart, blockEnd);
+        }
+        BlackScholesBatchKernel.priceScalar(batch, results, upperBound, to);
+    }
+
+    /**
+     * gamma = log(S / K)
+     */
+    private static void logMoneyness(OptionBatch batch, PricingResults results, int from, int to) {
+        for (int i = from; i < to; i += SPECIES.length()) {
+            DoubleVector S = DoubleVector.fromArray(SPECIES, batch.underlyingPrice(), i);
+            DoubleVector K = DoubleVector.fromArray(SPECIES, batch.strikePrice(), i);
+            VectorMath.log(S.div(K)).intoArray(results.gamma(), i);
+        }
+    }
+
+    /**
+     * gamma = d1, vega = d2, price = K * e^(-rT)
+     */
+    private static void d1d2(OptionBatch batch, PricingResults results, int from, int to) {
+        for (int i = from; i < to; i += SPECIES.length()) {
+            DoubleVector K = DoubleVector.fromArray(SPECIES, batch.strikePrice(), i);
+            DoubleVector T = DoubleVector.fromArray(SPECIES, batch.timeToMaturity(), i);
+            DoubleVector r = DoubleVector.fromArray(SPECIES, batch.riskFreeRate(), i);
+            DoubleVector sigma = DoubleVector.fromArray(SPECIES, batch.volatility(), i);
+            DoubleVector logMoneyness = DoubleVector.fromArray(SPECIES, results.gamma(), i);
+
+            DoubleVector volSqrtT = sigma.mul(T.sqrt());
+            DoubleVector drift = sigma.mul(sigma).mul(0.5).add(r).mul(T);
+            DoubleVector d1 = logMoneyness.add(drift).div(volSqrtT);
+
+            d1.intoArray(results.gamma(), i);
+            d1.sub(volSqrtT).intoArray(results.vega(), i);
+            K.mul(VectorMath.exp(r.mul(T).neg())).intoArray(results.price(), i);
+        }
+    }
+
+    /**
+     * target[i + targetOffset] = e^(-x[i]²/2)
+     */
+    private static void gaussian(double[] x, double[] target, int from, int to, int targetOffset) {
+        for (int i = from; i < to; i += SPECIES.length()) {
+            VectorMath.gaussian(DoubleVector.fromArray(SPECIES, x, i)).intoArray(target, i + targetOffset);
+        }
+    }
+
+    /**
+     * Reads d1 from gamma and e^(-d1²/2) from delta, then gamma = w * N(w * d1), the final delta
+     */
+    private static void firstLeg(OptionBatch batch, PricingResults results, int from, int to) {
+        for (int i = from; i < to; i += SPECIES.length()) {
+            DoubleVector w = sign(batch, i);
+            DoubleVector d1 = DoubleVector.fromArray(SPECIES, results.gamma(), i);
+            DoubleVector gaussian = DoubleVector.fromArray(SPECIES, results.delta(), i);
+
+            w.mul(VectorMath.cumulativeDistribution(w.mul(d1), gaussian)).intoArray(results.gamma(), i);
+        }
+    }
+
+    /**
+     * Reads d2 from vega, e^(-d2²/2) from the scratch block, K * e^(-rT) from price, the final delta from gamma and
+     * e^(-d1²/2) from delta, then writes the final price, delta, gamma and vega.
+     */
+    private static void secondLeg(OptionBatch batch, PricingResults results, double[] scratch, int from, int to) {
+        for (int i = from; i < to; i += SPECIES.length()) {
+            DoubleVector S = DoubleVector.fromArray(SPECIES, batch.underlyingPrice(), i);
+            DoubleVector sqrtT = DoubleVector.fromArray(SPECIES, batch.timeToMaturity(), i).sqrt();
+            DoubleVector sigma = DoubleVector.fromArray(SPECIES, batch.volatility(), i);
+            DoubleVector w = sign(batch, i);
+            DoubleVector d2 = DoubleVector.fromArray(SPECIES, results.vega(), i);
+            DoubleVector gaussian = DoubleVector.fromArray(SPECIES, scratch, i - from);
+            DoubleVector discountedStrike = DoubleVector.fromArray(SPECIES, results.price(), i);
+            DoubleVector delta = DoubleVector.fromArray(SPECIES, results.gamma(), i);
+            DoubleVector pdf = VectorMath.probabilityDensity(DoubleVector.fromArray(SPECIES, results.delta(), i));
+
+            DoubleVector nd2 = VectorMath.cumulativeDistribution(w.mul(d2), gaussian);
+
+            // w * (S * N(w * d1) - K * e^(-rT) * N(w * d2)) with S * N(w * d1) = w * S * delta
+            S.mul(delta).sub(w.mul(discountedStrike).mul(nd2)).intoArray(results.price(), i);
+            delta.intoArray(results.delta(), i);
+            pdf.div(S.mul(sigma).mul(sqrtT)).intoArray(results.gamma(), i);
+            S.mul(pdf).mul(sqrtT).intoArray(results.vega(), i);
+        }
+    }
+
+    private static DoubleVector sign(OptionBatch batch, int i) {
+        VectorMask<Double> isCall = VectorMask.fromArray(SPECIES, batch.call(), i);
+        return DoubleVector.broadcast(SPECIES, -1.0).blend(1.0, isCall);
+    }
+}
@@ -0,0 +1,459 @@
+package com.sallyvnge.optionpricingapi.lattice;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+
+/**
+ * Binomial (Leisen-Reimer) and trinomial (Hull) lattices for European and American options.
+ *
+ * Backward induction runs in place over rolling {@code double[]} buffers, one per rolled quantity, that belong to
+ * the calling thread together with the lattice parameters: they are grown on demand and reused by every later call
+ * on that thread, so pricing allocates nothing but its result. Each level of the lattice is rolled back by small
+ * dedicated loops, which keep the per-node work down to a few loads, multiplications and one comparison:
+ * - Early exercise is only checked on in-the-money nodes, and not at all when it never pays (a call with r >= 0 or
+ *   a put with r <= 0, without dividends).
+ * - On the binomial lattice, nodes deeper in the money than the exercised nodes of the next level are set to their
+ *   exercise value without being rolled back.
+ *
+ * Greeks are read off the lattice. Delta and gamma are finite differences between the nodes of the first levels,
+ * and vega is carried through the induction by differentiating every step with respect to sigma: the branch
+ * probabilities and the node spots depend on sigma through the lattice parameters.
+ *
+ * The binomial lattice has an odd number of steps, even steps being rounded up. Its nodes are centred on the strike,
+ * so its error on European options decreases as 1 / n² and on American ones roughly as 1 / n. The trinomial lattice
+ * has evenly spaced log-spots and oscillates with the position of the strike between nodes.
+ *
+ * Two optional corrections reach a given accuracy with far fewer steps:
+ * - Richardson extrapolation: the results with n and about n / 2 steps are combined to cancel their leading error,
+ *   in 1 / n² on the binomial lattice when early exercise never pays, and in 1 / n otherwise. On the trinomial
+ *   lattice, the last step is first replaced by the Black-Scholes value of the European option over one step, which
+ *   damps the oscillation. Near the early-exercise boundary the error keeps an irregular 1 / n part, so the gain
+ *   there is smaller than for European options, and deep in the money it may be none: American options are priced
+ *   from their early-exercise boundary by default instead (see {@code ExerciseBoundaryPricer}).
+ * - Control variate: the same lattice also rolls back the European option, and its error against the exact
+ *   Black-Scholes price and Greeks is subtracted from the American result.
+ */
+public final class LatticePricer {
+
+    /** Smallest number of steps, keeping two full levels below the root for every lattice and correction. */
+    public static final int MIN_STEPS = 8;
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private LatticePricer() {}
+
+    /**
+     * Prices an option on a lattice and reads its Greeks off the lattice.
+     * @param S The underlying price
+     * @param K The strike price
+     * @param T The time to maturity in years
+     * @param r The risk-free rate
+     * @param sigma The volatility
+     * @param optionType CALL or PUT
+     * @param exerciseStyle EUROPEAN or AMERICAN
+     * @param lattice BINOMIAL or TRINOMIAL
+     * @param steps The number of time steps
+     * @param richardson true to extrapolate from n and about n / 2 steps
+     * @param controlVariate true to correct the result by the lattice's error on the European option
+     * @return The price, delta, gamma and vega of the option
+     * @throws IllegalArgumentException if the model is not a lattice or there are fewer than {@link #MIN_STEPS} steps
+     */
+    public static PriceAndGreeks priceAndGreeks(double S, double K, double T, double r, double sigma,
+                                                OptionType optionType, ExerciseStyle exerciseStyle,
+                                                PricingModel lattice, int steps, boolean richardson,
+                                                boolean controlVariate) {
+        if (!lattice.isLattice()) {
+            throw new IllegalArgumentException("Not a lattice model: " + lattice);
+        }
+        if (steps < MIN_STEPS) {
+            throw new IllegalArgumentException("A lattice needs at least " + MIN_STEPS + " steps, got: " + steps);
+        }
+        boolean trinomial = lattice == PricingModel.TRINOMIAL;
+        // Without dividends, exercising early never pays for a call when r >= 0, nor for a put when r <= 0
+        boolean american = exerciseStyle == ExerciseStyle.AMERICAN
+                && (optionType == OptionType.CALL ? r < 0.0 : r > 0.0);
+        // Without early exercise the option is its own European counterpart: no second pass is needed
+        boolean european = controlVariate && american;
+        double w = optionType == OptionType.CALL ? 1.0 : -1.0;
+
+        int fineSteps = steps(lattice, steps);
+        int coarseSteps = steps(lattice, steps / 2);
+        // Leisen-Reimer lattices converge smoothly without smoothing the leaves
+        boolean smooth = richardson && trinomial;
+
+        Workspace workspace = WORKSPACE.get();
+        workspace.ensureCapacity(trinomial ? 2 * fineSteps + 1 : fineSteps + 1);
+        double[] results = workspace.results;
+
+        Lattice fine = workspace.fine;
+        fine.reset(S, K, T, r, sigma, w, trinomial, fineSteps, workspace.scratch);
+        fine.induce(workspace, american, smooth, 0);
+        if (european) {
+            fine.induce(workspace, false, smooth, 4);
+        }
+        if (richardson) {
+            Lattice coarse = workspace.coarse;
+            coarse.reset(S, K, T, r, sigma, w, trinomial, coarseSteps, workspace.scratch);
+            coarse.induce(workspace, american, smooth, 8);
+            if (european) {
+                coarse.induce(workspace, false, smooth, 12);
+            }
+            // Error proportional to 1 / n^k: f = (n1^k * f(n1) - n2^k * f(n2)) / (n1^k - n2^k)
+            int order = trinomial || american ? 1 : 2;
+            double fineWeight = Math.pow(fineSteps, order);
+            double weight = fineWeight / (fineWeight - Math.pow(coarseSteps, order));
+            for (int i = 0; i < 8; i++) {
+                results[i] = weight * results[i] + (1.0 - weight) * results[8 + i];
+            }
+        }
+
+        double price = results[0];
+        double delta = results[1];
+        double gamma = results[2];
+        double vega = results[3];
+        if (controlVariate) {
+            PriceAndGreeks exact = BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma, optionType);
+            if (!european) {
+                return exact;
+            }
+            price += exact.price() - results[4];
+            delta += exact.delta() - results[5];
+            gamma += exact.gamma() - results[6];
+            vega += exact.vega() - results[7];
+        }
+        return new PriceAndGreeks(price, delta, gamma, vega);
+    }
+
+    /**
+     * @param lattice BINOMIAL or TRINOMIAL
+     * @param steps The requested number of time steps
+     * @return The number of time steps the lattice is actually built with: the next odd number for the binomial one
+     */
+    public static int steps(PricingModel lattice, int steps) {
+        return lattice == PricingModel.BINOMIAL ? steps | 1 : steps;
+    }
+
+    /**
+     * Buffers of one thread: the option values and their sigma-derivatives, the ratios e^(j * logStep) between the
+     * spot of node j and the lowest node of a level, the results of up to four inductions (price, delta, gamma, vega
+     * each), room for the lattice parameters at three volatilities, and the two lattices themselves.
+     */
+    private static final class Workspace {
+
+        private final double[] results = new double[16];
+        private final double[] scratch = new double[9];
+        private final Lattice fine = new Lattice();
+        private final Lattice coarse = new Lattice();
+        private double[] values = new double[0];
+        private double[] vegas = new double[0];
+        private double[] powers = new double[0];
+
+        void ensureCapacity(int nodes) {
+            if (values.length < nodes) {
+                values = new double[nodes];
+                vegas = new double[nodes];
+                powers = new double[nodes];
+            }
+        }
+    }
+
+    /**
+     * Parameters of one lattice, reset before every use. Node j of level i sits at S * e^(i * logDown + j * logStep),
+     * its children being nodes j and j + 1 (binomial) or j, j + 1 and j + 2 (trinomial) of level i + 1. The d-prefixed
+     * fields are derivatives with respect to sigma.
+     */
+    private static final class Lattice {
+
+        private double S;
+        private double K;
+        private double r;
+        private double sigma;
+        private double w;
+        private boolean trinomial;
+        private int steps;
+        private double dt;
+        private double discount;
+        private double logDown;
+        private double logStep;
+        private double dLogDown;
+        private double dLogStep;
+        /** Discounted branch probabilities and the discounted derivative of the up probability. */
+        private double up;
+        private double middle;
+        private double down;
+        private double dUp;
+
+        void reset(double S, double K, double T, double r, double sigma, double w, boolean trinomial, int steps,
+                   double[] scratch) {
+            this.S = S;
+            this.K = K;
+            this.r = r;
+            this.sigma = sigma;
+            this.w = w;
+            this.trinomial = trinomial;
+            this.steps = steps;
+            this.dt = T / steps;
+            this.discount = Math.exp(-r * dt);
+
+            double pUp;
+            double pMiddle;
+            double dpUp;
+            if (trinomial) {
+                double dh = Math.sqrt(3.0 * dt);
+                double c = Math.sqrt(dt / 12.0);
+                logDown = -sigma * dh;
+                logStep = sigma * dh;
+                dLogDown = -dh;
+                dLogStep = dh;
+                pUp = c * (r / sigma - 0.5 * sigma) + 1.0 / 6.0;
+                pMiddle = 2.0 / 3.0;
+                dpUp = c * (-r / (sigma * sigma) - 0.5);
+            } else {
+                // The Leisen-Reimer parameters are closed-form in sigma: their derivatives are taken by central
+                // differences of these formulas alone, the lattice itself being rolled back once
+                double epsilon = 1e-5 * sigma;
+                leisenReimer(S, K, T, r, sigma, steps, scratch, 0);
+                leisenReimer(S, K, T, r, sigma + epsilon, steps, scratch, 3);
+                leisenReimer(S, K, T, r, sigma - epsilon, steps, scratch, 6);
+                pUp = scratch[0];
+                pMiddle = 0.0;
+                logDown = scratch[2];
+                logStep = scratch[1] - scratch[2];
+                dpUp = (scratch[3] - scratch[6]) / (2.0 * epsilon);
+                dLogDown = (scratch[5] - scratch[8]) / (2.0 * epsilon);
+                dLogStep = (scratch[4] - scratch[5] - scratch[7] + scratch[8]) / (2.0 * epsilon);
+            }
+            this.up = discount * pUp;
+            this.middle = discount * pMiddle;
+            this.down = discount * (1.0 - pUp - pMiddle);
+            // The down probability moves opposite to the up one on both lattices
+            this.dUp = discount * dpUp;
+        }
+
+        /**
+         * Leisen-Reimer binomial parameters for an odd number of steps: the up probability p = h(d2), and
+         * ln(u), ln(d) with u = e^(r dt) * h(d1) / h(d2) and d = (e^(r dt) - p * u) / (1 - p), h being the
+         * Peizer-Pratt inversion of the normal distribution, written to {@code out[offset, offset + 3)}. The lattice
+         * is centred on the strike, so that its error on European options decreases as 1 / n² without oscillating.
+         */
+        private static void leisenReimer(double S, double K, double T, double r, double sigma, int steps,
+                                         double[] out, int offset) {
+            double volSqrtT = sigma * Math.sqrt(T);
+            double d1 = (Math.log(S / K) + (r + 0.5 * sigma * sigma) * T) / volSqrtT;
+            double d2 = d1 - volSqrtT;
+            double growth = Math.exp(r * T / steps);
+            double p = peizerPratt(d2, steps);
+            double u = growth * peizerPratt(d1, steps) / p;
+            double d = (growth - p * u) / (1.0 - p);
+            out[offset] = p;
+            out[offset + 1] = Math.log(u);
+            out[offset + 2] = Math.log(d);
+        }
+
+        private static double peizerPratt(double z, int steps) {
+            double x = z / (steps + 1.0 / 3.0 + 0.1 / (steps + 1));
+            return 0.5 + Math.copySign(0.5 * Math.sqrt(1.0 - Math.exp(-x * x * (steps + 1.0 / 6.0))), z);
+        }
+
+        /**
+         * Rolls the lattice back to its root and writes the price, delta, gamma and vega to
+         * {@code workspace.results[offset, offset + 4)}.
+         */
+        void induce(Workspace workspace, boolean american, boolean smooth, int offset) {
+            double[] v = workspace.values;
+            double[] dv = workspace.vegas;
+            double[] powers = workspace.powers;
+            double[] results = workspace.results;
+
+            int leaves = smooth ? steps - 1 : steps;
+            double nodeStep = Math.exp(logStep);
+            powers[0] = 1.0;
+            for (int j = 1, nodes = nodes(leaves); j < nodes; j++) {
+                powers[j] = powers[j - 1] * nodeStep;
+            }
+
+            double base = S * Math.exp(leaves * logDown);
+            if (smooth) {
+                smoothedLeaves(v, dv, powers, leaves, base, american);
+            } else {
+                payoffLeaves(v, dv, powers, leaves, base);
+            }
+
+            // (ln(K / S) - i * logDown) / logStep is the fractional index of the strike on level i
+            double strikeIndex = Math.log(K / S) / logStep;
+            double levelShift = logDown / logStep;
+            double inverseDown = Math.exp(-logDown);
+            // The exercised nodes of the level below: [0, exercised) for a put, [exercised, nodes) for a call. On the
+            // binomial lattice, where the discounted expected spot is exactly the spot, a node whose children are all
+            // exercised is worth K e^(-r dt) - S by continuation, less than exercising for a put with r > 0 (and
+            // symmetrically for a call with r < 0): it is exercised without being rolled back. One leaf is kept
+            // apart from the in-the-money ones in case rounding misplaced the strike.
+            int leafBoundary = boundary(strikeIndex - leaves * levelShift, nodes(leaves));
+            int exercised = w < 0.0 ? Math.max(leafBoundary - 1, 0) : leafBoundary + 1;
+            for (int i = leaves - 1; i >= 0; i--) {
+                // Exact on the levels the results are read from, where rounding would otherwise have built up
+                base = i <= 2 ? S * Math.exp(i * logDown) : base * inverseDown;
+                int nodes = nodes(i);
+                if (american) {
+                    // Only in-the-money nodes can be worth exercising: below the strike for a put, above it for a call
+                    int boundary = boundary(strikeIndex - i * levelShift, nodes);
+                    double dLevel = i * dLogDown;
+                    if (w < 0.0) {
+                        int direct = trinomial ? 0 : Math.min(Math.max(exercised - 1, 0), boundary);
+                        exercise(dv, v, powers, 0, direct, base, dLevel);
+                        exercised = rollExercising(v, dv, powers, direct, boundary, base, dLevel);
+                        roll(v, dv, boundary, nodes);
+                    } else {
+                        int direct = trinomial ? nodes : Math.max(Math.min(exercised, nodes), boundary);
+                        roll(v, dv, 0, boundary);
+                        exercised = rollExercising(v, dv, powers, boundary, direct, base, dLevel);
+                        exercise(dv, v, powers, direct, nodes, base, dLevel);
+                    }
+                } else {
+                    roll(v, dv, 0, nodes);
+                }
+
+                if (i == (trinomial ? 1 : 2)) {
+                    // Three nodes around the spot: level 1 of the trinomial lattice, level 2 of the binomial one
+                    double mid = base * nodeStep;
+                    double high = mid * nodeStep;
+                    results[offset + 1] = (v[2] - v[0]) / (high - base);
+                    results[offset + 2] = ((v[2] - v[1]) / (high - mid) - (v[1] - v[0]) / (mid - base)) / (0.5 * (high - base));
+                } else if (i == 1) {
+                    results[offset + 1] = (v[1] - v[0]) / (base * nodeStep - base);
+                }
+            }
+            results[offset] = v[0];
+            results[offset + 3] = dv[0];
+        }
+
+        /**
+         * @return The index of the first node at or above the strike, clamped to [0, nodes]
+         */
+        private static int boundary(double strikeIndex, int nodes) {
+            return (int) Math.max(0.0, Math.min(nodes, Math.ceil(strikeIndex)));
+        }
+
+        private int nodes(int level) {
+            return trinomial ? 2 * level + 1 : level + 1;
+        }
+
+        private void payoffLeaves(double[] v, double[] dv, double[] powers, int level, double base) {
+            double dLevel = level * dLogDown;
+            for (int j = 0, nodes = nodes(level); j < nodes; j++) {
+                double spot = base * powers[j];
+                double exercise = w * (spot - K);
+                boolean inTheMoney = exercise > 0.0;
+                v[j] = inTheMoney ? exercise : 0.0;
+                dv[j] = inTheMoney ? w * spot * (dLevel + j * dLogStep) : 0.0;
+            }
+        }
+
+        /**
+         * Leaves one step before maturity, valued by Black-Scholes over that step.
+         */
+        private void smoothedLeaves(double[] v, double[] dv, double[] powers, int level, double base, boolean american) {
+            double logMoneyness = Math.log(base / K);
+            double drift = (r + 0.5 * sigma * sigma) * dt;
+            double discountedStrike = K * discount;
+            double sqrtT = Math.sqrt(dt);
+            double volSqrtT = sigma * sqrtT;
+
+            double dLevel = level * dLogDown;
+            for (int j = 0, nodes = nodes(level); j < nodes; j++) {
+                double spot = base * powers[j];
+                double dSpot = spot * (dLevel + j * dLogStep);
+                double d1 = (logMoneyness + j * logStep + drift) / volSqrtT;
+                double nd1 = NormalDistributionUtil.cumulativeDistribution(w * d1);
+                double nd2 = NormalDistributionUtil.cumulativeDistribution(w * (d1 - volSqrtT));
+                double value = w * (spot * nd1 - discountedStrike * nd2);
+                double exercise = w * (spot - K);
+                if (american && exercise > value) {
+                    v[j] = exercise;
+                    dv[j] = w * dSpot;
+                } else {
+                    v[j] = value;
+                    // Total derivative: Black-Scholes vega plus delta times the move of the node with sigma
+                    dv[j] = spot * NormalDistributionUtil.probabilityDensity(d1) * sqrtT + w * nd1 * dSpot;
+                }
+            }
+        }
+
+        /**
+         * Rolls nodes {@code [from, to)} back by one level, in place: node j only reads nodes j and above, so
+         * nodes must be visited in increasing order.
+         */
+        private void roll(double[] v, double[] dv, int from, int to) {
+            if (trinomial) {
+                for (int j = from; j < to; j++) {
+                    double low = v[j];
+                    double high = v[j + 2];
+                    v[j] = up * high + middle * v[j + 1] + down * low;
+                    dv[j] = dUp * (high - low) + up * dv[j + 2] + middle * dv[j + 1] + down * dv[j];
+                }
+            } else {
+                for (int j = from; j < to; j++) {
+                    double low = v[j];
+                    double high = v[j + 1];
+                    v[j] = up * high + down * low;
+                    dv[j] = dUp * (high - low) + up * dv[j + 1] + down * dv[j];
+                }
+            }
+        }
+
+        /**
+         * Rolls nodes {@code [from, to)} back by one level like {@link #roll}, replacing the continuation value by the
+         * exercise value wherever exercising is worth more.
+         * @param base The spot of the lowest node of the level
+         * @param dLevel The level times the derivative of logDown
+         * @return For a put, the end of the exercised nodes starting at {@code from}; for a call, the start of the
+         *         exercised nodes ending at {@code to}
+         */
+        private int rollExercising(double[] v, double[] dv, double[] powers, int from, int to, double base, double dLevel) {
+            int edge = from;
+            for (int j = from; j < to; j++) {
+                double low = v[j];
+                double value;
+                double vega;
+                if (trinomial) {
+                    double high = v[j + 2];
+                    value = up * high + middle * v[j + 1] + down * low;
+                    vega = dUp * (high - low) + up * dv[j + 2] + middle * dv[j + 1] + down * dv[j];
+                } else {
+                    double high = v[j + 1];
+                    value = up * high + down * low;
+                    vega = dUp * (high - low) + up * dv[j + 1] + down * dv[j];
+                }
+                double spot = base * powers[j];
+                double exercise = w * (spot - K);
+                if (exercise > value) {
+                    value = exercise;
+                    vega = w * spot * (dLevel + j * dLogStep);
+                    if (w < 0.0 && j == edge) {
+                        edge = j + 1;
+                    }
+                } else if (w > 0.0) {
+                    edge = j + 1;
+                }
+                v[j] = value;
+                dv[j] = vega;
+            }
+            return edge;
+        }
+
+        /**
+         * Sets nodes {@code [from, to)} to their exercise value.
+         */
+        private void exercise(double[] dv, double[] v, double[] powers, int from, int to, double base, double dLevel) {
+            for (int j = from; j < to; j++) {
+                double spot = base * powers[j];
+                v[j] = w * (spot - K);
+                dv[j] = w * spot * (dLevel + j * dLogStep);
+            }
+        }
+    }
+}
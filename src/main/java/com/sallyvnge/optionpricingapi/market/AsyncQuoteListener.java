@@ -0,0 +1,87 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands the repricings of an underlying over to a listener on another executor, so that a listener blocking on a slow
+ * client holds a thread of that executor rather than the repricing thread of its underlying.
+ *
+ * Only the latest repricing not yet delivered is kept: each one holds the quotes of every contract of the underlying,
+ * so a listener falling behind skips intermediate repricings instead of queueing them. The repricing delivered in their
+ * place inherits the oldest tick of the skipped ones, and the time from that tick to the end of the delivery is
+ * recorded as the tick-to-push latency. Deliveries are requested as
+ * repricings are in {@link UnderlyingFeed}: the request moving the count from zero schedules a drain, so that at most
+ * one delivery runs per listener, in order. Once the listener throws, the next repricing throws its exception back to
+ * the feed, which unsubscribes it.
+ */
+public final class AsyncQuoteListener implements QuoteListener {
+
+    private final QuoteListener listener;
+    private final Executor executor;
+    private final PricingMetrics pricingMetrics;
+    private final AtomicReference<QuoteUpdateDto> latest = new AtomicReference<>();
+    private final AtomicInteger deliveryRequests = new AtomicInteger();
+    private final Runnable drainTask = this::drain;
+    private volatile RuntimeException failure;
+
+    /**
+     * @param listener Receives the repricings, on the executor
+     * @param executor Runs the deliveries
+     * @param pricingMetrics Records the tick-to-push latency of the deliveries
+     */
+    public AsyncQuoteListener(QuoteListener listener, Executor executor, PricingMetrics pricingMetrics) {
+        this.listener = listener;
+        this.executor = executor;
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    @Override
+    public void onQuotes(QuoteUpdateDto update) {
+        RuntimeException failure = this.failure;
+        if (failure != null) {
+            throw failure;
+        }
+        QuoteUpdateDto skipped;
+        do {
+            skipped = latest.get();
+        } while (!latest.compareAndSet(skipped, conflate(skipped, update)));
+        if (deliveryRequests.getAndIncrement() == 0) {
+            executor.execute(drainTask);
+        }
+    }
+
+    private void drain() {
+        int requests = 1;
+        do {
+            QuoteUpdateDto update = latest.getAndSet(null);
+            if (update != null && failure == null) {
+                try {
+                    listener.onQuotes(update);
+                    if (update.oldestTickNanos() != null) {
+                        pricingMetrics.recordTickToPush(System.nanoTime() - update.oldestTickNanos());
+                    }
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            requests = deliveryRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    /**
+     * @return The latest repricing, carrying the oldest tick of a repricing it replaces before delivery
+     */
+    private static QuoteUpdateDto conflate(QuoteUpdateDto skipped, QuoteUpdateDto update) {
+        if (skipped == null || skipped.oldestTickNanos() == null
+                || (update.oldestTickNanos() != null && update.oldestTickNanos() - skipped.oldestTickNanos() <= 0)) {
+            return update;
+        }
+        return new QuoteUpdateDto(update.underlying(), update.spot(), update.volatility(), update.sequence(),
+                update.quotes(), skipped.oldestTickNanos());
+    }
+}
@@ -0,0 +1,74 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.ContractQuoteDto;
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contracts of one underlying in columns, rebuilt whenever a contract is added or removed.
+ *
+ * The contract terms are fixed at construction; the spot and volatility columns are overwritten by every repricing.
+ * Repricings of an underlying never overlap, so they can share the columns.
+ */
+final class ContractSet {
+
+    static final ContractSet EMPTY = new ContractSet(Map.of());
+
+    private final String[] ids;
+    private final OptionBatch batch;
+    private final PricingResults results;
+    private final int calls;
+
+    ContractSet(Map<String, ContractDto> contracts) {
+        int n = contracts.size();
+        this.ids = new String[n];
+        this.batch = new OptionBatch(n);
+        this.results = new PricingResults(n);
+        int callCount = 0;
+        for (Map.Entry<String, ContractDto> entry : contracts.entrySet()) {
+            ContractDto contract = entry.getValue();
+            ids[batch.add(Double.NaN, contract.strikePrice(), contract.timeToMaturity(), contract.riskFreeRate(),
+                    Double.NaN, contract.optionType())] = entry.getKey();
+            if (contract.optionType() == OptionType.CALL) {
+                callCount++;
+            }
+        }
+        this.calls = callCount;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Prices every contract in a market state.
+     */
+    QuoteUpdateDto price(String underlying, MarketState state, PortfolioRevaluationService portfolioRevaluationService,
+                         PricingMetrics pricingMetrics) {
+        int n = ids.length;
+        Arrays.fill(batch.underlyingPrice(), 0, n, state.spot());
+        Arrays.fill(batch.volatility(), 0, n, state.volatility());
+        portfolioRevaluationService.price(batch, results);
+        pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, OptionType.CALL, calls);
+        pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, OptionType.PUT, n - calls);
+
+        List<ContractQuoteDto> quotes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            quotes.add(new ContractQuoteDto(ids[i], results.price()[i], results.delta()[i], results.gamma()[i],
+                    results.vega()[i]));
+        }
+        return new QuoteUpdateDto(underlying, state.spot(), state.volatility(), state.sequence(), quotes,
+                state.pending() ? state.oldestTickNanos() : null);
+    }
+}
@@ -0,0 +1,127 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Latest spot and volatility of every underlying, and the contracts repriced and pushed to subscribers whenever they
+ * tick.
+ *
+ * Ticks of different underlyings never contend, and ticks of one underlying only contend on a compare-and-set of its
+ * market state: repricings run on the executor, one drain at a time per underlying, conflating the ticks received
+ * meanwhile (see {@link UnderlyingFeed}). Contract changes and subscriptions are serialized on the feed, since a
+ * replaced contract may change underlying.
+ *
+ * Only underlyings with contracts accept ticks, and an underlying is forgotten, its market state included, once it has
+ * neither contracts nor subscribers, so that the feed holds no more underlyings than its contracts and subscriptions
+ * name.
+ */
+public final class MarketFeed {
+
+    private final Executor executor;
+    private final PortfolioRevaluationService portfolioRevaluationService;
+    private final PricingMetrics pricingMetrics;
+    private final ConcurrentMap<String, UnderlyingFeed> underlyings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> underlyingByContract = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor Runs the repricings and the pushes to subscribers
+     * @param portfolioRevaluationService Prices the contracts of an underlying
+     */
+    public MarketFeed(Executor executor, PortfolioRevaluationService portfolioRevaluationService,
+                      PricingMetrics pricingMetrics) {
+        this.executor = executor;
+        this.portfolioRevaluationService = portfolioRevaluationService;
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    /**
+     * Applies a tick to an underlying.
+     * @param spot The new spot, or NaN to keep the current one
+     * @param volatility The new volatility, or NaN to keep the current one
+     * @return The sequence number of the tick on its underlying, starting at 1
+     * @throws UnknownUnderlyingException if the underlying has no contract
+     */
+    public long tick(String underlying, double spot, double volatility) {
+        long nanos = System.nanoTime();
+        UnderlyingFeed feed = underlyings.get(underlying);
+        if (feed == null || !feed.hasContracts()) {
+            throw new UnknownUnderlyingException("No contract on underlying '" + underlying + "'");
+        }
+        pricingMetrics.countTick();
+        return feed.tick(spot, volatility, nanos);
+    }
+
+    /**
+     * Adds a contract, or replaces the contract with the same id, possibly on another underlying.
+     */
+    public synchronized void putContract(String contractId, ContractDto contract) {
+        String previous = underlyingByContract.put(contractId, contract.underlying());
+        if (previous != null && !previous.equals(contract.underlying())) {
+            removeContract(previous, contractId);
+        }
+        underlying(contract.underlying()).putContract(contractId, contract);
+    }
+
+    /**
+     * @return false if the feed holds no contract with this id
+     */
+    public synchronized boolean removeContract(String contractId) {
+        String underlying = underlyingByContract.remove(contractId);
+        if (underlying == null) {
+            return false;
+        }
+        removeContract(underlying, contractId);
+        return true;
+    }
+
+    /**
+     * Subscribes to the repricings of the contracts of an underlying. The listener first receives the current
+     * quotes, as soon as the underlying has a spot, a volatility and contracts.
+     */
+    public synchronized void subscribe(String underlying, QuoteListener listener) {
+        underlying(underlying).subscribe(listener);
+    }
+
+    public synchronized void unsubscribe(String underlying, QuoteListener listener) {
+        UnderlyingFeed feed = underlyings.get(underlying);
+        if (feed != null) {
+            feed.unsubscribe(listener);
+            forgetIfUnused(underlying, feed);
+        }
+    }
+
+    /**
+     * @return The number of underlyings the feed holds
+     */
+    int underlyingCount() {
+        return underlyings.size();
+    }
+
+    private void removeContract(String underlying, String contractId) {
+        UnderlyingFeed feed = underlyings.get(underlying);
+        feed.removeContract(contractId);
+        forgetIfUnused(underlying, feed);
+    }
+
+    private void forgetIfUnused(String underlying, UnderlyingFeed feed) {
+        if (!feed.hasContracts() && !feed.hasListeners()) {
+            underlyings.remove(underlying, feed);
+        }
+    }
+
+    private UnderlyingFeed underlying(String underlying) {
+        UnderlyingFeed feed = underlyings.get(underlying);
+        if (feed == null) {
+            feed = underlyings.computeIfAbsent(underlying,
+                    name -> new UnderlyingFeed(name, executor, portfolioRevaluationService, pricingMetrics));
+        }
+        return feed;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sallyvnge.optionpricingapi.market;
+
+/**
+ * Immutable market state of one underlying, replaced as a whole on every tick.
+ *
+ * - Spot, Volatility: The latest values received, NaN until the first tick carrying them.
+ * - Sequence: The number of ticks received.
+ * - Pending: Whether ticks were received since the last repricing taken from this state.
+ * - Oldest Tick Nanos: The {@link System#nanoTime()} of the oldest of those ticks, when pending.
+ */
+record MarketState(
+        double spot,
+        double volatility,
+        long sequence,
+        boolean pending,
+        long oldestTickNanos
+) {
+
+    static final MarketState EMPTY = new MarketState(Double.NaN, Double.NaN, 0, false, 0);
+
+    /**
+     * @param spot The new spot, or NaN to keep the current one
+     * @param volatility The new volatility, or NaN to keep the current one
+     * @param nanos The time the tick was received
+     * @param observed Whether the tick has subscribers waiting for its repricing
+     * @return The state after the tick
+     */
+    MarketState tick(double spot, double volatility, long nanos, boolean observed) {
+        return new MarketState(
+                Double.isNaN(spot) ? this.spot : spot,
+                Double.isNaN(volatility) ? this.volatility : volatility,
+                sequence + 1,
+                pending || observed,
+                pending ? oldestTickNanos : nanos);
+    }
+
+    /**
+     * @return The same market, no tick being pending anymore
+     */
+    MarketState taken() {
+        return new MarketState(spot, volatility, sequence, false, 0);
+    }
+
+    /**
+     * @return Whether both a spot and a volatility were received
+     */
+    boolean isPriceable() {
+        return spot > 0.0 && volatility > 0.0;
+    }
+}
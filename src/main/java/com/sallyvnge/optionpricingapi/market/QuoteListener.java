@@ -0,0 +1,17 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+
+/**
+ * Subscriber to the repricings of the contracts of an underlying.
+ */
+@FunctionalInterface
+public interface QuoteListener {
+
+    /**
+     * Receives a repricing, on the repricing thread of the underlying. Repricings of one underlying are delivered one
+     * at a time and in order; ticks received meanwhile are conflated into the next one. A listener that throws is
+     * unsubscribed.
+     */
+    void onQuotes(QuoteUpdateDto update);
+}
@@ -0,0 +1,125 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException;
+import com.sallyvnge.optionpricingapi.service.MarketDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stand-in for a market data feed: replays the ticks of {@code pricing.market.replay.file} into the
+ * {@link MarketDataService} on a background thread once the application has started.
+ *
+ * The file holds one tick per line, {@code underlying,spot,volatility}, an empty spot or volatility being left
+ * unchanged. Blank lines, lines starting with '#' and a first line starting with "underlying" are skipped, and so are
+ * the ticks of underlyings without contracts, which are counted and logged. Ticks are paced at
+ * {@code pricing.market.replay.ticks-per-second} (0 for as fast as possible) and the file is replayed
+ * {@code pricing.market.replay.passes} times (0 for endlessly).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("pricing.market.replay.file")
+public class TickFileReplayer implements ApplicationRunner {
+
+    private final MarketDataService marketDataService;
+    private final Path file;
+    private final long ticksPerSecond;
+    private final int passes;
+    /** Ticks of underlyings without contracts, only accessed by the replay thread. */
+    private long skipped;
+
+    public TickFileReplayer(
+            MarketDataService marketDataService,
+            @Value("${pricing.market.replay.file}") Path file,
+            @Value("${pricing.market.replay.ticks-per-second:0}") long ticksPerSecond,
+            @Value("${pricing.market.replay.passes:1}") int passes) {
+        if (ticksPerSecond < 0) {
+            throw new IllegalArgumentException("Ticks per second must be non-negative, got: " + ticksPerSecond);
+        }
+        if (passes < 0) {
+            throw new IllegalArgumentException("Passes must be non-negative, got: " + passes);
+        }
+        this.marketDataService = marketDataService;
+        this.file = file;
+        this.ticksPerSecond = ticksPerSecond;
+        this.passes = passes;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Files.isReadable(file)) {
+            throw new IllegalStateException("Tick file is not readable: " + file);
+        }
+        Thread thread = new Thread(this::replay, "tick-replay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Replays the file the configured number of times.
+     * @return The number of ticks replayed, those skipped included
+     */
+    long replay() {
+        long start = System.nanoTime();
+        long ticks = 0;
+        try {
+            for (int pass = 0; passes == 0 || pass < passes; pass++) {
+                ticks = replayPass(start, ticks);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long nanos = System.nanoTime() - start;
+        log.info("Replayed {} ticks from {} in {} ms: {} ticks/s, {} skipped for underlyings without contracts",
+                ticks, file, nanos / 1_000_000, Math.round(ticks * 1e9 / Math.max(nanos, 1)), skipped);
+        return ticks;
+    }
+
+    private long replayPass(long start, long ticks) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                boolean header = first && line.startsWith("underlying");
+                first = false;
+                if (header || line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                if (fields.length != 3) {
+                    throw new IllegalArgumentException("Tick must be underlying,spot,volatility, got: " + line);
+                }
+                if (ticksPerSecond > 0) {
+                    // Paced against the start of the replay, so that slow ticks are caught up rather than accumulated
+                    long due = start + ticks * 1_000_000_000L / ticksPerSecond;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                try {
+                    marketDataService.ingest(fields[0].trim(), parse(fields[1]), parse(fields[2]));
+                } catch (UnknownUnderlyingException e) {
+                    skipped++;
+                }
+                ticks++;
+            }
+        }
+        return ticks;
+    }
+
+    private static Double parse(String field) {
+        String trimmed = field.trim();
+        return trimmed.isEmpty() ? null : Double.valueOf(trimmed);
+    }
+}
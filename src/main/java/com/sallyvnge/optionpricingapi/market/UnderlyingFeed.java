@@ -0,0 +1,156 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Market state, contracts and subscribers of a single underlying.
+ *
+ * A tick replaces the {@link MarketState} by compare-and-set and requests a repricing, without locking. Requests are
+ * counted: the thread that moves the count from zero schedules a drain on the executor, which reprices the latest
+ * state and repeats as long as requests arrived meanwhile, each pass absorbing all of them. A burst of ticks thus
+ * costs one repricing per pass rather than one per tick, at most one drain runs per underlying, and a slow subscriber
+ * delays its own underlying without queueing ticks.
+ *
+ * Contract changes are serialized by the caller and publish an immutable {@link ContractSet} through a volatile field.
+ */
+final class UnderlyingFeed {
+
+    private final String underlying;
+    private final Executor executor;
+    private final PortfolioRevaluationService portfolioRevaluationService;
+    private final PricingMetrics pricingMetrics;
+
+    private final AtomicReference<MarketState> state = new AtomicReference<>(MarketState.EMPTY);
+    private final AtomicInteger repricingRequests = new AtomicInteger();
+    private final Runnable drainTask = this::drain;
+    private final List<QuoteListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, ContractDto> contracts = new LinkedHashMap<>();
+    private volatile ContractSet contractSet = ContractSet.EMPTY;
+    private final AtomicBoolean newSubscriber = new AtomicBoolean();
+    /** Contracts of the previous repricing, only accessed by the drain. */
+    private ContractSet pricedContracts = ContractSet.EMPTY;
+
+    UnderlyingFeed(String underlying, Executor executor, PortfolioRevaluationService portfolioRevaluationService,
+                   PricingMetrics pricingMetrics) {
+        this.underlying = underlying;
+        this.executor = executor;
+        this.portfolioRevaluationService = portfolioRevaluationService;
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    /**
+     * Applies a tick and requests a repricing if anyone subscribed.
+     * @param spot The new spot, or NaN to keep the current one
+     * @param volatility The new volatility, or NaN to keep the current one
+     * @param nanos The time the tick was received
+     * @return The sequence number of the tick
+     */
+    long tick(double spot, double volatility, long nanos) {
+        boolean observed = !listeners.isEmpty();
+        MarketState current;
+        MarketState next;
+        do {
+            current = state.get();
+            next = current.tick(spot, volatility, nanos, observed);
+        } while (!state.compareAndSet(current, next));
+        if (observed) {
+            requestRepricing();
+        }
+        return next.sequence();
+    }
+
+    /**
+     * Adds or replaces a contract. Must be serialized with the other contract changes.
+     */
+    void putContract(String contractId, ContractDto contract) {
+        contracts.put(contractId, contract);
+        contractSet = new ContractSet(contracts);
+        requestRepricing();
+    }
+
+    /**
+     * Removes a contract. Must be serialized with the other contract changes.
+     */
+    void removeContract(String contractId) {
+        contracts.remove(contractId);
+        contractSet = new ContractSet(contracts);
+        requestRepricing();
+    }
+
+    /**
+     * Subscribes to the repricings, the first one being the current market if complete.
+     */
+    void subscribe(QuoteListener listener) {
+        listeners.add(listener);
+        newSubscriber.set(true);
+        requestRepricing();
+    }
+
+    void unsubscribe(QuoteListener listener) {
+        listeners.remove(listener);
+    }
+
+    boolean hasContracts() {
+        return contractSet.size() > 0;
+    }
+
+    boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    private void requestRepricing() {
+        if (repricingRequests.getAndIncrement() == 0) {
+            executor.execute(drainTask);
+        }
+    }
+
+    private void drain() {
+        int requests = 1;
+        do {
+            reprice();
+            requests = repricingRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private void reprice() {
+        MarketState current = state.get();
+        while (current.pending() && !state.compareAndSet(current, current.taken())) {
+            current = state.get();
+        }
+        ContractSet priced = contractSet;
+        boolean subscribed = newSubscriber.getAndSet(false);
+        // Requests counted after the previous pass had already read the market are left with nothing new to push
+        if (!current.pending() && priced == pricedContracts && !subscribed) {
+            return;
+        }
+        pricedContracts = priced;
+        if (!current.isPriceable() || priced.size() == 0 || listeners.isEmpty()) {
+            return;
+        }
+
+        QuoteUpdateDto update = priced.price(underlying, current, portfolioRevaluationService, pricingMetrics);
+        for (QuoteListener listener : listeners) {
+            try {
+                listener.onQuotes(update);
+            } catch (RuntimeException e) {
+                // A failed subscriber, such as a closed connection, must not stop the others or the drain
+                listeners.remove(listener);
+            }
+        }
+        if (current.pending()) {
+            pricingMetrics.countQuoteUpdate();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.sallyvnge.optionpricingapi.metrics;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the pricing hot path, all registered up front so that recording never looks a meter up:
+ * - {@value #STAGE_TIMER}: duration of each {@link Stage}, with a percentile histogram.
+ * - {@value #OPTIONS_COUNTER}: options priced, by pricing model and option type.
+ * - {@value #BATCH_SIZE_SUMMARY}: number of options per batch, with a percentile histogram.
+ * - {@value #ERRORS_COUNTER}: rejected requests, by error handler, the tags of {@link #ERRORS} being registered up
+ *   front too.
+ * - {@value #TICKS_COUNTER}: market data ticks ingested.
+ * - {@value #QUOTE_UPDATES_COUNTER}: repricings pushed to subscribers, fewer than ticks when bursts are conflated.
+ * - {@value #TICK_TO_PUSH_TIMER}: time from the oldest tick included in a repricing to the end of its delivery to a
+ *   quote stream, push queueing and write included, once per stream, with a percentile histogram.
+ * - {@value #PROXY_LOOKUPS_COUNTER}: lookups in the proxy pricing table, by result: hit, or fallback to exact
+ *   pricing when the table is not ready or the option is outside its domain.
+ *
+ * Stages measured over a batch are recorded once per batch, with the summed duration of their per-row work.
+ *
+ * Meters are not free on a single option, whose pricing takes a few hundred nanoseconds: with a Prometheus registry,
+ * {@code MetricsOverheadBenchmark} measures a single call at 434 ns against 229 ns with meters recording nothing, the
+ * difference being the stage timers and their histograms. On a batch of 1000 options, recorded once per stage, the
+ * difference is within noise.
+ */
+@Component
+public class PricingMetrics {
+
+    public static final String STAGE_TIMER = "pricing.stage";
+    public static final String OPTIONS_COUNTER = "pricing.options";
+    public static final String BATCH_SIZE_SUMMARY = "pricing.batch.size";
+    public static final String ERRORS_COUNTER = "pricing.errors";
+    public static final String TICKS_COUNTER = "pricing.market.ticks";
+    public static final String QUOTE_UPDATES_COUNTER = "pricing.market.updates";
+    public static final String TICK_TO_PUSH_TIMER = "pricing.market.tick-to-push";
+    public static final String PROXY_LOOKUPS_COUNTER = "pricing.proxy.lookups";
+
+    /** Error tags counted by {@code GlobalExceptionHandler}. */
+    public static final List<String> ERRORS = List.of("validation", "malformed-request", "option-type",
+            "arbitrage-bounds", "unknown-vol-surface", "unknown-underlying", "invalid-vol-surface");
+
+    /**
+     * Stages of a pricing request, in the order they run.
+     */
+    public enum Stage {
+        DESERIALIZATION,
+        VALIDATION,
+        SMILE_INTERPOLATION,
+        PRICING,
+        SERIALIZATION;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<PricingModel, Map<OptionType, Counter>> optionCounters = new EnumMap<>(PricingModel.class);
+    private final DistributionSummary batchSize;
+    private final Counter ticks;
+    private final Counter quoteUpdates;
+    private final Timer tickToPush;
+    private final Counter proxyHits;
+    private final Counter proxyFallbacks;
+    private final Map<String, Counter> errorCounters = new HashMap<>();
+
+    public PricingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_TIMER)
+                    .description("Duration of a stage of option pricing requests")
+                    .tag("stage", stage.tag())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(registry));
+        }
+        for (PricingModel model : PricingModel.values()) {
+            Map<OptionType, Counter> counters = new EnumMap<>(OptionType.class);
+            for (OptionType optionType : OptionType.values()) {
+                counters.put(optionType, Counter.builder(OPTIONS_COUNTER)
+                        .description("Options priced")
+                        .tag("model", model.name())
+                        .tag("optionType", optionType.name())
+                        .register(registry));
+            }
+            optionCounters.put(model, counters);
+        }
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                .description("Number of options per pricing batch")
+                .baseUnit("options")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(10_000_000.0)
+                .register(registry);
+        this.ticks = Counter.builder(TICKS_COUNTER)
+                .description("Market data ticks ingested")
+                .register(registry);
+        this.quoteUpdates = Counter.builder(QUOTE_UPDATES_COUNTER)
+                .description("Repricings of subscribed contracts pushed to subscribers")
+                .register(registry);
+        this.tickToPush = Timer.builder(TICK_TO_PUSH_TIMER)
+                .description("Time from the oldest tick of a repricing to the end of its delivery to a quote stream")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+        this.proxyHits = Counter.builder(PROXY_LOOKUPS_COUNTER)
+                .description("Lookups in the proxy pricing table")
+                .tag("result", "hit")
+                .register(registry);
+        this.proxyFallbacks = Counter.builder(PROXY_LOOKUPS_COUNTER)
+                .description("Lookups in the proxy pricing table")
+                .tag("result", "fallback")
+                .register(registry);
+        for (String error : ERRORS) {
+            errorCounters.put(error, registry.counter(ERRORS_COUNTER, "error", error));
+        }
+    }
+
+    /**
+     * Records the duration of a stage that started at {@code startNanos}, as returned by {@link System#nanoTime()}.
+     */
+    public void recordSince(Stage stage, long startNanos) {
+        record(stage, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a stage duration in nanoseconds.
+     */
+    public void record(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts priced options.
+     */
+    public void countPriced(PricingModel model, OptionType optionType, long count) {
+        if (count > 0) {
+            optionCounters.get(model).get(optionType).increment(count);
+        }
+    }
+
+    /**
+     * Records the number of options of a batch.
+     */
+    public void recordBatchSize(int size) {
+        batchSize.record(size);
+    }
+
+    /**
+     * Counts an ingested market data tick.
+     */
+    public void countTick() {
+        ticks.increment();
+    }
+
+    /**
+     * Counts a repricing pushed to subscribers after ticks.
+     */
+    public void countQuoteUpdate() {
+        quoteUpdates.increment();
+    }
+
+    /**
+     * Records the delivery of a repricing to a quote stream.
+     * @param tickToPushNanos The time from the oldest tick it includes to the end of the delivery, in nanoseconds
+     */
+    public void recordTickToPush(long tickToPushNanos) {
+        tickToPush.record(tickToPushNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a lookup in the proxy pricing table.
+     * @param hit Whether the option was priced from the table rather than falling back to exact pricing
+     */
+    public void countProxyLookup(boolean hit) {
+        (hit ? proxyHits : proxyFallbacks).increment();
+    }
+
+    /**
+     * Counts a request rejected by an error handler.
+     * @param error The name of the handled error, used as the {@code error} tag; a tag outside {@link #ERRORS} is
+     *              looked up in the registry
+     */
+    public void countError(String error) {
+        Counter counter = errorCounters.get(error);
+        (counter != null ? counter : registry.counter(ERRORS_COUNTER, "error", error)).increment();
+    }
+}
@@ -0,0 +1,43 @@
+package com.sallyvnge.optionpricingapi.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON message converter recording the time spent reading request bodies and writing response bodies as the
+ * {@link PricingMetrics.Stage#DESERIALIZATION} and {@link PricingMetrics.Stage#SERIALIZATION} stages.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final PricingMetrics pricingMetrics;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, PricingMetrics pricingMetrics) {
+        super(objectMapper);
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            pricingMetrics.recordSince(PricingMetrics.Stage.DESERIALIZATION, start);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            pricingMetrics.recordSince(PricingMetrics.Stage.SERIALIZATION, start);
+        }
+    }
+}
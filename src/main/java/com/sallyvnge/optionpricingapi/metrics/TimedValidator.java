@@ -0,0 +1,55 @@
+package com.sallyvnge.optionpricingapi.metrics;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator recording the time spent validating {@code @Valid} request bodies as the
+ * {@link PricingMetrics.Stage#VALIDATION} stage.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final PricingMetrics pricingMetrics;
+
+    public TimedValidator(SmartValidator delegate, PricingMetrics pricingMetrics) {
+        this.delegate = delegate;
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            pricingMetrics.recordSince(PricingMetrics.Stage.VALIDATION, start);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            pricingMetrics.recordSince(PricingMetrics.Stage.VALIDATION, start);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+}
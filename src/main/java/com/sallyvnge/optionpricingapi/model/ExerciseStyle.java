@@ -0,0 +1,12 @@
+package com.sallyvnge.optionpricingapi.model;
+
+/**
+ * Represents when an option can be exercised.
+ *
+ * - EUROPEAN: Only at maturity.
+ * - AMERICAN: At any time up to maturity.
+ */
+public enum ExerciseStyle {
+    EUROPEAN,
+    AMERICAN
+}
@@ -0,0 +1,23 @@
+package com.sallyvnge.optionpricingapi.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A sensitivity of the price of an option, see {@link Greeks} for the definition of each.
+ */
+public enum Greek {
+    DELTA,
+    GAMMA,
+    VEGA,
+    THETA,
+    RHO,
+    VANNA,
+    VOLGA,
+    CHARM,
+    VETA;
+
+    /** The Greeks computed together with the price by the pricing kernels and carried by every pricing response. */
+    public static final Set<Greek> STANDARD = Collections.unmodifiableSet(EnumSet.of(DELTA, GAMMA, VEGA));
+}
@@ -6,15 +6,29 @@ import lombok.Builder;
  * Represents the Greeks of an option in the context of financial derivatives.
  * The Greeks are sensitivities of the option's price to various parameters.
  *
- * Delta, gamma, and vega are key sensitivities calculated from a pricing model like Black-Scholes.
+ * Delta, gamma, and vega are key sensitivities calculated from a pricing model like Black-Scholes. Theta, rho and
+ * the second-order Greeks are what risk systems otherwise derive by bumping inputs and repricing.
+ * A Greek that was not requested from {@code GreeksCalculatorService} or {@code BlackScholesKernel} is NaN.
  *
  * - Delta: Measures the sensitivity of the option's price to changes in the price of the underlying asset.
  * - Gamma: Measures the sensitivity of the option's delta to changes in the price of the underlying asset.
  * - Vega: Measures the sensitivity of the option's price to changes in the volatility of the underlying asset.
+ * - Theta: Measures the change of the option's price as time passes, per year (-∂V/∂T).
+ * - Rho: Measures the sensitivity of the option's price to changes in the risk-free rate.
+ * - Vanna: Measures the sensitivity of the option's delta to changes in the volatility (∂²V/∂S∂σ).
+ * - Volga: Measures the sensitivity of the option's vega to changes in the volatility (∂²V/∂σ²).
+ * - Charm: Measures the change of the option's delta as time passes, per year (-∂²V/∂S∂T).
+ * - Veta: Measures the change of the option's vega as time passes, per year (-∂²V/∂σ∂T).
  */
 @Builder
 public record Greeks(
         double delta,
         double gamma,
-        double vega
+        double vega,
+        double theta,
+        double rho,
+        double vanna,
+        double volga,
+        double charm,
+        double veta
 ) {}
@@ -0,0 +1,28 @@
+package com.sallyvnge.optionpricingapi.model;
+
+/**
+ * Represents the payoff of an option priced by simulation or on a finite-difference grid, on top of its
+ * {@link OptionType}. Simulations observe barriers on the monitoring dates, grids continuously.
+ *
+ * - EUROPEAN: Pays on the underlying price at maturity.
+ * - ASIAN: Pays on the arithmetic average of the underlying price over the monitoring dates.
+ * - UP_AND_OUT / DOWN_AND_OUT: European payoff, cancelled if the underlying price reaches the barrier, from above or
+ *   below, on a monitoring date.
+ * - UP_AND_IN / DOWN_AND_IN: European payoff, only paid if the underlying price reaches the barrier on a monitoring
+ *   date.
+ */
+public enum PayoffType {
+    EUROPEAN,
+    ASIAN,
+    UP_AND_OUT,
+    DOWN_AND_OUT,
+    UP_AND_IN,
+    DOWN_AND_IN;
+
+    /**
+     * @return true if the payoff depends on a barrier
+     */
+    public boolean isBarrier() {
+        return this != EUROPEAN && this != ASIAN;
+    }
+}
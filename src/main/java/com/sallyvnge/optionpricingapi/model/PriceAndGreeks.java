@@ -0,0 +1,17 @@
+package com.sallyvnge.optionpricingapi.model;
+
+/**
+ * Price of an option together with its Greeks, as produced by a single pass of a pricing kernel.
+ *
+ * - Price: The calculated price of the option.
+ * - Delta: Sensitivity of the option's price to the price of the underlying asset.
+ * - Gamma: Sensitivity of the option's delta to the price of the underlying asset.
+ * - Vega: Sensitivity of the option's price to the volatility of the underlying asset.
+ */
+public record PriceAndGreeks(
+        double price,
+        double delta,
+        double gamma,
+        double vega
+) {
+}
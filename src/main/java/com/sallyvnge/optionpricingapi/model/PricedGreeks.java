@@ -0,0 +1,14 @@
+package com.sallyvnge.optionpricingapi.model;
+
+/**
+ * Price of an option together with its Greeks beyond delta, gamma and vega, as produced by a single pass of a pricing
+ * kernel.
+ *
+ * - Price: The calculated price of the option.
+ * - Greeks: Its Greeks, NaN for those that were not requested.
+ */
+public record PricedGreeks(
+        double price,
+        Greeks greeks
+) {
+}
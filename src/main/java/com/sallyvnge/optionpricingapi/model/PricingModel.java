@@ -1,5 +1,17 @@
 package com.sallyvnge.optionpricingapi.model;
 
 public enum PricingModel {
-    BLACK_SCHOLES
+    BLACK_SCHOLES,
+    MONTE_CARLO,
+    BINOMIAL,
+    TRINOMIAL,
+    FINITE_DIFFERENCE,
+    INTEGRAL_EQUATION;
+
+    /**
+     * @return true if the model prices on a recombining lattice
+     */
+    public boolean isLattice() {
+        return this == BINOMIAL || this == TRINOMIAL;
+    }
 }
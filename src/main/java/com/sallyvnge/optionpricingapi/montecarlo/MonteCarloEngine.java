@@ -0,0 +1,348 @@
+package com.sallyvnge.optionpricingapi.montecarlo;
+
+import com.sallyvnge.optionpricingapi.aad.Tape;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+
+import java.util.SplittableRandom;
+
+/**
+ * Simulates geometric Brownian motion paths of an underlying and accumulates the discounted payoffs of an option
+ * into {@link SampleStatistics}.
+ *
+ * Paths are advanced with the exact log-normal step S(t + dt) = S(t) * e^((r - sigma²/2) dt + sigma sqrt(dt) Z), one
+ * step per monitoring date (a single step for a European payoff). A block of paths is simulated step by step across
+ * primitive {@link PathBuffers}: the spots, running sums and barrier flags of every path of the block live in arrays
+ * that are allocated once per worker and reused for every block, so simulation allocates nothing per path.
+ *
+ * With antithetic variates, every normal draw Z drives a second path with -Z, whose step factor is derived from
+ * the first one as e^(2 (r - sigma²/2) dt) / e^((r - sigma²/2) dt + sigma sqrt(dt) Z), and the pair counts as one
+ * sample. The control variate of every payoff is the discounted European payoff of the same strike and type on the
+ * same path, whose expectation is the Black-Scholes price.
+ *
+ * {@link #simulateWithGreeks} also computes pathwise Greeks with respect to the spot, volatility, rate and maturity.
+ * An Asian sample is recorded on a {@link Tape} and one backward sweep gives all four derivatives of its discounted
+ * payoff together. A European sample only depends on its terminal spot S_T = S e^((r - sigma²/2) T + sigma sqrt(T) Z),
+ * so its derivatives are written out in closed form over the same buffers as {@link #simulate}. Pathwise derivatives
+ * are unbiased for payoffs continuous in the path, the European and Asian ones, but miss the jump of a barrier payoff
+ * at the barrier.
+ */
+public final class MonteCarloEngine {
+
+    /** Number of samples of a block, each simulated from its own random stream. */
+    public static final int BLOCK_SIZE = 4096;
+
+    /** Index of each Greek in the sums of {@link #simulateWithGreeks}. */
+    public static final int DELTA = 0;
+    public static final int VEGA = 1;
+    public static final int RHO = 2;
+    public static final int THETA = 3;
+    public static final int GREEKS = 4;
+
+    private final double spot;
+    private final double maturity;
+    private final double rate;
+    private final double volatility;
+    private final double strike;
+    private final double w;
+    private final PayoffType payoffType;
+    private final double barrier;
+    private final int steps;
+    private final boolean antithetic;
+    private final double drift;
+    private final double diffusion;
+    private final double antitheticFactor;
+    private final double discountFactor;
+    private final double controlMean;
+
+    /**
+     * @param S The underlying price
+     * @param K The strike price
+     * @param T The time to maturity in years
+     * @param r The risk-free rate
+     * @param sigma The volatility
+     * @param optionType CALL or PUT
+     * @param payoffType The payoff to price
+     * @param barrier The barrier level, ignored unless the payoff is a barrier payoff
+     * @param monitoringDates The number of evenly spaced monitoring dates of path-dependent payoffs, the last one
+     *                        being the maturity
+     * @param antithetic true to pair every path with its antithetic path
+     */
+    public MonteCarloEngine(double S, double K, double T, double r, double sigma, OptionType optionType,
+                            PayoffType payoffType, double barrier, int monitoringDates, boolean antithetic) {
+        this.spot = S;
+        this.maturity = T;
+        this.rate = r;
+        this.volatility = sigma;
+        this.strike = K;
+        this.w = optionType == OptionType.CALL ? 1.0 : -1.0;
+        this.payoffType = payoffType;
+        this.barrier = barrier;
+        this.steps = payoffType == PayoffType.EUROPEAN ? 1 : monitoringDates;
+        this.antithetic = antithetic;
+
+        double dt = T / steps;
+        this.drift = (r - 0.5 * sigma * sigma) * dt;
+        this.diffusion = sigma * Math.sqrt(dt);
+        this.antitheticFactor = Math.exp(2.0 * drift);
+        this.discountFactor = Math.exp(-r * T);
+        this.controlMean = BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma, optionType).price();
+    }
+
+    /**
+     * @return The expected discounted payoff of the control variate, i.e. the Black-Scholes price of the European
+     *         option with the same strike and type
+     */
+    public double controlMean() {
+        return controlMean;
+    }
+
+    /**
+     * @return The number of simulated paths per sample: 2 with antithetic variates, 1 otherwise
+     */
+    public int pathsPerSample() {
+        return antithetic ? 2 : 1;
+    }
+
+    /**
+     * Simulates {@code samples} samples drawn from {@code random} and adds them to {@code statistics}.
+     * @param random The random stream of the block
+     * @param samples The number of samples, at most the capacity of the buffers
+     * @param buffers The path buffers of the calling worker
+     * @param statistics The statistics to add the samples to
+     */
+    public void simulate(SplittableRandom random, int samples, PathBuffers buffers, SampleStatistics statistics) {
+        double[] s = buffers.spot;
+        double[] sAnti = buffers.antitheticSpot;
+        double[] sum = buffers.sum;
+        double[] sumAnti = buffers.antitheticSum;
+        boolean[] hit = buffers.hit;
+        boolean[] hitAnti = buffers.antitheticHit;
+
+        boolean asian = payoffType == PayoffType.ASIAN;
+        boolean monitored = payoffType.isBarrier();
+        boolean up = payoffType == PayoffType.UP_AND_OUT || payoffType == PayoffType.UP_AND_IN;
+        boolean initiallyHit = monitored && crossed(spot, up);
+        for (int i = 0; i < samples; i++) {
+            s[i] = spot;
+            sAnti[i] = spot;
+            sum[i] = 0.0;
+            sumAnti[i] = 0.0;
+            hit[i] = initiallyHit;
+            hitAnti[i] = initiallyHit;
+        }
+
+        for (int step = 0; step < steps; step++) {
+            for (int i = 0; i < samples; i++) {
+                double growth = Math.exp(drift + diffusion * random.nextGaussian());
+                double next = s[i] * growth;
+                s[i] = next;
+                if (asian) {
+                    sum[i] += next;
+                } else if (monitored && crossed(next, up)) {
+                    hit[i] = true;
+                }
+                if (antithetic) {
+                    double nextAnti = sAnti[i] * (antitheticFactor / growth);
+                    sAnti[i] = nextAnti;
+                    if (asian) {
+                        sumAnti[i] += nextAnti;
+                    } else if (monitored && crossed(nextAnti, up)) {
+                        hitAnti[i] = true;
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < samples; i++) {
+            double y = payoff(s[i], sum[i], hit[i]);
+            double x = vanilla(s[i]);
+            if (antithetic) {
+                y = 0.5 * (y + payoff(sAnti[i], sumAnti[i], hitAnti[i]));
+                x = 0.5 * (x + vanilla(sAnti[i]));
+            }
+            statistics.add(discountFactor * y, discountFactor * x);
+        }
+    }
+
+    /**
+     * Same as {@link #simulate}, adding the pathwise Greeks of the discounted payoff of every sample to
+     * {@code greekSums}, indexed by {@link #DELTA}, {@link #VEGA}, {@link #RHO} and {@link #THETA}. A European payoff is
+     * simulated across the block as by {@link #simulate}, and gives the same statistics from the same stream. Asian
+     * paths are drawn one after the other on the tape instead: the spot, volatility, rate and maturity are recorded
+     * once per block; each sample is recorded after them and the tape rewound before the next one.
+     * @param buffers The path buffers of the calling worker
+     * @param tape The tape of the calling worker
+     * @param greekSums Receives the sums over the samples of the Greeks, theta being per year of calendar time
+     * @throws IllegalStateException for a barrier payoff
+     */
+    public void simulateWithGreeks(SplittableRandom random, int samples, PathBuffers buffers, Tape tape,
+                                   SampleStatistics statistics, double[] greekSums) {
+        if (payoffType.isBarrier()) {
+            throw new IllegalStateException("No pathwise Greeks for a barrier payoff");
+        }
+        if (payoffType == PayoffType.EUROPEAN) {
+            simulateEuropeanWithGreeks(random, samples, buffers, statistics, greekSums);
+            return;
+        }
+        tape.rewind(0);
+        int S = tape.variable(spot);
+        int sigma = tape.variable(volatility);
+        int r = tape.variable(rate);
+        int T = tape.variable(maturity);
+        int dt = tape.mul(T, 1.0 / steps);
+        int drift = tape.mul(tape.sub(r, tape.mul(tape.mul(sigma, sigma), 0.5)), dt);
+        int diffusion = tape.mul(sigma, tape.sqrt(dt));
+        int factor = tape.exp(tape.mul(drift, 2.0));
+        int discount = tape.exp(tape.mul(tape.mul(r, T), -1.0));
+        int prefix = tape.size();
+
+        boolean asian = payoffType == PayoffType.ASIAN;
+        for (int i = 0; i < samples; i++) {
+            tape.rewind(prefix);
+            int s = S;
+            int sAnti = S;
+            int sum = -1;
+            int sumAnti = -1;
+            for (int step = 0; step < steps; step++) {
+                int growth = tape.exp(tape.add(tape.mul(diffusion, random.nextGaussian()), drift));
+                s = tape.mul(s, growth);
+                if (asian) {
+                    sum = sum < 0 ? s : tape.add(sum, s);
+                }
+                if (antithetic) {
+                    sAnti = tape.mul(sAnti, tape.div(factor, growth));
+                    if (asian) {
+                        sumAnti = sumAnti < 0 ? sAnti : tape.add(sumAnti, sAnti);
+                    }
+                }
+            }
+
+            int y = payoff(tape, asian ? sum : s);
+            double x = vanilla(tape.value(s));
+            if (antithetic) {
+                y = tape.mul(tape.add(y, payoff(tape, asian ? sumAnti : sAnti)), 0.5);
+                x = 0.5 * (x + vanilla(tape.value(sAnti)));
+            }
+            int discounted = tape.mul(y, discount);
+            statistics.add(tape.value(discounted), discountFactor * x);
+
+            tape.backward(discounted);
+            greekSums[DELTA] += tape.adjoint(S);
+            greekSums[VEGA] += tape.adjoint(sigma);
+            greekSums[RHO] += tape.adjoint(r);
+            greekSums[THETA] -= tape.adjoint(T);
+        }
+    }
+
+    /**
+     * Draws the terminal spots of the block as {@link #simulate} does, keeping the normal draws, then differentiates
+     * every discounted payoff D (S_T - K)+ in closed form. On exercise, S_T has the derivatives S_T / S, S_T (sqrt(T) Z
+     * - sigma T), S_T T and S_T (r - sigma²/2 + sigma Z / (2 sqrt(T))) with respect to the spot, volatility, rate and
+     * maturity, and the discount factor adds -T and -r times the discounted payoff to rho and to the maturity
+     * derivative; an antithetic path is differentiated with -Z.
+     */
+    private void simulateEuropeanWithGreeks(SplittableRandom random, int samples, PathBuffers buffers,
+                                            SampleStatistics statistics, double[] greekSums) {
+        double[] s = buffers.spot;
+        double[] sAnti = buffers.antitheticSpot;
+        double[] z = buffers.normal;
+        for (int i = 0; i < samples; i++) {
+            double normal = random.nextGaussian();
+            double growth = Math.exp(drift + diffusion * normal);
+            z[i] = normal;
+            s[i] = spot * growth;
+            if (antithetic) {
+                sAnti[i] = spot * (antitheticFactor / growth);
+            }
+        }
+
+        double sqrtT = Math.sqrt(maturity);
+        double vegaDrift = -volatility * maturity;
+        double timeDrift = rate - 0.5 * volatility * volatility;
+        double timeDiffusion = 0.5 * volatility / sqrtT;
+        double weight = antithetic ? 0.5 : 1.0;
+        double delta = 0.0;
+        double vega = 0.0;
+        double rho = 0.0;
+        double theta = 0.0;
+        for (int i = 0; i < samples; i++) {
+            double y = vanilla(s[i]);
+            double slope = y > 0.0 ? w * s[i] : 0.0;
+            double slopeVega = slope * (sqrtT * z[i] + vegaDrift);
+            double slopeTime = slope * (timeDrift + timeDiffusion * z[i]);
+            if (antithetic) {
+                double yAnti = vanilla(sAnti[i]);
+                double slopeAnti = yAnti > 0.0 ? w * sAnti[i] : 0.0;
+                y += yAnti;
+                slope += slopeAnti;
+                slopeVega += slopeAnti * (vegaDrift - sqrtT * z[i]);
+                slopeTime += slopeAnti * (timeDrift - timeDiffusion * z[i]);
+            }
+            y *= weight;
+            statistics.add(discountFactor * y, discountFactor * y);
+            delta += slope;
+            vega += slopeVega;
+            rho += maturity * (weight * slope - y);
+            theta += rate * y - weight * slopeTime;
+        }
+        greekSums[DELTA] += discountFactor * weight * delta / spot;
+        greekSums[VEGA] += discountFactor * weight * vega;
+        greekSums[RHO] += discountFactor * rho;
+        greekSums[THETA] += discountFactor * theta;
+    }
+
+    /**
+     * Records the payoff of a path, its underlying being the terminal spot or, for an Asian payoff, the sum of the
+     * monitored spots.
+     */
+    private int payoff(Tape tape, int underlying) {
+        int average = payoffType == PayoffType.ASIAN ? tape.mul(underlying, 1.0 / steps) : underlying;
+        return tape.max(tape.mul(tape.add(average, -strike), w), 0.0);
+    }
+
+    private double payoff(double terminal, double sum, boolean hit) {
+        return switch (payoffType) {
+            case EUROPEAN -> vanilla(terminal);
+            case ASIAN -> Math.max(w * (sum / steps - strike), 0.0);
+            case UP_AND_OUT, DOWN_AND_OUT -> hit ? 0.0 : vanilla(terminal);
+            case UP_AND_IN, DOWN_AND_IN -> hit ? vanilla(terminal) : 0.0;
+        };
+    }
+
+    private double vanilla(double terminal) {
+        return Math.max(w * (terminal - strike), 0.0);
+    }
+
+    private boolean crossed(double value, boolean up) {
+        return up ? value >= barrier : value <= barrier;
+    }
+
+    /**
+     * Per-worker state of the paths of a block, reused from one block to the next.
+     */
+    public static final class PathBuffers {
+
+        private final double[] spot;
+        private final double[] antitheticSpot;
+        private final double[] normal;
+        private final double[] sum;
+        private final double[] antitheticSum;
+        private final boolean[] hit;
+        private final boolean[] antitheticHit;
+
+        /**
+         * @param capacity The maximum number of samples of a block
+         */
+        public PathBuffers(int capacity) {
+            this.spot = new double[capacity];
+            this.antitheticSpot = new double[capacity];
+            this.normal = new double[capacity];
+            this.sum = new double[capacity];
+            this.antitheticSum = new double[capacity];
+            this.hit = new boolean[capacity];
+            this.antitheticHit = new boolean[capacity];
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sallyvnge.optionpricingapi.montecarlo;
+
+/**
+ * Price estimated by simulation.
+ *
+ * - Price: The estimated price.
+ * - Standard Error: The standard deviation of the estimate, NaN with a single sample.
+ * - Control Variate Beta: The coefficient applied to the control variate, 0 without control.
+ */
+public record MonteCarloEstimate(
+        double price,
+        double standardError,
+        double controlVariateBeta
+) {
+}
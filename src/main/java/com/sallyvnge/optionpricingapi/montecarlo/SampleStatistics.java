@@ -0,0 +1,76 @@
+package com.sallyvnge.optionpricingapi.montecarlo;
+
+/**
+ * Running sums of the discounted payoffs Y of a simulation and of their control variates X, from which the price
+ * and its standard error are estimated with or without the control.
+ *
+ * With the control, the estimate is mean(Y) - beta * (mean(X) - E[X]) with beta = cov(X, Y) / var(X), the
+ * coefficient minimizing its variance, estimated from the same samples.
+ */
+public final class SampleStatistics {
+
+    private long count;
+    private double sumY;
+    private double sumX;
+    private double sumYY;
+    private double sumXX;
+    private double sumXY;
+
+    /**
+     * Adds one independent sample.
+     * @param y The discounted payoff
+     * @param x The discounted payoff of the control
+     */
+    public void add(double y, double x) {
+        count++;
+        sumY += y;
+        sumX += x;
+        sumYY += y * y;
+        sumXX += x * x;
+        sumXY += x * y;
+    }
+
+    /**
+     * Adds the samples of another instance to this one.
+     */
+    public void merge(SampleStatistics other) {
+        count += other.count;
+        sumY += other.sumY;
+        sumX += other.sumX;
+        sumYY += other.sumYY;
+        sumXX += other.sumXX;
+        sumXY += other.sumXY;
+    }
+
+    /**
+     * @return The number of samples
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Estimates the price from the samples.
+     * @param controlMean The expected value of the control, or NaN to estimate the price without control
+     * @return The estimated price, its standard error and the control coefficient (0 without control)
+     */
+    public MonteCarloEstimate estimate(double controlMean) {
+        double n = count;
+        double meanY = sumY / n;
+        double syy = Math.max(sumYY - n * meanY * meanY, 0.0);
+        if (Double.isNaN(controlMean)) {
+            return new MonteCarloEstimate(meanY, standardError(syy, n), 0.0);
+        }
+
+        double meanX = sumX / n;
+        double sxx = Math.max(sumXX - n * meanX * meanX, 0.0);
+        double sxy = sumXY - n * meanX * meanY;
+        double beta = sxx > 0.0 ? sxy / sxx : 0.0;
+        double residual = Math.max(syy - beta * sxy, 0.0);
+        return new MonteCarloEstimate(meanY - beta * (meanX - controlMean), standardError(residual, n), beta);
+    }
+
+    private static double standardError(double sumOfSquares, double n) {
+        return n > 1 ? Math.sqrt(sumOfSquares / (n - 1) / n) : Double.NaN;
+    }
+}
@@ -0,0 +1,203 @@
+package com.sallyvnge.optionpricingapi.offline;
+
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses CSV option rows straight from the bytes of a memory-mapped file, without creating any object per row.
+ *
+ * A row holds underlyingPrice, strikePrice, timeToMaturity, riskFreeRate, volatility and optionType (CALL or PUT, in
+ * any case), separated by commas, spaces around fields being ignored. Numbers are decimal, with an optional sign,
+ * fraction and exponent. A row that cannot be parsed is written with a NaN underlying price, so that it fails
+ * {@link OptionBatch#isValid(int)} and is rejected like any other invalid row.
+ */
+final class CsvOptionParser {
+
+    /** Significant digits accumulated exactly in a long. */
+    private static final int MAX_DIGITS = 18;
+    /** Powers of ten exactly representable as doubles. */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private CsvOptionParser() {}
+
+    /**
+     * Receives the bytes {@code [from, to)} of a CSV row, line terminator excluded.
+     */
+    @FunctionalInterface
+    interface RowConsumer {
+        void accept(ByteBuffer bytes, int from, int to);
+    }
+
+    /**
+     * @param fileStart Whether the line is the first of the file, which is a header if it starts with a letter
+     * @return false for a blank line or a header, true for a row to price
+     */
+    static boolean isRow(ByteBuffer bytes, int from, int to, boolean fileStart) {
+        while (from < to && (bytes.get(from) == ' ' || bytes.get(from) == '\r')) {
+            from++;
+        }
+        if (from == to) {
+            return false;
+        }
+        byte first = (byte) (bytes.get(from) & ~0x20);
+        return !fileStart || first < 'A' || first > 'Z';
+    }
+
+    /**
+     * Parses the row in bytes {@code [from, to)}, line terminator excluded, into row {@code row} of the batch columns.
+     */
+    static void parseRow(ByteBuffer bytes, int from, int to, OptionBatch batch, int row) {
+        if (to > from && bytes.get(to - 1) == '\r') {
+            to--;
+        }
+        int strikeStart = indexOf(bytes, ',', from, to) + 1;
+        int maturityStart = strikeStart == 0 ? 0 : indexOf(bytes, ',', strikeStart, to) + 1;
+        int rateStart = maturityStart == 0 ? 0 : indexOf(bytes, ',', maturityStart, to) + 1;
+        int volatilityStart = rateStart == 0 ? 0 : indexOf(bytes, ',', rateStart, to) + 1;
+        int typeStart = volatilityStart == 0 ? 0 : indexOf(bytes, ',', volatilityStart, to) + 1;
+        if (typeStart == 0) {
+            batch.underlyingPrice()[row] = Double.NaN;
+            return;
+        }
+        batch.underlyingPrice()[row] = parseDouble(bytes, from, strikeStart - 1);
+        batch.strikePrice()[row] = parseDouble(bytes, strikeStart, maturityStart - 1);
+        batch.timeToMaturity()[row] = parseDouble(bytes, maturityStart, rateStart - 1);
+        batch.riskFreeRate()[row] = parseDouble(bytes, rateStart, volatilityStart - 1);
+        batch.volatility()[row] = parseDouble(bytes, volatilityStart, typeStart - 1);
+        int optionType = parseOptionType(bytes, typeStart, to);
+        if (optionType < 0) {
+            batch.underlyingPrice()[row] = Double.NaN;
+        }
+        batch.call()[row] = optionType == 1;
+    }
+
+    /**
+     * Parses a decimal number. Numbers of at most 18 significant digits with a decimal exponent of at most 22 in
+     * magnitude, which covers market data, are computed exactly from a long and a power of ten (Clinger's fast path);
+     * the others fall back to {@link Double#parseDouble(String)}.
+     * @return The number in bytes {@code [from, to)}, spaces around it ignored, or NaN if they do not hold one
+     */
+    static double parseDouble(ByteBuffer bytes, int from, int to) {
+        while (from < to && bytes.get(from) == ' ') {
+            from++;
+        }
+        while (to > from && bytes.get(to - 1) == ' ') {
+            to--;
+        }
+        int i = from;
+        boolean negative = false;
+        if (i < to && (bytes.get(i) == '-' || bytes.get(i) == '+')) {
+            negative = bytes.get(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            byte c = bytes.get(i);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            anyDigit = true;
+            if (digits < MAX_DIGITS) {
+                mantissa = 10 * mantissa + (c - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+                if (fraction) {
+                    exponent--;
+                }
+            } else {
+                exact &= c == '0';
+                if (!fraction) {
+                    exponent++;
+                }
+            }
+        }
+        if (!anyDigit) {
+            return Double.NaN;
+        }
+
+        if (i < to && (bytes.get(i) == 'e' || bytes.get(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (bytes.get(i) == '-' || bytes.get(i) == '+')) {
+                negativeExponent = bytes.get(i) == '-';
+                i++;
+            }
+            int value = 0;
+            int start = i;
+            for (; i < to && bytes.get(i) >= '0' && bytes.get(i) <= '9'; i++) {
+                value = Math.min(10 * value + (bytes.get(i) - '0'), 100_000);
+            }
+            if (i == start) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i != to) {
+            return Double.NaN;
+        }
+
+        if (exact && mantissa <= 1L << 53 && Math.abs(exponent) < POWERS_OF_TEN.length) {
+            double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            return negative ? -value : value;
+        }
+        byte[] text = new byte[to - from];
+        bytes.get(from, text);
+        return Double.parseDouble(new String(text, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return 1 for CALL, 0 for PUT, in any case and with spaces around ignored, or -1 for anything else
+     */
+    static int parseOptionType(ByteBuffer bytes, int from, int to) {
+        while (from < to && bytes.get(from) == ' ') {
+            from++;
+        }
+        while (to > from && bytes.get(to - 1) == ' ') {
+            to--;
+        }
+        if (matches(bytes, from, to, "CALL")) {
+            return 1;
+        }
+        return matches(bytes, from, to, "PUT") ? 0 : -1;
+    }
+
+    private static boolean matches(ByteBuffer bytes, int from, int to, String word) {
+        if (to - from != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            // Clearing bit 5 upper-cases ASCII letters
+            if ((bytes.get(from + i) & ~0x20) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The index of the first {@code b} in bytes {@code [from, to)}, or -1
+     */
+    static int indexOf(ByteBuffer bytes, char b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,406 @@
+package com.sallyvnge.optionpricingapi.offline;
+
+import com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec;
+import com.sallyvnge.optionpricingapi.exception.MalformedBatchException;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Prices files of European options with the Black-Scholes model, from a memory-mapped input file into a
+ * memory-mapped output file, in parallel on the {@link PortfolioRevaluationService} pool.
+ *
+ * The input is either a request body of {@link BinaryBatchCodec}, recognized by its magic number, or CSV rows as read
+ * by {@link CsvOptionParser}, one per line, lines of at most {@value #MAX_LINE_BYTES} bytes. A first line starting with
+ * a letter is a header and is skipped, as are blank lines. The output is always a response body of
+ * {@link BinaryBatchCodec}, one row per input row in input order, rejected rows holding NaN in every column.
+ *
+ * - Binary input is cut into segments of at most {@code pricing.offline.segment-rows} rows, each worker mapping the
+ *   slices of the input and output columns of its segment.
+ * - CSV input is cut into ranges of {@code pricing.offline.range-bytes} bytes, each owning the lines starting in it.
+ *   A first pass counts the rows of every range, which gives each range the index of its first output row, and a
+ *   second pass parses and prices them.
+ *
+ * Rows are copied from the mappings into a per-thread {@link OptionBatch} of one revaluation chunk, priced and copied
+ * back, so the heap used does not depend on the size of the files: they only ever live in the page cache.
+ */
+@Service
+public class MappedBatchPricer {
+
+    /** Longest CSV line accepted, line feed included. */
+    static final int MAX_LINE_BYTES = 4096;
+
+    private static final int INPUT_COLUMNS = 5;
+    private static final int OUTPUT_COLUMNS = 4;
+
+    private final PortfolioRevaluationService portfolioRevaluationService;
+    private final int segmentRows;
+    private final int rangeBytes;
+    private final ThreadLocal<Workspace> workspaces;
+
+    public MappedBatchPricer(
+            PortfolioRevaluationService portfolioRevaluationService,
+            @Value("${pricing.offline.segment-rows:1048576}") int segmentRows,
+            @Value("${pricing.offline.range-bytes:33554432}") int rangeBytes) {
+        if (segmentRows <= 0 || segmentRows > Integer.MAX_VALUE / Double.BYTES) {
+            throw new IllegalArgumentException("Segment rows must be between 1 and " + Integer.MAX_VALUE / Double.BYTES
+                    + ", got: " + segmentRows);
+        }
+        if (rangeBytes <= 0 || rangeBytes > Integer.MAX_VALUE - 2 * MAX_LINE_BYTES) {
+            throw new IllegalArgumentException("Range bytes must be between 1 and "
+                    + (Integer.MAX_VALUE - 2 * MAX_LINE_BYTES) + ", got: " + rangeBytes);
+        }
+        this.portfolioRevaluationService = portfolioRevaluationService;
+        this.segmentRows = segmentRows;
+        this.rangeBytes = rangeBytes;
+        int chunkSize = portfolioRevaluationService.chunkSize();
+        this.workspaces = ThreadLocal.withInitial(() -> new Workspace(chunkSize));
+    }
+
+    /**
+     * Prices every row of a file.
+     * @param input The binary or CSV input file
+     * @param output The output file, created or replaced
+     * @return The number of rows, rejected rows and the time taken
+     * @throws MalformedBatchException if a binary input does not follow the format, or a CSV line is too long
+     * @throws IllegalArgumentException if both paths are the same file
+     * @throws IOException if reading, mapping or writing the files fails
+     */
+    public OfflinePricingReport price(Path input, Path output) throws IOException {
+        if (Files.exists(output) && Files.isSameFile(input, output)) {
+            throw new IllegalArgumentException("Output file must differ from the input file: " + output);
+        }
+        long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(input, READ);
+             FileChannel out = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(BinaryBatchCodec.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && in.read(header, header.position()) > 0) {
+                // Files are read fully, but the channel contract allows short reads
+            }
+            header.flip();
+
+            OfflinePricingReport.Format format;
+            long[] rowsAndRejected;
+            if (BinaryBatchCodec.isRequest(header)) {
+                format = OfflinePricingReport.Format.BINARY;
+                rowsAndRejected = priceBinary(in, out, header);
+            } else {
+                format = OfflinePricingReport.Format.CSV;
+                rowsAndRejected = priceCsv(in, out);
+            }
+
+            ByteBuffer responseHeader = ByteBuffer.allocate(BinaryBatchCodec.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            BinaryBatchCodec.putResponseHeader(responseHeader, (int) rowsAndRejected[0], (int) rowsAndRejected[1]);
+            out.write(responseHeader.flip(), 0);
+            return new OfflinePricingReport(format, rowsAndRejected[0], rowsAndRejected[1], System.nanoTime() - start);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return The number of rows and of rejected rows
+     */
+    private long[] priceBinary(FileChannel in, FileChannel out, ByteBuffer header) throws IOException {
+        if (header.remaining() < BinaryBatchCodec.HEADER_BYTES) {
+            throw new MalformedBatchException("File is shorter than its header");
+        }
+        int rows = BinaryBatchCodec.requestRows(header, Integer.MAX_VALUE);
+        if (in.size() != BinaryBatchCodec.requestBytes(rows)) {
+            throw new MalformedBatchException("File of " + in.size() + " bytes does not hold the " + rows
+                    + " rows its header announces");
+        }
+        allocate(out, rows);
+
+        int segment = segmentRows(rows);
+        int segments = (int) ((rows + (long) segment - 1) / segment);
+        LongAdder rejected = new LongAdder();
+        portfolioRevaluationService.forEach(segments, s -> {
+            int from = s * segment;
+            int count = Math.min(rows - from, segment);
+            try {
+                DoubleBuffer[] columns = new DoubleBuffer[INPUT_COLUMNS];
+                for (int c = 0; c < INPUT_COLUMNS; c++) {
+                    columns[c] = map(in, FileChannel.MapMode.READ_ONLY, column(rows, c, from), count).asDoubleBuffer();
+                }
+                ByteBuffer types = in.map(FileChannel.MapMode.READ_ONLY,
+                        BinaryBatchCodec.HEADER_BYTES + (long) INPUT_COLUMNS * rows * Double.BYTES + from, count);
+                MappedByteBuffer[] outputs = outputColumns(out, rows, from, count);
+                rejected.add(priceSegment(columns, types, count, views(outputs)));
+                force(outputs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return new long[]{rows, rejected.sum()};
+    }
+
+    /**
+     * Prices the rows of a binary segment, one workspace at a time.
+     * @return The number of rejected rows
+     */
+    private int priceSegment(DoubleBuffer[] columns, ByteBuffer types, int count, DoubleBuffer[] outputs) {
+        Workspace workspace = workspaces.get();
+        OptionBatch batch = workspace.batch;
+        double[][] batchColumns = {batch.underlyingPrice(), batch.strikePrice(), batch.timeToMaturity(),
+                batch.riskFreeRate(), batch.volatility()};
+        int rejected = 0;
+        for (int done = 0; done < count; ) {
+            int rows = Math.min(count - done, workspace.capacity());
+            for (int c = 0; c < INPUT_COLUMNS; c++) {
+                columns[c].get(done, batchColumns[c], 0, rows);
+            }
+            types.get(done, workspace.types, 0, rows);
+            for (int row = 0; row < rows; row++) {
+                byte type = workspace.types[row];
+                batch.call()[row] = type == 1;
+                if ((type & ~1) != 0) {
+                    // Rejected by validation rather than failing the whole file
+                    batch.underlyingPrice()[row] = Double.NaN;
+                }
+            }
+            rejected += workspace.price(rows);
+            workspace.write(outputs, done, rows);
+            done += rows;
+        }
+        return rejected;
+    }
+
+    /**
+     * @return The number of rows and of rejected rows
+     */
+    private long[] priceCsv(FileChannel in, FileChannel out) throws IOException {
+        long size = in.size();
+        int ranges = (int) ((size + rangeBytes - 1) / rangeBytes);
+        long[] offsets = new long[ranges + 1];
+        portfolioRevaluationService.forEach(ranges, range -> {
+            try {
+                offsets[range + 1] = forEachRow(in, size, range, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        for (int range = 0; range < ranges; range++) {
+            offsets[range + 1] += offsets[range];
+        }
+        if (offsets[ranges] > Integer.MAX_VALUE) {
+            throw new MalformedBatchException("File holds more than " + Integer.MAX_VALUE + " rows");
+        }
+        int rows = (int) offsets[ranges];
+        allocate(out, rows);
+
+        LongAdder rejected = new LongAdder();
+        portfolioRevaluationService.forEach(ranges, range -> {
+            int from = (int) offsets[range];
+            int count = (int) (offsets[range + 1] - from);
+            try {
+                MappedByteBuffer[] outputs = outputColumns(out, rows, from, count);
+                RangePricer pricer = new RangePricer(workspaces.get(), views(outputs));
+                if (forEachRow(in, size, range, pricer) != count) {
+                    throw new IllegalStateException("Input file changed while being priced");
+                }
+                pricer.flush();
+                rejected.add(pricer.rejected);
+                force(outputs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return new long[]{rows, rejected.sum()};
+    }
+
+    /**
+     * Visits the CSV rows starting in a range, blank and header lines excluded.
+     * @param consumer Receives every row, or null to only count them
+     * @return The number of rows
+     */
+    private int forEachRow(FileChannel in, long size, int range, CsvOptionParser.RowConsumer consumer) throws IOException {
+        long rangeStart = (long) range * rangeBytes;
+        long rangeEnd = Math.min(size, rangeStart + rangeBytes);
+        // One byte before the range tells whether a line starts on its first byte, and lines starting near its end
+        // are read past it
+        long mapStart = Math.max(0, rangeStart - 1);
+        long mapEnd = Math.min(size, rangeEnd + MAX_LINE_BYTES);
+        MappedByteBuffer bytes = in.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+        int end = (int) (rangeEnd - mapStart);
+        int limit = bytes.limit();
+
+        int line = 0;
+        if (rangeStart > 0) {
+            int feed = CsvOptionParser.indexOf(bytes, '\n', 0, limit);
+            if (feed < 0) {
+                return 0;
+            }
+            line = feed + 1;
+        }
+        int rows = 0;
+        while (line < end) {
+            int feed = CsvOptionParser.indexOf(bytes, '\n', line, limit);
+            if (feed < 0) {
+                if (mapEnd < size) {
+                    throw new MalformedBatchException("Line at byte " + (mapStart + line) + " is longer than "
+                            + MAX_LINE_BYTES + " bytes");
+                }
+                feed = limit;
+            }
+            if (CsvOptionParser.isRow(bytes, line, feed, mapStart + line == 0)) {
+                if (consumer != null) {
+                    consumer.accept(bytes, line, feed);
+                }
+                rows++;
+            }
+            line = feed + 1;
+        }
+        return rows;
+    }
+
+    /**
+     * @return Segments small enough to give every worker one, on chunk boundaries, and of at most segmentRows rows
+     */
+    private int segmentRows(int rows) {
+        int chunkSize = portfolioRevaluationService.chunkSize();
+        int parallelism = portfolioRevaluationService.parallelism();
+        long perWorker = (rows + (long) parallelism - 1) / parallelism;
+        long aligned = (perWorker + chunkSize - 1) / chunkSize * chunkSize;
+        return (int) Math.max(1, Math.min(segmentRows, aligned));
+    }
+
+    /**
+     * Grows the output file to a response body of {@code rows} rows, so that workers can map their slices of it.
+     */
+    private static void allocate(FileChannel out, int rows) throws IOException {
+        out.write(ByteBuffer.allocate(1), BinaryBatchCodec.responseBytes(rows) - 1);
+    }
+
+    /**
+     * @return The offset in bytes of row {@code from} of double column {@code c}, in a body of {@code rows} rows
+     */
+    private static long column(int rows, int c, int from) {
+        return BinaryBatchCodec.HEADER_BYTES + ((long) c * rows + from) * Double.BYTES;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, int count)
+            throws IOException {
+        MappedByteBuffer mapping = channel.map(mode, position, (long) count * Double.BYTES);
+        mapping.order(ByteOrder.LITTLE_ENDIAN);
+        return mapping;
+    }
+
+    private static MappedByteBuffer[] outputColumns(FileChannel out, int rows, int from, int count) throws IOException {
+        MappedByteBuffer[] outputs = new MappedByteBuffer[OUTPUT_COLUMNS];
+        for (int c = 0; c < OUTPUT_COLUMNS; c++) {
+            outputs[c] = map(out, FileChannel.MapMode.READ_WRITE, column(rows, c, from), count);
+        }
+        return outputs;
+    }
+
+    private static DoubleBuffer[] views(MappedByteBuffer[] mappings) {
+        DoubleBuffer[] views = new DoubleBuffer[mappings.length];
+        for (int c = 0; c < mappings.length; c++) {
+            views[c] = mappings[c].asDoubleBuffer();
+        }
+        return views;
+    }
+
+    private static void force(MappedByteBuffer[] mappings) {
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+
+    /**
+     * Parses the CSV rows of a range into a workspace, pricing and writing it out each time it is full.
+     */
+    private static final class RangePricer implements CsvOptionParser.RowConsumer {
+
+        private final Workspace workspace;
+        private final DoubleBuffer[] outputs;
+        private int pending;
+        private int written;
+        private int rejected;
+
+        RangePricer(Workspace workspace, DoubleBuffer[] outputs) {
+            this.workspace = workspace;
+            this.outputs = outputs;
+        }
+
+        @Override
+        public void accept(ByteBuffer bytes, int from, int to) {
+            CsvOptionParser.parseRow(bytes, from, to, workspace.batch, pending++);
+            if (pending == workspace.capacity()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            rejected += workspace.price(pending);
+            workspace.write(outputs, written, pending);
+            written += pending;
+            pending = 0;
+        }
+    }
+
+    /**
+     * Columns of one revaluation chunk, reused by a thread for every chunk it prices.
+     */
+    private static final class Workspace {
+
+        private final OptionBatch batch;
+        private final PricingResults results;
+        private final byte[] types;
+
+        Workspace(int capacity) {
+            this.batch = new OptionBatch(capacity);
+            this.results = new PricingResults(capacity);
+            this.types = new byte[capacity];
+        }
+
+        int capacity() {
+            return batch.capacity();
+        }
+
+        /**
+         * Prices the first {@code rows} rows of the batch, rejecting invalid ones.
+         * @return The number of rejected rows
+         */
+        int price(int rows) {
+            batch.setSize(rows);
+            // Rejected rows are priced along with the rest, which costs less than compacting the columns around them
+            BlackScholesBatchKernel.price(batch, results, 0, rows);
+            int rejected = 0;
+            for (int row = 0; row < rows; row++) {
+                if (!batch.isValid(row)) {
+                    results.reject(row);
+                    rejected++;
+                }
+            }
+            return rejected;
+        }
+
+        void write(DoubleBuffer[] outputs, int index, int rows) {
+            outputs[0].put(index, results.price(), 0, rows);
+            outputs[1].put(index, results.delta(), 0, rows);
+            outputs[2].put(index, results.gamma(), 0, rows);
+            outputs[3].put(index, results.vega(), 0, rows);
+        }
+    }
+}
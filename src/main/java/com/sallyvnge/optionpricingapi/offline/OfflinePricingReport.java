@@ -0,0 +1,31 @@
+package com.sallyvnge.optionpricingapi.offline;
+
+/**
+ * Outcome of pricing a file offline.
+ *
+ * - Format: The format of the input file.
+ * - Rows: The number of rows of the input, rejected rows included.
+ * - Rejected: The number of rows rejected, holding NaN in every result column.
+ * - Nanos: The wall-clock time taken, mapping and writing the output included.
+ */
+public record OfflinePricingReport(
+        Format format,
+        long rows,
+        long rejected,
+        long nanos
+) {
+
+    public enum Format {
+        /** Request body of {@link com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec}. */
+        BINARY,
+        /** Comma-separated rows, see {@link CsvOptionParser}. */
+        CSV
+    }
+
+    /**
+     * @return The throughput over the whole run, rejected rows included
+     */
+    public double rowsPerSecond() {
+        return nanos == 0 ? 0.0 : rows * 1e9 / nanos;
+    }
+}
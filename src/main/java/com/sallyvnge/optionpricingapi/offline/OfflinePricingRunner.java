@@ -0,0 +1,46 @@
+package com.sallyvnge.optionpricingapi.offline;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Prices the file given by {@code pricing.offline.input} into {@code pricing.offline.output} once the application has
+ * started, then logs the throughput. Combined with the {@code offline} profile, which starts no web server, the
+ * application exits when the file is priced:
+ *
+ * java -jar app.jar --spring.profiles.active=offline --pricing.offline.input=book.csv --pricing.offline.output=book.bin
+ *
+ * A failure fails the startup, so the process exits with a non-zero status.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("pricing.offline.input")
+public class OfflinePricingRunner implements ApplicationRunner {
+
+    private final MappedBatchPricer mappedBatchPricer;
+    private final Path input;
+    private final Path output;
+
+    public OfflinePricingRunner(
+            MappedBatchPricer mappedBatchPricer,
+            @Value("${pricing.offline.input}") Path input,
+            @Value("${pricing.offline.output}") Path output) {
+        this.mappedBatchPricer = mappedBatchPricer;
+        this.input = input;
+        this.output = output;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        OfflinePricingReport report = mappedBatchPricer.price(input, output);
+        log.info("Priced {} {} rows from {} into {} in {} ms ({} rejected): {} rows/s",
+                report.rows(), report.format(), input, output, report.nanos() / 1_000_000, report.rejected(),
+                Math.round(report.rowsPerSecond()));
+    }
+}
@@ -0,0 +1,592 @@
+package com.sallyvnge.optionpricingapi.pde;
+
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+
+import java.util.Arrays;
+
+/**
+ * Crank-Nicolson finite-difference solver of the Black-Scholes PDE for European and American options, with or without
+ * a continuously monitored knock-out or knock-in barrier.
+ *
+ * Without dividends, the price of an option is homogeneous in the spot and the strike: V(S, K) = K * v(S / K), v being
+ * the price of the option of unit strike. The PDE is therefore solved once for v on a grid of moneyness x = S / K, and
+ * every strike of a chain is read off that single solution at x = S / K_j. A barrier, being fixed in spot, sits at a
+ * different moneyness for every strike: barrier options take one solve per strike, the barrier being a grid boundary.
+ *
+ * - Grid: the nodes follow a sinh mapping concentrated around the strike, x = 1, where the payoff has its kink, and
+ *   span six standard deviations of the log-spot beyond the highest moneyness priced. Without a down barrier the grid
+ *   starts at x = 0, where the PDE degenerates to dv/dt = -r v and needs no boundary condition.
+ * - Time stepping: Crank-Nicolson, except that the first two steps are each replaced by two fully implicit half steps
+ *   (Rannacher smoothing), which damps the oscillations Crank-Nicolson otherwise keeps from the payoff's kink. Both
+ *   schemes share the same implicit matrix, factored once per solve by {@link TridiagonalSolver}.
+ * - Early exercise: the exercise value floors every implicit solve (Brennan-Schwartz), substituting from the end of
+ *   the grid where the exercise region lies: the bottom for a put, the top for a call.
+ * - Greeks: price, delta and gamma are read off the quadratic through the three grid nodes nearest to the spot. Vega
+ *   and rho, when requested, come from differentiating every time step of the solve with respect to the volatility
+ *   and the rate on the same grid: each derivative of the unit-strike solution is carried through the same factored
+ *   matrix, with the derivative of the operator applied to the solution as source, and is read off like the price.
+ *   With two inputs and a whole chain of outputs, this forward (tangent) mode of algorithmic differentiation costs
+ *   one extra pass per input for every strike together, where a reverse sweep would be needed per strike. Nodes held
+ *   at the exercise value have a zero derivative. The grid itself, which is scaled by the volatility, is held fixed.
+ *
+ * All arrays belong to the calling thread and are reused by later calls on that thread.
+ */
+public final class FiniteDifferencePricer {
+
+    /** Smallest number of space steps. */
+    public static final int MIN_SPACE_STEPS = 16;
+    /** Smallest number of time steps, leaving at least one Crank-Nicolson step after the smoothing steps. */
+    public static final int MIN_TIME_STEPS = 4;
+
+    /** Time steps replaced by two fully implicit half steps at the start of every solve. */
+    private static final int RANNACHER_STEPS = 2;
+    /** Width of the grid beyond the spot, in standard deviations of the log-spot at maturity. */
+    private static final double WIDTH = 6.0;
+    /** Scale of the sinh mapping around the strike, in standard deviations of the log-spot at maturity. */
+    private static final double CONCENTRATION = 0.5;
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private FiniteDifferencePricer() {}
+
+    /**
+     * Prices options differing only by their strike, without vega and rho.
+     * @see #price(double, double[], int, double, double, double, OptionType, ExerciseStyle, PayoffType, double, int,
+     *      int, double[], double[], double[], double[], double[])
+     */
+    public static int price(double S, double[] strikes, int count, double T, double r, double sigma,
+                            OptionType optionType, ExerciseStyle exerciseStyle, PayoffType payoffType, double barrier,
+                            int spaceSteps, int timeSteps, double[] prices, double[] deltas, double[] gammas) {
+        return price(S, strikes, count, T, r, sigma, optionType, exerciseStyle, payoffType, barrier, spaceSteps,
+                timeSteps, prices, deltas, gammas, null, null);
+    }
+
+    /**
+     * Prices options differing only by their strike.
+     * @param S The underlying price
+     * @param strikes The strike prices, in {@code strikes[0, count)}
+     * @param count The number of strikes
+     * @param T The time to maturity in years
+     * @param r The risk-free rate
+     * @param sigma The volatility
+     * @param optionType CALL or PUT
+     * @param exerciseStyle EUROPEAN or AMERICAN
+     * @param payoffType EUROPEAN for a vanilla payoff, or a barrier payoff
+     * @param barrier The barrier level, ignored for a vanilla payoff
+     * @param spaceSteps The number of space steps
+     * @param timeSteps The number of time steps
+     * @param prices Receives the price of each strike
+     * @param deltas Receives the delta of each strike
+     * @param gammas Receives the gamma of each strike
+     * @param vegas Receives the vega of each strike, or null not to compute vega and rho
+     * @param rhos Receives the rho of each strike, ignored if {@code vegas} is null
+     * @return The number of PDE solves run
+     * @throws IllegalArgumentException if the payoff is ASIAN, a knock-in payoff has AMERICAN exercise, or there are
+     *                                  fewer than {@link #MIN_SPACE_STEPS} space or {@link #MIN_TIME_STEPS} time steps
+     */
+    public static int price(double S, double[] strikes, int count, double T, double r, double sigma,
+                            OptionType optionType, ExerciseStyle exerciseStyle, PayoffType payoffType, double barrier,
+                            int spaceSteps, int timeSteps, double[] prices, double[] deltas, double[] gammas,
+                            double[] vegas, double[] rhos) {
+        boolean knockIn = payoffType == PayoffType.UP_AND_IN || payoffType == PayoffType.DOWN_AND_IN;
+        boolean american = exerciseStyle == ExerciseStyle.AMERICAN;
+        if (payoffType == PayoffType.ASIAN) {
+            throw new IllegalArgumentException("Asian payoffs cannot be priced on a one-dimensional grid");
+        }
+        if (knockIn && american) {
+            throw new IllegalArgumentException("Knock-in payoffs can only be priced with EUROPEAN exercise");
+        }
+        if (spaceSteps < MIN_SPACE_STEPS || timeSteps < MIN_TIME_STEPS) {
+            throw new IllegalArgumentException("A grid needs at least " + MIN_SPACE_STEPS + " space and "
+                    + MIN_TIME_STEPS + " time steps, got: " + spaceSteps + " and " + timeSteps);
+        }
+
+        double w = optionType == OptionType.CALL ? 1.0 : -1.0;
+        double volSqrtT = sigma * Math.sqrt(T);
+        double spread = Math.exp(WIDTH * volSqrtT);
+        boolean tangents = vegas != null;
+        Workspace workspace = WORKSPACE.get();
+        workspace.ensureCapacity(spaceSteps + 1);
+        double[] results = workspace.results;
+        int solves = 0;
+
+        if (!payoffType.isBarrier() || knockIn) {
+            double highest = 1.0;
+            for (int j = 0; j < count; j++) {
+                highest = Math.max(highest, S / strikes[j]);
+            }
+            solve(workspace, 0.0, highest * spread, false, false, w, american, T, r, sigma, spaceSteps, timeSteps,
+                    tangents);
+            solves++;
+            for (int j = 0; j < count; j++) {
+                evaluate(workspace, spaceSteps, S / strikes[j], tangents);
+                prices[j] = strikes[j] * results[0];
+                deltas[j] = results[1];
+                gammas[j] = results[2] / strikes[j];
+                if (tangents) {
+                    vegas[j] = strikes[j] * results[3];
+                    rhos[j] = strikes[j] * results[4];
+                }
+            }
+        }
+
+        if (payoffType.isBarrier()) {
+            boolean down = payoffType == PayoffType.DOWN_AND_OUT || payoffType == PayoffType.DOWN_AND_IN;
+            for (int j = 0; j < count; j++) {
+                double x = S / strikes[j];
+                double level = barrier / strikes[j];
+                double price = 0.0;
+                double delta = 0.0;
+                double gamma = 0.0;
+                double vega = 0.0;
+                double rho = 0.0;
+                // A spot already beyond the barrier has knocked the option out, or in
+                if (down ? x > level : x < level) {
+                    if (down) {
+                        solve(workspace, level, Math.max(x, 1.0) * spread, true, false, w, american, T, r, sigma,
+                                spaceSteps, timeSteps, tangents);
+                    } else {
+                        solve(workspace, 0.0, level, false, true, w, american, T, r, sigma, spaceSteps, timeSteps,
+                                tangents);
+                    }
+                    solves++;
+                    evaluate(workspace, spaceSteps, x, tangents);
+                    price = strikes[j] * results[0];
+                    delta = results[1];
+                    gamma = results[2] / strikes[j];
+                    vega = strikes[j] * results[3];
+                    rho = strikes[j] * results[4];
+                }
+                if (knockIn) {
+                    // In-out parity: the knock-in option is the vanilla option minus the knock-out one
+                    prices[j] -= price;
+                    deltas[j] -= delta;
+                    gammas[j] -= gamma;
+                    if (tangents) {
+                        vegas[j] -= vega;
+                        rhos[j] -= rho;
+                    }
+                } else {
+                    prices[j] = price;
+                    deltas[j] = delta;
+                    gammas[j] = gamma;
+                    if (tangents) {
+                        vegas[j] = vega;
+                        rhos[j] = rho;
+                    }
+                }
+            }
+        }
+        return solves;
+    }
+
+    /**
+     * Solves for the price of the unit-strike option on {@code [low, high]}, leaving the grid in
+     * {@code workspace.grid} and the prices at maturity T in {@code workspace.values}.
+     * @param lowBarrier true if {@code low} is a knock-out barrier, where the option is worth 0
+     * @param highBarrier true if {@code high} is a knock-out barrier
+     * @param tangents true to also leave the derivatives of the prices with respect to the volatility and the rate in
+     *                 {@code workspace.vegas} and {@code workspace.rhos}
+     */
+    private static void solve(Workspace workspace, double low, double high, boolean lowBarrier, boolean highBarrier,
+                              double w, boolean american, double T, double r, double sigma, int spaceSteps,
+                              int timeSteps, boolean tangents) {
+        double[] x = workspace.grid;
+        double[] a = workspace.a;
+        double[] b = workspace.b;
+        double[] c = workspace.c;
+        double[] lower = workspace.lower;
+        double[] diagonal = workspace.diagonal;
+        double[] upper = workspace.upper;
+        double[] multipliers = workspace.multipliers;
+        double[] pivots = workspace.pivots;
+        double[] scaled = workspace.scaled;
+        double[] v = workspace.values;
+        double[] rhs = workspace.rhs;
+        double[] floor = american ? workspace.floor : null;
+        double[] vegas = workspace.vegas;
+        double[] rhos = workspace.rhos;
+        double[] vegaRhs = workspace.vegaRhs;
+        double[] rhoRhs = workspace.rhoRhs;
+        int n = spaceSteps + 1;
+        int last = spaceSteps;
+
+        grid(x, low, high, CONCENTRATION * sigma * Math.sqrt(T), spaceSteps);
+        operator(x, a, b, c, r, sigma, spaceSteps);
+        if (tangents) {
+            operatorDerivatives(workspace, x, r, sigma, spaceSteps);
+        }
+
+        double dt = T / timeSteps;
+        double theta = 0.5 * dt;
+        for (int i = 0; i < n; i++) {
+            lower[i] = -theta * a[i];
+            diagonal[i] = 1.0 - theta * b[i];
+            upper[i] = -theta * c[i];
+        }
+        // Grid ends are fixed by Dirichlet conditions, except x = 0 without a barrier, whose row is already decoupled
+        if (lowBarrier) {
+            lower[0] = 0.0;
+            diagonal[0] = 1.0;
+            upper[0] = 0.0;
+        }
+        lower[last] = 0.0;
+        diagonal[last] = 1.0;
+        upper[last] = 0.0;
+        boolean put = w < 0.0;
+        if (put) {
+            TridiagonalSolver.factorReversed(lower, diagonal, upper, n, multipliers, pivots, scaled);
+        } else {
+            TridiagonalSolver.factor(lower, diagonal, upper, n, multipliers, pivots, scaled);
+        }
+
+        for (int i = 0; i < n; i++) {
+            v[i] = Math.max(w * (x[i] - 1.0), 0.0);
+        }
+        if (lowBarrier) {
+            v[0] = 0.0;
+        }
+        if (highBarrier) {
+            v[last] = 0.0;
+        }
+        if (american) {
+            System.arraycopy(v, 0, floor, 0, n);
+        }
+        if (tangents) {
+            Arrays.fill(vegas, 0, n, 0.0);
+            Arrays.fill(rhos, 0, n, 0.0);
+        }
+        int first = lowBarrier ? 1 : 0;
+
+        for (int step = 0; step < timeSteps; step++) {
+            if (step < RANNACHER_STEPS) {
+                for (int half = 1; half <= 2; half++) {
+                    double tau = (step + 0.5 * half) * dt;
+                    v[last] = upperBoundary(x[last], highBarrier, w, american, r, tau);
+                    if (put) {
+                        TridiagonalSolver.solveReversed(multipliers, pivots, scaled, v, floor, v, n);
+                    } else {
+                        TridiagonalSolver.solve(multipliers, pivots, scaled, v, floor, v, n);
+                    }
+                    if (tangents) {
+                        // The right-hand side of an implicit step is the previous derivative, plus the source
+                        addSource(workspace.aVol, workspace.bVol, workspace.cVol, v, theta, first, last, vegas);
+                        addSource(workspace.aRate, workspace.bRate, workspace.cRate, v, theta, first, last, rhos);
+                        vegas[last] = 0.0;
+                        rhos[last] = upperBoundaryRateDerivative(x[last], highBarrier, w, american, r, tau);
+                        solveTangent(workspace, put, vegas, v, floor, vegas, n);
+                        solveTangent(workspace, put, rhos, v, floor, rhos, n);
+                    }
+                }
+            } else {
+                rhs[0] = lowBarrier ? 0.0 : v[0] + theta * b[0] * v[0];
+                for (int i = 1; i < last; i++) {
+                    rhs[i] = v[i] + theta * (a[i] * v[i - 1] + b[i] * v[i] + c[i] * v[i + 1]);
+                }
+                rhs[last] = upperBoundary(x[last], highBarrier, w, american, r, (step + 1) * dt);
+                if (tangents) {
+                    // Explicit half of each derivative, with the source of the previous prices
+                    explicitHalf(a, b, c, vegas, theta, first, last, vegaRhs);
+                    explicitHalf(a, b, c, rhos, theta, first, last, rhoRhs);
+                    addSource(workspace.aVol, workspace.bVol, workspace.cVol, v, theta, first, last, vegaRhs);
+                    addSource(workspace.aRate, workspace.bRate, workspace.cRate, v, theta, first, last, rhoRhs);
+                }
+                if (put) {
+                    TridiagonalSolver.solveReversed(multipliers, pivots, scaled, rhs, floor, v, n);
+                } else {
+                    TridiagonalSolver.solve(multipliers, pivots, scaled, rhs, floor, v, n);
+                }
+                if (tangents) {
+                    // Implicit half, with the source of the new prices
+                    addSource(workspace.aVol, workspace.bVol, workspace.cVol, v, theta, first, last, vegaRhs);
+                    addSource(workspace.aRate, workspace.bRate, workspace.cRate, v, theta, first, last, rhoRhs);
+                    vegaRhs[last] = 0.0;
+                    rhoRhs[last] = upperBoundaryRateDerivative(x[last], highBarrier, w, american, r, (step + 1) * dt);
+                    solveTangent(workspace, put, vegaRhs, v, floor, vegas, n);
+                    solveTangent(workspace, put, rhoRhs, v, floor, rhos, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes u + theta L u to {@code out} on the rows of the operator, and 0 on a knock-out row 0.
+     */
+    private static void explicitHalf(double[] a, double[] b, double[] c, double[] u, double theta, int first,
+                                     int last, double[] out) {
+        out[0] = first > 0 ? 0.0 : u[0] + theta * b[0] * u[0];
+        for (int i = 1; i < last; i++) {
+            out[i] = u[i] + theta * (a[i] * u[i - 1] + b[i] * u[i] + c[i] * u[i + 1]);
+        }
+    }
+
+    /**
+     * Adds theta L' v to {@code out} on the rows of the operator from {@code first}, L' being the derivative of the
+     * operator with respect to one input.
+     */
+    private static void addSource(double[] aDerivative, double[] bDerivative, double[] cDerivative, double[] v,
+                                  double theta, int first, int last, double[] out) {
+        if (first == 0) {
+            out[0] += theta * bDerivative[0] * v[0];
+        }
+        for (int i = 1; i < last; i++) {
+            out[i] += theta * (aDerivative[i] * v[i - 1] + bDerivative[i] * v[i] + cDerivative[i] * v[i + 1]);
+        }
+    }
+
+    /**
+     * Solves for one derivative with the factored matrix of the solve, holding nodes at the exercise floor fixed.
+     */
+    private static void solveTangent(Workspace workspace, boolean put, double[] rhs, double[] v, double[] floor,
+                                     double[] u, int n) {
+        if (floor == null) {
+            if (put) {
+                TridiagonalSolver.solveReversed(workspace.multipliers, workspace.pivots, workspace.scaled, rhs, null,
+                        u, n);
+            } else {
+                TridiagonalSolver.solve(workspace.multipliers, workspace.pivots, workspace.scaled, rhs, null, u, n);
+            }
+        } else if (put) {
+            TridiagonalSolver.solveReversedTangent(workspace.multipliers, workspace.pivots, workspace.scaled, rhs,
+                    floor, v, u, n);
+        } else {
+            TridiagonalSolver.solveTangent(workspace.multipliers, workspace.pivots, workspace.scaled, rhs, floor, v,
+                    u, n);
+        }
+    }
+
+    /**
+     * Value of the unit-strike option at the top of the grid, {@code tau} years before maturity: 0 at a barrier or
+     * for a put, the discounted forward payoff for a call, or its exercise value if higher.
+     */
+    private static double upperBoundary(double high, boolean barrier, double w, boolean american, double r, double tau) {
+        if (barrier || w < 0.0) {
+            return 0.0;
+        }
+        double value = high - Math.exp(-r * tau);
+        return american ? Math.max(value, high - 1.0) : value;
+    }
+
+    /**
+     * Derivative of {@link #upperBoundary} with respect to the rate; it does not depend on the volatility.
+     */
+    private static double upperBoundaryRateDerivative(double high, boolean barrier, double w, boolean american,
+                                                      double r, double tau) {
+        if (barrier || w < 0.0) {
+            return 0.0;
+        }
+        double discount = Math.exp(-r * tau);
+        return american && high - 1.0 > high - discount ? 0.0 : tau * discount;
+    }
+
+    /**
+     * Nodes x_i = centre + alpha * sinh(c1 + (c2 - c1) * i / steps) from {@code low} to {@code high}, centred on the
+     * strike, which the spacing grows away from.
+     */
+    private static void grid(double[] x, double low, double high, double alpha, int steps) {
+        double centre = Math.min(Math.max(1.0, low), high);
+        double c1 = asinh((low - centre) / alpha);
+        double c2 = asinh((high - centre) / alpha);
+        for (int i = 1; i < steps; i++) {
+            x[i] = centre + alpha * Math.sinh(c1 + (c2 - c1) * i / steps);
+        }
+        x[0] = low;
+        x[steps] = high;
+    }
+
+    private static double asinh(double z) {
+        return Math.copySign(Math.log(Math.abs(z) + Math.sqrt(z * z + 1.0)), z);
+    }
+
+    /**
+     * Coefficients of the spatial operator (L v)_i = a_i v_(i-1) + b_i v_i + c_i v_(i+1) of
+     * dv/dtau = sigma² x² / 2 * d²v/dx² + r x dv/dx - r v, on the inner nodes and on x = 0. The drift is differenced
+     * centrally, or upwind where central differences would give a negative off-diagonal coefficient and an oscillating
+     * solution.
+     */
+    private static void operator(double[] x, double[] a, double[] b, double[] c, double r, double sigma, int steps) {
+        // At x = 0 only the discounting is left; elsewhere on the ends the row is overwritten by a boundary condition
+        a[0] = 0.0;
+        b[0] = -r;
+        c[0] = 0.0;
+        a[steps] = 0.0;
+        b[steps] = 0.0;
+        c[steps] = 0.0;
+        for (int i = 1; i < steps; i++) {
+            double hm = x[i] - x[i - 1];
+            double hp = x[i + 1] - x[i];
+            double diffusion = sigma * sigma * x[i] * x[i];
+            double drift = r * x[i];
+            double lowWeight = diffusion / (hm * (hm + hp));
+            double highWeight = diffusion / (hp * (hm + hp));
+            double centralLow = lowWeight - drift * hp / (hm * (hm + hp));
+            double centralHigh = highWeight + drift * hm / (hp * (hm + hp));
+            if (centralLow >= 0.0 && centralHigh >= 0.0) {
+                a[i] = centralLow;
+                c[i] = centralHigh;
+            } else if (drift > 0.0) {
+                a[i] = lowWeight;
+                c[i] = highWeight + drift / hp;
+            } else {
+                a[i] = lowWeight - drift / hm;
+                c[i] = highWeight;
+            }
+            // Rows sum to -r, the operator applied to a constant
+            b[i] = -a[i] - c[i] - r;
+        }
+    }
+
+    /**
+     * Derivatives of the coefficients of {@link #operator} with respect to the volatility and the rate, on the same
+     * choice of central or upwind drift per node.
+     */
+    private static void operatorDerivatives(Workspace workspace, double[] x, double r, double sigma, int steps) {
+        double[] aVol = workspace.aVol;
+        double[] bVol = workspace.bVol;
+        double[] cVol = workspace.cVol;
+        double[] aRate = workspace.aRate;
+        double[] bRate = workspace.bRate;
+        double[] cRate = workspace.cRate;
+        aVol[0] = 0.0;
+        bVol[0] = 0.0;
+        cVol[0] = 0.0;
+        aRate[0] = 0.0;
+        bRate[0] = -1.0;
+        cRate[0] = 0.0;
+        for (int i = 1; i < steps; i++) {
+            double hm = x[i] - x[i - 1];
+            double hp = x[i + 1] - x[i];
+            double diffusion = sigma * sigma * x[i] * x[i];
+            double drift = r * x[i];
+            double lowWeight = diffusion / (hm * (hm + hp));
+            double highWeight = diffusion / (hp * (hm + hp));
+            double centralLow = lowWeight - drift * hp / (hm * (hm + hp));
+            double centralHigh = highWeight + drift * hm / (hp * (hm + hp));
+            aVol[i] = 2.0 * lowWeight / sigma;
+            cVol[i] = 2.0 * highWeight / sigma;
+            if (centralLow >= 0.0 && centralHigh >= 0.0) {
+                aRate[i] = -x[i] * hp / (hm * (hm + hp));
+                cRate[i] = x[i] * hm / (hp * (hm + hp));
+            } else if (drift > 0.0) {
+                aRate[i] = 0.0;
+                cRate[i] = x[i] / hp;
+            } else {
+                aRate[i] = -x[i] / hm;
+                cRate[i] = 0.0;
+            }
+            bVol[i] = -aVol[i] - cVol[i];
+            bRate[i] = -aRate[i] - cRate[i] - 1.0;
+        }
+    }
+
+    /**
+     * Writes the price, delta and gamma of the unit-strike option at moneyness {@code x0} to
+     * {@code workspace.results}, from the quadratic through the three nodes nearest to it, followed by its vega and
+     * rho if {@code tangents} is true.
+     */
+    private static void evaluate(Workspace workspace, int steps, double x0, boolean tangents) {
+        double[] x = workspace.grid;
+        double[] v = workspace.values;
+        int low = 0;
+        int high = steps;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (x[middle] <= x0) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        int centre = x0 - x[low] < x[high] - x0 ? low : high;
+        centre = Math.min(Math.max(centre, 1), steps - 1);
+
+        double x1 = x[centre - 1];
+        double x2 = x[centre];
+        double x3 = x[centre + 1];
+        double slope1 = (v[centre] - v[centre - 1]) / (x2 - x1);
+        double slope2 = (v[centre + 1] - v[centre]) / (x3 - x2);
+        double curvature = (slope2 - slope1) / (x3 - x1);
+        workspace.results[0] = v[centre - 1] + (x0 - x1) * (slope1 + curvature * (x0 - x2));
+        workspace.results[1] = slope1 + curvature * (2.0 * x0 - x1 - x2);
+        workspace.results[2] = 2.0 * curvature;
+        if (tangents) {
+            workspace.results[3] = interpolate(x, workspace.vegas, centre, x0);
+            workspace.results[4] = interpolate(x, workspace.rhos, centre, x0);
+        }
+    }
+
+    /**
+     * Value at {@code x0} of the quadratic through the nodes {@code centre - 1}, {@code centre} and {@code centre + 1}.
+     */
+    private static double interpolate(double[] x, double[] u, int centre, double x0) {
+        double x1 = x[centre - 1];
+        double x2 = x[centre];
+        double x3 = x[centre + 1];
+        double slope1 = (u[centre] - u[centre - 1]) / (x2 - x1);
+        double slope2 = (u[centre + 1] - u[centre]) / (x3 - x2);
+        return u[centre - 1] + (x0 - x1) * (slope1 + (slope2 - slope1) / (x3 - x1) * (x0 - x2));
+    }
+
+    /**
+     * Buffers of one thread: the grid, the spatial operator, the implicit matrix and its factors, the option
+     * values, the right-hand side and the exercise floor, the derivatives of the operator and of the values with
+     * respect to the volatility and the rate and their right-hand sides, plus the price and Greeks last evaluated.
+     */
+    private static final class Workspace {
+
+        private final double[] results = new double[5];
+        private double[] grid = new double[0];
+        private double[] a;
+        private double[] b;
+        private double[] c;
+        private double[] lower;
+        private double[] diagonal;
+        private double[] upper;
+        private double[] multipliers;
+        private double[] pivots;
+        private double[] scaled;
+        private double[] values;
+        private double[] rhs;
+        private double[] floor;
+        private double[] aVol;
+        private double[] bVol;
+        private double[] cVol;
+        private double[] aRate;
+        private double[] bRate;
+        private double[] cRate;
+        private double[] vegas;
+        private double[] rhos;
+        private double[] vegaRhs;
+        private double[] rhoRhs;
+
+        void ensureCapacity(int nodes) {
+            if (grid.length < nodes) {
+                grid = new double[nodes];
+                a = new double[nodes];
+                b = new double[nodes];
+                c = new double[nodes];
+                lower = new double[nodes];
+                diagonal = new double[nodes];
+                upper = new double[nodes];
+                multipliers = new double[nodes];
+                pivots = new double[nodes];
+                scaled = new double[nodes];
+                values = new double[nodes];
+                rhs = new double[nodes];
+                floor = new double[nodes];
+                aVol = new double[nodes];
+                bVol = new double[nodes];
+                cVol = new double[nodes];
+                aRate = new double[nodes];
+                bRate = new double[nodes];
+                cRate = new double[nodes];
+                vegas = new double[nodes];
+                rhos = new double[nodes];
+                vegaRhs = new double[nodes];
+                rhoRhs = new double[nodes];
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.sallyvnge.optionpricingapi.pde;
+
+/**
+ * Thomas algorithm for tridiagonal systems lower[i] * x[i - 1] + diagonal[i] * x[i] + upper[i] * x[i + 1] = rhs[i],
+ * i in [0, n), with {@code lower[0]} and {@code upper[n - 1]} ignored.
+ *
+ * Factoring and solving are split so that a matrix shared by many right-hand sides, such as the implicit operator of
+ * every time step of a PDE solve, is factored once: {@link #factor} keeps the elimination multipliers, the inverse
+ * pivots and the off-diagonal scaled by them, so that each solve costs one multiply-subtract per unknown on each of
+ * its two sweeps. All methods work in caller-provided arrays and allocate nothing.
+ *
+ * The solves optionally take a floor, x[i] >= floor[i], applied during substitution. This is the Brennan-Schwartz
+ * algorithm for American options: for an M-matrix whose constrained nodes form one interval at the end where the
+ * substitution starts, it gives the exact solution of the linear complementarity problem in a single pass.
+ * {@link #solve} substitutes from the last index down, which suits an exercise region at the top of the grid (a call),
+ * and {@link #solveReversed} from the first index up, which suits an exercise region at the bottom (a put).
+ */
+public final class TridiagonalSolver {
+
+    private TridiagonalSolver() {}
+
+    /**
+     * Eliminates the lower diagonal from the first row down.
+     * @param multipliers Receives lower[i] / pivot[i - 1], for {@link #solve}
+     * @param inversePivots Receives the inverse pivots, for {@link #solve}
+     * @param scaledUpper Receives upper[i] / pivot[i], for {@link #solve}
+     */
+    public static void factor(double[] lower, double[] diagonal, double[] upper, int n, double[] multipliers,
+                              double[] inversePivots, double[] scaledUpper) {
+        multipliers[0] = 0.0;
+        inversePivots[0] = 1.0 / diagonal[0];
+        for (int i = 1; i < n; i++) {
+            multipliers[i] = lower[i] * inversePivots[i - 1];
+            inversePivots[i] = 1.0 / (diagonal[i] - multipliers[i] * upper[i - 1]);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            scaledUpper[i] = upper[i] * inversePivots[i];
+        }
+        scaledUpper[n - 1] = 0.0;
+    }
+
+    /**
+     * Solves a system factored by {@link #factor}, substituting from the last index down.
+     * @param floor The lower bound of each unknown, or null for an unconstrained solve
+     * @param x Receives the solution, may be the same array as {@code rhs}
+     */
+    public static void solve(double[] multipliers, double[] inversePivots, double[] scaledUpper, double[] rhs,
+                             double[] floor, double[] x, int n) {
+        double eliminated = 0.0;
+        for (int i = 0; i < n; i++) {
+            eliminated = rhs[i] - multipliers[i] * eliminated;
+            x[i] = eliminated * inversePivots[i];
+        }
+        if (floor == null) {
+            for (int i = n - 2; i >= 0; i--) {
+                x[i] -= scaledUpper[i] * x[i + 1];
+            }
+        } else {
+            x[n - 1] = Math.max(x[n - 1], floor[n - 1]);
+            // A plain comparison rather than Math.max, whose NaN and signed zero handling lengthens the dependency chain
+            for (int i = n - 2; i >= 0; i--) {
+                double value = x[i] - scaledUpper[i] * x[i + 1];
+                x[i] = value > floor[i] ? value : floor[i];
+            }
+        }
+    }
+
+    /**
+     * Solves the linearisation of a floored {@link #solve} around its solution, for the derivatives of the solution
+     * with respect to a parameter of the right-hand side: unknowns held at a floor that does not depend on it have a
+     * derivative of 0, the others follow the same substitution.
+     * @param floor The floor of the solve
+     * @param solution The solution of the floored solve
+     * @param x Receives the derivatives, may be the same array as {@code rhs}
+     */
+    public static void solveTangent(double[] multipliers, double[] inversePivots, double[] scaledUpper, double[] rhs,
+                                    double[] floor, double[] solution, double[] x, int n) {
+        double eliminated = 0.0;
+        for (int i = 0; i < n; i++) {
+            eliminated = rhs[i] - multipliers[i] * eliminated;
+            x[i] = eliminated * inversePivots[i];
+        }
+        x[n - 1] = solution[n - 1] > floor[n - 1] ? x[n - 1] : 0.0;
+        for (int i = n - 2; i >= 0; i--) {
+            x[i] = solution[i] > floor[i] ? x[i] - scaledUpper[i] * x[i + 1] : 0.0;
+        }
+    }
+
+    /**
+     * Eliminates the upper diagonal from the last row up.
+     * @param multipliers Receives upper[i] / pivot[i + 1], for {@link #solveReversed}
+     * @param inversePivots Receives the inverse pivots, for {@link #solveReversed}
+     * @param scaledLower Receives lower[i] / pivot[i], for {@link #solveReversed}
+     */
+    public static void factorReversed(double[] lower, double[] diagonal, double[] upper, int n, double[] multipliers,
+                                      double[] inversePivots, double[] scaledLower) {
+        multipliers[n - 1] = 0.0;
+        inversePivots[n - 1] = 1.0 / diagonal[n - 1];
+        for (int i = n - 2; i >= 0; i--) {
+            multipliers[i] = upper[i] * inversePivots[i + 1];
+            inversePivots[i] = 1.0 / (diagonal[i] - multipliers[i] * lower[i + 1]);
+        }
+        for (int i = 1; i < n; i++) {
+            scaledLower[i] = lower[i] * inversePivots[i];
+        }
+        scaledLower[0] = 0.0;
+    }
+
+    /**
+     * Solves a system factored by {@link #factorReversed}, substituting from the first index up.
+     * @param floor The lower bound of each unknown, or null for an unconstrained solve
+     * @param x Receives the solution, may be the same array as {@code rhs}
+     */
+    public static void solveReversed(double[] multipliers, double[] inversePivots, double[] scaledLower, double[] rhs,
+                                     double[] floor, double[] x, int n) {
+        double eliminated = 0.0;
+        for (int i = n - 1; i >= 0; i--) {
+            eliminated = rhs[i] - multipliers[i] * eliminated;
+            x[i] = eliminated * inversePivots[i];
+        }
+        if (floor == null) {
+            for (int i = 1; i < n; i++) {
+                x[i] -= scaledLower[i] * x[i - 1];
+            }
+        } else {
+            x[0] = Math.max(x[0], floor[0]);
+            // A plain comparison rather than Math.max, whose NaN and signed zero handling lengthens the dependency chain
+            for (int i = 1; i < n; i++) {
+                double value = x[i] - scaledLower[i] * x[i - 1];
+                x[i] = value > floor[i] ? value : floor[i];
+            }
+        }
+    }
+
+    /**
+     * Solves the linearisation of a floored {@link #solveReversed} around its solution, as {@link #solveTangent}.
+     * @param floor The floor of the solve
+     * @param solution The solution of the floored solve
+     * @param x Receives the derivatives, may be the same array as {@code rhs}
+     */
+    public static void solveReversedTangent(double[] multipliers, double[] inversePivots, double[] scaledLower,
+                                            double[] rhs, double[] floor, double[] solution, double[] x, int n) {
+        double eliminated = 0.0;
+        for (int i = n - 1; i >= 0; i--) {
+            eliminated = rhs[i] - multipliers[i] * eliminated;
+            x[i] = eliminated * inversePivots[i];
+        }
+        x[0] = solution[0] > floor[0] ? x[0] : 0.0;
+        for (int i = 1; i < n; i++) {
+            x[i] = solution[i] > floor[i] ? x[i] - scaledLower[i] * x[i - 1] : 0.0;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.sallyvnge.optionpricingapi.position;
+
+import com.sallyvnge.optionpricingapi.dto.PositionDto;
+import com.sallyvnge.optionpricingapi.dto.UnderlyingRiskDto;
+import com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Book of option positions whose delta, gamma and vega are aggregated per underlying and kept up to date
+ * incrementally.
+ *
+ * A market move only recomputes the positions on the underlying that moved, reusing their cached intermediates.
+ * Adding, replacing or removing a position only adjusts its own underlying by that position's contribution.
+ * Reading the aggregates of an underlying is a map lookup returning its latest published snapshot.
+ *
+ * Only underlyings holding positions are kept: a book is dropped with its last position, market state included, so
+ * arbitrary underlyings sent by clients never accumulate.
+ *
+ * Moves of different underlyings run concurrently. Position changes are serialized on the book, since a replaced
+ * position may change underlying.
+ */
+public final class PositionBook {
+
+    private final ConcurrentMap<String, UnderlyingBook> underlyings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> underlyingByPosition = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a position, or replaces the position with the same id, possibly on another underlying.
+     * @param positionId The id of the position
+     * @param position The contract and quantity held
+     * @return The aggregates of the position's underlying after the change
+     */
+    public synchronized UnderlyingRiskDto upsert(String positionId, PositionDto position) {
+        String previous = underlyingByPosition.put(positionId, position.underlying());
+        if (previous != null && !previous.equals(position.underlying())) {
+            removeFrom(previous, positionId);
+        }
+        UnderlyingBook book = underlyings.computeIfAbsent(position.underlying(), UnderlyingBook::new);
+        book.upsert(positionId, position);
+        return book.risk();
+    }
+
+    /**
+     * Removes a position.
+     * @param positionId The id of the position
+     * @return false if the book holds no position with this id
+     */
+    public synchronized boolean remove(String positionId) {
+        String underlying = underlyingByPosition.remove(positionId);
+        if (underlying == null) {
+            return false;
+        }
+        return removeFrom(underlying, positionId);
+    }
+
+    /**
+     * Applies a market move to an underlying.
+     * @param underlying The underlying that moved
+     * @param spot The new spot, or null to keep the current one
+     * @param volatilityShift The new parallel shift of the positions' volatilities, or null to keep the current one
+     * @return The aggregates of the underlying after the move
+     * @throws UnknownUnderlyingException if the underlying holds no position
+     */
+    public UnderlyingRiskDto move(String underlying, Double spot, Double volatilityShift) {
+        UnderlyingBook book = underlyings.get(underlying);
+        if (book == null) {
+            throw new UnknownUnderlyingException("No position on underlying '" + underlying + "'");
+        }
+        book.move(spot, volatilityShift);
+        return book.risk();
+    }
+
+    /**
+     * @param underlying The underlying
+     * @return The latest aggregates of the underlying, if it holds positions
+     */
+    public Optional<UnderlyingRiskDto> risk(String underlying) {
+        UnderlyingBook book = underlyings.get(underlying);
+        return book == null ? Optional.empty() : Optional.of(book.risk());
+    }
+
+    /**
+     * Removes a position from its underlying, dropping the underlying with its last position. Called under the lock
+     * of the book, so no position can be added to the underlying meanwhile.
+     */
+    private boolean removeFrom(String underlying, String positionId) {
+        UnderlyingBook book = underlyings.get(underlying);
+        boolean removed = book.remove(positionId);
+        if (book.risk().positions() == 0) {
+            underlyings.remove(underlying, book);
+        }
+        return removed;
+    }
+
+    /**
+     * @return The number of underlyings currently holding positions
+     */
+    int underlyingCount() {
+        return underlyings.size();
+    }
+}
@@ -0,0 +1,243 @@
+package com.sallyvnge.optionpricingapi.position;
+
+import com.sallyvnge.optionpricingapi.dto.PositionDto;
+import com.sallyvnge.optionpricingapi.dto.UnderlyingRiskDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Positions on a single underlying, stored in columns together with the intermediates of their Greeks.
+ *
+ * Every position keeps sigma * sqrt(T), (r + sigma²/2) * T and its delta, gamma and vega, so that:
+ * - a spot move only recomputes d1 = (ln(S) - ln(K) + drift) / volSqrtT and the Greeks, with a single logarithm
+ *   for the whole underlying;
+ * - a volatility shift additionally recomputes volSqrtT and the drift;
+ * - adding, replacing or removing a position adjusts the aggregates by that position's contribution alone.
+ *
+ * Writes are serialized on the instance. Each one publishes an immutable {@link UnderlyingRiskDto} through a
+ * volatile field, so reads never lock and never recompute.
+ */
+final class UnderlyingBook {
+
+    /** Floor of the shifted volatility, keeping d1 finite when a negative shift exceeds a position's volatility. */
+    static final double MIN_VOLATILITY = 1e-4;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String underlying;
+    private final Map<String, Integer> indexById = new HashMap<>();
+
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private double[] logStrike = new double[INITIAL_CAPACITY];
+    private double[] maturity = new double[INITIAL_CAPACITY];
+    private double[] sqrtMaturity = new double[INITIAL_CAPACITY];
+    private double[] rate = new double[INITIAL_CAPACITY];
+    private double[] volatility = new double[INITIAL_CAPACITY];
+    private double[] quantity = new double[INITIAL_CAPACITY];
+    private boolean[] call = new boolean[INITIAL_CAPACITY];
+
+    private double[] volSqrtT = new double[INITIAL_CAPACITY];
+    private double[] drift = new double[INITIAL_CAPACITY];
+    private double[] delta = new double[INITIAL_CAPACITY];
+    private double[] gamma = new double[INITIAL_CAPACITY];
+    private double[] vega = new double[INITIAL_CAPACITY];
+
+    private int size;
+    private double spot = Double.NaN;
+    private double logSpot = Double.NaN;
+    private double volatilityShift;
+    private double netDelta;
+    private double netGamma;
+    private double netVega;
+    private long version;
+
+    private volatile UnderlyingRiskDto risk;
+
+    UnderlyingBook(String underlying) {
+        this.underlying = underlying;
+        publish();
+    }
+
+    /**
+     * @return The latest aggregated Greeks, without locking
+     */
+    UnderlyingRiskDto risk() {
+        return risk;
+    }
+
+    /**
+     * Adds a position, or replaces the position with the same id.
+     */
+    synchronized void upsert(String id, PositionDto position) {
+        Integer existing = indexById.get(id);
+        int i;
+        if (existing != null) {
+            i = existing;
+            subtractContribution(i);
+        } else {
+            i = size++;
+            ensureCapacity(size);
+            ids[i] = id;
+            indexById.put(id, i);
+        }
+
+        logStrike[i] = Math.log(position.strikePrice());
+        maturity[i] = position.timeToMaturity();
+        sqrtMaturity[i] = Math.sqrt(position.timeToMaturity());
+        rate[i] = position.riskFreeRate();
+        volatility[i] = position.volatility();
+        quantity[i] = position.quantity();
+        call[i] = position.optionType() == OptionType.CALL;
+
+        updateVolatility(i);
+        updateGreeks(i);
+        addContribution(i);
+        publish();
+    }
+
+    /**
+     * Removes a position.
+     * @return false if the underlying holds no position with this id
+     */
+    synchronized boolean remove(String id) {
+        Integer removed = indexById.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        int i = removed;
+        subtractContribution(i);
+
+        // Swap-remove: the last position takes the freed row
+        int last = --size;
+        if (i != last) {
+            moveRow(last, i);
+            indexById.put(ids[i], i);
+        }
+        ids[last] = null;
+        if (size == 0) {
+            // Nothing left to accumulate rounding errors into
+            netDelta = 0.0;
+            netGamma = 0.0;
+            netVega = 0.0;
+        }
+        publish();
+        return true;
+    }
+
+    /**
+     * Applies a market move and recomputes the Greeks of every position on the underlying.
+     * @param newSpot The new spot, or null to keep the current one
+     * @param newVolatilityShift The new volatility shift, or null to keep the current one
+     */
+    synchronized void move(Double newSpot, Double newVolatilityShift) {
+        boolean volatilityChanged = newVolatilityShift != null && newVolatilityShift != volatilityShift;
+        if (newSpot != null && newSpot != spot) {
+            spot = newSpot;
+            logSpot = Math.log(newSpot);
+        }
+        if (volatilityChanged) {
+            volatilityShift = newVolatilityShift;
+        }
+
+        double sumDelta = 0.0;
+        double sumGamma = 0.0;
+        double sumVega = 0.0;
+        for (int i = 0; i < size; i++) {
+            if (volatilityChanged) {
+                updateVolatility(i);
+            }
+            updateGreeks(i);
+            sumDelta += quantity[i] * delta[i];
+            sumGamma += quantity[i] * gamma[i];
+            sumVega += quantity[i] * vega[i];
+        }
+        netDelta = sumDelta;
+        netGamma = sumGamma;
+        netVega = sumVega;
+        publish();
+    }
+
+    private void updateVolatility(int i) {
+        double sigma = Math.max(volatility[i] + volatilityShift, MIN_VOLATILITY);
+        volSqrtT[i] = sigma * sqrtMaturity[i];
+        drift[i] = (rate[i] + 0.5 * sigma * sigma) * maturity[i];
+    }
+
+    private void updateGreeks(int i) {
+        if (Double.isNaN(spot)) {
+            return;
+        }
+        double d1 = (logSpot - logStrike[i] + drift[i]) / volSqrtT[i];
+        double pdf = NormalDistributionUtil.probabilityDensity(d1);
+        double nd1 = NormalDistributionUtil.cumulativeDistribution(d1);
+
+        delta[i] = call[i] ? nd1 : nd1 - 1.0;
+        gamma[i] = pdf / (spot * volSqrtT[i]);
+        vega[i] = spot * pdf * sqrtMaturity[i];
+    }
+
+    private void addContribution(int i) {
+        netDelta += quantity[i] * delta[i];
+        netGamma += quantity[i] * gamma[i];
+        netVega += quantity[i] * vega[i];
+    }
+
+    private void subtractContribution(int i) {
+        netDelta -= quantity[i] * delta[i];
+        netGamma -= quantity[i] * gamma[i];
+        netVega -= quantity[i] * vega[i];
+    }
+
+    private void publish() {
+        risk = UnderlyingRiskDto.builder()
+                .underlying(underlying)
+                .spot(Double.isNaN(spot) ? null : spot)
+                .volatilityShift(volatilityShift)
+                .positions(size)
+                .netDelta(netDelta)
+                .netGamma(netGamma)
+                .netVega(netVega)
+                .version(version++)
+                .build();
+    }
+
+    private void moveRow(int from, int to) {
+        ids[to] = ids[from];
+        logStrike[to] = logStrike[from];
+        maturity[to] = maturity[from];
+        sqrtMaturity[to] = sqrtMaturity[from];
+        rate[to] = rate[from];
+        volatility[to] = volatility[from];
+        quantity[to] = quantity[from];
+        call[to] = call[from];
+        volSqrtT[to] = volSqrtT[from];
+        drift[to] = drift[from];
+        delta[to] = delta[from];
+        gamma[to] = gamma[from];
+        vega[to] = vega[from];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        logStrike = Arrays.copyOf(logStrike, grown);
+        maturity = Arrays.copyOf(maturity, grown);
+        sqrtMaturity = Arrays.copyOf(sqrtMaturity, grown);
+        rate = Arrays.copyOf(rate, grown);
+        volatility = Arrays.copyOf(volatility, grown);
+        quantity = Arrays.copyOf(quantity, grown);
+        call = Arrays.copyOf(call, grown);
+        volSqrtT = Arrays.copyOf(volSqrtT, grown);
+        drift = Arrays.copyOf(drift, grown);
+        delta = Arrays.copyOf(delta, grown);
+        gamma = Arrays.copyOf(gamma, grown);
+        vega = Arrays.copyOf(vega, grown);
+    }
+}
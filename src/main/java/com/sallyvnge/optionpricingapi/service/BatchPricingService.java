@@ -0,0 +1,214 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.codec.PricingResponseJsonWriter;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingErrorDto;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import com.sallyvnge.optionpricingapi.volatility.VolSurface;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class BatchPricingService {
+
+    private final Validator validator;
+    private final VolSurfaceService volSurfaceService;
+    private final PricingMetrics pricingMetrics;
+    private final PortfolioRevaluationService portfolioRevaluationService;
+
+    /**
+     * Prices a batch of European options with the Black-Scholes model.
+     * Valid elements are copied into primitive columns and priced together by {@link BlackScholesBatchKernel}, in
+     * parallel chunks on the {@link PortfolioRevaluationService} pool when the batch is larger than one chunk.
+     * Invalid elements are reported by index and do not prevent the rest of the batch from being priced.
+     * Elements referencing a volatility surface are priced with the surface's volatility at their maturity and strike,
+     * resolved while the columns are filled, so that the kernel itself runs exactly as with flat volatilities.
+     * Validation and surface lookups are recorded once per batch with their total duration; only elements referencing a
+     * surface are timed individually.
+     *
+     * @param optionRequestDtos the options to price
+     * @return a BatchPricingResponseDto holding one result per element, in request order (null for rejected
+     *         elements), and the validation errors of the rejected elements
+     */
+    public BatchPricingResponseDto calculate(List<OptionRequestDto> optionRequestDtos) {
+        PricedBatch priced = price(optionRequestDtos);
+        OptionPricingResponseDto[] responses = new OptionPricingResponseDto[optionRequestDtos.size()];
+        for (int i = 0; i < responses.length; i++) {
+            int row = priced.rows()[i];
+            if (row >= 0) {
+                responses[i] = OptionPricingResponseDto.builder()
+                        .price(priced.results().price()[row])
+                        .delta(priced.results().delta()[row])
+                        .gamma(priced.results().gamma()[row])
+                        .vega(priced.results().vega()[row])
+                        .volatilityUsed(priced.batch().volatility()[row])
+                        .pricingModel(PricingModel.BLACK_SCHOLES)
+                        .input(optionRequestDtos.get(i))
+                        .build();
+            }
+        }
+
+        return BatchPricingResponseDto.builder()
+                .results(Arrays.asList(responses))
+                .errors(priced.errors())
+                .build();
+    }
+
+    /**
+     * Same as {@link #calculate(List)}, writing the BatchPricingResponseDto as JSON straight from the result columns
+     * with a {@link PricingResponseJsonWriter} instead of building it. The bytes are the same as Jackson's when the
+     * input is echoed; otherwise the {@code input} field of every result is left out. Writing is recorded as the
+     * serialization stage.
+     *
+     * @param optionRequestDtos the options to price
+     * @param echo whether each result echoes its request as its {@code input}
+     * @param responseBody the stream receiving the JSON response; flushed and left open
+     * @throws IOException if writing the response fails
+     */
+    public void write(List<OptionRequestDto> optionRequestDtos, boolean echo, OutputStream responseBody)
+            throws IOException {
+        PricedBatch priced = price(optionRequestDtos);
+
+        long serializationStart = System.nanoTime();
+        PricingResponseJsonWriter writer = new PricingResponseJsonWriter(responseBody);
+        writer.writeRaw("{\"results\":[");
+        for (int i = 0; i < priced.rows().length; i++) {
+            if (i > 0) {
+                writer.writeRaw(",");
+            }
+            int row = priced.rows()[i];
+            if (row >= 0) {
+                writer.writeResult(priced.results(), row, priced.batch().volatility()[row],
+                        echo ? optionRequestDtos.get(i) : null);
+            } else {
+                writer.writeNull();
+            }
+        }
+        writer.writeRaw("],\"errors\":[");
+        for (int i = 0; i < priced.errors().size(); i++) {
+            if (i > 0) {
+                writer.writeRaw(",");
+            }
+            BatchPricingErrorDto error = priced.errors().get(i);
+            writer.writeError(error.index(), error.fields());
+        }
+        writer.writeRaw("]}");
+        writer.flush();
+        pricingMetrics.recordSince(PricingMetrics.Stage.SERIALIZATION, serializationStart);
+    }
+
+    /**
+     * Validates and prices a batch into primitive columns, without building any response object.
+     */
+    PricedBatch price(List<OptionRequestDto> optionRequestDtos) {
+        int n = optionRequestDtos.size();
+        OptionBatch batch = new OptionBatch(n);
+        int[] rows = new int[n];
+        List<BatchPricingErrorDto> errors = new ArrayList<>();
+        pricingMetrics.recordBatchSize(n);
+        long smileInterpolationNanos = 0;
+        int calls = 0;
+
+        double[] volatilities = new double[n];
+        long validationStart = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            // -1 until accepted, then the row of the batch
+            rows[i] = -1;
+            OptionRequestDto optionRequestDto = optionRequestDtos.get(i);
+            Map<String, String> fieldErrors = validate(optionRequestDto);
+            if (!fieldErrors.isEmpty()) {
+                errors.add(new BatchPricingErrorDto(i, fieldErrors));
+                continue;
+            }
+
+            double volatility = optionRequestDto.volatility();
+            if (optionRequestDto.surfaceId() != null) {
+                long start = System.nanoTime();
+                Optional<VolSurface> surface = volSurfaceService.find(optionRequestDto.surfaceId());
+                if (surface.isEmpty()) {
+                    errors.add(new BatchPricingErrorDto(i, Map.of("surfaceId", "unknown volatility surface")));
+                    continue;
+                }
+                volatility = surface.get().iv(optionRequestDto.timeToMaturity(), optionRequestDto.strikePrice());
+                smileInterpolationNanos += System.nanoTime() - start;
+            }
+            volatilities[i] = volatility;
+            rows[i] = 0;
+        }
+        pricingMetrics.record(PricingMetrics.Stage.VALIDATION, System.nanoTime() - validationStart - smileInterpolationNanos);
+        if (smileInterpolationNanos > 0) {
+            pricingMetrics.record(PricingMetrics.Stage.SMILE_INTERPOLATION, smileInterpolationNanos);
+        }
+
+        // Filling the kernel columns is part of pricing, not of validation
+        long pricingStart = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            if (rows[i] < 0) {
+                continue;
+            }
+            OptionRequestDto optionRequestDto = optionRequestDtos.get(i);
+            rows[i] = batch.add(optionRequestDto.underlyingPrice(), optionRequestDto.strikePrice(),
+                    optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(), volatilities[i],
+                    optionRequestDto.optionType());
+            if (optionRequestDto.optionType() == OptionType.CALL) {
+                calls++;
+            }
+        }
+        PricingResults results = portfolioRevaluationService.price(batch);
+        pricingMetrics.recordSince(PricingMetrics.Stage.PRICING, pricingStart);
+        pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, OptionType.CALL, calls);
+        pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, OptionType.PUT, batch.size() - calls);
+        return new PricedBatch(batch, results, rows, errors);
+    }
+
+    /**
+     * Validates a single batch element against the constraints declared on {@link OptionRequestDto}.
+     * @return The validation messages keyed by field name, empty if the element is valid
+     */
+    private Map<String, String> validate(OptionRequestDto optionRequestDto) {
+        if (optionRequestDto == null) {
+            return Map.of("element", "must not be null");
+        }
+
+        Set<ConstraintViolation<OptionRequestDto>> violations = validator.validate(optionRequestDto);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> fieldErrors = new HashMap<>();
+        for (ConstraintViolation<OptionRequestDto> violation : violations) {
+            fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return fieldErrors;
+    }
+
+    /**
+     * A batch priced into primitive columns.
+     *
+     * - Batch and Results: The valid elements, one row each, and their price and Greeks.
+     * - Rows: The row of each element, in request order, or -1 for rejected elements.
+     * - Errors: The validation errors of the rejected elements, in index order.
+     */
+    record PricedBatch(OptionBatch batch, PricingResults results, int[] rows, List<BatchPricingErrorDto> errors) {
+    }
+}
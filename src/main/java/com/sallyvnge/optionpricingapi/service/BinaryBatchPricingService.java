@@ -0,0 +1,100 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Prices batches of European options sent in the binary columnar format of {@link BinaryBatchCodec}, from the decoded
+ * request columns to the encoded result columns, without any object per row.
+ */
+@Service
+@RequiredArgsConstructor
+public class BinaryBatchPricingService {
+
+    private final PricingMetrics pricingMetrics;
+    private final PortfolioRevaluationService portfolioRevaluationService;
+
+    /**
+     * Prices a batch of European options encoded in the {@link BinaryBatchCodec} format with the Black-Scholes model.
+     *
+     * The request columns are decoded straight into an {@link OptionBatch} and priced as they are, in parallel chunks
+     * on the {@link PortfolioRevaluationService} pool, then the result columns are encoded straight back: no object is
+     * created per row and the input is not echoed. Rows breaking the constraints of {@link com.sallyvnge.optionpricingapi.dto.OptionRequestDto} (a
+     * non-positive or non-finite underlying price, strike, maturity or volatility, or a non-finite rate) are rejected:
+     * they hold NaN in every result column and are counted in the response header. Volatility surfaces are not
+     * supported by this format. Decoding, validation, pricing and encoding are each recorded once per batch.
+     *
+     * @param requestBody The request body, read to its end
+     * @param responseBody The stream receiving the response body; left open
+     * @return The number of rows priced, rejected rows excluded
+     * @throws com.sallyvnge.optionpricingapi.exception.MalformedBatchException if the request body does not follow the
+     *                                                                          format
+     * @throws IOException if reading the request or writing the response fails
+     */
+    public int price(InputStream requestBody, OutputStream responseBody) throws IOException {
+        return price(requestBody, -1, responseBody);
+    }
+
+    /**
+     * Same as {@link #price(InputStream, OutputStream)}, rejecting a request body whose length does not match its
+     * header before allocating its columns.
+     *
+     * @param requestBody The request body, read to its end
+     * @param contentLength The length of the request body in bytes, or -1 if unknown
+     * @param responseBody The stream receiving the response body; left open
+     * @return The number of rows priced, rejected rows excluded
+     * @throws com.sallyvnge.optionpricingapi.exception.MalformedBatchException if the request body does not follow the
+     *                                                                          format
+     * @throws IOException if reading the request or writing the response fails
+     */
+    public int price(InputStream requestBody, long contentLength, OutputStream responseBody) throws IOException {
+        long deserializationStart = System.nanoTime();
+        OptionBatch batch = BinaryBatchCodec.readRequest(requestBody, contentLength);
+        pricingMetrics.recordSince(PricingMetrics.Stage.DESERIALIZATION, deserializationStart);
+        int n = batch.size();
+        pricingMetrics.recordBatchSize(n);
+
+        long validationStart = System.nanoTime();
+        boolean[] rejected = new boolean[n];
+        int rejections = 0;
+        int calls = 0;
+        for (int row = 0; row < n; row++) {
+            if (!batch.isValid(row)) {
+                rejected[row] = true;
+                rejections++;
+            } else if (batch.call()[row]) {
+                calls++;
+            }
+        }
+        pricingMetrics.recordSince(PricingMetrics.Stage.VALIDATION, validationStart);
+
+        // Rejected rows are priced along with the rest, which costs less than compacting the columns around them
+        long pricingStart = System.nanoTime();
+        PricingResults results = portfolioRevaluationService.price(batch);
+        if (rejections > 0) {
+            for (int row = 0; row < n; row++) {
+                if (rejected[row]) {
+                    results.reject(row);
+                }
+            }
+        }
+        pricingMetrics.recordSince(PricingMetrics.Stage.PRICING, pricingStart);
+        pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, OptionType.CALL, calls);
+        pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, OptionType.PUT, n - rejections - calls);
+
+        long serializationStart = System.nanoTime();
+        BinaryBatchCodec.writeResponse(results, n, rejections, responseBody);
+        pricingMetrics.recordSince(PricingMetrics.Stage.SERIALIZATION, serializationStart);
+        return n - rejections;
+    }
+}
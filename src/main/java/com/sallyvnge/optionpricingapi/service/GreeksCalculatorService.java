@@ -1,38 +1,82 @@
 package com.sallyvnge.optionpricingapi.service;
 
 import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.model.Greek;
 import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
 import com.sallyvnge.optionpricingapi.util.BlackScholesUtil;
 import com.sallyvnge.optionpricingapi.util.NormalDistributionUtil;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Service
 public class GreeksCalculatorService {
 
+    private static final Set<Greek> ALL = EnumSet.allOf(Greek.class);
+
     /**
      * @param optionRequestDto
-     * @return Greeks values (delta, gamma, vega)
+     * @return Greeks values (delta, gamma, vega, theta, rho, vanna, volga, charm, veta)
      */
     public Greeks calculate(OptionRequestDto optionRequestDto) {
-        double delta, gamma, vega;
-
-        double S = optionRequestDto.underlyingPrice();
-        double K = optionRequestDto.strikePrice();
-        double T = optionRequestDto.timeToMaturity();
-        double r = optionRequestDto.riskFreeRate();
-        double sigma = optionRequestDto.volatility();
+        return calculate(optionRequestDto, ALL);
+    }
 
-        double d1 = BlackScholesUtil.computeD1(S, K, T, r, sigma);
+    /**
+     * @param greeks The Greeks to compute
+     * @return The requested Greeks, NaN for the others
+     */
+    public Greeks calculate(OptionRequestDto optionRequestDto, Set<Greek> greeks) {
+        return calculate(optionRequestDto.underlyingPrice(), optionRequestDto.strikePrice(),
+                optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(), optionRequestDto.volatility(),
+                optionRequestDto.optionType(), greeks);
+    }
 
-        delta = switch (optionRequestDto.optionType()) {
-            case CALL -> NormalDistributionUtil.cumulativeDistribution(d1);
-            case PUT -> NormalDistributionUtil.cumulativeDistribution(d1) - 1;
+    /**
+     * Computes the requested Greeks analytically, replacing a bump-and-reprice of each input.
+     * d1, d2, sqrt(T), the discount factor, n(d1) and N(w * d1) are evaluated once and shared by every Greek;
+     * N(w * d2) is only evaluated for theta and rho. With {@code w = +1} for a call and {@code w = -1} for a put:
+     * - delta = w * N(w * d1), gamma = n(d1) / (S * sigma * sqrt(T)), vega = S * n(d1) * sqrt(T)
+     * - theta = -S * n(d1) * sigma / (2 * sqrt(T)) - w * r * K * e^(-rT) * N(w * d2)
+     * - rho = w * K * T * e^(-rT) * N(w * d2)
+     * - vanna = -n(d1) * d2 / sigma, volga = vega * d1 * d2 / sigma
+     * - charm = -n(d1) * (2 * r * T - d2 * sigma * sqrt(T)) / (2 * T * sigma * sqrt(T))
+     * - veta = vega * (r * d1 / (sigma * sqrt(T)) - (1 + d1 * d2) / (2 * T))
+     *
+     * @param greeks The Greeks to compute
+     * @return The requested Greeks, NaN for the others
+     */
+    public Greeks calculate(double S, double K, double T, double r, double sigma, OptionType optionType,
+                            Set<Greek> greeks) {
+        double w = switch (optionType) {
+            case CALL -> 1.0;
+            case PUT -> -1.0;
         };
 
-        gamma = NormalDistributionUtil.probabilityDensity(d1)/(S*sigma*Math.sqrt(T));
+        double sqrtT = Math.sqrt(T);
+        double volSqrtT = sigma * sqrtT;
+        double d1 = BlackScholesUtil.computeD1(S, K, T, r, sigma);
+        double d2 = d1 - volSqrtT;
+        double pdf = NormalDistributionUtil.probabilityDensity(d1);
+        double vega = S * pdf * sqrtT;
 
-        vega = S*NormalDistributionUtil.probabilityDensity(d1)*Math.sqrt(T);
+        double discountedStrikeNd2 = Double.NaN;
+        if (greeks.contains(Greek.THETA) || greeks.contains(Greek.RHO)) {
+            discountedStrikeNd2 = K * Math.exp(-r * T) * NormalDistributionUtil.cumulativeDistribution(w * d2);
+        }
 
-        return new Greeks(delta, gamma, vega);
+        return Greeks.builder()
+                .delta(greeks.contains(Greek.DELTA) ? w * NormalDistributionUtil.cumulativeDistribution(w * d1) : Double.NaN)
+                .gamma(greeks.contains(Greek.GAMMA) ? pdf / (S * volSqrtT) : Double.NaN)
+                .vega(greeks.contains(Greek.VEGA) ? vega : Double.NaN)
+                .theta(greeks.contains(Greek.THETA) ? -0.5 * S * pdf * sigma / sqrtT - w * r * discountedStrikeNd2 : Double.NaN)
+                .rho(greeks.contains(Greek.RHO) ? w * T * discountedStrikeNd2 : Double.NaN)
+                .vanna(greeks.contains(Greek.VANNA) ? -pdf * d2 / sigma : Double.NaN)
+                .volga(greeks.contains(Greek.VOLGA) ? vega * d1 * d2 / sigma : Double.NaN)
+                .charm(greeks.contains(Greek.CHARM) ? -pdf * (2 * r * T - d2 * volSqrtT) / (2 * T * volSqrtT) : Double.NaN)
+                .veta(greeks.contains(Greek.VETA) ? vega * (r * d1 / volSqrtT - (1 + d1 * d2) / (2 * T)) : Double.NaN)
+                .build();
     }
 }
@@ -0,0 +1,179 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.BatchPricingErrorDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityChainResponseDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionChainDto;
+import com.sallyvnge.optionpricingapi.dto.OptionQuoteDto;
+import com.sallyvnge.optionpricingapi.exception.PriceOutsideArbitrageBoundsException;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.volatility.ImpliedVolatilitySolver;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class ImpliedVolatilityService {
+
+    private static final String ARBITRAGE_MESSAGE = "must be within the no-arbitrage bounds";
+    private static final String DUPLICATE_STRIKE_MESSAGE = "is inverted from quote ";
+
+    private final Validator validator;
+    private final PortfolioRevaluationService portfolioRevaluationService;
+
+    /**
+     * Computes the Black-Scholes implied volatility of a European option from its market price.
+     *
+     * @param impliedVolatilityRequestDto the option and its market price
+     * @return an ImpliedVolatilityResponseDto holding the implied volatility
+     * @throws PriceOutsideArbitrageBoundsException if no volatility reproduces the price
+     */
+    public ImpliedVolatilityResponseDto calculate(ImpliedVolatilityRequestDto impliedVolatilityRequestDto) {
+        double impliedVolatility = ImpliedVolatilitySolver.impliedVolatility(
+                impliedVolatilityRequestDto.optionPrice(),
+                impliedVolatilityRequestDto.underlyingPrice(),
+                impliedVolatilityRequestDto.strikePrice(),
+                impliedVolatilityRequestDto.timeToMaturity(),
+                impliedVolatilityRequestDto.riskFreeRate(),
+                impliedVolatilityRequestDto.optionType());
+
+        if (Double.isNaN(impliedVolatility)) {
+            throw new PriceOutsideArbitrageBoundsException(
+                    "Option price " + impliedVolatilityRequestDto.optionPrice() + " " + ARBITRAGE_MESSAGE);
+        }
+
+        return ImpliedVolatilityResponseDto.builder()
+                .impliedVolatility(impliedVolatility)
+                .input(impliedVolatilityRequestDto)
+                .build();
+    }
+
+    /**
+     * Computes the implied volatilities of several option chains, inverting the chains in parallel on the pool of the
+     * {@link PortfolioRevaluationService}.
+     * Quotes that are invalid or outside the no-arbitrage bounds are reported by index within their chain and do not
+     * prevent the rest of the chain from being inverted.
+     *
+     * @param optionChainDtos the chains to invert
+     * @return one ImpliedVolatilityChainResponseDto per chain, in request order
+     */
+    public List<ImpliedVolatilityChainResponseDto> calculateChains(List<OptionChainDto> optionChainDtos) {
+        ImpliedVolatilityChainResponseDto[] responses = new ImpliedVolatilityChainResponseDto[optionChainDtos.size()];
+        portfolioRevaluationService.forEach(responses.length, i -> responses[i] = calculateChain(optionChainDtos.get(i)));
+        return List.of(responses);
+    }
+
+    /**
+     * Computes the implied volatility of every quote of an option chain.
+     * A strike quoted more than once yields a single vol point: its out-of-the-money quote (the call at or above the
+     * forward, the put below it) is kept, or else the first one, and the others are reported as errors.
+     *
+     * @param optionChainDto the chain to invert
+     * @return the vol points of the inverted quotes, in quote order, the errors of the others, and the validation
+     *         errors of the chain itself, which are also reported for every quote
+     */
+    public ImpliedVolatilityChainResponseDto calculateChain(OptionChainDto optionChainDto) {
+        if (optionChainDto == null) {
+            return ImpliedVolatilityChainResponseDto.builder()
+                    .volPoints(List.of())
+                    .errors(List.of())
+                    .chainErrors(Map.of("chain", "must not be null"))
+                    .build();
+        }
+        List<OptionQuoteDto> quotes = optionChainDto.quotes() == null ? List.of() : optionChainDto.quotes();
+        Map<String, String> chainErrors = new HashMap<>();
+        Map<Integer, Map<String, String>> quoteErrors = new HashMap<>();
+        validate(optionChainDto, chainErrors, quoteErrors);
+
+        double forward = optionChainDto.underlyingPrice()
+                * Math.exp(optionChainDto.riskFreeRate() * optionChainDto.timeToMaturity());
+        List<VolPoint> volPoints = new ArrayList<>(quotes.size());
+        // Index of the quote behind each vol point, and position of the vol point of each strike
+        List<Integer> volPointQuotes = new ArrayList<>(quotes.size());
+        Map<Double, Integer> strikes = new HashMap<>();
+        List<BatchPricingErrorDto> errors = new ArrayList<>();
+        for (int i = 0; i < quotes.size(); i++) {
+            Map<String, String> fieldErrors = new HashMap<>(chainErrors);
+            fieldErrors.putAll(quoteErrors.getOrDefault(i, Map.of()));
+            if (!fieldErrors.isEmpty()) {
+                errors.add(new BatchPricingErrorDto(i, fieldErrors));
+                continue;
+            }
+
+            OptionQuoteDto quote = quotes.get(i);
+            double impliedVolatility = ImpliedVolatilitySolver.impliedVolatility(
+                    quote.optionPrice(),
+                    optionChainDto.underlyingPrice(),
+                    quote.strikePrice(),
+                    optionChainDto.timeToMaturity(),
+                    optionChainDto.riskFreeRate(),
+                    quote.optionType());
+
+            if (Double.isNaN(impliedVolatility)) {
+                errors.add(new BatchPricingErrorDto(i, Map.of("optionPrice", ARBITRAGE_MESSAGE)));
+                continue;
+            }
+            VolPoint volPoint = new VolPoint(quote.strikePrice(), impliedVolatility);
+            Integer position = strikes.putIfAbsent(quote.strikePrice(), volPoints.size());
+            if (position == null) {
+                volPoints.add(volPoint);
+                volPointQuotes.add(i);
+                continue;
+            }
+            int kept = volPointQuotes.get(position);
+            if (isOutOfTheMoney(quote, forward) && !isOutOfTheMoney(quotes.get(kept), forward)) {
+                volPoints.set(position, volPoint);
+                volPointQuotes.set(position, i);
+                errors.add(new BatchPricingErrorDto(kept, Map.of("strikePrice", DUPLICATE_STRIKE_MESSAGE + i + " instead")));
+            } else {
+                errors.add(new BatchPricingErrorDto(i, Map.of("strikePrice", DUPLICATE_STRIKE_MESSAGE + kept + " instead")));
+            }
+        }
+        errors.sort(Comparator.comparingInt(BatchPricingErrorDto::index));
+
+        return ImpliedVolatilityChainResponseDto.builder()
+                .timeToMaturity(optionChainDto.timeToMaturity())
+                .volPoints(volPoints)
+                .errors(errors)
+                .chainErrors(chainErrors)
+                .build();
+    }
+
+    private static boolean isOutOfTheMoney(OptionQuoteDto quote, double forward) {
+        return quote.optionType() == OptionType.CALL ? quote.strikePrice() >= forward : quote.strikePrice() < forward;
+    }
+
+    /**
+     * Validates a chain against the constraints declared on {@link OptionChainDto} and {@link OptionQuoteDto},
+     * splitting the messages between those of the chain itself, which apply to every quote, and those of each quote.
+     */
+    private void validate(OptionChainDto optionChainDto, Map<String, String> chainErrors,
+                          Map<Integer, Map<String, String>> quoteErrors) {
+        for (ConstraintViolation<OptionChainDto> violation : validator.validate(optionChainDto)) {
+            Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+            nodes.next();
+            Path.Node quoteNode = nodes.hasNext() ? nodes.next() : null;
+
+            if (quoteNode != null && quoteNode.getIndex() != null) {
+                String field = quoteNode.getKind() == ElementKind.CONTAINER_ELEMENT ? "element" : quoteNode.getName();
+                quoteErrors.computeIfAbsent(quoteNode.getIndex(), index -> new HashMap<>())
+                        .put(field, violation.getMessage());
+            } else {
+                chainErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.boundary.ExerciseBoundaryPricer;
+import com.sallyvnge.optionpricingapi.dto.LatticeRequestDto;
+import com.sallyvnge.optionpricingapi.dto.LatticeResponseDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.lattice.LatticePricer;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Prices European and American options from the early-exercise boundary with {@link ExerciseBoundaryPricer}, or on
+ * a binomial or trinomial lattice with {@link LatticePricer}.
+ *
+ * By default, American options are priced from their boundary, within 6e-4 of the converged value over random
+ * contracts and 3e-4 deep in the money (e.g. a put with S = 80, K = 100, T = 2, r = 0.08, sigma = 0.25), in a few
+ * tens of microseconds, and European options by Black-Scholes. The lattices, 128 steps with Richardson extrapolation
+ * by default, price a European option within about 1e-6 of Black-Scholes, but their American error does not
+ * decrease steadily with the steps: close to the boundary it still reaches 2e-2 at 128 steps and 7e-3 at 256 on the
+ * put above.
+ */
+@Service
+@RequiredArgsConstructor
+public class LatticePricingService {
+
+    static final int DEFAULT_STEPS = 128;
+
+    private final PricingMetrics pricingMetrics;
+
+    /**
+     * Prices an option from its early-exercise boundary or on a lattice.
+     *
+     * @param latticeRequestDto the option, its exercise style, the model and the lattice settings, defaults applying
+     *                          to omitted settings
+     * @return a LatticeResponseDto containing the price, the Greeks, the early exercise premium and the model run
+     */
+    public LatticeResponseDto calculate(LatticeRequestDto latticeRequestDto) {
+        long start = System.nanoTime();
+        ExerciseStyle exerciseStyle = valueOrDefault(latticeRequestDto.exerciseStyle(), ExerciseStyle.AMERICAN);
+        PricingModel pricingModel = valueOrDefault(latticeRequestDto.pricingModel(), PricingModel.INTEGRAL_EQUATION);
+        int steps = valueOrDefault(latticeRequestDto.steps(), DEFAULT_STEPS);
+
+        double S = latticeRequestDto.underlyingPrice();
+        double K = latticeRequestDto.strikePrice();
+        double T = latticeRequestDto.timeToMaturity();
+        double r = latticeRequestDto.riskFreeRate();
+        double sigma = latticeRequestDto.volatility();
+        PriceAndGreeks result;
+        if (pricingModel != PricingModel.INTEGRAL_EQUATION) {
+            result = LatticePricer.priceAndGreeks(S, K, T, r, sigma, latticeRequestDto.optionType(), exerciseStyle,
+                    pricingModel, steps, valueOrDefault(latticeRequestDto.richardson(), true),
+                    valueOrDefault(latticeRequestDto.controlVariate(), false));
+        } else if (exerciseStyle == ExerciseStyle.AMERICAN) {
+            result = ExerciseBoundaryPricer.priceAndGreeks(S, K, T, r, sigma, latticeRequestDto.optionType());
+        } else {
+            result = BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma, latticeRequestDto.optionType());
+        }
+        double earlyExercisePremium = exerciseStyle == ExerciseStyle.AMERICAN
+                ? result.price() - BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma, latticeRequestDto.optionType()).price()
+                : 0.0;
+        pricingMetrics.recordSince(PricingMetrics.Stage.PRICING, start);
+        pricingMetrics.countPriced(pricingModel, latticeRequestDto.optionType(), 1);
+
+        return LatticeResponseDto.builder()
+                .price(result.price())
+                .delta(result.delta())
+                .gamma(result.gamma())
+                .vega(result.vega())
+                .earlyExercisePremium(earlyExercisePremium)
+                .exerciseStyle(exerciseStyle)
+                .pricingModel(pricingModel)
+                .steps(pricingModel == PricingModel.INTEGRAL_EQUATION
+                        ? ExerciseBoundaryPricer.NODES
+                        : LatticePricer.steps(pricingModel, steps))
+                .input(latticeRequestDto)
+                .build();
+    }
+
+    private static <T> T valueOrDefault(T value, T defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+}
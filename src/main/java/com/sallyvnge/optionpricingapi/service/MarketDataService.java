@@ -0,0 +1,152 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+import com.sallyvnge.optionpricingapi.dto.TickDto;
+import com.sallyvnge.optionpricingapi.market.AsyncQuoteListener;
+import com.sallyvnge.optionpricingapi.market.MarketFeed;
+import com.sallyvnge.optionpricingapi.market.QuoteListener;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ingests spot and volatility ticks and pushes the repricings of the subscribed contracts of each underlying, see
+ * {@link MarketFeed}. Repricings run on {@code pricing.market.repricing-threads} dedicated threads, and the writes of
+ * the quote streams on {@code pricing.market.push-threads} others, so that slow clients never hold a repricing thread.
+ */
+@Service
+public class MarketDataService implements AutoCloseable {
+
+    public static final String QUOTES_EVENT = "quotes";
+
+    private final ExecutorService executor;
+    private final ExecutorService pushExecutor;
+    private final MarketFeed marketFeed;
+    private final PricingMetrics pricingMetrics;
+    private final long streamTimeoutMillis;
+
+    public MarketDataService(
+            PortfolioRevaluationService portfolioRevaluationService,
+            PricingMetrics pricingMetrics,
+            @Value("${pricing.market.repricing-threads:0}") int repricingThreads,
+            @Value("${pricing.market.push-threads:0}") int pushThreads,
+            @Value("${pricing.market.stream-timeout:0}") Duration streamTimeout) {
+        if (repricingThreads < 0) {
+            throw new IllegalArgumentException("Repricing threads must be non-negative, got: " + repricingThreads);
+        }
+        if (pushThreads < 0) {
+            throw new IllegalArgumentException("Push threads must be non-negative, got: " + pushThreads);
+        }
+        this.executor = newDaemonPool(repricingThreads, "market-repricer-");
+        this.pushExecutor = newDaemonPool(pushThreads, "market-pusher-");
+        this.marketFeed = new MarketFeed(executor, portfolioRevaluationService, pricingMetrics);
+        this.pricingMetrics = pricingMetrics;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+    }
+
+    /**
+     * Applies a tick, the contracts of its underlying being repriced and pushed asynchronously.
+     *
+     * @param tickDto the underlying and its new spot and/or volatility
+     * @return the sequence number of the tick on its underlying
+     * @throws com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException if the underlying has no contract
+     */
+    public long ingest(TickDto tickDto) {
+        return ingest(tickDto.underlying(), tickDto.spot(), tickDto.volatility());
+    }
+
+    /**
+     * Applies a tick, the contracts of its underlying being repriced and pushed asynchronously.
+     *
+     * @param spot the new spot, or null to keep the current one
+     * @param volatility the new volatility, or null to keep the current one
+     * @return the sequence number of the tick on its underlying
+     * @throws com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException if the underlying has no contract
+     */
+    public long ingest(String underlying, Double spot, Double volatility) {
+        return marketFeed.tick(underlying, spot == null ? Double.NaN : spot, volatility == null ? Double.NaN : volatility);
+    }
+
+    /**
+     * Adds a contract to reprice on every tick of its underlying, or replaces the contract with the same id.
+     */
+    public void putContract(String contractId, ContractDto contractDto) {
+        marketFeed.putContract(contractId, contractDto);
+    }
+
+    /**
+     * @return true if a contract was removed
+     */
+    public boolean removeContract(String contractId) {
+        return marketFeed.removeContract(contractId);
+    }
+
+    /**
+     * Subscribes to the repricings of the contracts of an underlying, see {@link MarketFeed#subscribe}.
+     */
+    public void subscribe(String underlying, QuoteListener listener) {
+        marketFeed.subscribe(underlying, listener);
+    }
+
+    public void unsubscribe(String underlying, QuoteListener listener) {
+        marketFeed.unsubscribe(underlying, listener);
+    }
+
+    /**
+     * Opens a server-sent events stream of the repricings of the contracts of an underlying: one {@value #QUOTES_EVENT}
+     * event per repricing, whose id is the sequence number of the latest tick it includes and whose data is a
+     * {@link QuoteUpdateDto}. The stream stays open until the client disconnects or {@code pricing.market.stream-timeout}
+     * elapses (0 for never). Events are written on the push threads through an {@link AsyncQuoteListener}, a client
+     * slower than the repricings skipping to the latest one.
+     *
+     * @param underlying the underlying whose contracts are streamed
+     * @return the stream, completed by the servlet container
+     */
+    public SseEmitter openQuoteStream(String underlying) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        QuoteListener listener = new AsyncQuoteListener(update -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(QUOTES_EVENT)
+                        .id(Long.toString(update.sequence()))
+                        .data(update, MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                throw new UncheckedIOException(e);
+            }
+        }, pushExecutor, pricingMetrics);
+        emitter.onCompletion(() -> unsubscribe(underlying, listener));
+        emitter.onTimeout(() -> unsubscribe(underlying, listener));
+        emitter.onError(error -> unsubscribe(underlying, listener));
+        subscribe(underlying, listener);
+        return emitter;
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        pushExecutor.shutdownNow();
+    }
+
+    private static ExecutorService newDaemonPool(int threads, String namePrefix) {
+        AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads,
+                task -> {
+                    Thread thread = new Thread(task, namePrefix + index.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,143 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.aad.Tape;
+import com.sallyvnge.optionpricingapi.dto.MonteCarloRequestDto;
+import com.sallyvnge.optionpricingapi.dto.MonteCarloResponseDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import com.sallyvnge.optionpricingapi.montecarlo.MonteCarloEngine;
+import com.sallyvnge.optionpricingapi.montecarlo.MonteCarloEstimate;
+import com.sallyvnge.optionpricingapi.montecarlo.SampleStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+
+/**
+ * Prices options, including Asian and barrier payoffs, by Monte Carlo simulation on the pool of the
+ * {@link PortfolioRevaluationService}.
+ *
+ * Samples are grouped in blocks of {@link MonteCarloEngine#BLOCK_SIZE}, and every block draws from its own
+ * {@link SplittableRandom} stream, split from the seed in block order. The blocks are shared out between a few tasks
+ * per worker, each reusing one set of path buffers, and their statistics are merged in block order. The result
+ * therefore only depends on the inputs and the seed, not on the number of workers or on scheduling.
+ *
+ * When Greeks are requested, every sample is also differentiated, see {@link MonteCarloEngine#simulateWithGreeks}: a
+ * European payoff in closed form over the same path buffers, which leaves its estimate unchanged for the same seed,
+ * and an Asian payoff on the {@link Tape} of its worker. Asian paths are then drawn one after the other instead of
+ * step by step, and get a different, equally distributed, estimate from the same seed.
+ */
+@Service
+@RequiredArgsConstructor
+public class MonteCarloPricingService {
+
+    static final long DEFAULT_SEED = 20250101L;
+    public static final int DEFAULT_MONITORING_DATES = 252;
+    public static final long DEFAULT_PATHS = 100_000L;
+
+    /** Tasks per worker, so that workers finishing early can pick up the remaining blocks. */
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final PortfolioRevaluationService portfolioRevaluationService;
+    private final PricingMetrics pricingMetrics;
+
+    /**
+     * Estimates the price of an option and its standard error by simulation.
+     *
+     * @param monteCarloRequestDto the option, its payoff and the simulation settings, defaults applying to omitted
+     *                             settings
+     * @return a MonteCarloResponseDto containing the estimated price, its standard error and the simulation run
+     */
+    public MonteCarloResponseDto calculate(MonteCarloRequestDto monteCarloRequestDto) {
+        long start = System.nanoTime();
+        PayoffType payoffType = valueOrDefault(monteCarloRequestDto.payoffType(), PayoffType.EUROPEAN);
+        int monitoringDates = payoffType == PayoffType.EUROPEAN
+                ? 1
+                : valueOrDefault(monteCarloRequestDto.monitoringDates(), DEFAULT_MONITORING_DATES);
+        long paths = valueOrDefault(monteCarloRequestDto.paths(), DEFAULT_PATHS);
+        long seed = valueOrDefault(monteCarloRequestDto.seed(), DEFAULT_SEED);
+        boolean antithetic = valueOrDefault(monteCarloRequestDto.antithetic(), true);
+        boolean controlVariate = valueOrDefault(monteCarloRequestDto.controlVariate(), true);
+        boolean greeks = valueOrDefault(monteCarloRequestDto.greeks(), false);
+
+        MonteCarloEngine engine = new MonteCarloEngine(monteCarloRequestDto.underlyingPrice(),
+                monteCarloRequestDto.strikePrice(), monteCarloRequestDto.timeToMaturity(),
+                monteCarloRequestDto.riskFreeRate(), monteCarloRequestDto.volatility(), monteCarloRequestDto.optionType(),
+                payoffType, valueOrDefault(monteCarloRequestDto.barrier(), Double.NaN), monitoringDates, antithetic);
+
+        long samples = Math.max((paths + engine.pathsPerSample() - 1) / engine.pathsPerSample(), 2L);
+        SampleStatistics statistics = new SampleStatistics();
+        double[] greekSums = greeks ? new double[MonteCarloEngine.GREEKS] : null;
+        simulate(engine, samples, seed, statistics, greekSums);
+        MonteCarloEstimate estimate = statistics.estimate(controlVariate ? engine.controlMean() : Double.NaN);
+        pricingMetrics.recordSince(PricingMetrics.Stage.PRICING, start);
+        pricingMetrics.countPriced(PricingModel.MONTE_CARLO, monteCarloRequestDto.optionType(), 1);
+
+        MonteCarloResponseDto.MonteCarloResponseDtoBuilder response = MonteCarloResponseDto.builder();
+        if (greeks) {
+            response.delta(greekSums[MonteCarloEngine.DELTA] / samples)
+                    .vega(greekSums[MonteCarloEngine.VEGA] / samples)
+                    .rho(greekSums[MonteCarloEngine.RHO] / samples)
+                    .theta(greekSums[MonteCarloEngine.THETA] / samples);
+        }
+        return response
+                .price(estimate.price())
+                .standardError(estimate.standardError())
+                .controlVariateBeta(estimate.controlVariateBeta())
+                .payoffType(payoffType)
+                .monitoringDates(monitoringDates)
+                .paths(samples * engine.pathsPerSample())
+                .seed(seed)
+                .pricingModel(PricingModel.MONTE_CARLO)
+                .input(monteCarloRequestDto)
+                .build();
+    }
+
+    /**
+     * @param statistics Receives the samples, merged in block order
+     * @param greekSums Receives the sums of the pathwise Greeks, merged in block order, or null not to compute them
+     */
+    private void simulate(MonteCarloEngine engine, long samples, long seed, SampleStatistics statistics,
+                          double[] greekSums) {
+        int blocks = (int) ((samples + MonteCarloEngine.BLOCK_SIZE - 1) / MonteCarloEngine.BLOCK_SIZE);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        SampleStatistics[] blockStatistics = new SampleStatistics[blocks];
+        double[][] blockGreeks = greekSums == null ? null : new double[blocks][MonteCarloEngine.GREEKS];
+        for (int b = 0; b < blocks; b++) {
+            streams[b] = root.split();
+            blockStatistics[b] = new SampleStatistics();
+        }
+
+        int tasks = Math.min(blocks, portfolioRevaluationService.parallelism() * TASKS_PER_WORKER);
+        portfolioRevaluationService.forEach(tasks, task -> {
+            MonteCarloEngine.PathBuffers buffers = new MonteCarloEngine.PathBuffers(MonteCarloEngine.BLOCK_SIZE);
+            int from = (int) ((long) blocks * task / tasks);
+            int to = (int) ((long) blocks * (task + 1) / tasks);
+            for (int b = from; b < to; b++) {
+                long first = (long) b * MonteCarloEngine.BLOCK_SIZE;
+                int size = (int) Math.min(MonteCarloEngine.BLOCK_SIZE, samples - first);
+                if (blockGreeks == null) {
+                    engine.simulate(streams[b], size, buffers, blockStatistics[b]);
+                } else {
+                    engine.simulateWithGreeks(streams[b], size, buffers, Tape.current(), blockStatistics[b],
+                            blockGreeks[b]);
+                }
+            }
+        });
+
+        for (int b = 0; b < blocks; b++) {
+            statistics.merge(blockStatistics[b]);
+            if (greekSums != null) {
+                for (int g = 0; g < MonteCarloEngine.GREEKS; g++) {
+                    greekSums[g] += blockGreeks[b][g];
+                }
+            }
+        }
+    }
+
+    private static <T> T valueOrDefault(T value, T defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+}
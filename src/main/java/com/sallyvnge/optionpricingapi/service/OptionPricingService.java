@@ -1,39 +1,135 @@
 package com.sallyvnge.optionpricingapi.service;
 
+import com.sallyvnge.optionpricingapi.cache.PricingResultCache;
 import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
 import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.Greek;
 import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.model.PricedGreeks;
 import com.sallyvnge.optionpricingapi.model.PricingModel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class OptionPricingService {
 
-    private final BlackScholesPricingService blackScholesPricingService;
-    private final GreeksCalculatorService greeksCalculatorService;
+    private final VolSurfaceService volSurfaceService;
+    private final PricingResultCache pricingResultCache;
+    private final PricingMetrics pricingMetrics;
+    private final ProxyPricingService proxyPricingService;
 
     /**
      * Calculates the price and key sensitivities (Greeks) of a financial option using the Black-Scholes model.
+     * The price and Greeks come from a single pass of {@link BlackScholesKernel}, which shares d1, d2 and the
+     * normal distribution evaluations between them.
      * It also includes the input parameters, the model used, and the volatility for reference in the response.
+     * When the request references a volatility surface, the option is priced with the surface's volatility at its
+     * maturity and strike.
      *
      * @param optionRequestDto the request object containing the details of the option to be priced,
      *                         including underlying price, strike price, time to maturity, risk-free rate,
      *                         volatility, and option type (CALL or PUT)
      * @return an OptionPricingResponseDto containing the calculated price, Greeks (delta, gamma, vega),
      *         the pricing model used, the volatility utilized during calculation, and the input parameters
+     * @throws com.sallyvnge.optionpricingapi.exception.UnknownVolSurfaceException if the referenced surface is not
+     *         registered
      */
     public OptionPricingResponseDto calculate(OptionRequestDto optionRequestDto) {
-        double price = blackScholesPricingService.calculatePrice(optionRequestDto);
-        Greeks greeks = greeksCalculatorService.calculate(optionRequestDto);
-
-        return OptionPricingResponseDto.builder()
-                .price(price)
-                .delta(greeks.delta())
-                .gamma(greeks.gamma())
-                .vega(greeks.vega())
-                .volatilityUsed(optionRequestDto.volatility())
+        return calculate(optionRequestDto, true);
+    }
+
+    /**
+     * Same as {@link #calculate(OptionRequestDto)}, optionally bypassing the {@link PricingResultCache} and the
+     * {@link ProxyPricingService}. When proxy pricing is enabled and its table is ready, options within the domain of
+     * the table are interpolated from it; the others fall back to the cache or to exact pricing.
+     * Cached results are computed at the quantized inputs of the cache; the volatility they were computed at is the
+     * one reported in the response. The volatility of a surface is resolved before the cache lookup, so that
+     * replacing the surface never serves stale results.
+     *
+     * @param optionRequestDto the request object containing the details of the option to be priced
+     * @param useCache false to price the exact inputs without the proxy table nor the cache
+     * @return an OptionPricingResponseDto containing the calculated price, Greeks, model, volatility and inputs
+     * @throws com.sallyvnge.optionpricingapi.exception.UnknownVolSurfaceException if the referenced surface is not
+     *         registered
+     */
+    public OptionPricingResponseDto calculate(OptionRequestDto optionRequestDto, boolean useCache) {
+        return calculate(optionRequestDto, useCache, Greek.STANDARD);
+    }
+
+    /**
+     * Same as {@link #calculate(OptionRequestDto, boolean)}, also computing the requested Greeks beyond delta, gamma
+     * and vega analytically, so that clients no longer bump inputs and reprice. They come from the same pass of
+     * {@link BlackScholesKernel} as the price, from the terms it already computed.
+     * Delta, gamma and vega are always part of the response. The cache and the proxy table only hold those, so requesting
+     * any other Greek prices the exact inputs, keeping every Greek of the response consistent with its price.
+     *
+     * @param optionRequestDto the request object containing the details of the option to be priced
+     * @param useCache false to price the exact inputs without the proxy table nor the cache
+     * @param greeks the Greeks to include in the response
+     * @return an OptionPricingResponseDto containing the calculated price, requested Greeks, model, volatility and
+     *         inputs
+     * @throws com.sallyvnge.optionpricingapi.exception.UnknownVolSurfaceException if the referenced surface is not
+     *         registered
+     */
+    public OptionPricingResponseDto calculate(OptionRequestDto optionRequestDto, boolean useCache, Set<Greek> greeks) {
+        long start = System.nanoTime();
+        double volatility = volSurfaceService.resolveVolatility(optionRequestDto);
+        if (optionRequestDto.surfaceId() != null) {
+            pricingMetrics.recordSince(PricingMetrics.Stage.SMILE_INTERPOLATION, start);
+            start = System.nanoTime();
+        }
+
+        PriceAndGreeks result = null;
+        Greeks higherOrder = null;
+        boolean extraGreeks = !Greek.STANDARD.containsAll(greeks);
+        if (useCache && !extraGreeks && proxyPricingService.isEnabled()) {
+            result = proxyPricingService.priceAndGreeks(optionRequestDto.underlyingPrice(),
+                    optionRequestDto.strikePrice(), optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(),
+                    volatility, optionRequestDto.optionType());
+            pricingMetrics.countProxyLookup(result != null);
+        }
+        if (result == null && useCache && !extraGreeks && pricingResultCache.isEnabled()) {
+            PricingResultCache.CachedPricing cached = pricingResultCache.priceAndGreeks(
+                    optionRequestDto.underlyingPrice(), optionRequestDto.strikePrice(),
+                    optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(), volatility,
+                    optionRequestDto.optionType());
+            result = cached.priceAndGreeks();
+            volatility = cached.volatility();
+        } else if (extraGreeks) {
+            PricedGreeks priced = BlackScholesKernel.priceAndGreeks(optionRequestDto.underlyingPrice(),
+                    optionRequestDto.strikePrice(), optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(),
+                    volatility, optionRequestDto.optionType(), greeks);
+            higherOrder = priced.greeks();
+            result = new PriceAndGreeks(priced.price(), higherOrder.delta(), higherOrder.gamma(), higherOrder.vega());
+        } else if (result == null) {
+            result = BlackScholesKernel.priceAndGreeks(optionRequestDto.underlyingPrice(),
+                    optionRequestDto.strikePrice(), optionRequestDto.timeToMaturity(), optionRequestDto.riskFreeRate(),
+                    volatility, optionRequestDto.optionType());
+        }
+        pricingMetrics.recordSince(PricingMetrics.Stage.PRICING, start);
+        pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, optionRequestDto.optionType(), 1);
+
+        OptionPricingResponseDto.OptionPricingResponseDtoBuilder response = OptionPricingResponseDto.builder()
+                .price(result.price())
+                .delta(result.delta())
+                .gamma(result.gamma())
+                .vega(result.vega());
+        if (higherOrder != null) {
+            response.theta(greeks.contains(Greek.THETA) ? higherOrder.theta() : null)
+                    .rho(greeks.contains(Greek.RHO) ? higherOrder.rho() : null)
+                    .vanna(greeks.contains(Greek.VANNA) ? higherOrder.vanna() : null)
+                    .volga(greeks.contains(Greek.VOLGA) ? higherOrder.volga() : null)
+                    .charm(greeks.contains(Greek.CHARM) ? higherOrder.charm() : null)
+                    .veta(greeks.contains(Greek.VETA) ? higherOrder.veta() : null);
+        }
+        return response
+                .volatilityUsed(volatility)
                 .pricingModel(PricingModel.BLACK_SCHOLES)
                 .input(optionRequestDto)
                 .build();
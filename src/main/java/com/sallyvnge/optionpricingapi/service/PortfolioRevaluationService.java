@@ -0,0 +1,180 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Prices whole books on a dedicated {@link ForkJoinPool}, separate from the request threads and from the common pool.
+ *
+ * A book is split recursively in halves until each piece is at most one chunk of {@code pricing.revaluation.chunk-size}
+ * rows, and every chunk is priced by {@link BlackScholesBatchKernel}. Split points fall on multiples of the chunk size,
+ * so chunks stay aligned on SIMD lanes and two workers never write to the same cache line of the result columns.
+ * With the default of 2048 rows, the input and output columns of a chunk fit in a core's L2 cache.
+ *
+ * Books of at most one chunk are priced directly on the calling thread.
+ *
+ * Work that is not a book of rows, such as the scenario grids of independent contracts, can run on the same pool
+ * through {@link #forEach(int, IntConsumer)}.
+ */
+@Service
+public class PortfolioRevaluationService implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public PortfolioRevaluationService(
+            @Value("${pricing.revaluation.parallelism:0}") int parallelism,
+            @Value("${pricing.revaluation.chunk-size:2048}") int chunkSize) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism must be non-negative, got: " + parallelism);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        this.pool = new ForkJoinPool(threads, RevaluationWorker::new, null, false);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return The number of worker threads
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * @return The maximum number of rows priced by one task
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Prices every row of a book.
+     * @param batch The input columns
+     * @return The output columns, one row per row of the book
+     */
+    public PricingResults price(OptionBatch batch) {
+        PricingResults results = new PricingResults(batch.size());
+        price(batch, results);
+        return results;
+    }
+
+    /**
+     * Prices every row of a book into existing result columns, blocking until all chunks are priced.
+     * @param batch The input columns
+     * @param results The output columns, with a capacity of at least {@code batch.size()}
+     */
+    public void price(OptionBatch batch, PricingResults results) {
+        int size = batch.size();
+        if (size <= chunkSize) {
+            BlackScholesBatchKernel.price(batch, results, 0, size);
+            return;
+        }
+        pool.invoke(new ChunkTask(batch, results, 0, size));
+    }
+
+    /**
+     * Runs a task for every index in {@code [0, count)} on the pool, blocking until all of them complete.
+     * A single task runs directly on the calling thread.
+     * @param count The number of tasks
+     * @param task The task, given its index
+     */
+    public void forEach(int count, IntConsumer task) {
+        if (count <= 1) {
+            for (int i = 0; i < count; i++) {
+                task.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new IndexTask(task, 0, count));
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Prices rows {@code [from, to)}, splitting them on chunk boundaries while they span more than one chunk.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private final OptionBatch batch;
+        private final PricingResults results;
+        private final int from;
+        private final int to;
+
+        ChunkTask(OptionBatch batch, PricingResults results, int from, int to) {
+            this.batch = batch;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int chunks = (to - from + chunkSize - 1) / chunkSize;
+            if (chunks <= 1) {
+                BlackScholesBatchKernel.price(batch, results, from, to);
+                return;
+            }
+            int middle = from + (chunks / 2) * chunkSize;
+            invokeAll(new ChunkTask(batch, results, from, middle), new ChunkTask(batch, results, middle, to));
+        }
+    }
+
+    /**
+     * Runs the tasks of indices {@code [from, to)}, splitting them in halves down to single tasks.
+     */
+    private static final class IndexTask extends RecursiveAction {
+
+        private final IntConsumer task;
+        private final int from;
+        private final int to;
+
+        IndexTask(IntConsumer task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new IndexTask(task, from, middle), new IndexTask(task, middle, to));
+        }
+    }
+
+    /**
+     * Named daemon worker, so that revaluation threads are recognizable in thread dumps and never block shutdown.
+     */
+    private static final class RevaluationWorker extends ForkJoinWorkerThread {
+
+        RevaluationWorker(ForkJoinPool pool) {
+            super(pool);
+            setDaemon(true);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            setName("revaluation-worker-" + getPoolIndex());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.MarketMoveDto;
+import com.sallyvnge.optionpricingapi.dto.PositionDto;
+import com.sallyvnge.optionpricingapi.dto.UnderlyingRiskDto;
+import com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException;
+import com.sallyvnge.optionpricingapi.position.PositionBook;
+import org.springframework.stereotype.Service;
+
+/**
+ * Server-side book of option positions, exposing the Greeks of each underlying aggregated over its positions.
+ * The aggregates are maintained incrementally on every position change and market move, see {@link PositionBook}.
+ */
+@Service
+public class PositionBookService {
+
+    private final PositionBook positionBook = new PositionBook();
+
+    /**
+     * Adds a position, or replaces the position with the same id.
+     *
+     * @param positionId the id of the position
+     * @param positionDto the contract and quantity held
+     * @return the aggregated Greeks of the position's underlying
+     */
+    public UnderlyingRiskDto upsertPosition(String positionId, PositionDto positionDto) {
+        return positionBook.upsert(positionId, positionDto);
+    }
+
+    /**
+     * @param positionId the id of the position
+     * @return true if a position was removed
+     */
+    public boolean removePosition(String positionId) {
+        return positionBook.remove(positionId);
+    }
+
+    /**
+     * Applies a market move to an underlying and recomputes the Greeks of its positions only.
+     *
+     * @param underlying the underlying that moved
+     * @param marketMoveDto the new spot and volatility shift, null fields being left unchanged
+     * @return the aggregated Greeks of the underlying after the move
+     * @throws UnknownUnderlyingException if the underlying holds no position
+     */
+    public UnderlyingRiskDto applyMarketMove(String underlying, MarketMoveDto marketMoveDto) {
+        return positionBook.move(underlying, marketMoveDto.spot(), marketMoveDto.volatilityShift());
+    }
+
+    /**
+     * @param underlying the underlying
+     * @return the latest aggregated Greeks of the underlying
+     * @throws UnknownUnderlyingException if the underlying holds no position
+     */
+    public UnderlyingRiskDto getRisk(String underlying) {
+        return positionBook.risk(underlying)
+                .orElseThrow(() -> new UnknownUnderlyingException("No position on underlying '" + underlying + "'"));
+    }
+}
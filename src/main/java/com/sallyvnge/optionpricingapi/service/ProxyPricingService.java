@@ -0,0 +1,117 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.proxy.ProxyTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Optional proxy pricing of European options from a precomputed {@link ProxyTable}, disabled unless
+ * {@code pricing.proxy.enabled} is true.
+ *
+ * The table is built on a background thread at startup from {@link BlackScholesPricingService} prices and
+ * {@link GreeksCalculatorService} Greeks, so that startup does not wait for it. It is only used if its error bounds,
+ * see {@link ProxyTable}, are within {@code pricing.proxy.tolerance} on price / spot, delta and n(d1), and within
+ * {@code pricing.proxy.volatility-tolerance} on the implied total volatility of the price. Until then, and for
+ * options outside its domain, lookups return null and callers price exactly.
+ *
+ * The proxy is only useful with the {@code COMMONS_MATH} normal distribution. With the default {@code RATIONAL} one,
+ * a lookup costs about as much as the fused kernel and enabling it gains nothing, see {@code ProxyPricingBenchmark}.
+ */
+@Slf4j
+@Service
+public class ProxyPricingService {
+
+    private final boolean enabled;
+    private volatile ProxyTable table;
+
+    public ProxyPricingService(
+            BlackScholesPricingService blackScholesPricingService,
+            GreeksCalculatorService greeksCalculatorService,
+            @Value("${pricing.proxy.enabled:false}") boolean enabled,
+            @Value("${pricing.proxy.moneyness-nodes:481}") int moneynessNodes,
+            @Value("${pricing.proxy.volatility-nodes:481}") int volatilityNodes,
+            @Value("${pricing.proxy.tolerance:1e-6}") double tolerance,
+            @Value("${pricing.proxy.volatility-tolerance:1e-5}") double volatilityTolerance) {
+        if (!(tolerance > 0.0) || !(volatilityTolerance > 0.0)) {
+            throw new IllegalArgumentException("Proxy tolerances must be positive, got: " + tolerance + " and "
+                    + volatilityTolerance);
+        }
+        this.enabled = enabled;
+        if (enabled) {
+            ProxyTable.Source source = (strike, volatility) -> {
+                OptionRequestDto option = OptionRequestDto.builder()
+                        .underlyingPrice(1.0)
+                        .strikePrice(strike)
+                        .timeToMaturity(1.0)
+                        .riskFreeRate(0.0)
+                        .volatility(volatility)
+                        .optionType(OptionType.CALL)
+                        .build();
+                Greeks greeks = greeksCalculatorService.calculate(option, Greek.STANDARD);
+                return new PriceAndGreeks(blackScholesPricingService.calculatePrice(option), greeks.delta(),
+                        greeks.gamma(), greeks.vega());
+            };
+            Thread thread = new Thread(
+                    () -> build(moneynessNodes, volatilityNodes, tolerance, volatilityTolerance, source),
+                    "proxy-table-builder");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * @return A service that never prices from a table
+     */
+    public static ProxyPricingService disabled() {
+        return new ProxyPricingService(null, null, false, 4, 4, 1.0, 1.0);
+    }
+
+    /**
+     * @return Whether proxy pricing is enabled, the table being possibly not built yet
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Whether the table is built and within tolerance
+     */
+    public boolean isReady() {
+        return table != null;
+    }
+
+    /**
+     * Interpolates the price, delta, gamma and vega of a European option from the table.
+     * @return The price and Greeks, or null if the table is not ready or the option is outside its domain
+     */
+    public PriceAndGreeks priceAndGreeks(double S, double K, double T, double r, double sigma, OptionType optionType) {
+        ProxyTable table = this.table;
+        return table == null ? null : table.priceAndGreeks(S, K, T, r, sigma, optionType);
+    }
+
+    private void build(int moneynessNodes, int volatilityNodes, double tolerance, double volatilityTolerance,
+                       ProxyTable.Source source) {
+        try {
+            long start = System.nanoTime();
+            ProxyTable built = ProxyTable.build(moneynessNodes, volatilityNodes, source);
+            ProxyTable.ErrorBounds errorBounds = built.errorBounds();
+            if (errorBounds.max() > tolerance || errorBounds.volatility() > volatilityTolerance) {
+                log.warn("Proxy table of {} x {} nodes rejected, its errors {} exceed the tolerances {} and {}; "
+                        + "options are priced exactly", moneynessNodes, volatilityNodes, errorBounds, tolerance,
+                        volatilityTolerance);
+                return;
+            }
+            table = built;
+            log.info("Proxy table of {} x {} nodes ({} KiB) built in {} ms, errors {}", moneynessNodes,
+                    volatilityNodes, built.bytes() / 1024, (System.nanoTime() - start) / 1_000_000, errorBounds);
+        } catch (RuntimeException e) {
+            log.error("Proxy table build failed; options are priced exactly", e);
+        }
+    }
+}
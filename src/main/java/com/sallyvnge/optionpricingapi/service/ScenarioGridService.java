@@ -0,0 +1,122 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridResponseDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.kernel.ScenarioGridKernel;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Prices options over spot × volatility × time grids of shocks, for PnL ladders.
+ *
+ * Each option's grid is evaluated by {@link ScenarioGridKernel}, which computes the terms shared across the grid
+ * once, and the options are spread over the pool of the {@link PortfolioRevaluationService}. Volatilities are
+ * sticky-strike: the volatility of a surface is read once at the option's maturity and strike, then shocked.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScenarioGridService {
+
+    private static final List<Double> NO_TIME_SHIFT = List.of(0.0);
+
+    private final VolSurfaceService volSurfaceService;
+    private final PortfolioRevaluationService portfolioRevaluationService;
+    private final PricingMetrics pricingMetrics;
+
+    /**
+     * Prices every option of the request in every scenario of its grid.
+     *
+     * @param scenarioGridRequestDto the options and the shocks along each axis of the grid
+     * @return the price and PnL grids of each option, and the PnL of all options per scenario
+     * @throws com.sallyvnge.optionpricingapi.exception.UnknownVolSurfaceException if an option references a surface
+     *         that is not registered
+     */
+    public ScenarioGridResponseDto calculate(ScenarioGridRequestDto scenarioGridRequestDto) {
+        List<OptionRequestDto> options = scenarioGridRequestDto.options();
+        List<Double> timeShiftList = scenarioGridRequestDto.timeShifts() == null || scenarioGridRequestDto.timeShifts().isEmpty()
+                ? NO_TIME_SHIFT
+                : scenarioGridRequestDto.timeShifts();
+        double[] spotShocks = toArray(scenarioGridRequestDto.spotShocks());
+        double[] volatilityShocks = toArray(scenarioGridRequestDto.volatilityShocks());
+        double[] timeShifts = toArray(timeShiftList);
+
+        long start = System.nanoTime();
+        double[] volatilities = new double[options.size()];
+        for (int i = 0; i < volatilities.length; i++) {
+            volatilities[i] = volSurfaceService.resolveVolatility(options.get(i));
+        }
+        pricingMetrics.recordSince(PricingMetrics.Stage.SMILE_INTERPOLATION, start);
+
+        start = System.nanoTime();
+        ScenarioGridDto[] grids = new ScenarioGridDto[options.size()];
+        portfolioRevaluationService.forEach(grids.length, i ->
+                grids[i] = grid(options.get(i), volatilities[i], spotShocks, volatilityShocks, timeShifts));
+
+        double[][][] totalPnl = new double[timeShifts.length][volatilityShocks.length][spotShocks.length];
+        for (ScenarioGridDto grid : grids) {
+            for (int t = 0; t < timeShifts.length; t++) {
+                for (int v = 0; v < volatilityShocks.length; v++) {
+                    double[] total = totalPnl[t][v];
+                    double[] pnl = grid.pnl()[t][v];
+                    for (int s = 0; s < spotShocks.length; s++) {
+                        total[s] += pnl[s];
+                    }
+                }
+            }
+        }
+        pricingMetrics.recordSince(PricingMetrics.Stage.PRICING, start);
+        int scenarios = spotShocks.length * volatilityShocks.length * timeShifts.length;
+        for (OptionRequestDto option : options) {
+            pricingMetrics.countPriced(PricingModel.BLACK_SCHOLES, option.optionType(), scenarios);
+        }
+
+        return ScenarioGridResponseDto.builder()
+                .spotShocks(scenarioGridRequestDto.spotShocks())
+                .volatilityShocks(scenarioGridRequestDto.volatilityShocks())
+                .timeShifts(timeShiftList)
+                .grids(List.of(grids))
+                .totalPnl(totalPnl)
+                .build();
+    }
+
+    private static ScenarioGridDto grid(OptionRequestDto option, double volatility,
+                                        double[] spotShocks, double[] volatilityShocks, double[] timeShifts) {
+        double basePrice = BlackScholesKernel.priceAndGreeks(option.underlyingPrice(), option.strikePrice(),
+                option.timeToMaturity(), option.riskFreeRate(), volatility, option.optionType()).price();
+
+        double[][][] prices = new double[timeShifts.length][volatilityShocks.length][spotShocks.length];
+        ScenarioGridKernel.price(option.underlyingPrice(), option.strikePrice(), option.timeToMaturity(),
+                option.riskFreeRate(), volatility, option.optionType(), spotShocks, volatilityShocks, timeShifts, prices);
+
+        double[][][] pnl = new double[timeShifts.length][volatilityShocks.length][spotShocks.length];
+        for (int t = 0; t < timeShifts.length; t++) {
+            for (int v = 0; v < volatilityShocks.length; v++) {
+                for (int s = 0; s < spotShocks.length; s++) {
+                    pnl[t][v][s] = prices[t][v][s] - basePrice;
+                }
+            }
+        }
+
+        return ScenarioGridDto.builder()
+                .basePrice(basePrice)
+                .volatilityUsed(volatility)
+                .prices(prices)
+                .pnl(pnl)
+                .build();
+    }
+
+    private static double[] toArray(List<Double> values) {
+        double[] array = new double[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
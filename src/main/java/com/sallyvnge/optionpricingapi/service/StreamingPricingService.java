@@ -0,0 +1,207 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sallyvnge.optionpricingapi.codec.PricingResponseJsonWriter;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingErrorDto;
+import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class StreamingPricingService {
+
+    private final BatchPricingService batchPricingService;
+    private final ObjectReader requestReader;
+    private final int chunkSize;
+    private final int maxRecordLength;
+
+    public StreamingPricingService(BatchPricingService batchPricingService,
+                                   ObjectMapper objectMapper,
+                                   @Value("${pricing.stream.chunk-size:4096}") int chunkSize,
+                                   @Value("${pricing.stream.max-record-length:16384}") int maxRecordLength) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        if (maxRecordLength <= 0) {
+            throw new IllegalArgumentException("Maximum record length must be positive, got: " + maxRecordLength);
+        }
+        this.batchPricingService = batchPricingService;
+        this.requestReader = objectMapper.readerFor(OptionRequestDto.class);
+        this.chunkSize = chunkSize;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Prices a newline-delimited JSON stream of {@link OptionRequestDto} records.
+     *
+     * Records are read and priced in chunks of {@code pricing.stream.chunk-size} through {@link BatchPricingService},
+     * and the chunk's output lines are written and flushed before the next chunk is read. Reads and writes are
+     * blocking, so a slow client stops the input from being consumed and at most one chunk is held in memory, whatever
+     * the size of the stream.
+     *
+     * Each record produces exactly one output line, in input order: an {@link OptionPricingResponseDto}, or a
+     * {@link BatchPricingErrorDto} whose index is the position of the record in the stream. Blank lines are skipped
+     * and malformed lines are reported as errors without interrupting the stream, as are lines longer than
+     * {@code pricing.stream.max-record-length} characters, whose excess is skipped without being buffered.
+     *
+     * @param requestBody The newline-delimited JSON records, UTF-8 encoded
+     * @param responseBody The stream receiving the newline-delimited JSON output lines; left open
+     * @return The number of records read
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public long price(InputStream requestBody, OutputStream responseBody) throws IOException {
+        return price(requestBody, responseBody, true);
+    }
+
+    /**
+     * Same as {@link #price(InputStream, OutputStream)}, optionally leaving out the {@code input} field of every
+     * result line. Lines are written straight from the result columns by a {@link PricingResponseJsonWriter}, with the
+     * same bytes as Jackson's when the input is echoed.
+     *
+     * @param requestBody The newline-delimited JSON records, UTF-8 encoded
+     * @param responseBody The stream receiving the newline-delimited JSON output lines; left open
+     * @param echo Whether each result line echoes its record as its {@code input}
+     * @return The number of records read
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public long price(InputStream requestBody, OutputStream responseBody, boolean echo) throws IOException {
+        BoundedLineReader reader = new BoundedLineReader(
+                new InputStreamReader(requestBody, StandardCharsets.UTF_8), maxRecordLength);
+        PricingResponseJsonWriter writer = new PricingResponseJsonWriter(responseBody);
+
+        List<OptionRequestDto> chunk = new ArrayList<>(chunkSize);
+        List<BatchPricingErrorDto> malformed = new ArrayList<>();
+        long chunkStart = 0;
+        while (reader.next()) {
+            if (reader.tooLong()) {
+                chunk.add(null);
+                malformed.add(new BatchPricingErrorDto(chunk.size() - 1,
+                        Map.of("element", "record longer than " + maxRecordLength + " characters")));
+            } else {
+                String line = reader.line();
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(requestReader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    chunk.add(null);
+                    malformed.add(new BatchPricingErrorDto(chunk.size() - 1, Map.of("element", "malformed JSON record")));
+                }
+            }
+            if (chunk.size() == chunkSize) {
+                writeChunk(writer, chunk, malformed, chunkStart, echo);
+                chunkStart += chunk.size();
+                chunk.clear();
+                malformed.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(writer, chunk, malformed, chunkStart, echo);
+            chunkStart += chunk.size();
+        }
+        return chunkStart;
+    }
+
+    private void writeChunk(PricingResponseJsonWriter writer, List<OptionRequestDto> chunk,
+                            List<BatchPricingErrorDto> malformed, long chunkStart, boolean echo) throws IOException {
+        BatchPricingService.PricedBatch priced = batchPricingService.price(chunk);
+
+        // Malformed records are null in the chunk and therefore also reported by the batch; theirs is kept instead
+        int malformedIndex = 0;
+        int errorIndex = 0;
+        List<BatchPricingErrorDto> errors = priced.errors();
+        for (int i = 0; i < chunk.size(); i++) {
+            int row = priced.rows()[i];
+            if (row >= 0) {
+                writer.writeResult(priced.results(), row, priced.batch().volatility()[row], echo ? chunk.get(i) : null);
+            } else {
+                BatchPricingErrorDto error = errors.get(errorIndex++);
+                if (malformedIndex < malformed.size() && malformed.get(malformedIndex).index() == i) {
+                    error = malformed.get(malformedIndex++);
+                }
+                writer.writeError(chunkStart + i, error.fields());
+            }
+            writer.writeRaw("\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reads lines of at most a given number of characters, ignoring a trailing {@code '\r'}. The rest of a longer line
+     * is read and dropped as it arrives, so a stream without line breaks never holds more than the limit in memory.
+     */
+    private static final class BoundedLineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        BoundedLineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /** Reads the next line, returning false at the end of the stream. */
+        boolean next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer);
+                    position = 0;
+                    if (limit < 0) {
+                        limit = 0;
+                        break;
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                // One character beyond the limit is kept so that a trailing '\r' does not make a line too long
+                int kept = Math.min(position - start, maxLength + 1 - line.length());
+                line.append(buffer, start, kept);
+                tooLong |= kept < position - start;
+                if (position < limit) {
+                    position++;
+                    break;
+                }
+            }
+            if (line.length() > 0 && line.charAt(line.length() - 1) == '\r' && !tooLong) {
+                line.setLength(line.length() - 1);
+            }
+            tooLong |= line.length() > maxLength;
+            return read;
+        }
+
+        /** The line read last, if it was not too long. */
+        String line() {
+            return line.toString();
+        }
+
+        /** Whether the line read last was longer than the limit; its characters are then not kept. */
+        boolean tooLong() {
+            return tooLong;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.VolSliceDto;
+import com.sallyvnge.optionpricingapi.dto.VolSurfaceDto;
+import com.sallyvnge.optionpricingapi.exception.InvalidVolSurfaceException;
+import com.sallyvnge.optionpricingapi.exception.UnknownVolSurfaceException;
+import com.sallyvnge.optionpricingapi.volatility.VolSlice;
+import com.sallyvnge.optionpricingapi.volatility.VolSmile;
+import com.sallyvnge.optionpricingapi.volatility.VolSurface;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent registry of the volatility surfaces that pricing requests reference by id.
+ * Surfaces are immutable: registering a surface under an existing id atomically replaces the previous one.
+ */
+@Service
+public class VolSurfaceService {
+
+    private final ConcurrentMap<String, VolSurface> surfaces = new ConcurrentHashMap<>();
+
+    /**
+     * Builds a volatility surface from its slices and registers it, replacing any surface with the same id.
+     *
+     * @param surfaceId the id pricing requests use to reference the surface
+     * @param volSurfaceDto the smiles of the surface's expiries
+     * @return the slices of the registered surface, sorted by maturity
+     * @throws InvalidVolSurfaceException if two slices share a maturity, a slice repeats a strike or a point has a
+     *         non-positive strike or volatility
+     */
+    public VolSurfaceDto register(String surfaceId, VolSurfaceDto volSurfaceDto) {
+        VolSurface surface;
+        try {
+            surface = new VolSurface(volSurfaceDto.slices().stream()
+                    .map(slice -> new VolSlice(slice.timeToMaturity(), new VolSmile(slice.volPoints())))
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidVolSurfaceException(e.getMessage(), e);
+        }
+        surfaces.put(surfaceId, surface);
+        return toDto(surface);
+    }
+
+    /**
+     * @param surfaceId the id of the surface
+     * @return the registered surface, if any
+     */
+    public Optional<VolSurface> find(String surfaceId) {
+        return Optional.ofNullable(surfaces.get(surfaceId));
+    }
+
+    /**
+     * @param surfaceId the id of the surface
+     * @return the smiles of the registered surface
+     * @throws UnknownVolSurfaceException if no surface is registered under that id
+     */
+    public VolSurfaceDto get(String surfaceId) {
+        return toDto(find(surfaceId).orElseThrow(() -> unknown(surfaceId)));
+    }
+
+    /**
+     * @param surfaceId the id of the surface
+     * @return true if a surface was registered under that id
+     */
+    public boolean remove(String surfaceId) {
+        return surfaces.remove(surfaceId) != null;
+    }
+
+    /**
+     * Returns the volatility an option is priced with: the volatility of its surface at its maturity and strike when
+     * it references one, its own volatility otherwise.
+     *
+     * @param optionRequestDto the option
+     * @return the volatility to price the option with
+     * @throws UnknownVolSurfaceException if the option references a surface that is not registered
+     */
+    public double resolveVolatility(OptionRequestDto optionRequestDto) {
+        if (optionRequestDto.surfaceId() == null) {
+            return optionRequestDto.volatility();
+        }
+        VolSurface surface = find(optionRequestDto.surfaceId()).orElseThrow(() -> unknown(optionRequestDto.surfaceId()));
+        return surface.iv(optionRequestDto.timeToMaturity(), optionRequestDto.strikePrice());
+    }
+
+    private static VolSurfaceDto toDto(VolSurface surface) {
+        List<VolSliceDto> slices = surface.slices().stream()
+                .map(slice -> new VolSliceDto(slice.timeToMaturity(), slice.smile().volPoints()))
+                .toList();
+        return new VolSurfaceDto(slices);
+    }
+
+    private static UnknownVolSurfaceException unknown(String surfaceId) {
+        return new UnknownVolSurfaceException("Unknown volatility surface: " + surfaceId);
+    }
+}
@@ -2,6 +2,8 @@ package com.sallyvnge.optionpricingapi.util;
 
 public class BlackScholesUtil {
 
+    private static final double INV_SQRT_2PI = 0.3989422804014327;
+
     private BlackScholesUtil() {}
 
     /**
@@ -18,4 +20,35 @@ public class BlackScholesUtil {
     public static double computeD2(double d1, double sigma, double T) {
         return d1 - sigma * Math.sqrt(T);
     }
+
+    /**
+     * Compute the forward price S * e^(rT)
+     */
+    public static double computeForward(double S, double T, double r) {
+        return S * Math.exp(r * T);
+    }
+
+    /**
+     * Compute the undiscounted price of an out-of-the-money option divided by sqrt(F * K), as a function of the
+     * log-moneyness x = -|ln(F / K)| and the total volatility s = sigma * sqrt(T):
+     * e^(x/2) * N(x/s + s/2) - e^(-x/2) * N(x/s - s/2).
+     * Calls and puts share this value once expressed out of the money.
+     */
+    public static double computeNormalizedOtmPrice(double x, double s) {
+        if (s <= 0.0) {
+            return 0.0;
+        }
+        double d1 = x / s + 0.5 * s;
+        double d2 = d1 - s;
+        return Math.exp(0.5 * x) * NormalDistributionUtil.cumulativeDistribution(d1)
+                - Math.exp(-0.5 * x) * NormalDistributionUtil.cumulativeDistribution(d2);
+    }
+
+    /**
+     * Compute the derivative of {@link #computeNormalizedOtmPrice(double, double)} with respect to s:
+     * e^(x/2) * n(x/s + s/2) = e^(-(x²/s² + s²/4) / 2) / sqrt(2 * pi)
+     */
+    public static double computeNormalizedVega(double x, double s) {
+        return INV_SQRT_2PI * Math.exp(-0.5 * (x * x / (s * s) + 0.25 * s * s));
+    }
 }
@@ -1,16 +1,28 @@
 package com.sallyvnge.optionpricingapi.util;
 
-import org.apache.commons.math3.distribution.NormalDistribution;
-
 public class NormalDistributionUtil {
 
-    private static final NormalDistribution NORMAL_DISTRIBUTION = new NormalDistribution();
+    private static NormalDistributionStrategy strategy = NormalDistributionStrategy.RATIONAL;
+
+    private NormalDistributionUtil() {}
 
     public static double cumulativeDistribution(double x) {
-        return NORMAL_DISTRIBUTION.cumulativeProbability(x);
+        return strategy.cumulativeDistribution(x);
     }
 
     public static double probabilityDensity(double x) {
-        return NORMAL_DISTRIBUTION.density(x);
+        return strategy.probabilityDensity(x);
+    }
+
+    /**
+     * Selects the implementation used by every pricing and Greeks computation.
+     * Meant to be called once at startup, see {@code pricing.normal-distribution}.
+     */
+    public static void useStrategy(NormalDistributionStrategy normalDistributionStrategy) {
+        strategy = normalDistributionStrategy;
+    }
+
+    public static NormalDistributionStrategy strategy() {
+        return strategy;
     }
 }
@@ -0,0 +1,27 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires a {@link BarrierPayoffRequest} with a barrier payoff to carry a positive barrier.
+ * Violations are reported on the {@code barrier} field.
+ */
+@Documented
+@Constraint(validatedBy = BarrierForPayoffValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BarrierForPayoff {
+
+    String message() default "must be greater than 0 for a barrier payoff";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
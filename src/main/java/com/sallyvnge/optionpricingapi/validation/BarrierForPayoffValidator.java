@@ -0,0 +1,25 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link BarrierForPayoff} on a {@link BarrierPayoffRequest}.
+ */
+public class BarrierForPayoffValidator implements ConstraintValidator<BarrierForPayoff, BarrierPayoffRequest> {
+
+    @Override
+    public boolean isValid(BarrierPayoffRequest request, ConstraintValidatorContext context) {
+        if (request == null || request.payoffType() == null
+                || !request.payoffType().isBarrier()
+                || (request.barrier() != null && request.barrier() > 0)) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("barrier")
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+
+/**
+ * A request whose payoff may be a barrier payoff, validated by {@link BarrierForPayoff}.
+ */
+public interface BarrierPayoffRequest {
+
+    /**
+     * @return The payoff to price, null for the default payoff
+     */
+    PayoffType payoffType();
+
+    /**
+     * @return The barrier level of barrier payoffs, may be null otherwise
+     */
+    Double barrier();
+}
@@ -0,0 +1,27 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires a finite-difference request to have a payoff the grid can price: not ASIAN, and with EUROPEAN exercise
+ * for knock-in payoffs. Violations are reported on the {@code payoffType} field.
+ */
+@Documented
+@Constraint(validatedBy = GridPayoffValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GridPayoff {
+
+    String message() default "must not be ASIAN, nor a knock-in payoff with AMERICAN exercise";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,32 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.dto.FiniteDifferenceRequestDto;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link GridPayoff} on a {@link FiniteDifferenceRequestDto}.
+ */
+public class GridPayoffValidator implements ConstraintValidator<GridPayoff, FiniteDifferenceRequestDto> {
+
+    @Override
+    public boolean isValid(FiniteDifferenceRequestDto finiteDifferenceRequestDto, ConstraintValidatorContext context) {
+        if (finiteDifferenceRequestDto == null || finiteDifferenceRequestDto.payoffType() == null) {
+            return true;
+        }
+        PayoffType payoffType = finiteDifferenceRequestDto.payoffType();
+        boolean knockIn = payoffType == PayoffType.UP_AND_IN || payoffType == PayoffType.DOWN_AND_IN;
+        if (payoffType != PayoffType.ASIAN
+                && !(knockIn && finiteDifferenceRequestDto.exerciseStyle() == ExerciseStyle.AMERICAN)) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("payoffType")
+                .addConstraintViolation();
+        return false;
+    }
+}
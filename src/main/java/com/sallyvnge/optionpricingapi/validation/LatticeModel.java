@@ -0,0 +1,26 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires a pricing model, when present, to price early exercise: BINOMIAL, TRINOMIAL or INTEGRAL_EQUATION.
+ */
+@Documented
+@Constraint(validatedBy = LatticeModelValidator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LatticeModel {
+
+    String message() default "must be BINOMIAL, TRINOMIAL or INTEGRAL_EQUATION";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
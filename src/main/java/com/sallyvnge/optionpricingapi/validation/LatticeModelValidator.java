@@ -0,0 +1,16 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link LatticeModel} on a {@link PricingModel}.
+ */
+public class LatticeModelValidator implements ConstraintValidator<LatticeModel, PricingModel> {
+
+    @Override
+    public boolean isValid(PricingModel pricingModel, ConstraintValidatorContext context) {
+        return pricingModel == null || pricingModel.isLattice() || pricingModel == PricingModel.INTEGRAL_EQUATION;
+    }
+}
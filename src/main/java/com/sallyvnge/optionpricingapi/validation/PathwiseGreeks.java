@@ -0,0 +1,27 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires a Monte Carlo request asking for Greeks to have a payoff continuous in the path, whose pathwise derivatives
+ * are unbiased: not a barrier payoff. Violations are reported on the {@code greeks} field.
+ */
+@Documented
+@Constraint(validatedBy = PathwiseGreeksValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PathwiseGreeks {
+
+    String message() default "must not be true for a barrier payoff";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
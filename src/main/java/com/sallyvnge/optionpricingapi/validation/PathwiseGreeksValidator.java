@@ -0,0 +1,25 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.dto.MonteCarloRequestDto;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link PathwiseGreeks} on a {@link MonteCarloRequestDto}.
+ */
+public class PathwiseGreeksValidator implements ConstraintValidator<PathwiseGreeks, MonteCarloRequestDto> {
+
+    @Override
+    public boolean isValid(MonteCarloRequestDto monteCarloRequestDto, ConstraintValidatorContext context) {
+        if (monteCarloRequestDto == null || !Boolean.TRUE.equals(monteCarloRequestDto.greeks())
+                || monteCarloRequestDto.payoffType() == null || !monteCarloRequestDto.payoffType().isBarrier()) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("greeks")
+                .addConstraintViolation();
+        return false;
+    }
+}
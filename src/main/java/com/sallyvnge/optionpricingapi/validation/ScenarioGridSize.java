@@ -0,0 +1,30 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires a scenario grid request to price at most {@link #max()} cells, a cell being one option in one scenario
+ * (options × spot shocks × volatility shocks × time shifts), each holding a price and a PnL in the response.
+ * Violations are reported on the {@code options} field.
+ */
+@Documented
+@Constraint(validatedBy = ScenarioGridSizeValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ScenarioGridSize {
+
+    String message() default "must not exceed {max} cells (options × spot shocks × volatility shocks × time shifts)";
+
+    long max();
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,44 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridRequestDto;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.List;
+
+/**
+ * Validates {@link ScenarioGridSize} on a {@link ScenarioGridRequestDto}.
+ */
+public class ScenarioGridSizeValidator implements ConstraintValidator<ScenarioGridSize, ScenarioGridRequestDto> {
+
+    private long max;
+
+    @Override
+    public void initialize(ScenarioGridSize scenarioGridSize) {
+        max = scenarioGridSize.max();
+    }
+
+    @Override
+    public boolean isValid(ScenarioGridRequestDto scenarioGridRequestDto, ConstraintValidatorContext context) {
+        if (scenarioGridRequestDto == null) {
+            return true;
+        }
+        long cells = (long) size(scenarioGridRequestDto.options())
+                * size(scenarioGridRequestDto.spotShocks())
+                * size(scenarioGridRequestDto.volatilityShocks())
+                * Math.max(size(scenarioGridRequestDto.timeShifts()), 1);
+        if (cells <= max) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("options")
+                .addConstraintViolation();
+        return false;
+    }
+
+    private static int size(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+}
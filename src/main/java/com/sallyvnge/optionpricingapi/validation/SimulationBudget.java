@@ -0,0 +1,31 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires a Monte Carlo request to simulate at most {@link #max()} path steps, i.e. paths × monitoring dates, a
+ * European payoff being simulated in a single step and omitted settings taking their defaults. The simulation runs on
+ * the pool shared with batch and scenario pricing, which the per-field bounds alone would let one request hold for
+ * hours. Violations are reported on the {@code paths} field.
+ */
+@Documented
+@Constraint(validatedBy = SimulationBudgetValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SimulationBudget {
+
+    String message() default "must not exceed {max} path steps (paths × monitoring dates)";
+
+    long max();
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
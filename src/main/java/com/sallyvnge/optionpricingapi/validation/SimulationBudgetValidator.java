@@ -0,0 +1,45 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.dto.MonteCarloRequestDto;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.service.MonteCarloPricingService;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link SimulationBudget} on a {@link MonteCarloRequestDto}.
+ */
+public class SimulationBudgetValidator implements ConstraintValidator<SimulationBudget, MonteCarloRequestDto> {
+
+    private long max;
+
+    @Override
+    public void initialize(SimulationBudget simulationBudget) {
+        max = simulationBudget.max();
+    }
+
+    @Override
+    public boolean isValid(MonteCarloRequestDto monteCarloRequestDto, ConstraintValidatorContext context) {
+        if (monteCarloRequestDto == null) {
+            return true;
+        }
+        long paths = monteCarloRequestDto.paths() == null
+                ? MonteCarloPricingService.DEFAULT_PATHS
+                : monteCarloRequestDto.paths();
+        long steps = monteCarloRequestDto.payoffType() == null || monteCarloRequestDto.payoffType() == PayoffType.EUROPEAN
+                ? 1
+                : monteCarloRequestDto.monitoringDates() == null
+                        ? MonteCarloPricingService.DEFAULT_MONITORING_DATES
+                        : monteCarloRequestDto.monitoringDates();
+        // Compared by division, the product overflowing when the fields exceed their own bounds
+        if (paths <= 0 || steps <= 0 || paths <= max / steps) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("paths")
+                .addConstraintViolation();
+        return false;
+    }
+}
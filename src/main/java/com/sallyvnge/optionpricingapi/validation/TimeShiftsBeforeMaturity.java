@@ -0,0 +1,28 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires every time shift of a scenario grid request to be shorter than the time to maturity of every option, so
+ * that each cell is a Black-Scholes price rather than an expired option. Violations are reported on the
+ * {@code timeShifts} field.
+ */
+@Documented
+@Constraint(validatedBy = TimeShiftsBeforeMaturityValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeShiftsBeforeMaturity {
+
+    String message() default "must be shorter than the time to maturity of every option";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,40 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridRequestDto;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link TimeShiftsBeforeMaturity} on a {@link ScenarioGridRequestDto}.
+ */
+public class TimeShiftsBeforeMaturityValidator
+        implements ConstraintValidator<TimeShiftsBeforeMaturity, ScenarioGridRequestDto> {
+
+    @Override
+    public boolean isValid(ScenarioGridRequestDto scenarioGridRequestDto, ConstraintValidatorContext context) {
+        if (scenarioGridRequestDto == null || scenarioGridRequestDto.options() == null
+                || scenarioGridRequestDto.timeShifts() == null) {
+            return true;
+        }
+        double maturity = Double.POSITIVE_INFINITY;
+        for (OptionRequestDto option : scenarioGridRequestDto.options()) {
+            if (option != null) {
+                maturity = Math.min(maturity, option.timeToMaturity());
+            }
+        }
+        boolean valid = true;
+        for (Double timeShift : scenarioGridRequestDto.timeShifts()) {
+            valid &= timeShift == null || timeShift < maturity;
+        }
+        if (valid) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("timeShifts")
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires an option request to carry either a positive volatility or the id of a volatility surface.
+ * Violations are reported on the {@code volatility} field.
+ */
+@Documented
+@Constraint(validatedBy = VolatilityOrSurfaceValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VolatilityOrSurface {
+
+    String message() default "must be greater than 0 unless a surfaceId is given";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
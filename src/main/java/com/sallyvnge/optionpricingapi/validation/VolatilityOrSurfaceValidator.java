@@ -0,0 +1,24 @@
+package com.sallyvnge.optionpricingapi.validation;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link VolatilityOrSurface} on an {@link OptionRequestDto}.
+ */
+public class VolatilityOrSurfaceValidator implements ConstraintValidator<VolatilityOrSurface, OptionRequestDto> {
+
+    @Override
+    public boolean isValid(OptionRequestDto optionRequestDto, ConstraintValidatorContext context) {
+        if (optionRequestDto == null || optionRequestDto.surfaceId() != null || optionRequestDto.volatility() > 0) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("volatility")
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -0,0 +1,170 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import java.util.List;
+
+/**
+ * Immutable, lookup-ready form of a {@link VolSmile}: sorted strikes, implied volatilities and the slope of every
+ * segment are stored in primitive arrays, once along the strike axis and once along the log-strike axis.
+ *
+ * Lookups locate their segment by binary search, or in constant time when the nodes are evenly spaced on the axis,
+ * and allocate nothing. Both interpolations extrapolate flat beyond the first and last strikes.
+ *
+ * Linear interpolation in log-moneyness ln(K / F) does not depend on the forward: ln(F) cancels out of both the
+ * segment slopes and the offset from the left node. A single log-strike axis therefore serves every forward.
+ */
+public final class CompiledVolSmile {
+
+    /** Relative tolerance on node spacing under which an axis is treated as a uniform grid. */
+    private static final double UNIFORM_TOLERANCE = 1e-9;
+
+    private final VolSmile source;
+    private final double[] ivs;
+    private final Axis strikeAxis;
+    private final Axis logStrikeAxis;
+
+    /**
+     * Compiles a volatility smile.
+     * @param smile The smile to compile
+     * @throws IllegalArgumentException if the smile is empty
+     */
+    public CompiledVolSmile(VolSmile smile) {
+        List<VolPoint> points = smile.volPoints();
+        if (points.isEmpty()) {
+            throw new IllegalArgumentException("Cannot interpolate with empty points list");
+        }
+
+        int n = points.size();
+        double[] strikes = new double[n];
+        double[] logStrikes = new double[n];
+        this.ivs = new double[n];
+        for (int i = 0; i < n; i++) {
+            VolPoint point = points.get(i);
+            strikes[i] = point.strike();
+            logStrikes[i] = Math.log(point.strike());
+            ivs[i] = point.iv();
+        }
+
+        this.source = smile;
+        this.strikeAxis = new Axis(strikes, ivs);
+        this.logStrikeAxis = new Axis(logStrikes, ivs);
+    }
+
+    /**
+     * @return The smile this instance was compiled from
+     */
+    public VolSmile source() {
+        return source;
+    }
+
+    /**
+     * @return The number of points in the smile
+     */
+    public int size() {
+        return ivs.length;
+    }
+
+    /**
+     * Interpolates the implied volatility linearly in strike.
+     * @param strike The strike price
+     * @return The interpolated implied volatility
+     */
+    public double ivAtStrike(double strike) {
+        return strikeAxis.interpolate(strike);
+    }
+
+    /**
+     * Interpolates the implied volatility linearly in log-moneyness, for any forward.
+     * @param strike The strike price
+     * @return The interpolated implied volatility
+     */
+    public double ivAtStrikeLogMoneyness(double strike) {
+        return ivAtLogStrike(Math.log(strike));
+    }
+
+    /**
+     * Interpolates the implied volatility linearly in log-moneyness, given the log of the strike.
+     * @param logStrike The natural logarithm of the strike price
+     * @return The interpolated implied volatility
+     */
+    public double ivAtLogStrike(double logStrike) {
+        return logStrikeAxis.interpolate(logStrike);
+    }
+
+    /**
+     * Sorted interpolation nodes with their implied volatilities and the slope of each segment.
+     */
+    private static final class Axis {
+
+        private final double[] nodes;
+        private final double[] ivs;
+        private final double[] slopes;
+        private final double first;
+        private final double last;
+        /** 1 / spacing for a uniform grid, 0 otherwise. */
+        private final double inverseStep;
+
+        Axis(double[] nodes, double[] ivs) {
+            int n = nodes.length;
+            this.nodes = nodes;
+            this.ivs = ivs;
+            this.slopes = new double[Math.max(n - 1, 0)];
+            for (int i = 0; i < n - 1; i++) {
+                slopes[i] = (ivs[i + 1] - ivs[i]) / (nodes[i + 1] - nodes[i]);
+            }
+            this.first = nodes[0];
+            this.last = nodes[n - 1];
+            this.inverseStep = n > 2 && isUniform(nodes) ? (n - 1) / (last - first) : 0.0;
+        }
+
+        double interpolate(double x) {
+            if (x <= first) {
+                return ivs[0];
+            }
+            if (x >= last) {
+                return ivs[ivs.length - 1];
+            }
+            int i = segment(x);
+            return ivs[i] + slopes[i] * (x - nodes[i]);
+        }
+
+        /**
+         * @return The index i of the segment with nodes[i] <= x < nodes[i + 1], for first < x < last
+         */
+        private int segment(double x) {
+            if (inverseStep > 0.0) {
+                // The rounded bucket is at most one segment away from the right one
+                int i = Math.min((int) ((x - first) * inverseStep), slopes.length - 1);
+                if (x < nodes[i]) {
+                    return i - 1;
+                }
+                if (i + 1 < slopes.length && x >= nodes[i + 1]) {
+                    return i + 1;
+                }
+                return i;
+            }
+
+            int low = 0;
+            int high = nodes.length - 1;
+            while (high - low > 1) {
+                int middle = (low + high) >>> 1;
+                if (nodes[middle] <= x) {
+                    low = middle;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private static boolean isUniform(double[] nodes) {
+            int n = nodes.length;
+            double step = (nodes[n - 1] - nodes[0]) / (n - 1);
+            for (int i = 1; i < n - 1; i++) {
+                if (Math.abs(nodes[i] - (nodes[0] + i * step)) > UNIFORM_TOLERANCE * step) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+/**
+ * Natural cubic spline smile interpolation backed by {@link CubicSplineVolSmile}.
+ *
+ * Splines are fitted on first use and kept in a {@link SmileCache} keyed by smile identity, so that repeated lookups
+ * on the same smiles only evaluate a cubic.
+ */
+public class CubicSplineSmileInterpolator implements SmileInterpolator {
+
+    private final SmileCache<CubicSplineVolSmile> splines = new SmileCache<>(CubicSplineVolSmile::new);
+
+    /**
+     * Interpolates the implied volatility at a given strike with a natural cubic spline through the smile.
+     * @param smile The volatility smile containing strikes and corresponding implied volatilities.
+     * @param strike The strike price at which to interpolate the implied volatility.
+     * @return The interpolated implied volatility at the specified strike.
+     * @throws IllegalArgumentException if the smile is empty
+     */
+    @Override
+    public double ivAtStrike(VolSmile smile, double strike) {
+        return fit(smile).ivAtStrike(strike);
+    }
+
+    /**
+     * Returns the spline fitted to a smile, from the cache when the same smile instance was fitted recently.
+     * @param smile The volatility smile
+     * @return The fitted spline
+     * @throws IllegalArgumentException if the smile is empty
+     */
+    public CubicSplineVolSmile fit(VolSmile smile) {
+        return splines.get(smile);
+    }
+}
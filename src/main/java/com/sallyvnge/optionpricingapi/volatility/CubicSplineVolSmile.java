@@ -0,0 +1,138 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import java.util.List;
+
+/**
+ * Natural cubic spline through the points of a {@link VolSmile}, in strike.
+ *
+ * The second derivatives at the nodes solve a tridiagonal system (Thomas algorithm), with zero curvature at both ends.
+ * They are then turned into the polynomial coefficients of every segment, so that a lookup is a binary search
+ * followed by one cubic in Horner form, without allocation. Beyond the first and last strikes the volatility is
+ * extrapolated flat, as with linear interpolation. Overshoots of the spline below zero are floored at zero.
+ */
+public final class CubicSplineVolSmile {
+
+    private final VolSmile source;
+    private final double[] strikes;
+    private final double[] c0;
+    private final double[] c1;
+    private final double[] c2;
+    private final double[] c3;
+
+    /**
+     * Fits a natural cubic spline to a volatility smile.
+     * @param smile The smile to fit
+     * @throws IllegalArgumentException if the smile is empty
+     */
+    public CubicSplineVolSmile(VolSmile smile) {
+        List<VolPoint> points = smile.volPoints();
+        if (points.isEmpty()) {
+            throw new IllegalArgumentException("Cannot interpolate with empty points list");
+        }
+
+        int n = points.size();
+        this.source = smile;
+        this.strikes = new double[n];
+        this.c0 = new double[n];
+        for (int i = 0; i < n; i++) {
+            strikes[i] = points.get(i).strike();
+            c0[i] = points.get(i).iv();
+        }
+
+        int segments = n - 1;
+        this.c1 = new double[segments];
+        this.c2 = new double[segments];
+        this.c3 = new double[segments];
+        if (segments == 0) {
+            return;
+        }
+
+        double[] widths = new double[segments];
+        double[] slopes = new double[segments];
+        for (int i = 0; i < segments; i++) {
+            widths[i] = strikes[i + 1] - strikes[i];
+            slopes[i] = (c0[i + 1] - c0[i]) / widths[i];
+        }
+
+        double[] curvatures = secondDerivatives(widths, slopes);
+        for (int i = 0; i < segments; i++) {
+            double h = widths[i];
+            c1[i] = slopes[i] - h * (2.0 * curvatures[i] + curvatures[i + 1]) / 6.0;
+            c2[i] = 0.5 * curvatures[i];
+            c3[i] = (curvatures[i + 1] - curvatures[i]) / (6.0 * h);
+        }
+    }
+
+    /**
+     * @return The smile this spline was fitted to
+     */
+    public VolSmile source() {
+        return source;
+    }
+
+    /**
+     * Evaluates the spline at a strike.
+     * @param strike The strike price
+     * @return The interpolated implied volatility
+     */
+    public double ivAtStrike(double strike) {
+        int last = strikes.length - 1;
+        if (strike <= strikes[0]) {
+            return c0[0];
+        }
+        if (strike >= strikes[last]) {
+            return c0[last];
+        }
+
+        int low = 0;
+        int high = last;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (strikes[middle] <= strike) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+
+        double h = strike - strikes[low];
+        double iv = c0[low] + h * (c1[low] + h * (c2[low] + h * c3[low]));
+        return Math.max(iv, 0.0);
+    }
+
+    /**
+     * Solves the natural spline equations for the second derivatives at the nodes:
+     * h[i-1] * M[i-1] + 2 * (h[i-1] + h[i]) * M[i] + h[i] * M[i+1] = 6 * (slope[i] - slope[i-1]), M[0] = M[n-1] = 0.
+     */
+    private static double[] secondDerivatives(double[] widths, double[] slopes) {
+        int n = widths.length + 1;
+        double[] curvatures = new double[n];
+        int unknowns = n - 2;
+        if (unknowns <= 0) {
+            return curvatures;
+        }
+
+        // Forward sweep of the Thomas algorithm: the system is diagonally dominant, so no pivoting is needed
+        double[] upper = new double[unknowns];
+        double[] rhs = new double[unknowns];
+        for (int j = 0; j < unknowns; j++) {
+            int i = j + 1;
+            double lower = widths[i - 1];
+            double diagonal = 2.0 * (widths[i - 1] + widths[i]);
+            double value = 6.0 * (slopes[i] - slopes[i - 1]);
+            if (j > 0) {
+                diagonal -= lower * upper[j - 1];
+                value -= lower * rhs[j - 1];
+            }
+            upper[j] = widths[i] / diagonal;
+            rhs[j] = value / diagonal;
+        }
+
+        // Back substitution
+        curvatures[unknowns] = rhs[unknowns - 1];
+        for (int j = unknowns - 2; j >= 0; j--) {
+            curvatures[j + 1] = rhs[j] - upper[j] * curvatures[j + 2];
+        }
+        return curvatures;
+    }
+}
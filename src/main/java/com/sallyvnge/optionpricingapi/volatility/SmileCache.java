@@ -0,0 +1,43 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Small direct-mapped cache of values derived from smiles, keyed by smile identity.
+ *
+ * Smiles are immutable, so a value computed from a smile instance never goes stale. The cache is lock-free: a slot
+ * holds at most one entry, and concurrent misses on the same slot simply compute the value twice. Hits do not
+ * allocate.
+ *
+ * @param <C> The type of the derived value
+ */
+final class SmileCache<C> {
+
+    private static final int SIZE = 16;
+
+    private final Function<VolSmile, C> compiler;
+    private final AtomicReferenceArray<Entry<C>> entries = new AtomicReferenceArray<>(SIZE);
+
+    /**
+     * @param compiler Computes the value of a smile on a cache miss
+     */
+    SmileCache(Function<VolSmile, C> compiler) {
+        this.compiler = compiler;
+    }
+
+    /**
+     * Returns the value of a smile, from the cache when the same smile instance was seen recently.
+     */
+    C get(VolSmile smile) {
+        int slot = System.identityHashCode(smile) & (SIZE - 1);
+        Entry<C> entry = entries.get(slot);
+        if (entry == null || entry.smile() != smile) {
+            entry = new Entry<>(smile, compiler.apply(smile));
+            entries.set(slot, entry);
+        }
+        return entry.value();
+    }
+
+    private record Entry<C>(VolSmile smile, C value) {}
+}
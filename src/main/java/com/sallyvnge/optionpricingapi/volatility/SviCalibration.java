@@ -0,0 +1,155 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import org.apache.commons.math3.optim.InitialGuess;
+import org.apache.commons.math3.optim.MaxEval;
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.apache.commons.math3.optim.nonlinear.scalar.ObjectiveFunction;
+import org.apache.commons.math3.optim.nonlinear.scalar.noderiv.NelderMeadSimplex;
+import org.apache.commons.math3.optim.nonlinear.scalar.noderiv.SimplexOptimizer;
+
+import java.util.List;
+
+/**
+ * Least-squares fit of {@link SviParameters} to the implied variances of a smile.
+ *
+ * Uses the quasi-explicit reduction of Zeliade: for fixed (m, sigma) and y = (k - m) / sigma, the model
+ * variance = a + d * y + c * sqrt(y² + 1) is linear in (a, d, c) = (a, b * rho * sigma, b * sigma), so the inner
+ * problem is a 3x3 linear least-squares solve. Only (m, ln(sigma)) are left to a Nelder-Mead search.
+ */
+final class SviCalibration {
+
+    private static final int MIN_POINTS = 3;
+    private static final int MAX_EVALUATIONS = 5_000;
+    private static final double MIN_SIGMA = 1e-4;
+
+    private final double[] logStrikes;
+    private final double[] variances;
+
+    private SviCalibration(double[] logStrikes, double[] variances) {
+        this.logStrikes = logStrikes;
+        this.variances = variances;
+    }
+
+    /**
+     * Fits SVI parameters to a smile.
+     * @param smile The smile to fit
+     * @return The fitted parameters
+     * @throws IllegalArgumentException if the smile has fewer than 3 points or a non-positive strike
+     */
+    static SviParameters calibrate(VolSmile smile) {
+        List<VolPoint> points = smile.volPoints();
+        if (points.size() < MIN_POINTS) {
+            throw new IllegalArgumentException("SVI calibration requires at least " + MIN_POINTS + " points");
+        }
+
+        int n = points.size();
+        double[] logStrikes = new double[n];
+        double[] variances = new double[n];
+        int vertex = 0;
+        for (int i = 0; i < n; i++) {
+            VolPoint point = points.get(i);
+            if (point.strike() <= 0.0) {
+                throw new IllegalArgumentException("SVI calibration requires positive strikes, got: " + point.strike());
+            }
+            logStrikes[i] = Math.log(point.strike());
+            variances[i] = point.iv() * point.iv();
+            if (variances[i] < variances[vertex]) {
+                vertex = i;
+            }
+        }
+        return new SviCalibration(logStrikes, variances).fit(logStrikes[vertex]);
+    }
+
+    private SviParameters fit(double initialM) {
+        double width = Math.max(logStrikes[logStrikes.length - 1] - logStrikes[0], MIN_SIGMA);
+        SimplexOptimizer optimizer = new SimplexOptimizer(1e-14, 1e-14);
+        PointValuePair optimum = optimizer.optimize(
+                new MaxEval(MAX_EVALUATIONS),
+                new ObjectiveFunction(point -> residual(point[0], sigma(point[1]))),
+                GoalType.MINIMIZE,
+                new InitialGuess(new double[]{initialM, Math.log(0.25 * width)}),
+                new NelderMeadSimplex(new double[]{0.25 * width, 1.0}));
+
+        double m = optimum.getPoint()[0];
+        double sigma = sigma(optimum.getPoint()[1]);
+        double[] linear = solveLinear(m, sigma);
+        double c = linear[2];
+        return new SviParameters(linear[0], c / sigma, c > 0.0 ? linear[1] / c : 0.0, m, sigma);
+    }
+
+    private static double sigma(double logSigma) {
+        return Math.max(Math.exp(logSigma), MIN_SIGMA);
+    }
+
+    private double residual(double m, double sigma) {
+        double[] linear = solveLinear(m, sigma);
+        double sum = 0.0;
+        for (int i = 0; i < logStrikes.length; i++) {
+            double y = (logStrikes[i] - m) / sigma;
+            double error = linear[0] + linear[1] * y + linear[2] * Math.sqrt(y * y + 1.0) - variances[i];
+            sum += error * error;
+        }
+        return sum;
+    }
+
+    /**
+     * Least-squares (a, d, c) for fixed (m, sigma), projected onto c >= 0 and |d| <= c so that b >= 0 and
+     * |rho| <= 1, and onto a minimum variance a + c * sqrt(1 - rho²) >= 0.
+     */
+    private double[] solveLinear(double m, double sigma) {
+        int n = logStrikes.length;
+        double sy = 0.0, sz = 0.0, syy = 0.0, syz = 0.0, szz = 0.0;
+        double sv = 0.0, svy = 0.0, svz = 0.0;
+        for (int i = 0; i < n; i++) {
+            double y = (logStrikes[i] - m) / sigma;
+            double z = Math.sqrt(y * y + 1.0);
+            double v = variances[i];
+            sy += y;
+            sz += z;
+            syy += y * y;
+            syz += y * z;
+            szz += z * z;
+            sv += v;
+            svy += v * y;
+            svz += v * z;
+        }
+
+        double[] solution = solve3(
+                n, sy, sz,
+                sy, syy, syz,
+                sz, syz, szz,
+                sv, svy, svz);
+        double a = solution[0];
+        double d = solution[1];
+        double c = solution[2];
+
+        if (!(c >= 0.0 && Math.abs(d) <= c)) {
+            c = Math.max(c, 0.0);
+            d = Math.max(-c, Math.min(d, c));
+            a = (sv - d * sy - c * sz) / n;
+        }
+        double minimum = a + Math.sqrt(Math.max(c * c - d * d, 0.0));
+        if (minimum < 0.0) {
+            a -= minimum;
+        }
+        return new double[]{a, d, c};
+    }
+
+    /**
+     * Solves a symmetric 3x3 system by Cramer's rule, falling back to a flat smile when it is singular.
+     */
+    private static double[] solve3(double m00, double m01, double m02,
+                                   double m10, double m11, double m12,
+                                   double m20, double m21, double m22,
+                                   double r0, double r1, double r2) {
+        double det = m00 * (m11 * m22 - m12 * m21) - m01 * (m10 * m22 - m12 * m20) + m02 * (m10 * m21 - m11 * m20);
+        if (Math.abs(det) < 1e-300) {
+            return new double[]{r0 / m00, 0.0, 0.0};
+        }
+        double x0 = r0 * (m11 * m22 - m12 * m21) - m01 * (r1 * m22 - m12 * r2) + m02 * (r1 * m21 - m11 * r2);
+        double x1 = m00 * (r1 * m22 - m12 * r2) - r0 * (m10 * m22 - m12 * m20) + m02 * (m10 * r2 - r1 * m20);
+        double x2 = m00 * (m11 * r2 - r1 * m21) - m01 * (m10 * r2 - r1 * m20) + r0 * (m10 * m21 - m11 * m20);
+        return new double[]{x0 / det, x1 / det, x2 / det};
+    }
+}
@@ -0,0 +1,36 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+/**
+ * Raw SVI parameterization of a smile: variance(k) = a + b * (rho * (k - m) + sqrt((k - m)² + sigma²)),
+ * with k = ln(K) the log of the strike.
+ *
+ * A {@link SmileInterpolator} does not know the maturity or forward of the smile, so the parameterization applies to
+ * the implied variance rather than the total variance, and the forward is absorbed into m. Both only rescale or shift
+ * the parameters.
+ *
+ * @param a The variance level
+ * @param b The slope of the wings, non-negative
+ * @param rho The asymmetry of the wings, in [-1, 1]
+ * @param m The log-strike of the vertex
+ * @param sigma The curvature of the vertex, positive
+ */
+public record SviParameters(double a, double b, double rho, double m, double sigma) {
+
+    /**
+     * @param logStrike The natural logarithm of the strike price
+     * @return The implied variance at that strike, floored at zero
+     */
+    public double variance(double logStrike) {
+        double shifted = logStrike - m;
+        double variance = a + b * (rho * shifted + Math.sqrt(shifted * shifted + sigma * sigma));
+        return Math.max(variance, 0.0);
+    }
+
+    /**
+     * @param strike The strike price
+     * @return The implied volatility at that strike
+     */
+    public double ivAtStrike(double strike) {
+        return Math.sqrt(variance(Math.log(strike)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+/**
+ * SVI smile interpolation: the smile is replaced by the raw SVI curve fitted to it by least squares
+ * (see {@link SviParameters}), which also extrapolates the wings linearly in variance instead of flat.
+ *
+ * Fits are computed on first use and kept in a {@link SmileCache} keyed by smile identity, so that repeated lookups on
+ * the same smiles only evaluate the parameterization.
+ */
+public class SviSmileInterpolator implements SmileInterpolator {
+
+    private final SmileCache<SviParameters> fits = new SmileCache<>(SviCalibration::calibrate);
+
+    /**
+     * Evaluates the SVI curve fitted to the smile at a given strike.
+     * @param smile The volatility smile containing strikes and corresponding implied volatilities.
+     * @param strike The strike price at which to evaluate the implied volatility, positive.
+     * @return The implied volatility of the fitted curve at the specified strike.
+     * @throws IllegalArgumentException if the smile has fewer than 3 points or a non-positive strike
+     */
+    @Override
+    public double ivAtStrike(VolSmile smile, double strike) {
+        return calibrate(smile).ivAtStrike(strike);
+    }
+
+    /**
+     * Returns the SVI parameters fitted to a smile, from the cache when the same smile instance was fitted recently.
+     * @param smile The volatility smile
+     * @return The fitted parameters
+     * @throws IllegalArgumentException if the smile has fewer than 3 points or a non-positive strike
+     */
+    public SviParameters calibrate(VolSmile smile) {
+        return fits.get(smile);
+    }
+}
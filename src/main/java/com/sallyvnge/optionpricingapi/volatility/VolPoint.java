@@ -11,7 +11,8 @@ public record VolPoint(double strike, double iv) {
 
     /**
      * Validates that the volatility point has valid values.
-     * Note: Strike can be negative when representing log-moneyness.
+     * Note: Strike can be negative when representing log-moneyness; the slices of a {@link VolSurface} require
+     * positive strikes and volatilities.
      */
     public VolPoint {
         if (iv < 0) {
@@ -0,0 +1,33 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+/**
+ * Represents the volatility smile of a single expiry within a {@link VolSurface}.
+ *
+ * @param timeToMaturity The time to the expiry, in years
+ * @param smile The implied volatilities of the expiry
+ */
+public record VolSlice(double timeToMaturity, VolSmile smile) {
+
+    /**
+     * Validates that the slice has a positive maturity and a non-empty smile of positive strikes and volatilities:
+     * strikes are interpolated in log-moneyness, and options are priced with the volatilities.
+     */
+    public VolSlice {
+        if (!(timeToMaturity > 0) || !Double.isFinite(timeToMaturity)) {
+            throw new IllegalArgumentException("Time to maturity must be positive and finite, got: " + timeToMaturity);
+        }
+        if (smile == null || smile.isEmpty()) {
+            throw new IllegalArgumentException("Smile of maturity " + timeToMaturity + " cannot be empty");
+        }
+        for (VolPoint point : smile.volPoints()) {
+            if (!(point.strike() > 0)) {
+                throw new IllegalArgumentException("Strikes of maturity " + timeToMaturity + " must be positive, got: "
+                        + point.strike());
+            }
+            if (!(point.iv() > 0)) {
+                throw new IllegalArgumentException("Implied volatilities of maturity " + timeToMaturity
+                        + " must be positive, got: " + point.iv() + " at strike " + point.strike());
+            }
+        }
+    }
+}
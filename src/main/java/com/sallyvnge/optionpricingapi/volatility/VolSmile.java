@@ -8,6 +8,7 @@ import java.util.List;
  * Represents a volatility smile containing multiple volatility points.
  * The smile consists of strike prices and their corresponding implied volatilities.
  * Points are automatically sorted by strike price for efficient interpolation.
+ * The smile is immutable; {@link CompiledVolSmile} holds its lookup-ready form.
  */
 public record VolSmile(List<VolPoint> volPoints) {
 
@@ -20,11 +21,14 @@ public record VolSmile(List<VolPoint> volPoints) {
         }
 
         // Create a defensive copy and sort by strike
-        volPoints = new ArrayList<>(volPoints);
-        volPoints.sort(Comparator.comparing(VolPoint::strike));
+        List<VolPoint> sorted = new ArrayList<>(volPoints);
+        sorted.sort(Comparator.comparing(VolPoint::strike));
 
         // Validate that all strikes are unique
-        validateUniqueStrikes(volPoints);
+        validateUniqueStrikes(sorted);
+
+        // Keep the points unmodifiable so that a compiled form of the smile can never go stale
+        volPoints = List.copyOf(sorted);
     }
 
     /**
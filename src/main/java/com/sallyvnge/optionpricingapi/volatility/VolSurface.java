@@ -0,0 +1,137 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable volatility surface made of {@link VolSmile} slices keyed by maturity.
+ *
+ * Within a slice, volatilities are interpolated linearly in log-moneyness by the slice's {@link CompiledVolSmile}.
+ * Between two slices, the total variance sigma² * T at the requested strike is interpolated linearly in time, which
+ * keeps forward variances non-negative whenever the slices are free of calendar arbitrage. Before the first and
+ * after the last maturity, the volatility of the nearest slice is used.
+ *
+ * Each slice is compiled once, at construction. Recent (T, K) queries are kept in a small lock-free two-way
+ * set-associative cache, so that the many contracts of a book sharing a listed expiry and strike interpolate only
+ * once and cache hits allocate nothing.
+ */
+public final class VolSurface {
+
+    private static final int CACHE_BITS = 12;
+    private static final int CACHE_SIZE = 1 << CACHE_BITS;
+
+    private final List<VolSlice> slices;
+    private final double[] maturities;
+    private final CompiledVolSmile[] compiledSlices;
+    private final AtomicReferenceArray<CachedVolatility> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    /**
+     * Creates a volatility surface and sorts its slices by maturity.
+     * @param slices The slices of the surface
+     * @throws IllegalArgumentException if there are no slices or two slices share a maturity
+     */
+    public VolSurface(List<VolSlice> slices) {
+        if (slices == null || slices.isEmpty()) {
+            throw new IllegalArgumentException("Volatility surface needs at least one slice");
+        }
+
+        List<VolSlice> sorted = new ArrayList<>(slices);
+        sorted.sort(Comparator.comparingDouble(VolSlice::timeToMaturity));
+        this.slices = List.copyOf(sorted);
+
+        int n = sorted.size();
+        this.maturities = new double[n];
+        this.compiledSlices = new CompiledVolSmile[n];
+        for (int i = 0; i < n; i++) {
+            maturities[i] = sorted.get(i).timeToMaturity();
+            compiledSlices[i] = new CompiledVolSmile(sorted.get(i).smile());
+            if (i > 0 && maturities[i] == maturities[i - 1]) {
+                throw new IllegalArgumentException("Duplicate maturity found: " + maturities[i]);
+            }
+        }
+    }
+
+    /**
+     * @return The slices of the surface, sorted by maturity
+     */
+    public List<VolSlice> slices() {
+        return slices;
+    }
+
+    /**
+     * Returns the implied volatility at a maturity and strike.
+     * @param timeToMaturity The time to maturity in years
+     * @param strike The strike price
+     * @return The interpolated implied volatility
+     */
+    public double iv(double timeToMaturity, double strike) {
+        int slot = slot(timeToMaturity, strike);
+        CachedVolatility first = cache.get(slot);
+        if (first != null && first.matches(timeToMaturity, strike)) {
+            return first.volatility();
+        }
+        CachedVolatility second = cache.get(slot + 1);
+        if (second != null && second.matches(timeToMaturity, strike)) {
+            return second.volatility();
+        }
+
+        double volatility = interpolate(timeToMaturity, strike);
+        CachedVolatility computed = new CachedVolatility(timeToMaturity, strike, volatility);
+        if (first == null) {
+            cache.set(slot, computed);
+        } else {
+            // The most recent entry goes first, the previous one is kept as second
+            cache.set(slot + 1, first);
+            cache.set(slot, computed);
+        }
+        return volatility;
+    }
+
+    private double interpolate(double timeToMaturity, double strike) {
+        double logStrike = Math.log(strike);
+        int n = maturities.length;
+        if (timeToMaturity <= maturities[0]) {
+            return compiledSlices[0].ivAtLogStrike(logStrike);
+        }
+        if (timeToMaturity >= maturities[n - 1]) {
+            return compiledSlices[n - 1].ivAtLogStrike(logStrike);
+        }
+
+        int low = 0;
+        int high = n - 1;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (maturities[middle] <= timeToMaturity) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+
+        double ivLow = compiledSlices[low].ivAtLogStrike(logStrike);
+        if (timeToMaturity == maturities[low]) {
+            return ivLow;
+        }
+        double ivHigh = compiledSlices[high].ivAtLogStrike(logStrike);
+        double varianceLow = ivLow * ivLow * maturities[low];
+        double varianceHigh = ivHigh * ivHigh * maturities[high];
+        double weight = (timeToMaturity - maturities[low]) / (maturities[high] - maturities[low]);
+        return Math.sqrt((varianceLow + weight * (varianceHigh - varianceLow)) / timeToMaturity);
+    }
+
+    private static int slot(double timeToMaturity, double strike) {
+        long hash = (Double.doubleToLongBits(timeToMaturity) * 0x9E3779B97F4A7C15L) ^ Double.doubleToLongBits(strike);
+        hash *= 0xBF58476D1CE4E5B9L;
+        // Even slot of a two-entry set
+        return (int) (hash >>> (Long.SIZE - CACHE_BITS)) & ~1;
+    }
+
+    private record CachedVolatility(double timeToMaturity, double strike, double volatility) {
+
+        boolean matches(double timeToMaturity, double strike) {
+            return this.timeToMaturity == timeToMaturity && this.strike == strike;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sallyvnge.optionpricingapi.aad;
+
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.service.GreeksCalculatorService;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TapeTest {
+
+    @Test
+    void should_match_the_analytic_black_scholes_greeks_in_one_backward_sweep() {
+        GreeksCalculatorService greeksCalculatorService = new GreeksCalculatorService();
+        for (OptionType optionType : OptionType.values()) {
+            // Given
+            double w = optionType == OptionType.CALL ? 1.0 : -1.0;
+            Tape tape = Tape.current();
+            int S = tape.variable(95.0);
+            int sigma = tape.variable(0.27);
+            int r = tape.variable(0.03);
+            int T = tape.variable(0.8);
+
+            // When: price = w * (S * N(w * d1) - K * e^(-rT) * N(w * d2)) with K = 105
+            int volSqrtT = tape.mul(sigma, tape.sqrt(T));
+            int d1 = tape.div(tape.add(tape.log(tape.mul(S, 1.0 / 105.0)),
+                    tape.mul(tape.add(r, tape.mul(tape.mul(sigma, sigma), 0.5)), T)), volSqrtT);
+            int d2 = tape.sub(d1, volSqrtT);
+            int discountedStrike = tape.mul(tape.exp(tape.mul(tape.mul(r, T), -1.0)), 105.0);
+            int price = tape.mul(tape.sub(
+                    tape.mul(S, tape.cumulativeNormal(tape.mul(d1, w))),
+                    tape.mul(discountedStrike, tape.cumulativeNormal(tape.mul(d2, w)))), w);
+            tape.backward(price);
+
+            // Then
+            Greeks greeks = greeksCalculatorService.calculate(95.0, 105.0, 0.8, 0.03, 0.27, optionType,
+                    EnumSet.allOf(Greek.class));
+            assertThat(tape.adjoint(S)).isCloseTo(greeks.delta(), within(1e-12));
+            assertThat(tape.adjoint(sigma)).isCloseTo(greeks.vega(), within(1e-11));
+            assertThat(tape.adjoint(r)).isCloseTo(greeks.rho(), within(1e-11));
+            assertThat(-tape.adjoint(T)).isCloseTo(greeks.theta(), within(1e-11));
+        }
+    }
+
+    @Test
+    void should_differentiate_again_after_rewinding_to_a_shared_prefix() {
+        // Given: x and e^x recorded once
+        Tape tape = Tape.current();
+        int x = tape.variable(0.5);
+        int expX = tape.exp(x);
+        int prefix = tape.size();
+
+        for (int n = 1; n <= 3; n++) {
+            // When: f(x) = e^x * x^n, recorded after the prefix
+            tape.rewind(prefix);
+            int f = expX;
+            for (int i = 0; i < n; i++) {
+                f = tape.mul(f, x);
+            }
+            tape.backward(f);
+
+            // Then: f'(x) = e^x * (x^n + n * x^(n - 1))
+            double expected = Math.exp(0.5) * (Math.pow(0.5, n) + n * Math.pow(0.5, n - 1));
+            assertThat(tape.value(f)).isCloseTo(Math.exp(0.5) * Math.pow(0.5, n), within(1e-15));
+            assertThat(tape.adjoint(x)).isCloseTo(expected, within(1e-15));
+        }
+    }
+
+    @Test
+    void should_grow_past_its_initial_capacity() {
+        // Given
+        Tape tape = Tape.current();
+        int x = tape.variable(1.0);
+
+        // When: x^10000 as 10000 products
+        int f = x;
+        for (int i = 1; i < 10_000; i++) {
+            f = tape.mul(f, x);
+        }
+        tape.backward(f);
+
+        // Then
+        assertThat(tape.size()).isEqualTo(10_000);
+        assertThat(tape.value(f)).isEqualTo(1.0);
+        assertThat(tape.adjoint(x)).isEqualTo(10_000.0);
+    }
+}
@@ -0,0 +1,117 @@
+package com.sallyvnge.optionpricingapi.boundary;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.lattice.LatticePricer;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ExerciseBoundaryPricerTest {
+
+    /** Converged prices of American puts with K = 100, from extrapolated finite differences of 8000 time steps. */
+    private static final double DEEP_PUT = 20.26593;
+    private static final double AT_THE_MONEY_PUT = 6.09037;
+    private static final double SHORT_PUT = 12.74945;
+    private static final double LONG_PUT = 19.85415;
+
+    @Test
+    void should_price_a_deep_in_the_money_american_put_to_trading_accuracy() {
+        // When: close to the boundary, where the lattice error still reaches 2e-2 at 128 steps
+        PriceAndGreeks result = ExerciseBoundaryPricer.priceAndGreeks(80.0, 100.0, 2.0, 0.08, 0.25, OptionType.PUT);
+
+        // Then
+        assertThat(result.price()).isCloseTo(DEEP_PUT, within(1e-3));
+    }
+
+    @Test
+    void should_price_american_puts_to_trading_accuracy() {
+        // When
+        double atTheMoney = ExerciseBoundaryPricer.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT).price();
+        double shortPut = ExerciseBoundaryPricer.priceAndGreeks(90.0, 100.0, 0.5, 0.05, 0.3, OptionType.PUT).price();
+        double longPut = ExerciseBoundaryPricer.priceAndGreeks(100.0, 100.0, 3.0, 0.06, 0.4, OptionType.PUT).price();
+
+        // Then
+        assertThat(atTheMoney).isCloseTo(AT_THE_MONEY_PUT, within(1e-4));
+        assertThat(shortPut).isCloseTo(SHORT_PUT, within(1e-4));
+        assertThat(longPut).isCloseTo(LONG_PUT, within(1e-4));
+    }
+
+    @Test
+    void should_converge_given_a_low_volatility_and_a_high_rate() {
+        // Given: r / sigma² = 31, where moving every node straight to the right-hand side oscillates apart; the
+        // converged price comes from 32 nodes
+        double expected = 0.57844;
+
+        // When
+        PriceAndGreeks result = ExerciseBoundaryPricer.priceAndGreeks(100.0, 100.0, 1.7, 0.085, 0.052, OptionType.PUT);
+
+        // Then
+        assertThat(result.price()).isCloseTo(expected, within(1e-3));
+        assertThat(result.vega()).isCloseTo(21.80, within(0.1));
+    }
+
+    @Test
+    void should_match_the_greeks_of_bumped_prices() {
+        // Given
+        double bump = 1e-4;
+        double spotBump = 0.5;
+
+        // When
+        PriceAndGreeks result = ExerciseBoundaryPricer.priceAndGreeks(80.0, 100.0, 2.0, 0.08, 0.25, OptionType.PUT);
+        double up = ExerciseBoundaryPricer.priceAndGreeks(80.0 + spotBump, 100.0, 2.0, 0.08, 0.25, OptionType.PUT).price();
+        double down = ExerciseBoundaryPricer.priceAndGreeks(80.0 - spotBump, 100.0, 2.0, 0.08, 0.25, OptionType.PUT).price();
+        double volUp = ExerciseBoundaryPricer.priceAndGreeks(80.0, 100.0, 2.0, 0.08, 0.25 + bump, OptionType.PUT).price();
+        double volDown = ExerciseBoundaryPricer.priceAndGreeks(80.0, 100.0, 2.0, 0.08, 0.25 - bump, OptionType.PUT).price();
+
+        // Then
+        assertThat(result.delta()).isCloseTo((up - down) / (2.0 * spotBump), within(1e-4));
+        assertThat(result.gamma()).isCloseTo((up - 2.0 * result.price() + down) / (spotBump * spotBump), within(1e-4));
+        assertThat(result.vega()).isCloseTo((volUp - volDown) / (2.0 * bump), within(1e-3));
+    }
+
+    @Test
+    void should_price_a_call_exercised_early_under_a_negative_rate() {
+        // Given
+        PriceAndGreeks lattice = LatticePricer.priceAndGreeks(100.0, 100.0, 1.0, -0.03, 0.2, OptionType.CALL,
+                ExerciseStyle.AMERICAN, PricingModel.TRINOMIAL, 2000, true, false);
+        double european = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, -0.03, 0.2, OptionType.CALL).price();
+
+        // When
+        PriceAndGreeks result = ExerciseBoundaryPricer.priceAndGreeks(100.0, 100.0, 1.0, -0.03, 0.2, OptionType.CALL);
+
+        // Then
+        assertThat(result.price()).isGreaterThan(european);
+        assertThat(result.price()).isCloseTo(lattice.price(), within(1e-4));
+        assertThat(result.delta()).isCloseTo(lattice.delta(), within(1e-4));
+        assertThat(result.gamma()).isCloseTo(lattice.gamma(), within(1e-4));
+        assertThat(result.vega()).isCloseTo(lattice.vega(), within(1e-2));
+    }
+
+    @Test
+    void should_exercise_right_away_below_the_boundary() {
+        // When
+        PriceAndGreeks result = ExerciseBoundaryPricer.priceAndGreeks(50.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT);
+
+        // Then
+        assertThat(result.price()).isEqualTo(50.0);
+        assertThat(result.delta()).isEqualTo(-1.0);
+        assertThat(result.gamma()).isZero();
+        assertThat(result.vega()).isZero();
+    }
+
+    @Test
+    void should_price_as_black_scholes_when_early_exercise_never_pays() {
+        // When
+        PriceAndGreeks call = ExerciseBoundaryPricer.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL);
+        PriceAndGreeks put = ExerciseBoundaryPricer.priceAndGreeks(100.0, 100.0, 1.0, -0.01, 0.2, OptionType.PUT);
+
+        // Then
+        assertThat(call).isEqualTo(BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL));
+        assertThat(put).isEqualTo(BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, -0.01, 0.2, OptionType.PUT));
+    }
+}
@@ -0,0 +1,114 @@
+package com.sallyvnge.optionpricingapi.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PricingResultCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    void should_price_at_quantized_inputs_and_share_entries_between_nearby_requests() {
+        // Given: a 0.05 tick on S, 1 vol point on sigma and one day on T
+        PricingResultCache cache = new PricingResultCache(100, Duration.ofMinutes(1), 0.05, 0.01, 1.0 / 365, ticker);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // When
+        PricingResultCache.CachedPricing first = cache.priceAndGreeks(100.01, 105.0, 0.25, 0.03, 0.2004, OptionType.CALL);
+        PricingResultCache.CachedPricing second = cache.priceAndGreeks(99.99, 105.0, 0.2505, 0.03, 0.1996, OptionType.CALL);
+
+        // Then
+        PriceAndGreeks expected = BlackScholesKernel.priceAndGreeks(100.0, 105.0, 91.0 / 365, 0.03, 0.2,
+                OptionType.CALL);
+        assertThat(second).isSameAs(first);
+        assertThat(first.volatility()).isCloseTo(0.2, within(1e-15));
+        assertThat(first.priceAndGreeks().price()).isCloseTo(expected.price(), within(1e-12));
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_key_exactly_without_quantization() {
+        // Given
+        PricingResultCache cache = new PricingResultCache(100, Duration.ofMinutes(1), 0.0, 0.0, 0.0, ticker);
+
+        // When
+        PricingResultCache.CachedPricing first = cache.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT);
+        PricingResultCache.CachedPricing nearby = cache.priceAndGreeks(100.0001, 100.0, 1.0, 0.05, 0.2, OptionType.PUT);
+        PricingResultCache.CachedPricing call = cache.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL);
+
+        // Then
+        assertThat(nearby.priceAndGreeks().price()).isNotEqualTo(first.priceAndGreeks().price());
+        assertThat(call.priceAndGreeks().price()).isNotEqualTo(first.priceAndGreeks().price());
+        assertThat(first.priceAndGreeks())
+                .isEqualTo(BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT));
+    }
+
+    @Test
+    void should_evict_beyond_maximum_size_and_after_expiry() {
+        // Given
+        PricingResultCache cache = new PricingResultCache(2, Duration.ofSeconds(30), 0.0, 0.0, 0.0, ticker);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // When: three distinct strikes overflow the cache
+        for (double strike : new double[]{90.0, 100.0, 110.0}) {
+            cache.priceAndGreeks(100.0, strike, 1.0, 0.05, 0.2, OptionType.CALL);
+        }
+        cache.cleanUp();
+        double sizeEvictions = registry.get("cache.evictions").functionCounter().count();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        cache.cleanUp();
+
+        // Then
+        assertThat(sizeEvictions).isEqualTo(1.0);
+        assertThat(registry.get("cache.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void should_not_cache_when_quantized_inputs_are_not_positive() {
+        // Given: a spot below half a tick would be rounded to zero
+        PricingResultCache cache = new PricingResultCache(100, Duration.ofMinutes(1), 1.0, 0.0, 0.0, ticker);
+
+        // When
+        PricingResultCache.CachedPricing result = cache.priceAndGreeks(0.3, 0.25, 1.0, 0.05, 0.2, OptionType.CALL);
+
+        // Then
+        assertThat(result.priceAndGreeks())
+                .isEqualTo(BlackScholesKernel.priceAndGreeks(0.3, 0.25, 1.0, 0.05, 0.2, OptionType.CALL));
+    }
+
+    @Test
+    void should_price_exactly_when_disabled() {
+        // Given
+        PricingResultCache cache = PricingResultCache.disabled();
+
+        // When
+        PricingResultCache.CachedPricing first = cache.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL);
+        PricingResultCache.CachedPricing second = cache.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL);
+
+        // Then
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void should_reject_negative_quantization_steps() {
+        // When / Then
+        assertThatThrownBy(() -> new PricingResultCache(10, Duration.ofMinutes(1), -0.01, 0.0, 0.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Quantization step");
+    }
+}
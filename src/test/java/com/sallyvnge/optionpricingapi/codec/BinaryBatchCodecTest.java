@@ -0,0 +1,141 @@
+package com.sallyvnge.optionpricingapi.codec;
+
+import com.sallyvnge.optionpricingapi.exception.MalformedBatchException;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryBatchCodecTest {
+
+    @Test
+    void should_round_trip_a_request_spanning_several_buffers() throws IOException {
+        // Given
+        OptionBatch batch = randomBatch(20_000);
+
+        // When
+        byte[] body = requestBody(batch);
+        OptionBatch decoded = BinaryBatchCodec.readRequest(new ByteArrayInputStream(body));
+
+        // Then
+        assertThat(body).hasSize(BinaryBatchCodec.HEADER_BYTES + 41 * 20_000);
+        assertThat(decoded.size()).isEqualTo(20_000);
+        assertThat(decoded.underlyingPrice()).isEqualTo(batch.underlyingPrice());
+        assertThat(decoded.strikePrice()).isEqualTo(batch.strikePrice());
+        assertThat(decoded.timeToMaturity()).isEqualTo(batch.timeToMaturity());
+        assertThat(decoded.riskFreeRate()).isEqualTo(batch.riskFreeRate());
+        assertThat(decoded.volatility()).isEqualTo(batch.volatility());
+        assertThat(decoded.call()).isEqualTo(batch.call());
+    }
+
+    @Test
+    void should_round_trip_a_response_with_rejected_rows() throws IOException {
+        // Given
+        PricingResults results = new PricingResults(3);
+        double[][] columns = {results.price(), results.delta(), results.gamma(), results.vega()};
+        for (int c = 0; c < columns.length; c++) {
+            columns[c][0] = c + 0.25;
+            columns[c][1] = Double.NaN;
+            columns[c][2] = -c - 0.5;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        BinaryBatchCodec.writeResponse(results, 3, 1, out);
+        byte[] body = out.toByteArray();
+        PricingResults decoded = BinaryBatchCodec.readResponse(new ByteArrayInputStream(body));
+
+        // Then
+        ByteBuffer header = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(header.getInt(8)).isEqualTo(3);
+        assertThat(header.getInt(12)).isEqualTo(1);
+        assertThat(decoded.price()).isEqualTo(results.price());
+        assertThat(decoded.delta()).isEqualTo(results.delta());
+        assertThat(decoded.gamma()).isEqualTo(results.gamma());
+        assertThat(decoded.vega()).isEqualTo(results.vega());
+    }
+
+    @Test
+    void should_lay_out_columns_little_endian_after_the_header() throws IOException {
+        // Given
+        OptionBatch batch = new OptionBatch(2);
+        batch.add(100.0, 90.0, 1.0, 0.05, 0.2, OptionType.CALL);
+        batch.add(101.0, 110.0, 0.5, 0.01, 0.3, OptionType.PUT);
+
+        // When
+        ByteBuffer body = ByteBuffer.wrap(requestBody(batch)).order(ByteOrder.LITTLE_ENDIAN);
+
+        // Then
+        assertThat(new String(body.array(), 0, 4)).isEqualTo("OBRQ");
+        assertThat(body.getShort(4)).isEqualTo((short) 1);
+        assertThat(body.getInt(8)).isEqualTo(2);
+        assertThat(body.getDouble(16)).isEqualTo(100.0);
+        assertThat(body.getDouble(24)).isEqualTo(101.0);
+        assertThat(body.getDouble(32)).isEqualTo(90.0);
+        assertThat(body.getDouble(16 + 4 * 16 + 8)).isEqualTo(0.3);
+        assertThat(body.get(16 + 5 * 16)).isEqualTo((byte) 1);
+        assertThat(body.get(16 + 5 * 16 + 1)).isEqualTo((byte) 0);
+    }
+
+    @Test
+    void should_reject_bodies_not_following_the_format() throws IOException {
+        // Given
+        byte[] body = requestBody(randomBatch(4));
+        byte[] wrongMagic = body.clone();
+        wrongMagic[0] = 'X';
+        byte[] wrongType = body.clone();
+        wrongType[body.length - 1] = 2;
+        byte[] tooManyRows = body.clone();
+        ByteBuffer.wrap(tooManyRows).order(ByteOrder.LITTLE_ENDIAN).putInt(8, BinaryBatchCodec.MAX_ROWS + 1);
+
+        // When / Then
+        for (byte[] malformed : new byte[][]{wrongMagic, wrongType, tooManyRows,
+                Arrays.copyOf(body, body.length - 1), Arrays.copyOf(body, body.length + 1), new byte[3]}) {
+            assertThatThrownBy(() -> BinaryBatchCodec.readRequest(new ByteArrayInputStream(malformed)))
+                    .isInstanceOf(MalformedBatchException.class);
+        }
+    }
+
+    @Test
+    void should_reject_a_header_announcing_more_rows_than_the_body_holds() throws IOException {
+        // Given: a header announcing the largest number of rows, followed by a single row
+        byte[] body = Arrays.copyOf(requestBody(randomBatch(1)), BinaryBatchCodec.HEADER_BYTES + 8);
+        ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).putInt(8, BinaryBatchCodec.MAX_ROWS);
+
+        // When / Then: with or without the length of the body
+        assertThatThrownBy(() -> BinaryBatchCodec.readRequest(new ByteArrayInputStream(body), body.length))
+                .isInstanceOf(MalformedBatchException.class)
+                .hasMessageContaining("does not hold");
+        assertThatThrownBy(() -> BinaryBatchCodec.readRequest(new ByteArrayInputStream(body)))
+                .isInstanceOf(MalformedBatchException.class)
+                .hasMessageContaining("shorter");
+    }
+
+    private static OptionBatch randomBatch(int rows) {
+        SplittableRandom random = new SplittableRandom(42);
+        OptionBatch batch = new OptionBatch(rows);
+        for (int i = 0; i < rows; i++) {
+            batch.add(100.0, random.nextDouble(50.0, 150.0), random.nextDouble(0.02, 3.0),
+                    random.nextDouble(-0.01, 0.06), random.nextDouble(0.05, 0.8),
+                    random.nextBoolean() ? OptionType.CALL : OptionType.PUT);
+        }
+        return batch;
+    }
+
+    private static byte[] requestBody(OptionBatch batch) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryBatchCodec.writeRequest(batch, out);
+        return out.toByteArray();
+    }
+}
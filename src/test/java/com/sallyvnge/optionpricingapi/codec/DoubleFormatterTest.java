@@ -0,0 +1,50 @@
+package com.sallyvnge.optionpricingapi.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoubleFormatterTest {
+
+    @Test
+    void should_write_the_same_characters_as_double_to_string() {
+        // Given: typical prices and Greeks, doubles of every exponent, and short decimals
+        SplittableRandom random = new SplittableRandom(11);
+        byte[] buffer = new byte[DoubleFormatter.MAX_CHARS];
+
+        // When / Then
+        for (int i = 0; i < 200_000; i++) {
+            double v = switch (i % 4) {
+                case 0 -> random.nextDouble(-200.0, 200.0);
+                case 1 -> Math.exp(random.nextDouble(-40.0, 40.0));
+                case 2 -> Double.longBitsToDouble(random.nextLong());
+                default -> Math.round(random.nextDouble(0.0, 1e6)) / 1e4;
+            };
+            if (Double.isFinite(v)) {
+                assertFormatted(v, buffer);
+            }
+        }
+    }
+
+    @Test
+    void should_write_edge_cases_as_double_to_string() {
+        // Given
+        double[] values = {0.0, -0.0, 1.0, -1.0, 0.1, 0.001, 0.000999, 1e7, 9999999.0, 1234567.125, 1e-3, 1e22, 1e23,
+                2.0, 0.5, Math.pow(2, -24), Math.pow(2, 53), Math.pow(2, 60) + 4096, 4.35, 5e-324, Double.MIN_NORMAL,
+                Double.MAX_VALUE, -Double.MAX_VALUE, 10.450583572185565, 0.6368306511756191};
+        byte[] buffer = new byte[DoubleFormatter.MAX_CHARS];
+
+        // When / Then
+        for (double v : values) {
+            assertFormatted(v, buffer);
+        }
+    }
+
+    private static void assertFormatted(double v, byte[] buffer) {
+        int end = DoubleFormatter.write(v, buffer, 0);
+        assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII)).isEqualTo(Double.toString(v));
+    }
+}
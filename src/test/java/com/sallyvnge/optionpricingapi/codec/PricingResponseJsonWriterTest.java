@@ -0,0 +1,130 @@
+package com.sallyvnge.optionpricingapi.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingErrorDto;
+import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricingResponseJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void should_write_the_same_bytes_as_jackson_across_several_buffers() throws IOException {
+        // Given: more results than one buffer holds, with surface ids to escape and non-finite Greeks
+        int n = 2_000;
+        SplittableRandom random = new SplittableRandom(3);
+        PricingResults results = new PricingResults(n);
+        OptionRequestDto[] requests = new OptionRequestDto[n];
+        String[] surfaceIds = {null, "SPX", "quote\"back\\slash", "tab\tline\ncontrol\u0001", "café €"};
+        for (int i = 0; i < n; i++) {
+            results.price()[i] = random.nextDouble(0.0, 50.0);
+            results.delta()[i] = random.nextDouble(-1.0, 1.0);
+            results.gamma()[i] = i % 97 == 0 ? Double.NaN : random.nextDouble(0.0, 0.1);
+            results.vega()[i] = i % 89 == 0 ? Double.NEGATIVE_INFINITY : random.nextDouble(0.0, 40.0);
+            requests[i] = OptionRequestDto.builder()
+                    .underlyingPrice(random.nextDouble(50.0, 150.0))
+                    .strikePrice(Math.round(random.nextDouble(50.0, 150.0)))
+                    .timeToMaturity(random.nextDouble(0.01, 5.0))
+                    .riskFreeRate(random.nextDouble(-0.01, 0.08))
+                    .volatility(random.nextDouble(0.05, 1.0))
+                    .optionType(random.nextBoolean() ? OptionType.CALL : OptionType.PUT)
+                    .surfaceId(surfaceIds[i % surfaceIds.length])
+                    .build();
+        }
+
+        // When
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        PricingResponseJsonWriter writer = new PricingResponseJsonWriter(written);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < n; i++) {
+            writer.writeResult(results, i, requests[i].volatility(), requests[i]);
+            writer.writeRaw("\n");
+            expected.write(objectMapper.writeValueAsBytes(OptionPricingResponseDto.builder()
+                    .price(results.price()[i])
+                    .delta(results.delta()[i])
+                    .gamma(results.gamma()[i])
+                    .vega(results.vega()[i])
+                    .volatilityUsed(requests[i].volatility())
+                    .pricingModel(PricingModel.BLACK_SCHOLES)
+                    .input(requests[i])
+                    .build()));
+            expected.write('\n');
+        }
+        writer.flush();
+
+        // Then
+        assertThat(written.size()).isGreaterThan(10 * PricingResponseJsonWriter.BUFFER_BYTES);
+        assertThat(written.toString(StandardCharsets.UTF_8)).isEqualTo(expected.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void should_write_errors_as_jackson_does() throws IOException {
+        // Given
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("strikePrice", "must be greater than 0");
+        fields.put("surfaceId", "unknown \"volatility\" surface");
+        BatchPricingErrorDto error = new BatchPricingErrorDto(1_234_567, fields);
+
+        // When
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        PricingResponseJsonWriter writer = new PricingResponseJsonWriter(written);
+        writer.writeError(error.index(), error.fields());
+        writer.writeRaw(",");
+        writer.writeError(0, Map.of());
+        writer.flush();
+
+        // Then
+        assertThat(written.toString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(error) + ","
+                + objectMapper.writeValueAsString(new BatchPricingErrorDto(0, Map.of())));
+    }
+
+    @Test
+    void should_write_error_indices_beyond_the_int_range() throws IOException {
+        // When
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        PricingResponseJsonWriter writer = new PricingResponseJsonWriter(written);
+        writer.writeError(3_000_000_000L, Map.of());
+        writer.writeRaw(",");
+        writer.writeError(Long.MAX_VALUE, Map.of());
+        writer.flush();
+
+        // Then
+        assertThat(written.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"index\":3000000000,\"fields\":{}},{\"index\":9223372036854775807,\"fields\":{}}");
+    }
+
+    @Test
+    void should_leave_out_the_input_when_not_echoed() throws IOException {
+        // Given
+        PricingResults results = new PricingResults(1);
+        results.price()[0] = 10.450583572185565;
+        results.delta()[0] = 0.6368306511756191;
+        results.gamma()[0] = 0.018762017345846895;
+        results.vega()[0] = 37.52403469169379;
+
+        // When
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        PricingResponseJsonWriter writer = new PricingResponseJsonWriter(written);
+        writer.writeResult(results, 0, 0.2, null);
+        writer.flush();
+
+        // Then
+        assertThat(written.toString(StandardCharsets.UTF_8)).isEqualTo("{\"price\":10.450583572185565,"
+                + "\"delta\":0.6368306511756191,\"gamma\":0.018762017345846895,\"vega\":37.52403469169379,"
+                + "\"volatilityUsed\":0.2,\"pricingModel\":\"BLACK_SCHOLES\"}");
+    }
+}
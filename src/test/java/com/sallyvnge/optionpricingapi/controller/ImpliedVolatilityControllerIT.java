@@ -0,0 +1,91 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityRequestDto;
+import com.sallyvnge.optionpricingapi.dto.OptionChainDto;
+import com.sallyvnge.optionpricingapi.dto.OptionQuoteDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImpliedVolatilityControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void should_return_implied_volatility_when_posting_valid_request() throws Exception {
+        // Given: the Black-Scholes price of an at-the-money call with 20% volatility
+        ImpliedVolatilityRequestDto request = ImpliedVolatilityRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionPrice(10.450583572185565)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/implied-volatility")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.impliedVolatility").value(closeTo(0.2, 1e-12), Double.class))
+                .andExpect(jsonPath("$.input").exists());
+    }
+
+    @Test
+    void should_return_bad_request_given_price_outside_arbitrage_bounds() throws Exception {
+        // Given: a call worth more than the underlying
+        ImpliedVolatilityRequestDto request = ImpliedVolatilityRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionPrice(120.0)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/implied-volatility")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("No implied volatility"));
+    }
+
+    @Test
+    void should_return_vol_points_per_chain() throws Exception {
+        // Given
+        OptionChainDto chain = new OptionChainDto(100.0, 1.0, 0.05, List.of(
+                new OptionQuoteDto(100.0, 10.450583572185565, OptionType.CALL),
+                new OptionQuoteDto(110.0, 200.0, OptionType.CALL)
+        ));
+
+        // When
+        mockMvc.perform(post("/api/v1/implied-volatility/chains")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(chain))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].volPoints[0].strike").value(100.0))
+                .andExpect(jsonPath("$[0].volPoints[0].iv").value(closeTo(0.2, 1e-12), Double.class))
+                .andExpect(jsonPath("$[0].errors[0].index").value(1))
+                .andExpect(jsonPath("$[0].errors[0].fields.optionPrice").exists());
+    }
+}
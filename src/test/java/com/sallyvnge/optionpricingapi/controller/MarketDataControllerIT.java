@@ -0,0 +1,95 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.TickDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MarketDataControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void should_stream_repriced_contracts_on_ticks() throws Exception {
+        // Given
+        ContractDto call = ContractDto.builder()
+                .underlying("IT-FEED")
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.CALL)
+                .build();
+        mockMvc.perform(put("/api/v1/market/contracts/it-call")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(call)))
+                .andExpect(status().isNoContent());
+        MvcResult stream = mockMvc.perform(get("/api/v1/market/underlyings/IT-FEED/quotes")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        mockMvc.perform(post("/api/v1/market/ticks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TickDto("IT-FEED", 100.0, 0.2))))
+                .andExpect(status().isAccepted());
+
+        // Then
+        String events = awaitContent(stream.getResponse(), "\"contractId\":\"it-call\"");
+        assertThat(events).contains("event:quotes");
+        assertThat(events).contains("id:1");
+        assertThat(events).contains("\"spot\":100.0");
+        // Black-Scholes call, S = K = 100, T = 1, r = 5%, sigma = 20%
+        assertThat(events).contains("\"price\":10.45");
+        assertThat(events).doesNotContain("oldestTickNanos");
+    }
+
+    @Test
+    void should_reject_invalid_ticks_and_unknown_contracts() throws Exception {
+        // When / Then
+        mockMvc.perform(post("/api/v1/market/ticks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"underlying\":\"IT-FEED\",\"spot\":-1.0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.spot").exists());
+
+        mockMvc.perform(post("/api/v1/market/ticks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TickDto("IT-NO-CONTRACT", 100.0, 0.2))))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/v1/market/contracts/it-unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+}
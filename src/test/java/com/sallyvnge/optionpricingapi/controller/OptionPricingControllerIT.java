@@ -1,8 +1,18 @@
 package com.sallyvnge.optionpricingapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec;
+import com.sallyvnge.optionpricingapi.dto.FiniteDifferenceRequestDto;
+import com.sallyvnge.optionpricingapi.dto.LatticeRequestDto;
+import com.sallyvnge.optionpricingapi.dto.MonteCarloRequestDto;
 import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridRequestDto;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
 import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -10,6 +20,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.Matchers.closeTo;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -45,7 +65,39 @@ class OptionPricingControllerIT {
                 .andExpect(jsonPath("$.gamma").exists())
                 .andExpect(jsonPath("$.vega").exists())
                 .andExpect(jsonPath("$.input").exists())
-                .andExpect(jsonPath("$.pricingModel").value("BLACK_SCHOLES"));
+                .andExpect(jsonPath("$.pricingModel").value("BLACK_SCHOLES"))
+                .andExpect(jsonPath("$.theta").doesNotExist());
+    }
+
+    @Test
+    void should_add_the_greeks_listed_in_the_query() throws Exception {
+        // Given
+        OptionRequestDto request = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/price")
+                        .param("greeks", "THETA,RHO")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.delta").exists())
+                .andExpect(jsonPath("$.theta").value(closeTo(-6.414, 1e-3)))
+                .andExpect(jsonPath("$.rho").value(closeTo(53.232, 1e-3)))
+                .andExpect(jsonPath("$.vanna").doesNotExist());
+
+        mockMvc.perform(post("/api/v1/price")
+                        .param("greeks", "SPEED")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Malformed request"));
     }
 
     @Test
@@ -69,4 +121,412 @@ class OptionPricingControllerIT {
                 .andExpect(jsonPath("$.error").value("Validation error"))
                 .andExpect(jsonPath("$.fields").exists());
     }
+
+    @Test
+    void should_price_valid_batch_elements_and_report_invalid_ones_by_index() throws Exception {
+        // Given
+        OptionRequestDto valid = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+        OptionRequestDto invalid = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(-50.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(valid, invalid, valid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].price").exists())
+                .andExpect(jsonPath("$.results[1]").doesNotExist())
+                .andExpect(jsonPath("$.results[2].pricingModel").value("BLACK_SCHOLES"))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].fields.strikePrice").exists());
+    }
+
+    @Test
+    void should_leave_out_the_batch_inputs_when_not_echoed() throws Exception {
+        // Given
+        OptionRequestDto valid = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/batch")
+                        .param("echo", "false")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.results[0].price").value(closeTo(10.4506, 1e-4)))
+                .andExpect(jsonPath("$.results[0].input").doesNotExist())
+                .andExpect(jsonPath("$.errors").isEmpty());
+    }
+
+    @Test
+    void should_price_a_batch_in_the_binary_columnar_format() throws Exception {
+        // Given
+        OptionBatch batch = new OptionBatch(2);
+        batch.add(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL);
+        batch.add(100.0, 100.0, 1.0, 0.05, -0.2, OptionType.PUT);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        BinaryBatchCodec.writeRequest(batch, body);
+
+        // When
+        byte[] response = mockMvc.perform(post("/api/v1/price/batch")
+                        .contentType(BinaryBatchCodec.MEDIA_TYPE_VALUE)
+                        .accept(BinaryBatchCodec.MEDIA_TYPE_VALUE)
+                        .content(body.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryBatchCodec.MEDIA_TYPE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        PricingResults results = BinaryBatchCodec.readResponse(new ByteArrayInputStream(response));
+        assertThat(results.price()[0]).isCloseTo(10.4506, within(1e-4));
+        assertThat(results.price()[1]).isNaN();
+    }
+
+    @Test
+    void should_return_bad_request_given_a_truncated_binary_batch() throws Exception {
+        // When
+        mockMvc.perform(post("/api/v1/price/batch")
+                        .contentType(BinaryBatchCodec.MEDIA_TYPE_VALUE)
+                        .accept(BinaryBatchCodec.MEDIA_TYPE_VALUE)
+                        .content(new byte[]{'O', 'B', 'R', 'Q', 1, 0}))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Malformed request"));
+    }
+
+    @Test
+    void should_stream_one_ndjson_line_per_request() throws Exception {
+        // Given
+        OptionRequestDto valid = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+        String body = objectMapper.writeValueAsString(valid) + "\n"
+                + "not json\n"
+                + objectMapper.writeValueAsString(valid) + "\n";
+
+        // When
+        String response = mockMvc.perform(post("/api/v1/price/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[0]).get("pricingModel").asText()).isEqualTo("BLACK_SCHOLES");
+        assertThat(objectMapper.readTree(lines[1]).get("index").asInt()).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines[2]).get("price").asDouble()).isPositive();
+    }
+
+    @Test
+    void should_return_price_and_pnl_matrices_for_a_scenario_grid() throws Exception {
+        // Given
+        OptionRequestDto option = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+        ScenarioGridRequestDto request = new ScenarioGridRequestDto(
+                List.of(option), List.of(-0.1, 0.0, 0.1), List.of(0.0, 0.05), List.of(0.0, 0.5));
+
+        // When
+        mockMvc.perform(post("/api/v1/price/scenarios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.grids[0].basePrice").value(closeTo(10.4506, 1e-4)))
+                .andExpect(jsonPath("$.grids[0].prices.length()").value(2))
+                .andExpect(jsonPath("$.grids[0].prices[0].length()").value(2))
+                .andExpect(jsonPath("$.grids[0].prices[0][0].length()").value(3))
+                .andExpect(jsonPath("$.grids[0].pnl[0][0][1]").value(closeTo(0.0, 1e-12)))
+                .andExpect(jsonPath("$.totalPnl[0][0][1]").value(closeTo(0.0, 1e-12)));
+    }
+
+    @Test
+    void should_return_bad_request_given_a_spot_shock_wiping_out_the_underlying() throws Exception {
+        // Given
+        String json = """
+        {
+            "options": [ { "underlyingPrice": 100.0, "strikePrice": 100.0, "timeToMaturity": 1.0,
+                           "riskFreeRate": 0.05, "volatility": 0.2, "optionType": "CALL" } ],
+            "spotShocks": [ -1.0 ],
+            "volatilityShocks": [ 0.0 ]
+        }
+    """;
+
+        // When
+        mockMvc.perform(post("/api/v1/price/scenarios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_return_bad_request_given_a_scenario_grid_over_the_cell_cap() throws Exception {
+        // Given: each axis within its bound, but 10 × 1,000 × 1,000 cells
+        OptionRequestDto option = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+        List<Double> shocks = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            shocks.add(i / 10_000.0);
+        }
+        ScenarioGridRequestDto request = new ScenarioGridRequestDto(
+                Collections.nCopies(10, option), shocks, shocks, null);
+
+        // When
+        mockMvc.perform(post("/api/v1/price/scenarios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.options").exists());
+    }
+
+    @Test
+    void should_return_bad_request_given_a_time_shift_reaching_the_maturity() throws Exception {
+        // Given
+        String json = """
+        {
+            "options": [ { "underlyingPrice": 100.0, "strikePrice": 100.0, "timeToMaturity": 2.0,
+                           "riskFreeRate": 0.05, "volatility": 0.2, "optionType": "CALL" },
+                         { "underlyingPrice": 100.0, "strikePrice": 100.0, "timeToMaturity": 0.5,
+                           "riskFreeRate": 0.05, "volatility": 0.2, "optionType": "PUT" } ],
+            "spotShocks": [ 0.0 ],
+            "volatilityShocks": [ 0.0 ],
+            "timeShifts": [ 0.0, 0.5 ]
+        }
+    """;
+
+        // When
+        mockMvc.perform(post("/api/v1/price/scenarios")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.timeShifts").value("must be shorter than the time to maturity of every option"));
+    }
+
+    @Test
+    void should_price_a_barrier_option_by_monte_carlo() throws Exception {
+        // Given
+        MonteCarloRequestDto request = MonteCarloRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .payoffType(PayoffType.UP_AND_OUT)
+                .barrier(130.0)
+                .monitoringDates(52)
+                .paths(20_000L)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/monte-carlo")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pricingModel").value("MONTE_CARLO"))
+                .andExpect(jsonPath("$.price").isNumber())
+                .andExpect(jsonPath("$.standardError").isNumber())
+                .andExpect(jsonPath("$.paths").value(20_000))
+                .andExpect(jsonPath("$.monitoringDates").value(52));
+    }
+
+    @Test
+    void should_return_bad_request_given_a_barrier_payoff_without_barrier() throws Exception {
+        // Given
+        MonteCarloRequestDto request = MonteCarloRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT)
+                .payoffType(PayoffType.DOWN_AND_IN)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/monte-carlo")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.barrier").exists());
+    }
+
+    @Test
+    void should_return_bad_request_given_greeks_requested_for_a_barrier_payoff() throws Exception {
+        // Given
+        MonteCarloRequestDto request = MonteCarloRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .payoffType(PayoffType.UP_AND_OUT)
+                .barrier(130.0)
+                .greeks(true)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/monte-carlo")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.greeks").exists());
+    }
+
+    @Test
+    void should_return_bad_request_given_a_simulation_over_the_path_step_budget() throws Exception {
+        // Given: paths and monitoring dates each within their bound, but 10^11 path steps
+        MonteCarloRequestDto request = MonteCarloRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .payoffType(PayoffType.ASIAN)
+                .monitoringDates(1_000)
+                .paths(100_000_000L)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/monte-carlo")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.paths").exists());
+    }
+
+    @Test
+    void should_price_an_american_put_from_its_exercise_boundary() throws Exception {
+        // Given
+        LatticeRequestDto request = LatticeRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/american")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pricingModel").value("INTEGRAL_EQUATION"))
+                .andExpect(jsonPath("$.exerciseStyle").value("AMERICAN"))
+                .andExpect(jsonPath("$.price").value(closeTo(6.09037, 1e-4)))
+                .andExpect(jsonPath("$.earlyExercisePremium").value(closeTo(0.5168, 1e-3)))
+                .andExpect(jsonPath("$.steps").value(6));
+    }
+
+    @Test
+    void should_return_bad_request_given_a_model_that_is_not_a_lattice() throws Exception {
+        // Given
+        LatticeRequestDto request = LatticeRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT)
+                .pricingModel(PricingModel.MONTE_CARLO)
+                .steps(4)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/american")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.pricingModel").exists())
+                .andExpect(jsonPath("$.fields.steps").exists());
+    }
+
+    @Test
+    void should_price_a_chain_of_american_puts_with_a_single_solve() throws Exception {
+        // Given
+        FiniteDifferenceRequestDto request = FiniteDifferenceRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrices(List.of(90.0, 100.0, 110.0))
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT)
+                .exerciseStyle(ExerciseStyle.AMERICAN)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/finite-difference")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pricingModel").value("FINITE_DIFFERENCE"))
+                .andExpect(jsonPath("$.solves").value(1))
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[1].strikePrice").value(100.0))
+                .andExpect(jsonPath("$.results[1].price").value(closeTo(6.09037, 1e-3)));
+    }
+
+    @Test
+    void should_return_bad_request_given_a_payoff_the_grid_cannot_price() throws Exception {
+        // Given
+        FiniteDifferenceRequestDto request = FiniteDifferenceRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrices(List.of(100.0))
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .exerciseStyle(ExerciseStyle.AMERICAN)
+                .payoffType(PayoffType.UP_AND_IN)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price/finite-difference")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.payoffType").exists())
+                .andExpect(jsonPath("$.fields.barrier").exists());
+    }
 }
@@ -0,0 +1,98 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.MarketMoveDto;
+import com.sallyvnge.optionpricingapi.dto.PositionDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PositionBookControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void should_aggregate_greeks_of_positions_on_market_moves() throws Exception {
+        // Given
+        PositionDto longCall = PositionDto.builder()
+                .underlying("IT-BOOK")
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .quantity(10.0)
+                .build();
+
+        // When
+        mockMvc.perform(put("/api/v1/position-book/positions/it-call")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(longCall)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.positions").value(1))
+                .andExpect(jsonPath("$.spot").doesNotExist());
+
+        mockMvc.perform(post("/api/v1/position-book/underlyings/IT-BOOK/market")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MarketMoveDto(100.0, null))))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/v1/position-book/underlyings/IT-BOOK"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spot").value(100.0))
+                .andExpect(jsonPath("$.netDelta").value(closeTo(6.3683, 1e-4)))
+                .andExpect(jsonPath("$.netVega").value(closeTo(375.2403, 1e-4)));
+
+        mockMvc.perform(delete("/api/v1/position-book/positions/it-call"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/position-book/positions/it-call"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/position-book/underlyings/IT-BOOK"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void should_return_not_found_given_an_unknown_underlying() throws Exception {
+        // When
+        mockMvc.perform(get("/api/v1/position-book/underlyings/IT-UNKNOWN"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Unknown underlying"));
+    }
+
+    @Test
+    void should_return_not_found_given_a_market_move_of_an_underlying_without_positions() throws Exception {
+        // When
+        mockMvc.perform(post("/api/v1/position-book/underlyings/IT-UNKNOWN/market")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MarketMoveDto(100.0, null))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Unknown underlying"));
+    }
+
+    @Test
+    void should_return_bad_request_given_a_non_positive_spot() throws Exception {
+        // When
+        mockMvc.perform(post("/api/v1/position-book/underlyings/IT-BOOK/market")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"spot\": -1.0}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,63 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureObservability
+@AutoConfigureMockMvc
+class PricingMetricsIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void should_publish_stage_timings_counters_and_errors_to_prometheus() throws Exception {
+        // Given
+        OptionRequestDto request = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/v1/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"underlyingPrice\": "))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("pricing_stage_seconds_count{stage=\"deserialization\"}")))
+                .andExpect(content().string(containsString("pricing_stage_seconds_count{stage=\"validation\"}")))
+                .andExpect(content().string(containsString("pricing_stage_seconds_count{stage=\"pricing\"}")))
+                .andExpect(content().string(containsString("pricing_stage_seconds_count{stage=\"serialization\"}")))
+                .andExpect(content().string(containsString("pricing_stage_seconds_bucket{stage=\"pricing\",le=")))
+                .andExpect(content().string(containsString("pricing_options_total{model=\"BLACK_SCHOLES\",optionType=\"PUT\"}")))
+                .andExpect(content().string(containsString("pricing_errors_total{error=\"malformed-request\"} 1.0")));
+    }
+}
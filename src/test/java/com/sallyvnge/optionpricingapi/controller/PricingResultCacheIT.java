@@ -0,0 +1,67 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "pricing.cache.enabled=true",
+        "pricing.cache.quantum.underlying-price=0.05"
+})
+@AutoConfigureMockMvc
+class PricingResultCacheIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void should_serve_repeated_requests_from_the_cache_and_publish_its_metrics() throws Exception {
+        // Given
+        OptionRequestDto request = OptionRequestDto.builder()
+                .underlyingPrice(100.01)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+        String body = objectMapper.writeValueAsString(request);
+
+        // When: cached requests are priced at S = 100, the bypassed one at S = 100.01
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/v1/price").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.price", closeTo(10.45058, 1e-4), Double.class))
+                    .andExpect(jsonPath("$.input.underlyingPrice").value(100.01));
+        }
+        mockMvc.perform(post("/api/v1/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price", closeTo(10.45695, 1e-4), Double.class));
+
+        // Then: the bypassed request neither hit nor missed
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:pricing.results").param("tag", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(2.0));
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:pricing.results").param("tag", "result:miss"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(1.0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.sallyvnge.optionpricingapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.VolSliceDto;
+import com.sallyvnge.optionpricingapi.dto.VolSurfaceDto;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class VolSurfaceControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void should_price_an_option_against_a_registered_surface() throws Exception {
+        // Given
+        VolSurfaceDto surface = new VolSurfaceDto(List.of(
+                new VolSliceDto(2.0, List.of(new VolPoint(80.0, 0.22), new VolPoint(120.0, 0.22))),
+                new VolSliceDto(0.5, List.of(new VolPoint(80.0, 0.22), new VolPoint(120.0, 0.22)))
+        ));
+        OptionRequestDto request = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.CALL)
+                .surfaceId("it-surface")
+                .build();
+
+        // When
+        mockMvc.perform(put("/api/v1/vol-surfaces/it-surface")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(surface)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slices[0].timeToMaturity").value(0.5));
+
+        mockMvc.perform(post("/api/v1/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.volatilityUsed").value(0.22))
+                .andExpect(jsonPath("$.input.surfaceId").value("it-surface"));
+
+        mockMvc.perform(delete("/api/v1/vol-surfaces/it-surface"))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/v1/vol-surfaces/it-surface"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/v1/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Unknown volatility surface"));
+    }
+
+    @Test
+    void should_return_bad_request_given_neither_volatility_nor_surface() throws Exception {
+        // Given
+        String json = """
+        {
+            "underlyingPrice": 100.0,
+            "strikePrice": 100.0,
+            "timeToMaturity": 1.0,
+            "riskFreeRate": 0.05,
+            "optionType": "CALL"
+        }
+    """;
+
+        // When
+        mockMvc.perform(post("/api/v1/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields.volatility").exists());
+    }
+
+    @Test
+    void should_return_bad_request_given_duplicate_maturities() throws Exception {
+        // Given
+        VolSurfaceDto surface = new VolSurfaceDto(List.of(
+                new VolSliceDto(1.0, List.of(new VolPoint(100.0, 0.2))),
+                new VolSliceDto(1.0, List.of(new VolPoint(100.0, 0.3)))
+        ));
+
+        // When
+        mockMvc.perform(put("/api/v1/vol-surfaces/it-invalid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(surface)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid volatility surface"));
+    }
+
+    @Test
+    void should_allow_cross_origin_puts_and_deletes_of_surfaces() throws Exception {
+        // When / Then: preflight requests of a browser client on the allowed origin
+        for (String method : List.of("PUT", "DELETE")) {
+            mockMvc.perform(options("/api/v1/vol-surfaces/it-cors")
+                            .header("Origin", "http://localhost:4200")
+                            .header("Access-Control-Request-Method", method))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Access-Control-Allow-Origin", "http://localhost:4200"))
+                    .andExpect(header().string("Access-Control-Allow-Methods", containsString(method)));
+        }
+    }
+}
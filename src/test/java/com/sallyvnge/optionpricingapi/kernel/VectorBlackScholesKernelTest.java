@@ -0,0 +1,94 @@
+package com.sallyvnge.optionpricingapi.kernel;
+
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import jdk.incubator.vector.DoubleVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorBlackScholesKernelTest {
+
+    @BeforeEach
+    void requireVectorApi() {
+        assumeTrue(BlackScholesBatchKernel.isVectorized(), "jdk.incubator.vector is not available");
+    }
+
+    @Test
+    void should_match_scalar_kernel_on_random_book() {
+        // Given: a size that is not a multiple of the vector length, so the scalar tail is exercised too
+        int n = 10_003;
+        SplittableRandom random = new SplittableRandom(7);
+        OptionBatch batch = new OptionBatch(n);
+        for (int i = 0; i < n; i++) {
+            batch.add(random.nextDouble(10.0, 500.0), random.nextDouble(10.0, 500.0), random.nextDouble(0.001, 10.0),
+                    random.nextDouble(-0.02, 0.1), random.nextDouble(0.01, 1.5),
+                    random.nextBoolean() ? OptionType.CALL : OptionType.PUT);
+        }
+        PricingResults scalar = new PricingResults(n);
+        PricingResults vector = new PricingResults(n);
+
+        // When
+        BlackScholesBatchKernel.priceScalar(batch, scalar, 0, n);
+        VectorBlackScholesKernel.price(batch, vector, 0, n);
+
+        // Then
+        for (int i = 0; i < n; i++) {
+            double S = batch.underlyingPrice()[i];
+            assertThat(vector.price()[i]).isCloseTo(scalar.price()[i], within(1e-12 * S));
+            assertThat(vector.delta()[i]).isCloseTo(scalar.delta()[i], within(1e-12));
+            assertThat(vector.gamma()[i]).isCloseTo(scalar.gamma()[i], within(1e-12 * Math.abs(scalar.gamma()[i]) + 1e-300));
+            assertThat(vector.vega()[i]).isCloseTo(scalar.vega()[i], within(1e-12 * Math.abs(scalar.vega()[i]) + 1e-300));
+        }
+    }
+
+    @Test
+    void should_match_java_lang_math_for_exp_and_log() {
+        int lanes = DoubleVector.SPECIES_PREFERRED.length();
+        double[] x = new double[lanes];
+        double[] out = new double[lanes];
+
+        for (int k = -700_000; k <= 700_000; k += lanes) {
+            // Given
+            for (int j = 0; j < lanes; j++) {
+                x[j] = (k + j) * 1e-3;
+            }
+
+            // When
+            VectorMath.exp(DoubleVector.fromArray(DoubleVector.SPECIES_PREFERRED, x, 0)).intoArray(out, 0);
+
+            // Then
+            for (int j = 0; j < lanes; j++) {
+                assertThat(out[j]).isCloseTo(Math.exp(x[j]), within(1e-15 * Math.exp(x[j])));
+            }
+        }
+
+        for (int k = 1; k <= 1_000_000; k += lanes) {
+            // Given
+            for (int j = 0; j < lanes; j++) {
+                x[j] = (k + j) * 1e-3;
+            }
+
+            // When
+            VectorMath.log(DoubleVector.fromArray(DoubleVector.SPECIES_PREFERRED, x, 0)).intoArray(out, 0);
+
+            // Then
+            for (int j = 0; j < lanes; j++) {
+                assertThat(out[j]).isCloseTo(Math.log(x[j]), within(1e-15 * Math.max(1.0, Math.abs(Math.log(x[j])))));
+            }
+        }
+    }
+
+    @Test
+    void should_return_zero_exp_below_underflow_threshold() {
+        double[] out = new double[DoubleVector.SPECIES_PREFERRED.length()];
+
+        VectorMath.exp(DoubleVector.broadcast(DoubleVector.SPECIES_PREFERRED, -1000.0)).intoArray(out, 0);
+
+        assertThat(out).containsOnly(0.0);
+    }
+}
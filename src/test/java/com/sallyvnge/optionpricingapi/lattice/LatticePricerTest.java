@@ -0,0 +1,145 @@
+package com.sallyvnge.optionpricingapi.lattice;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LatticePricerTest {
+
+    /** Converged price of the at-the-money American put below, from a 8001-step extrapolated lattice. */
+    private static final double AMERICAN_PUT = 6.09037;
+
+    @Test
+    void should_converge_to_black_scholes_for_a_european_option() {
+        // Given
+        PriceAndGreeks expected = BlackScholesKernel.priceAndGreeks(100.0, 110.0, 2.0, 0.06, 0.25, OptionType.PUT);
+
+        // When
+        PriceAndGreeks binomial = price(100.0, 110.0, 2.0, 0.06, 0.25, OptionType.PUT, ExerciseStyle.EUROPEAN, PricingModel.BINOMIAL, 201, true);
+        PriceAndGreeks trinomial = price(100.0, 110.0, 2.0, 0.06, 0.25, OptionType.PUT, ExerciseStyle.EUROPEAN, PricingModel.TRINOMIAL, 200, true);
+
+        // Then
+        for (PriceAndGreeks result : new PriceAndGreeks[]{binomial, trinomial}) {
+            assertThat(result.price()).isCloseTo(expected.price(), within(1e-3));
+            assertThat(result.delta()).isCloseTo(expected.delta(), within(1e-3));
+            assertThat(result.gamma()).isCloseTo(expected.gamma(), within(1e-4));
+            assertThat(result.vega()).isCloseTo(expected.vega(), within(1e-2));
+        }
+    }
+
+    @Test
+    void should_extrapolate_the_leisen_reimer_european_price_towards_black_scholes() {
+        // Given: the Leisen-Reimer error of a European option decreases as 1 / n²
+        for (OptionType optionType : OptionType.values()) {
+            double expected = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, optionType).price();
+
+            // When
+            double plain = price(100.0, 100.0, 1.0, 0.05, 0.2, optionType, ExerciseStyle.EUROPEAN, PricingModel.BINOMIAL, 128, false).price();
+            double extrapolated = price(100.0, 100.0, 1.0, 0.05, 0.2, optionType, ExerciseStyle.EUROPEAN, PricingModel.BINOMIAL, 128, true).price();
+
+            // Then
+            assertThat(extrapolated).isCloseTo(expected, within(1e-6));
+            assertThat(Math.abs(extrapolated - expected)).isLessThan(Math.abs(plain - expected) / 10.0);
+        }
+    }
+
+    @Test
+    void should_price_an_american_put_to_trading_accuracy() {
+        // When
+        PriceAndGreeks binomial = price(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.BINOMIAL, 128, true);
+        PriceAndGreeks trinomial = price(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.TRINOMIAL, 128, true);
+        PriceAndGreeks european = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT);
+
+        // Then
+        assertThat(binomial.price()).isCloseTo(AMERICAN_PUT, within(5e-4));
+        assertThat(trinomial.price()).isCloseTo(AMERICAN_PUT, within(1e-3));
+        assertThat(binomial.price()).isGreaterThan(european.price());
+        assertThat(binomial.delta()).isBetween(-1.0, european.delta());
+        assertThat(binomial.gamma()).isPositive();
+    }
+
+    @Test
+    void should_not_exercise_an_american_call_early_without_dividends() {
+        // Given
+        double european = BlackScholesKernel.priceAndGreeks(100.0, 95.0, 1.0, 0.05, 0.3, OptionType.CALL).price();
+
+        // When
+        PriceAndGreeks american = price(100.0, 95.0, 1.0, 0.05, 0.3, OptionType.CALL, ExerciseStyle.AMERICAN, PricingModel.BINOMIAL, 128, true);
+
+        // Then
+        assertThat(american.price()).isCloseTo(european, within(1e-4));
+    }
+
+    @Test
+    void should_exercise_a_deep_in_the_money_american_put_immediately() {
+        // When
+        PriceAndGreeks american = price(80.0, 100.0, 1.0, 0.08, 0.15, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.BINOMIAL, 128, false);
+
+        // Then
+        assertThat(american.price()).isEqualTo(20.0);
+        assertThat(american.delta()).isCloseTo(-1.0, within(1e-12));
+    }
+
+    @Test
+    void should_match_the_bumped_lattice_vega() {
+        // Given
+        double bump = 1e-4;
+        double up = price(100.0, 100.0, 1.0, 0.05, 0.2 + bump, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.TRINOMIAL, 500, false).price();
+        double down = price(100.0, 100.0, 1.0, 0.05, 0.2 - bump, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.TRINOMIAL, 500, false).price();
+
+        // When
+        PriceAndGreeks american = price(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.TRINOMIAL, 500, false);
+
+        // Then
+        assertThat(american.vega()).isCloseTo((up - down) / (2.0 * bump), within(1e-2));
+    }
+
+    @Test
+    void should_return_black_scholes_for_a_european_option_with_control_variate() {
+        // When
+        PriceAndGreeks result = LatticePricer.priceAndGreeks(100.0, 105.0, 0.5, 0.02, 0.3, OptionType.CALL,
+                ExerciseStyle.EUROPEAN, PricingModel.BINOMIAL, 64, true, true);
+
+        // Then
+        assertThat(result).isEqualTo(BlackScholesKernel.priceAndGreeks(100.0, 105.0, 0.5, 0.02, 0.3, OptionType.CALL));
+    }
+
+    @Test
+    void should_keep_the_american_put_accurate_with_control_variate() {
+        // When
+        PriceAndGreeks result = LatticePricer.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT,
+                ExerciseStyle.AMERICAN, PricingModel.BINOMIAL, 128, true, true);
+
+        // Then
+        assertThat(result.price()).isCloseTo(AMERICAN_PUT, within(5e-4));
+    }
+
+    @Test
+    void should_round_binomial_steps_up_to_an_odd_number() {
+        // When / Then
+        assertThat(LatticePricer.steps(PricingModel.BINOMIAL, 128)).isEqualTo(129);
+        assertThat(LatticePricer.steps(PricingModel.BINOMIAL, 129)).isEqualTo(129);
+        assertThat(LatticePricer.steps(PricingModel.TRINOMIAL, 128)).isEqualTo(128);
+    }
+
+    @Test
+    void should_reject_non_lattice_models_and_too_few_steps() {
+        // When / Then
+        assertThatThrownBy(() -> price(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.BLACK_SCHOLES, 128, true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> price(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN, PricingModel.BINOMIAL, LatticePricer.MIN_STEPS - 1, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PriceAndGreeks price(double S, double K, double T, double r, double sigma, OptionType optionType,
+                                        ExerciseStyle exerciseStyle, PricingModel lattice, int steps, boolean richardson) {
+        return LatticePricer.priceAndGreeks(S, K, T, r, sigma, optionType, exerciseStyle, lattice, steps, richardson, false);
+    }
+}
@@ -0,0 +1,109 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncQuoteListenerTest {
+
+    /** Deliveries queued until the test runs them, standing for a busy push thread. */
+    private final Queue<Runnable> deliveries = new ArrayDeque<>();
+    private final List<QuoteUpdateDto> updates = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PricingMetrics pricingMetrics = new PricingMetrics(registry);
+
+    @Test
+    void should_deliver_only_the_latest_repricing_to_a_listener_falling_behind() {
+        // Given
+        AsyncQuoteListener listener = new AsyncQuoteListener(updates::add, deliveries::add, pricingMetrics);
+
+        // When
+        for (long sequence = 1; sequence <= 20; sequence++) {
+            listener.onQuotes(update(sequence));
+        }
+        int scheduled = deliveries.size();
+        runDeliveries();
+        listener.onQuotes(update(21));
+        runDeliveries();
+
+        // Then
+        assertThat(scheduled).isEqualTo(1);
+        assertThat(updates).extracting(QuoteUpdateDto::sequence).containsExactly(20L, 21L);
+    }
+
+    @Test
+    void should_throw_the_failure_of_its_listener_back_to_the_feed() {
+        // Given
+        IllegalStateException closed = new IllegalStateException("Connection closed");
+        AsyncQuoteListener listener = new AsyncQuoteListener(update -> {
+            updates.add(update);
+            throw closed;
+        }, deliveries::add, pricingMetrics);
+
+        // When
+        listener.onQuotes(update(1));
+        runDeliveries();
+
+        // Then
+        assertThat(updates).hasSize(1);
+        assertThatThrownBy(() -> listener.onQuotes(update(2))).isSameAs(closed);
+        assertThat(deliveries).isEmpty();
+    }
+
+    @Test
+    void should_time_deliveries_from_the_oldest_tick_of_the_repricings_they_replace() {
+        // Given: a repricing of a tick a second old, skipped for a newer one, and a repricing caused by no tick
+        List<Long> deliveredAt = new ArrayList<>();
+        AsyncQuoteListener listener = new AsyncQuoteListener(update -> {
+            updates.add(update);
+            deliveredAt.add(System.nanoTime());
+        }, deliveries::add, pricingMetrics);
+        long oldestTick = System.nanoTime() - TimeUnit.SECONDS.toNanos(1);
+
+        // When
+        listener.onQuotes(update(1, oldestTick));
+        listener.onQuotes(update(2, System.nanoTime()));
+        runDeliveries();
+        listener.onQuotes(update(2, null));
+        runDeliveries();
+
+        // Then
+        Timer tickToPush = registry.get(PricingMetrics.TICK_TO_PUSH_TIMER).timer();
+        assertThat(updates).extracting(QuoteUpdateDto::oldestTickNanos).containsExactly(oldestTick, null);
+        assertThat(tickToPush.count()).isEqualTo(1);
+        assertThat(tickToPush.totalTime(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(deliveredAt.get(0) - oldestTick);
+    }
+
+    private void runDeliveries() {
+        Runnable delivery;
+        while ((delivery = deliveries.poll()) != null) {
+            delivery.run();
+        }
+    }
+
+    private static QuoteUpdateDto update(long sequence) {
+        return update(sequence, null);
+    }
+
+    private static QuoteUpdateDto update(long sequence, Long oldestTickNanos) {
+        return QuoteUpdateDto.builder()
+                .underlying("AAPL")
+                .spot(100.0)
+                .volatility(0.2)
+                .sequence(sequence)
+                .quotes(List.of())
+                .oldestTickNanos(oldestTickNanos)
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.ContractQuoteDto;
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+import com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MarketFeedTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PortfolioRevaluationService portfolioRevaluationService = new PortfolioRevaluationService(1, 2048);
+    /** Repricings queued until the test runs them, to control what a drain sees. */
+    private final Queue<Runnable> repricings = new ArrayDeque<>();
+    private final MarketFeed marketFeed = new MarketFeed(repricings::add, portfolioRevaluationService,
+            new PricingMetrics(registry));
+    private final List<QuoteUpdateDto> updates = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Test
+    void should_push_black_scholes_quotes_once_spot_and_volatility_are_known() {
+        // Given
+        ContractDto call = contract("AAPL", 95.0, 0.5, OptionType.CALL);
+        ContractDto put = contract("AAPL", 110.0, 1.5, OptionType.PUT);
+        marketFeed.putContract("call", call);
+        marketFeed.putContract("put", put);
+        marketFeed.subscribe("AAPL", updates::add);
+
+        // When
+        marketFeed.tick("AAPL", 102.0, Double.NaN);
+        runRepricings();
+        List<QuoteUpdateDto> beforeVolatility = List.copyOf(updates);
+        long sequence = marketFeed.tick("AAPL", Double.NaN, 0.25);
+        runRepricings();
+
+        // Then
+        assertThat(beforeVolatility).isEmpty();
+        assertThat(sequence).isEqualTo(2);
+        assertThat(updates).hasSize(1);
+        QuoteUpdateDto update = updates.get(0);
+        assertThat(update.underlying()).isEqualTo("AAPL");
+        assertThat(update.spot()).isEqualTo(102.0);
+        assertThat(update.volatility()).isEqualTo(0.25);
+        assertThat(update.sequence()).isEqualTo(2);
+        assertThat(update.quotes()).extracting(ContractQuoteDto::contractId).containsExactly("call", "put");
+        assertMatchesKernel(update.quotes().get(0), call, 102.0, 0.25);
+        assertMatchesKernel(update.quotes().get(1), put, 102.0, 0.25);
+    }
+
+    @Test
+    void should_conflate_ticks_received_before_a_repricing_runs() {
+        // Given
+        marketFeed.putContract("call", contract("MSFT", 100.0, 1.0, OptionType.CALL));
+        marketFeed.subscribe("MSFT", updates::add);
+        long beforeFirstTick = System.nanoTime();
+        marketFeed.tick("MSFT", Double.NaN, 0.2);
+        long afterFirstTick = System.nanoTime();
+
+        // When
+        for (int i = 1; i <= 50; i++) {
+            marketFeed.tick("MSFT", 100.0 + i, Double.NaN);
+        }
+        int scheduled = repricings.size();
+        runRepricings();
+
+        // Then
+        assertThat(scheduled).isEqualTo(1);
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0).spot()).isEqualTo(150.0);
+        assertThat(updates.get(0).sequence()).isEqualTo(51);
+        assertThat(updates.get(0).oldestTickNanos()).isBetween(beforeFirstTick, afterFirstTick);
+        assertThat(registry.get(PricingMetrics.TICKS_COUNTER).counter().count()).isEqualTo(51.0);
+        assertThat(registry.get(PricingMetrics.QUOTE_UPDATES_COUNTER).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_move_a_replaced_contract_to_its_new_underlying() {
+        // Given
+        List<QuoteUpdateDto> otherUpdates = new ArrayList<>();
+        marketFeed.putContract("c1", contract("AAPL", 100.0, 1.0, OptionType.CALL));
+        marketFeed.putContract("c2", contract("AAPL", 105.0, 1.0, OptionType.PUT));
+        marketFeed.subscribe("AAPL", updates::add);
+        marketFeed.subscribe("MSFT", otherUpdates::add);
+
+        // When
+        marketFeed.putContract("c1", contract("MSFT", 300.0, 0.5, OptionType.CALL));
+        boolean removed = marketFeed.removeContract("c2");
+        boolean removedTwice = marketFeed.removeContract("c2");
+        marketFeed.tick("MSFT", 310.0, 0.3);
+        runRepricings();
+
+        // Then: AAPL, left without contracts, no longer ticks
+        assertThatThrownBy(() -> marketFeed.tick("AAPL", 100.0, 0.2)).isInstanceOf(UnknownUnderlyingException.class);
+        assertThat(removed).isTrue();
+        assertThat(removedTwice).isFalse();
+        assertThat(updates).isEmpty();
+        assertThat(otherUpdates).hasSize(1);
+        assertThat(otherUpdates.get(0).quotes()).extracting(ContractQuoteDto::contractId).containsExactly("c1");
+    }
+
+    @Test
+    void should_unsubscribe_a_failing_listener_without_affecting_the_others() {
+        // Given
+        List<QuoteUpdateDto> failed = new ArrayList<>();
+        marketFeed.putContract("call", contract("AAPL", 100.0, 1.0, OptionType.CALL));
+        marketFeed.subscribe("AAPL", update -> {
+            failed.add(update);
+            throw new IllegalStateException("Connection closed");
+        });
+        marketFeed.subscribe("AAPL", updates::add);
+
+        // When
+        marketFeed.tick("AAPL", 100.0, 0.2);
+        runRepricings();
+        marketFeed.tick("AAPL", 101.0, Double.NaN);
+        runRepricings();
+
+        // Then
+        assertThat(failed).hasSize(1);
+        assertThat(updates).extracting(QuoteUpdateDto::spot).containsExactly(100.0, 101.0);
+    }
+
+    @Test
+    void should_push_the_current_quotes_to_a_new_subscriber() {
+        // Given
+        marketFeed.putContract("call", contract("AAPL", 100.0, 1.0, OptionType.CALL));
+        marketFeed.tick("AAPL", 100.0, 0.2);
+        runRepricings();
+
+        // When
+        marketFeed.subscribe("AAPL", updates::add);
+        runRepricings();
+
+        // Then
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0).sequence()).isEqualTo(1);
+    }
+
+    @Test
+    void should_reject_ticks_of_underlyings_without_contracts_and_forget_unused_ones() {
+        // Given
+        QuoteListener listener = updates::add;
+        marketFeed.putContract("call", contract("AAPL", 100.0, 1.0, OptionType.CALL));
+        marketFeed.subscribe("MSFT", listener);
+
+        // When / Then: a subscription alone does not make an underlying tick
+        assertThatThrownBy(() -> marketFeed.tick("MSFT", 300.0, 0.3)).isInstanceOf(UnknownUnderlyingException.class);
+        assertThatThrownBy(() -> marketFeed.tick("UNKNOWN", 1.0, 0.1)).isInstanceOf(UnknownUnderlyingException.class);
+        assertThat(marketFeed.tick("AAPL", 100.0, 0.2)).isEqualTo(1);
+        assertThat(marketFeed.underlyingCount()).isEqualTo(2);
+
+        marketFeed.unsubscribe("MSFT", listener);
+        marketFeed.removeContract("call");
+        assertThat(marketFeed.underlyingCount()).isZero();
+        assertThatThrownBy(() -> marketFeed.tick("AAPL", 101.0, Double.NaN)).isInstanceOf(UnknownUnderlyingException.class);
+        assertThat(registry.get(PricingMetrics.TICKS_COUNTER).counter().count()).isEqualTo(1.0);
+    }
+
+    private void runRepricings() {
+        Runnable repricing;
+        while ((repricing = repricings.poll()) != null) {
+            repricing.run();
+        }
+    }
+
+    private static void assertMatchesKernel(ContractQuoteDto quote, ContractDto contract, double spot, double volatility) {
+        OptionBatch batch = new OptionBatch(1);
+        batch.add(spot, contract.strikePrice(), contract.timeToMaturity(), contract.riskFreeRate(), volatility,
+                contract.optionType());
+        PricingResults results = new PricingResults(1);
+        BlackScholesBatchKernel.price(batch, results);
+        assertThat(quote.price()).isCloseTo(results.price()[0], within(1e-12));
+        assertThat(quote.delta()).isCloseTo(results.delta()[0], within(1e-12));
+        assertThat(quote.gamma()).isCloseTo(results.gamma()[0], within(1e-12));
+        assertThat(quote.vega()).isCloseTo(results.vega()[0], within(1e-12));
+    }
+
+    private static ContractDto contract(String underlying, double strike, double maturity, OptionType optionType) {
+        return ContractDto.builder()
+                .underlying(underlying)
+                .strikePrice(strike)
+                .timeToMaturity(maturity)
+                .riskFreeRate(0.03)
+                .optionType(optionType)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.sallyvnge.optionpricingapi.market;
+
+import com.sallyvnge.optionpricingapi.dto.ContractDto;
+import com.sallyvnge.optionpricingapi.dto.QuoteUpdateDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.service.MarketDataService;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TickFileReplayerTest {
+
+    private final PortfolioRevaluationService portfolioRevaluationService = new PortfolioRevaluationService(1, 2048);
+    private final MarketDataService marketDataService = new MarketDataService(portfolioRevaluationService,
+            new PricingMetrics(new SimpleMeterRegistry()), 1, 1, Duration.ZERO);
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        marketDataService.close();
+        portfolioRevaluationService.close();
+    }
+
+    @Test
+    void should_replay_ticks_keeping_omitted_fields() throws IOException, InterruptedException {
+        // Given
+        Path file = directory.resolve("ticks.csv");
+        Files.writeString(file, """
+                underlying,spot,volatility
+                AAPL,100.0,0.2
+                # volatility unchanged
+                AAPL,101.5,
+
+                MSFT,300.0,0.3
+                AAPL,,0.25
+                """);
+        marketDataService.putContract("call", ContractDto.builder()
+                .underlying("AAPL")
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.CALL)
+                .build());
+        TickFileReplayer replayer = new TickFileReplayer(marketDataService, file, 0, 2);
+
+        // When
+        long ticks = replayer.replay();
+        BlockingQueue<QuoteUpdateDto> updates = new LinkedBlockingQueue<>();
+        marketDataService.subscribe("AAPL", updates::add);
+        QuoteUpdateDto update = updates.poll(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(ticks).isEqualTo(8);
+        assertThat(update).isNotNull();
+        assertThat(update.sequence()).isEqualTo(6);
+        assertThat(update.spot()).isEqualTo(101.5);
+        assertThat(update.volatility()).isEqualTo(0.25);
+    }
+}
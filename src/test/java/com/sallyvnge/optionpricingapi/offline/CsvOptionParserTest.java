@@ -0,0 +1,75 @@
+package com.sallyvnge.optionpricingapi.offline;
+
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvOptionParserTest {
+
+    @Test
+    void should_parse_numbers_exactly_like_the_jdk() {
+        // Given
+        SplittableRandom random = new SplittableRandom(11);
+        String[] numbers = new String[10_000];
+        for (int i = 0; i < numbers.length; i++) {
+            double value = random.nextDouble(-1e3, 1e3) * Math.pow(10, random.nextInt(-12, 12));
+            numbers[i] = i % 2 == 0 ? Double.toString(value) : String.format("%.6f", value);
+        }
+        String[] edgeCases = {"0", "-0", "+1", "1.", ".5", "007", "1e5", "1E-5", "2.5e+3", "123456789012345678901234",
+                "0.000000000000000000000000001", "9007199254740993", "1.7976931348623157e308", "4.9e-324", "1e400"};
+
+        // When / Then
+        for (String number : numbers) {
+            assertThat(parse(number)).as(number).isEqualTo(Double.parseDouble(number));
+        }
+        for (String number : edgeCases) {
+            assertThat(parse(number)).as(number).isEqualTo(Double.parseDouble(number));
+        }
+        assertThat(parse(" 0.25 ")).isEqualTo(0.25);
+    }
+
+    @Test
+    void should_return_nan_for_text_that_is_not_a_number() {
+        // When / Then
+        for (String text : new String[]{"", " ", "-", ".", "1e", "1.2.3", "abc", "1,5", "NaN", "Infinity", "0x10"}) {
+            assertThat(parse(text)).as(text).isNaN();
+        }
+    }
+
+    @Test
+    void should_parse_a_row_and_reject_malformed_ones_through_the_underlying_price() {
+        // Given
+        OptionBatch batch = new OptionBatch(3);
+
+        // When
+        parseRow("100, 95.5,0.5,0.03,0.2,call\r", batch, 0);
+        parseRow("100,95.5,0.5,0.03,0.2,FORWARD", batch, 1);
+        parseRow("100,95.5,0.5", batch, 2);
+
+        // Then
+        assertThat(batch.underlyingPrice()[0]).isEqualTo(100.0);
+        assertThat(batch.strikePrice()[0]).isEqualTo(95.5);
+        assertThat(batch.timeToMaturity()[0]).isEqualTo(0.5);
+        assertThat(batch.riskFreeRate()[0]).isEqualTo(0.03);
+        assertThat(batch.volatility()[0]).isEqualTo(0.2);
+        assertThat(batch.call()[0]).isTrue();
+        assertThat(batch.isValid(0)).isTrue();
+        assertThat(batch.isValid(1)).isFalse();
+        assertThat(batch.isValid(2)).isFalse();
+    }
+
+    private static double parse(String text) {
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+        return CsvOptionParser.parseDouble(bytes, 0, bytes.limit());
+    }
+
+    private static void parseRow(String text, OptionBatch batch, int row) {
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+        CsvOptionParser.parseRow(bytes, 0, bytes.limit(), batch, row);
+    }
+}
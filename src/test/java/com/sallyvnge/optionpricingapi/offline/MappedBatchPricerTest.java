@@ -0,0 +1,172 @@
+package com.sallyvnge.optionpricingapi.offline;
+
+import com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec;
+import com.sallyvnge.optionpricingapi.exception.MalformedBatchException;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.service.PortfolioRevaluationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MappedBatchPricerTest {
+
+    private final PortfolioRevaluationService portfolioRevaluationService = new PortfolioRevaluationService(2, 16);
+    // Small segments and ranges, so that a few rows already span many of them
+    private final MappedBatchPricer pricer = new MappedBatchPricer(portfolioRevaluationService, 50, 64);
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Test
+    void should_price_a_binary_file_across_segments_and_reject_invalid_rows() throws IOException {
+        // Given
+        OptionBatch batch = randomBatch(1_000);
+        batch.volatility()[7] = 0.0;
+        Path input = directory.resolve("book.bin");
+        try (OutputStream out = Files.newOutputStream(input)) {
+            BinaryBatchCodec.writeRequest(batch, out);
+        }
+        // An option type other than 0 or 1 rejects its row
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{2}), BinaryBatchCodec.requestBytes(1_000) - 1_000 + 42);
+        }
+        Path output = directory.resolve("book.out");
+
+        // When
+        OfflinePricingReport report = pricer.price(input, output);
+
+        // Then
+        assertThat(report.format()).isEqualTo(OfflinePricingReport.Format.BINARY);
+        assertThat(report.rows()).isEqualTo(1_000);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(Files.size(output)).isEqualTo(BinaryBatchCodec.responseBytes(1_000));
+        PricingResults expected = expectedResults(batch);
+        expected.reject(7);
+        expected.reject(42);
+        assertResults(output, expected, 2);
+    }
+
+    @Test
+    void should_price_a_csv_file_across_ranges_skipping_header_and_blank_lines() throws IOException {
+        // Given
+        OptionBatch batch = randomBatch(200);
+        StringBuilder csv = new StringBuilder("underlyingPrice,strikePrice,timeToMaturity,riskFreeRate,volatility,optionType\n");
+        for (int row = 0; row < batch.size(); row++) {
+            csv.append(batch.underlyingPrice()[row]).append(',').append(batch.strikePrice()[row]).append(", ")
+                    .append(batch.timeToMaturity()[row]).append(',').append(batch.riskFreeRate()[row]).append(',')
+                    .append(batch.volatility()[row]).append(',').append(batch.call()[row] ? "CALL" : "put")
+                    .append(row % 3 == 0 ? "\r\n" : "\n");
+            if (row == 50) {
+                csv.append("\n");
+            }
+        }
+        csv.append("100,100,1,0.05,0.2,STRADDLE\n100,100,1\n100,100,1,0.05,0.2,CALL");
+        Path input = directory.resolve("book.csv");
+        Files.writeString(input, csv);
+        Path output = directory.resolve("book.out");
+
+        // When
+        OfflinePricingReport report = pricer.price(input, output);
+
+        // Then
+        assertThat(report.format()).isEqualTo(OfflinePricingReport.Format.CSV);
+        assertThat(report.rows()).isEqualTo(203);
+        assertThat(report.rejected()).isEqualTo(2);
+        OptionBatch expectedBatch = new OptionBatch(203);
+        for (int row = 0; row < batch.size(); row++) {
+            expectedBatch.add(batch.underlyingPrice()[row], batch.strikePrice()[row], batch.timeToMaturity()[row],
+                    batch.riskFreeRate()[row], batch.volatility()[row], batch.call()[row] ? OptionType.CALL : OptionType.PUT);
+        }
+        expectedBatch.add(100, 100, 1, 0.05, 0.2, OptionType.CALL);
+        expectedBatch.add(100, 100, 1, 0.05, 0.2, OptionType.CALL);
+        expectedBatch.add(100, 100, 1, 0.05, 0.2, OptionType.CALL);
+        PricingResults expected = expectedResults(expectedBatch);
+        expected.reject(200);
+        expected.reject(201);
+        assertResults(output, expected, 2);
+    }
+
+    @Test
+    void should_fail_on_a_binary_file_shorter_than_its_header_announces() throws IOException {
+        // Given
+        Path input = directory.resolve("book.bin");
+        try (OutputStream out = Files.newOutputStream(input)) {
+            BinaryBatchCodec.writeRequest(randomBatch(10), out);
+        }
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> pricer.price(input, directory.resolve("book.out")))
+                .isInstanceOf(MalformedBatchException.class)
+                .hasMessageContaining("10 rows");
+    }
+
+    private static void assertResults(Path output, PricingResults expected, int rejected) throws IOException {
+        byte[] body = Files.readAllBytes(output);
+        assertThat(ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).getInt(12)).isEqualTo(rejected);
+        PricingResults results;
+        try (InputStream in = Files.newInputStream(output)) {
+            results = BinaryBatchCodec.readResponse(in);
+        }
+        assertColumn(results.price(), expected.price());
+        assertColumn(results.delta(), expected.delta());
+        assertColumn(results.gamma(), expected.gamma());
+        assertColumn(results.vega(), expected.vega());
+    }
+
+    /**
+     * Rows land on other SIMD lanes than when priced in one batch, so they may differ in the last bits.
+     */
+    private static void assertColumn(double[] actual, double[] expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int row = 0; row < expected.length; row++) {
+            if (Double.isNaN(expected[row])) {
+                assertThat(actual[row]).as("row %d", row).isNaN();
+            } else {
+                assertThat(actual[row]).as("row %d", row).isCloseTo(expected[row], within(1e-12 * (1 + Math.abs(expected[row]))));
+            }
+        }
+    }
+
+    private static PricingResults expectedResults(OptionBatch batch) {
+        PricingResults results = new PricingResults(batch.size());
+        BlackScholesBatchKernel.price(batch, results);
+        return results;
+    }
+
+    private static OptionBatch randomBatch(int rows) {
+        SplittableRandom random = new SplittableRandom(7);
+        OptionBatch batch = new OptionBatch(rows);
+        for (int row = 0; row < rows; row++) {
+            batch.add(random.nextDouble(50, 150), random.nextDouble(50, 150), random.nextDouble(0.05, 3),
+                    random.nextDouble(-0.01, 0.08), random.nextDouble(0.05, 0.8),
+                    random.nextBoolean() ? OptionType.CALL : OptionType.PUT);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,188 @@
+package com.sallyvnge.optionpricingapi.pde;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import com.sallyvnge.optionpricingapi.service.GreeksCalculatorService;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class FiniteDifferencePricerTest {
+
+    /** Converged price of the at-the-money American put below, from a 8001-step extrapolated lattice. */
+    private static final double AMERICAN_PUT = 6.09037;
+    /** Converged prices of American puts struck at 80, 90, 110 and 120, from a 6400 by 6400 grid. */
+    private static final double[][] AMERICAN_PUTS = {{80.0, 0.723532}, {90.0, 2.472261}, {110.0, 11.972821}, {120.0, 20.136167}};
+    private static final double[] STRIKES = {70.0, 80.0, 90.0, 95.0, 100.0, 105.0, 110.0, 120.0, 140.0};
+
+    @Test
+    void should_price_a_whole_european_chain_with_a_single_solve() {
+        // Given
+        int n = STRIKES.length;
+        double[] prices = new double[n];
+        double[] deltas = new double[n];
+        double[] gammas = new double[n];
+
+        for (OptionType optionType : OptionType.values()) {
+            // When
+            int solves = FiniteDifferencePricer.price(100.0, STRIKES, n, 1.0, 0.05, 0.2, optionType,
+                    ExerciseStyle.EUROPEAN, PayoffType.EUROPEAN, 0.0, 400, 200, prices, deltas, gammas);
+
+            // Then
+            assertThat(solves).isEqualTo(1);
+            for (int j = 0; j < n; j++) {
+                PriceAndGreeks expected = BlackScholesKernel.priceAndGreeks(100.0, STRIKES[j], 1.0, 0.05, 0.2, optionType);
+                assertThat(prices[j]).isCloseTo(expected.price(), within(3e-4));
+                assertThat(deltas[j]).isCloseTo(expected.delta(), within(1e-4));
+                assertThat(gammas[j]).isCloseTo(expected.gamma(), within(1e-4));
+            }
+        }
+    }
+
+    @Test
+    void should_differentiate_a_whole_european_chain_with_respect_to_volatility_and_rate() {
+        // Given
+        int n = STRIKES.length;
+        double[] prices = new double[n];
+        double[] vegas = new double[n];
+        double[] rhos = new double[n];
+
+        for (OptionType optionType : OptionType.values()) {
+            // When
+            int solves = FiniteDifferencePricer.price(100.0, STRIKES, n, 1.0, 0.05, 0.2, optionType,
+                    ExerciseStyle.EUROPEAN, PayoffType.EUROPEAN, 0.0, 400, 200, prices, new double[n], new double[n],
+                    vegas, rhos);
+
+            // Then
+            assertThat(solves).isEqualTo(1);
+            for (int j = 0; j < n; j++) {
+                Greeks expected = new GreeksCalculatorService().calculate(100.0, STRIKES[j], 1.0, 0.05, 0.2, optionType,
+                        EnumSet.allOf(Greek.class));
+                assertThat(vegas[j]).isCloseTo(expected.vega(), within(1e-2));
+                assertThat(rhos[j]).isCloseTo(expected.rho(), within(1e-2));
+            }
+        }
+    }
+
+    @Test
+    void should_differentiate_an_american_put_as_the_bumped_grid_prices() {
+        // Given: the grid does not depend on the rate, so a rate bump differentiates the same discrete scheme, up to
+        // the nodes the bump moves in or out of the exercise region
+        double bump = 1e-4;
+        double[] prices = new double[1];
+        double[] vegas = new double[1];
+        double[] rhos = new double[1];
+        double rateUp = price(100.0, 100.0, 0.05 + bump, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN);
+        double rateDown = price(100.0, 100.0, 0.05 - bump, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN);
+        double volUp = price(100.0, 100.0, 0.05, 0.2 + bump, OptionType.PUT, ExerciseStyle.AMERICAN);
+        double volDown = price(100.0, 100.0, 0.05, 0.2 - bump, OptionType.PUT, ExerciseStyle.AMERICAN);
+
+        // When
+        FiniteDifferencePricer.price(100.0, new double[]{100.0}, 1, 1.0, 0.05, 0.2, OptionType.PUT,
+                ExerciseStyle.AMERICAN, PayoffType.EUROPEAN, 0.0, 400, 200, prices, new double[1], new double[1],
+                vegas, rhos);
+
+        // Then: the volatility also scales the grid, which the bump moves but the derivative holds fixed
+        assertThat(prices[0]).isEqualTo(price(100.0, 100.0, 0.05, 0.2, OptionType.PUT, ExerciseStyle.AMERICAN));
+        assertThat(rhos[0]).isCloseTo((rateUp - rateDown) / (2.0 * bump), within(5e-3));
+        assertThat(vegas[0]).isCloseTo((volUp - volDown) / (2.0 * bump), within(5e-2));
+    }
+
+    @Test
+    void should_converge_to_the_american_put_price() {
+        // When
+        double coarse = price(100.0, 100.0, OptionType.PUT, ExerciseStyle.AMERICAN, PayoffType.EUROPEAN, 0.0, 400, 200);
+        double fine = price(100.0, 100.0, OptionType.PUT, ExerciseStyle.AMERICAN, PayoffType.EUROPEAN, 0.0, 800, 400);
+        double european = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT).price();
+
+        // Then
+        assertThat(coarse).isCloseTo(AMERICAN_PUT, within(7e-4));
+        assertThat(Math.abs(fine - AMERICAN_PUT)).isLessThan(Math.abs(coarse - AMERICAN_PUT));
+        assertThat(coarse).isGreaterThan(european);
+        for (double[] put : AMERICAN_PUTS) {
+            assertThat(price(100.0, put[0], OptionType.PUT, ExerciseStyle.AMERICAN, PayoffType.EUROPEAN, 0.0, 400, 200))
+                    .isCloseTo(put[1], within(7e-4));
+        }
+    }
+
+    @Test
+    void should_not_exercise_an_american_call_early_without_dividends() {
+        // When
+        double american = price(100.0, 95.0, OptionType.CALL, ExerciseStyle.AMERICAN, PayoffType.EUROPEAN, 0.0, 400, 200);
+        double european = price(100.0, 95.0, OptionType.CALL, ExerciseStyle.EUROPEAN, PayoffType.EUROPEAN, 0.0, 400, 200);
+
+        // Then
+        assertThat(american).isCloseTo(european, within(1e-12));
+    }
+
+    @Test
+    void should_match_the_closed_form_down_and_out_call() {
+        // Given: for K >= B, C_do(S) = C(S) - (B / S)^(2r / sigma² - 1) * C(B² / S)
+        double barrier = 90.0;
+        double exponent = 2.0 * 0.05 / (0.2 * 0.2) - 1.0;
+
+        for (double strike : new double[]{90.0, 100.0, 110.0}) {
+            double image = Math.pow(barrier / 100.0, exponent)
+                    * BlackScholesKernel.priceAndGreeks(barrier * barrier / 100.0, strike, 1.0, 0.05, 0.2, OptionType.CALL).price();
+            double vanilla = BlackScholesKernel.priceAndGreeks(100.0, strike, 1.0, 0.05, 0.2, OptionType.CALL).price();
+
+            // When
+            double knockOut = price(100.0, strike, OptionType.CALL, ExerciseStyle.EUROPEAN, PayoffType.DOWN_AND_OUT, barrier, 400, 200);
+            double knockIn = price(100.0, strike, OptionType.CALL, ExerciseStyle.EUROPEAN, PayoffType.DOWN_AND_IN, barrier, 400, 200);
+
+            // Then
+            assertThat(knockOut).isCloseTo(vanilla - image, within(5e-4));
+            assertThat(knockIn).isCloseTo(image, within(5e-4));
+        }
+    }
+
+    @Test
+    void should_price_a_knocked_out_option_at_zero_and_a_knocked_in_one_as_vanilla() {
+        // When
+        double knockedOut = price(100.0, 100.0, OptionType.PUT, ExerciseStyle.AMERICAN, PayoffType.UP_AND_OUT, 95.0, 400, 200);
+        double knockedIn = price(100.0, 100.0, OptionType.PUT, ExerciseStyle.EUROPEAN, PayoffType.UP_AND_IN, 95.0, 400, 200);
+        double vanilla = price(100.0, 100.0, OptionType.PUT, ExerciseStyle.EUROPEAN, PayoffType.EUROPEAN, 0.0, 400, 200);
+
+        // Then
+        assertThat(knockedOut).isZero();
+        assertThat(knockedIn).isEqualTo(vanilla);
+    }
+
+    @Test
+    void should_reject_unsupported_payoffs_and_too_coarse_grids() {
+        // When / Then
+        assertThatThrownBy(() -> price(100.0, 100.0, OptionType.CALL, ExerciseStyle.EUROPEAN, PayoffType.ASIAN, 0.0, 400, 200))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> price(100.0, 100.0, OptionType.CALL, ExerciseStyle.AMERICAN, PayoffType.UP_AND_IN, 120.0, 400, 200))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> price(100.0, 100.0, OptionType.CALL, ExerciseStyle.EUROPEAN, PayoffType.EUROPEAN, 0.0, 8, 200))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> price(100.0, 100.0, OptionType.CALL, ExerciseStyle.EUROPEAN, PayoffType.EUROPEAN, 0.0, 400, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double price(double S, double K, OptionType optionType, ExerciseStyle exerciseStyle,
+                                PayoffType payoffType, double barrier, int spaceSteps, int timeSteps) {
+        double[] prices = new double[1];
+        FiniteDifferencePricer.price(S, new double[]{K}, 1, 1.0, 0.05, 0.2, optionType, exerciseStyle, payoffType,
+                barrier, spaceSteps, timeSteps, prices, new double[1], new double[1]);
+        return prices[0];
+    }
+
+    private static double price(double S, double K, double r, double sigma, OptionType optionType,
+                                ExerciseStyle exerciseStyle) {
+        double[] prices = new double[1];
+        FiniteDifferencePricer.price(S, new double[]{K}, 1, 1.0, r, sigma, optionType, exerciseStyle,
+                PayoffType.EUROPEAN, 0.0, 400, 200, prices, new double[1], new double[1]);
+        return prices[0];
+    }
+}
@@ -0,0 +1,76 @@
+package com.sallyvnge.optionpricingapi.pde;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TridiagonalSolverTest {
+
+    private static final double[] LOWER = {0.0, -1.0, -1.0, -1.0, -1.0};
+    private static final double[] DIAGONAL = {4.0, 4.0, 4.0, 4.0, 4.0};
+    private static final double[] UPPER = {-1.0, -1.0, -1.0, -1.0, 0.0};
+    private static final double[] SOLUTION = {1.0, -2.0, 3.0, 0.5, 2.0};
+
+    @Test
+    void should_solve_a_tridiagonal_system_in_both_directions() {
+        // Given
+        double[] rhs = multiply(SOLUTION);
+        int n = rhs.length;
+        double[] multipliers = new double[n];
+        double[] inversePivots = new double[n];
+        double[] scaled = new double[n];
+        double[] x = new double[n];
+        double[] y = rhs.clone();
+
+        // When
+        TridiagonalSolver.factor(LOWER, DIAGONAL, UPPER, n, multipliers, inversePivots, scaled);
+        TridiagonalSolver.solve(multipliers, inversePivots, scaled, rhs, null, x, n);
+        TridiagonalSolver.factorReversed(LOWER, DIAGONAL, UPPER, n, multipliers, inversePivots, scaled);
+        TridiagonalSolver.solveReversed(multipliers, inversePivots, scaled, y, null, y, n);
+
+        // Then
+        for (int i = 0; i < n; i++) {
+            assertThat(x[i]).isCloseTo(SOLUTION[i], within(1e-12));
+            assertThat(y[i]).isCloseTo(SOLUTION[i], within(1e-12));
+        }
+    }
+
+    @Test
+    void should_solve_the_complementarity_problem_when_floored() {
+        // Given: the unconstrained solution dips below the floor at the start of the grid only
+        double[] rhs = {-2.0, 1.0, 1.0, 1.0, 1.0};
+        double[] floor = {0.0, 0.0, 0.0, 0.0, 0.0};
+        int n = rhs.length;
+        double[] multipliers = new double[n];
+        double[] inversePivots = new double[n];
+        double[] scaled = new double[n];
+        double[] x = new double[n];
+
+        // When
+        TridiagonalSolver.factorReversed(LOWER, DIAGONAL, UPPER, n, multipliers, inversePivots, scaled);
+        TridiagonalSolver.solveReversed(multipliers, inversePivots, scaled, rhs, floor, x, n);
+
+        // Then: x >= floor, A x >= rhs, with equality wherever x is above the floor
+        double[] residual = multiply(x);
+        for (int i = 0; i < n; i++) {
+            assertThat(x[i]).isGreaterThanOrEqualTo(floor[i]);
+            assertThat(residual[i]).isGreaterThanOrEqualTo(rhs[i] - 1e-12);
+            if (x[i] > floor[i]) {
+                assertThat(residual[i]).isCloseTo(rhs[i], within(1e-12));
+            }
+        }
+        assertThat(x[0]).isZero();
+    }
+
+    private static double[] multiply(double[] x) {
+        int n = x.length;
+        double[] product = new double[n];
+        for (int i = 0; i < n; i++) {
+            product[i] = DIAGONAL[i] * x[i]
+                    + (i > 0 ? LOWER[i] * x[i - 1] : 0.0)
+                    + (i < n - 1 ? UPPER[i] * x[i + 1] : 0.0);
+        }
+        return product;
+    }
+}
@@ -0,0 +1,197 @@
+package com.sallyvnge.optionpricingapi.position;
+
+import com.sallyvnge.optionpricingapi.dto.PositionDto;
+import com.sallyvnge.optionpricingapi.dto.UnderlyingRiskDto;
+import com.sallyvnge.optionpricingapi.exception.UnknownUnderlyingException;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PositionBookTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    private final PositionBook positionBook = new PositionBook();
+
+    @Test
+    void should_aggregate_greeks_weighted_by_quantity() {
+        // Given
+        List<PositionDto> positions = List.of(
+                position("AAPL", 90.0, 0.5, 0.20, OptionType.CALL, 10.0),
+                position("AAPL", 110.0, 1.0, 0.25, OptionType.PUT, -4.0),
+                position("AAPL", 100.0, 2.0, 0.30, OptionType.CALL, 2.5)
+        );
+        for (int i = 0; i < positions.size(); i++) {
+            positionBook.upsert("p" + i, positions.get(i));
+        }
+
+        // When
+        UnderlyingRiskDto risk = positionBook.move("AAPL", 105.0, null);
+
+        // Then
+        assertMatchesFullRevaluation(risk, positions, 105.0, 0.0);
+        assertThat(risk.positions()).isEqualTo(3);
+        assertThat(positionBook.risk("AAPL")).contains(risk);
+    }
+
+    @Test
+    void should_recompute_greeks_on_spot_and_volatility_moves() {
+        // Given
+        List<PositionDto> positions = List.of(
+                position("AAPL", 95.0, 0.25, 0.18, OptionType.PUT, 3.0),
+                position("AAPL", 105.0, 1.5, 0.22, OptionType.CALL, -1.0)
+        );
+        positionBook.upsert("p0", positions.get(0));
+        positionBook.upsert("p1", positions.get(1));
+        positionBook.move("AAPL", 100.0, null);
+
+        // When
+        positionBook.move("AAPL", 97.0, null);
+        UnderlyingRiskDto risk = positionBook.move("AAPL", null, 0.05);
+
+        // Then
+        assertThat(risk.spot()).isEqualTo(97.0);
+        assertThat(risk.volatilityShift()).isEqualTo(0.05);
+        assertMatchesFullRevaluation(risk, positions, 97.0, 0.05);
+    }
+
+    @Test
+    void should_adjust_aggregates_incrementally_on_position_changes() {
+        // Given
+        PositionDto kept = position("AAPL", 100.0, 1.0, 0.20, OptionType.CALL, 5.0);
+        PositionDto replaced = position("AAPL", 120.0, 0.5, 0.30, OptionType.PUT, 2.0);
+        PositionDto replacement = position("AAPL", 80.0, 0.75, 0.25, OptionType.PUT, -3.0);
+        positionBook.upsert("kept", kept);
+        positionBook.upsert("removed", position("AAPL", 90.0, 1.0, 0.20, OptionType.CALL, 7.0));
+        positionBook.upsert("replaced", replaced);
+        positionBook.move("AAPL", 100.0, 0.01);
+
+        // When
+        positionBook.remove("removed");
+        UnderlyingRiskDto risk = positionBook.upsert("replaced", replacement);
+
+        // Then
+        assertThat(risk.positions()).isEqualTo(2);
+        assertMatchesFullRevaluation(risk, List.of(kept, replacement), 100.0, 0.01);
+    }
+
+    @Test
+    void should_leave_other_underlyings_untouched_on_a_market_move() {
+        // Given
+        positionBook.upsert("aapl", position("AAPL", 100.0, 1.0, 0.20, OptionType.CALL, 1.0));
+        positionBook.upsert("msft", position("MSFT", 300.0, 1.0, 0.25, OptionType.CALL, 1.0));
+        positionBook.move("AAPL", 100.0, null);
+        UnderlyingRiskDto msft = positionBook.move("MSFT", 310.0, null);
+
+        // When
+        positionBook.move("AAPL", 101.0, null);
+
+        // Then
+        assertThat(positionBook.risk("MSFT")).containsSame(msft);
+    }
+
+    @Test
+    void should_move_a_position_to_its_new_underlying() {
+        // Given
+        positionBook.upsert("p", position("AAPL", 100.0, 1.0, 0.20, OptionType.CALL, 1.0));
+
+        // When
+        positionBook.upsert("p", position("MSFT", 300.0, 1.0, 0.25, OptionType.CALL, 1.0));
+
+        // Then
+        assertThat(positionBook.risk("AAPL")).isEmpty();
+        assertThat(positionBook.risk("MSFT")).hasValueSatisfying(risk -> assertThat(risk.positions()).isEqualTo(1));
+        assertThat(positionBook.remove("p")).isTrue();
+        assertThat(positionBook.remove("p")).isFalse();
+    }
+
+    @Test
+    void should_reject_moves_of_underlyings_without_positions() {
+        // When
+        for (int i = 0; i < 1000; i++) {
+            String underlying = "UNKNOWN-" + i;
+            assertThatThrownBy(() -> positionBook.move(underlying, 100.0, null))
+                    .isInstanceOf(UnknownUnderlyingException.class);
+        }
+
+        // Then
+        assertThat(positionBook.underlyingCount()).isZero();
+        assertThat(positionBook.risk("UNKNOWN-0")).isEmpty();
+    }
+
+    @Test
+    void should_drop_an_underlying_with_its_last_position() {
+        // Given
+        positionBook.upsert("p", position("AAPL", 100.0, 1.0, 0.20, OptionType.CALL, 1.0));
+        positionBook.move("AAPL", 100.0, 0.05);
+
+        // When
+        positionBook.remove("p");
+
+        // Then
+        assertThat(positionBook.underlyingCount()).isZero();
+        assertThatThrownBy(() -> positionBook.move("AAPL", 101.0, null)).isInstanceOf(UnknownUnderlyingException.class);
+        UnderlyingRiskDto risk = positionBook.upsert("p", position("AAPL", 100.0, 1.0, 0.20, OptionType.CALL, 1.0));
+        assertThat(risk.spot()).isNull();
+        assertThat(risk.volatilityShift()).isZero();
+    }
+
+    @Test
+    void should_report_zero_greeks_until_the_first_spot() {
+        // Given
+        positionBook.upsert("p", position("AAPL", 100.0, 1.0, 0.20, OptionType.CALL, 1.0));
+
+        // When
+        UnderlyingRiskDto risk = positionBook.risk("AAPL").orElseThrow();
+
+        // Then
+        assertThat(risk.spot()).isNull();
+        assertThat(risk.netDelta()).isZero();
+        assertThat(positionBook.risk("MSFT")).isEmpty();
+    }
+
+    private static void assertMatchesFullRevaluation(UnderlyingRiskDto risk, List<PositionDto> positions,
+                                                     double spot, double volatilityShift) {
+        OptionBatch batch = new OptionBatch(positions.size());
+        for (PositionDto position : positions) {
+            batch.add(spot, position.strikePrice(), position.timeToMaturity(), position.riskFreeRate(),
+                    position.volatility() + volatilityShift, position.optionType());
+        }
+        PricingResults results = new PricingResults(positions.size());
+        BlackScholesBatchKernel.priceScalar(batch, results, 0, batch.size());
+
+        double delta = 0.0;
+        double gamma = 0.0;
+        double vega = 0.0;
+        for (int i = 0; i < positions.size(); i++) {
+            double quantity = positions.get(i).quantity();
+            delta += quantity * results.delta()[i];
+            gamma += quantity * results.gamma()[i];
+            vega += quantity * results.vega()[i];
+        }
+        assertThat(risk.netDelta()).isCloseTo(delta, within(TOLERANCE));
+        assertThat(risk.netGamma()).isCloseTo(gamma, within(TOLERANCE));
+        assertThat(risk.netVega()).isCloseTo(vega, within(TOLERANCE));
+    }
+
+    private static PositionDto position(String underlying, double strike, double maturity, double volatility,
+                                        OptionType optionType, double quantity) {
+        return PositionDto.builder()
+                .underlying(underlying)
+                .strikePrice(strike)
+                .timeToMaturity(maturity)
+                .riskFreeRate(0.03)
+                .volatility(volatility)
+                .optionType(optionType)
+                .quantity(quantity)
+                .build();
+    }
+}
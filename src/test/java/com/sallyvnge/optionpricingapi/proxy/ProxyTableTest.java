@@ -0,0 +1,123 @@
+package com.sallyvnge.optionpricingapi.proxy;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ProxyTableTest {
+
+    private static final ProxyTable.Source SOURCE =
+            (strike, volatility) -> BlackScholesKernel.priceAndGreeks(1.0, strike, 1.0, 0.0, volatility, OptionType.CALL);
+
+    @Test
+    void should_stay_within_the_error_bounds_measured_at_build_time() {
+        // Given
+        ProxyTable table = ProxyTable.build(241, 201, SOURCE);
+        ProxyTable.ErrorBounds errorBounds = table.errorBounds();
+        SplittableRandom random = new SplittableRandom(7);
+
+        // When / Then: errors scaled as the tabulated quantities, at any rate
+        assertThat(errorBounds.max()).isLessThan(1e-5);
+        assertThat(errorBounds.volatility()).isLessThan(1e-3);
+        int priced = 0;
+        for (int i = 0; i < 20_000; i++) {
+            double S = random.nextDouble(50.0, 150.0);
+            double T = random.nextDouble(0.02, 3.0);
+            double r = random.nextDouble(-0.01, 0.08);
+            double sigma = random.nextDouble(0.05, 1.0);
+            OptionType optionType = random.nextBoolean() ? OptionType.CALL : OptionType.PUT;
+            PriceAndGreeks proxy = table.priceAndGreeks(S, 100.0, T, r, sigma, optionType);
+            if (proxy == null) {
+                continue;
+            }
+            priced++;
+            PriceAndGreeks exact = BlackScholesKernel.priceAndGreeks(S, 100.0, T, r, sigma, optionType);
+            double sqrtT = Math.sqrt(T);
+            assertThat(proxy.price()).isCloseTo(exact.price(), within(errorBounds.price() * S + 1e-12));
+            assertThat(proxy.delta()).isCloseTo(exact.delta(), within(errorBounds.delta()));
+            assertThat(proxy.gamma()).isCloseTo(exact.gamma(), within(errorBounds.density() / (S * sigma * sqrtT)));
+            assertThat(proxy.vega()).isCloseTo(exact.vega(), within(errorBounds.density() * S * sqrtT));
+            assertThat(Math.abs(proxy.price() - exact.price()) * sqrtT / exact.vega())
+                    .isLessThan(errorBounds.volatility());
+        }
+        assertThat(priced).isGreaterThan(18_000);
+    }
+
+    @Test
+    void should_bound_the_errors_between_the_sampled_points() {
+        // Given: a coarse table, whose errors vary most across a cell, checked at four times the sampling density
+        ProxyTable table = ProxyTable.build(61, 51, SOURCE);
+        ProxyTable.ErrorBounds errorBounds = table.errorBounds();
+        int density = 4 * ProxyTable.SUBDIVISIONS;
+        double moneynessSpacing = 2.0 * ProxyTable.MAX_MONEYNESS / 60;
+        double volatilitySpacing = (ProxyTable.MAX_TOTAL_VOLATILITY - ProxyTable.MIN_TOTAL_VOLATILITY) / 50;
+        double[] largest = new double[4];
+
+        // When
+        for (int v = 0; v <= 50 * density; v++) {
+            for (int z = 0; z <= 60 * density; z++) {
+                double s = Math.min(ProxyTable.MIN_TOTAL_VOLATILITY + v * volatilitySpacing / density,
+                        ProxyTable.MAX_TOTAL_VOLATILITY);
+                double moneyness = Math.min(-ProxyTable.MAX_MONEYNESS + z * moneynessSpacing / density,
+                        ProxyTable.MAX_MONEYNESS);
+                double strike = Math.exp(-moneyness * s);
+                PriceAndGreeks proxy = table.priceAndGreeks(1.0, strike, 1.0, 0.0, s, OptionType.CALL);
+                if (proxy == null) {
+                    continue;
+                }
+                PriceAndGreeks exact = SOURCE.priceAndGreeks(strike, s);
+                largest[0] = Math.max(largest[0], Math.abs(proxy.price() - exact.price()));
+                largest[1] = Math.max(largest[1], Math.abs(proxy.delta() - exact.delta()));
+                largest[2] = Math.max(largest[2], Math.abs(proxy.vega() - exact.vega()));
+                largest[3] = Math.max(largest[3], Math.abs(proxy.price() - exact.price()) / exact.vega());
+            }
+        }
+
+        // Then: within the bounds, the implied volatility error peaking between the samples, inside the margin
+        assertThat(largest[0]).isLessThanOrEqualTo(errorBounds.price());
+        assertThat(largest[1]).isLessThanOrEqualTo(errorBounds.delta());
+        assertThat(largest[2]).isLessThanOrEqualTo(errorBounds.density());
+        assertThat(largest[3]).isLessThanOrEqualTo(errorBounds.volatility())
+                .isGreaterThan(errorBounds.volatility() / ProxyTable.SAFETY);
+    }
+
+    @Test
+    void should_reject_options_outside_its_domain() {
+        // Given
+        ProxyTable table = ProxyTable.build(16, 16, SOURCE);
+
+        // When / Then: total volatility too low or too high, moneyness too deep, density too low, invalid input
+        assertThat(table.priceAndGreeks(100.0, 100.0, 1.0 / 365.0, 0.03, 0.05, OptionType.CALL)).isNull();
+        assertThat(table.priceAndGreeks(100.0, 100.0, 5.0, 0.03, 1.5, OptionType.CALL)).isNull();
+        assertThat(table.priceAndGreeks(200.0, 100.0, 0.25, 0.03, 0.2, OptionType.PUT)).isNull();
+        assertThat(table.priceAndGreeks(100.0, 100.0 * Math.exp(-0.8), 1.0, 0.0, 0.2, OptionType.PUT)).isNull();
+        assertThat(table.priceAndGreeks(Double.NaN, 100.0, 1.0, 0.03, 0.2, OptionType.PUT)).isNull();
+        assertThat(table.priceAndGreeks(100.0, 100.0, 1.0, 0.03, 0.2, OptionType.PUT)).isNotNull();
+    }
+
+    @Test
+    void should_price_puts_by_put_call_parity() {
+        // Given
+        ProxyTable table = ProxyTable.build(121, 101, SOURCE);
+        double S = 95.0;
+        double K = 105.0;
+        double T = 0.8;
+        double r = 0.03;
+
+        // When
+        PriceAndGreeks call = table.priceAndGreeks(S, K, T, r, 0.27, OptionType.CALL);
+        PriceAndGreeks put = table.priceAndGreeks(S, K, T, r, 0.27, OptionType.PUT);
+
+        // Then
+        assertThat(call.price() - put.price()).isCloseTo(S - K * Math.exp(-r * T), within(1e-10));
+        assertThat(call.delta() - put.delta()).isEqualTo(1.0);
+        assertThat(put.gamma()).isEqualTo(call.gamma());
+        assertThat(put.vega()).isEqualTo(call.vega());
+    }
+}
@@ -0,0 +1,205 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.BatchPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.VolSliceDto;
+import com.sallyvnge.optionpricingapi.dto.VolSurfaceDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BatchPricingServiceTest {
+    private BatchPricingService batchPricingService;
+    private BlackScholesPricingService blackScholesPricingService;
+    private GreeksCalculatorService greeksCalculatorService;
+    private VolSurfaceService volSurfaceService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        volSurfaceService = new VolSurfaceService();
+        meterRegistry = new SimpleMeterRegistry();
+        batchPricingService = new BatchPricingService(Validation.buildDefaultValidatorFactory().getValidator(), volSurfaceService,
+                new PricingMetrics(meterRegistry), new PortfolioRevaluationService(2, 2));
+        blackScholesPricingService = new BlackScholesPricingService();
+        greeksCalculatorService = new GreeksCalculatorService();
+    }
+
+    @Test
+    void should_match_single_option_pricing_for_every_element() {
+        // Given
+        List<OptionRequestDto> requests = List.of(
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT),
+                request(80.0, 120.0, 0.25, -0.01, 0.45, OptionType.CALL),
+                request(150.0, 90.0, 3.0, 0.03, 0.1, OptionType.PUT)
+        );
+
+        // When
+        BatchPricingResponseDto response = batchPricingService.calculate(requests);
+
+        // Then
+        assertThat(response.errors()).isEmpty();
+        assertThat(response.results()).hasSize(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            OptionRequestDto request = requests.get(i);
+            OptionPricingResponseDto result = response.results().get(i);
+            Greeks greeks = greeksCalculatorService.calculate(request);
+
+            assertThat(result.price()).isCloseTo(blackScholesPricingService.calculatePrice(request), within(1e-12));
+            assertThat(result.delta()).isCloseTo(greeks.delta(), within(1e-12));
+            assertThat(result.gamma()).isCloseTo(greeks.gamma(), within(1e-12));
+            assertThat(result.vega()).isCloseTo(greeks.vega(), within(1e-12));
+            assertThat(result.input()).isEqualTo(request);
+        }
+    }
+
+    @Test
+    void should_report_invalid_elements_by_index_and_price_the_others() {
+        // Given
+        List<OptionRequestDto> requests = Arrays.asList(
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                request(100.0, -50.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                null,
+                request(100.0, 100.0, 1.0, 0.05, 0.2, null)
+        );
+
+        // When
+        BatchPricingResponseDto response = batchPricingService.calculate(requests);
+
+        // Then
+        assertThat(response.results()).hasSize(4);
+        assertThat(response.results().get(0)).isNotNull();
+        assertThat(response.results().get(0).price()).isCloseTo(10.45, within(0.01));
+        assertThat(response.results().subList(1, 4)).containsOnlyNulls();
+
+        assertThat(response.errors()).hasSize(3);
+        assertThat(response.errors().get(0).index()).isEqualTo(1);
+        assertThat(response.errors().get(0).fields()).containsKey("strikePrice");
+        assertThat(response.errors().get(1).index()).isEqualTo(2);
+        assertThat(response.errors().get(2).index()).isEqualTo(3);
+        assertThat(response.errors().get(2).fields()).containsKey("optionType");
+    }
+
+    @Test
+    void should_price_surface_elements_with_the_surface_volatility() {
+        // Given
+        volSurfaceService.register("SPX", new VolSurfaceDto(List.of(
+                new VolSliceDto(1.0, List.of(new VolPoint(80.0, 0.35), new VolPoint(120.0, 0.25)))
+        )));
+        OptionRequestDto onSurface = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.PUT)
+                .surfaceId("SPX")
+                .build();
+        OptionRequestDto unknownSurface = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.PUT)
+                .surfaceId("NDX")
+                .build();
+        OptionRequestDto withoutVolatility = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.PUT)
+                .build();
+
+        // When
+        BatchPricingResponseDto response = batchPricingService.calculate(List.of(onSurface, unknownSurface, withoutVolatility));
+
+        // Then
+        double surfaceVolatility = volSurfaceService.find("SPX").orElseThrow().iv(1.0, 100.0);
+        OptionPricingResponseDto result = response.results().get(0);
+        assertThat(result.volatilityUsed()).isEqualTo(surfaceVolatility);
+        assertThat(result.price()).isCloseTo(
+                blackScholesPricingService.calculatePrice(request(100.0, 100.0, 1.0, 0.05, surfaceVolatility, OptionType.PUT)),
+                within(1e-12));
+        assertThat(response.errors()).hasSize(2);
+        assertThat(response.errors().get(0).fields()).containsKey("surfaceId");
+        assertThat(response.errors().get(1).fields()).containsKey("volatility");
+    }
+
+    @Test
+    void should_record_batch_size_stage_timings_and_priced_options() {
+        // Given
+        List<OptionRequestDto> requests = Arrays.asList(
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                request(100.0, 90.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                request(100.0, 110.0, 1.0, 0.05, 0.2, OptionType.PUT),
+                request(100.0, -50.0, 1.0, 0.05, 0.2, OptionType.PUT)
+        );
+
+        // When
+        batchPricingService.calculate(requests);
+
+        // Then
+        assertThat(meterRegistry.get(PricingMetrics.BATCH_SIZE_SUMMARY).summary().totalAmount()).isEqualTo(4.0);
+        assertThat(meterRegistry.get(PricingMetrics.STAGE_TIMER).tag("stage", "validation").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PricingMetrics.STAGE_TIMER).tag("stage", "pricing").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PricingMetrics.STAGE_TIMER).tag("stage", "smile-interpolation").timer().count()).isZero();
+        assertThat(meterRegistry.get(PricingMetrics.OPTIONS_COUNTER).tag("model", "BLACK_SCHOLES").tag("optionType", "CALL").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get(PricingMetrics.OPTIONS_COUNTER).tag("model", "BLACK_SCHOLES").tag("optionType", "PUT").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_write_the_json_of_the_batch_response_straight_from_the_results() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<OptionRequestDto> requests = Arrays.asList(
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                request(100.0, -50.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                null,
+                request(80.0, 120.0, 0.25, -0.01, 0.45, OptionType.PUT)
+        );
+
+        // When
+        ByteArrayOutputStream echoed = new ByteArrayOutputStream();
+        batchPricingService.write(requests, true, echoed);
+        ByteArrayOutputStream notEchoed = new ByteArrayOutputStream();
+        batchPricingService.write(requests, false, notEchoed);
+
+        // Then: byte for byte what Jackson writes for the response object, or the same without inputs
+        assertThat(echoed.toString(StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(batchPricingService.calculate(requests)));
+        JsonNode response = objectMapper.readTree(notEchoed.toByteArray());
+        assertThat(response.get("results").get(0).has("input")).isFalse();
+        assertThat(response.get("results").get(3).get("price").asDouble())
+                .isEqualTo(objectMapper.readTree(echoed.toByteArray()).get("results").get(3).get("price").asDouble());
+        assertThat(response.get("errors")).hasSize(2);
+        assertThat(meterRegistry.get(PricingMetrics.STAGE_TIMER).tag("stage", "serialization").timer().count()).isEqualTo(2);
+    }
+
+    private static OptionRequestDto request(double S, double K, double T, double r, double sigma, OptionType optionType) {
+        return OptionRequestDto.builder()
+                .underlyingPrice(S)
+                .strikePrice(K)
+                .timeToMaturity(T)
+                .riskFreeRate(r)
+                .volatility(sigma)
+                .optionType(optionType)
+                .build();
+    }
+}
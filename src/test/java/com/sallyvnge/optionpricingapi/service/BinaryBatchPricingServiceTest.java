@@ -0,0 +1,57 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.codec.BinaryBatchCodec;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BinaryBatchPricingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BinaryBatchPricingService binaryBatchPricingService = new BinaryBatchPricingService(
+            new PricingMetrics(meterRegistry), new PortfolioRevaluationService(1, 2048));
+
+    @Test
+    void should_price_valid_rows_and_reject_invalid_ones_as_nan() throws Exception {
+        // Given
+        OptionBatch batch = new OptionBatch(3);
+        batch.add(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL);
+        batch.add(100.0, -50.0, 1.0, 0.05, 0.2, OptionType.PUT);
+        batch.add(100.0, 110.0, 0.5, 0.01, Double.NaN, OptionType.PUT);
+        ByteArrayOutputStream request = new ByteArrayOutputStream();
+        BinaryBatchCodec.writeRequest(batch, request);
+
+        // When
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        int priced = binaryBatchPricingService.price(new ByteArrayInputStream(request.toByteArray()), response);
+        PricingResults results = BinaryBatchCodec.readResponse(new ByteArrayInputStream(response.toByteArray()));
+
+        // Then
+        PriceAndGreeks expected = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL);
+        assertThat(priced).isEqualTo(1);
+        assertThat(results.capacity()).isEqualTo(3);
+        assertThat(results.price()[0]).isCloseTo(expected.price(), within(1e-9));
+        assertThat(results.delta()[0]).isCloseTo(expected.delta(), within(1e-9));
+        assertThat(results.gamma()[0]).isCloseTo(expected.gamma(), within(1e-9));
+        assertThat(results.vega()[0]).isCloseTo(expected.vega(), within(1e-9));
+        for (int row = 1; row < 3; row++) {
+            assertThat(results.price()[row]).isNaN();
+            assertThat(results.delta()[row]).isNaN();
+            assertThat(results.gamma()[row]).isNaN();
+            assertThat(results.vega()[row]).isNaN();
+        }
+        assertThat(meterRegistry.get(PricingMetrics.OPTIONS_COUNTER).tag("model", "BLACK_SCHOLES").tag("optionType", "CALL").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(PricingMetrics.OPTIONS_COUNTER).tag("model", "BLACK_SCHOLES").tag("optionType", "PUT").counter().count()).isZero();
+    }
+}
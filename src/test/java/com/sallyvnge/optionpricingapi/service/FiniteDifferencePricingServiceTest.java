@@ -0,0 +1,105 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.FiniteDifferenceRequestDto;
+import com.sallyvnge.optionpricingapi.dto.FiniteDifferenceResponseDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FiniteDifferencePricingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FiniteDifferencePricingService finiteDifferencePricingService =
+            new FiniteDifferencePricingService(new PricingMetrics(meterRegistry));
+
+    @Test
+    void should_price_every_strike_of_a_chain_on_the_default_grid() {
+        // Given
+        FiniteDifferenceRequestDto request = request(List.of(90.0, 100.0, 110.0)).build();
+
+        // When
+        FiniteDifferenceResponseDto response = finiteDifferencePricingService.calculate(request);
+
+        // Then
+        assertThat(response.pricingModel()).isEqualTo(PricingModel.FINITE_DIFFERENCE);
+        assertThat(response.exerciseStyle()).isEqualTo(ExerciseStyle.EUROPEAN);
+        assertThat(response.payoffType()).isEqualTo(PayoffType.EUROPEAN);
+        assertThat(response.spaceSteps()).isEqualTo(FiniteDifferencePricingService.DEFAULT_SPACE_STEPS);
+        assertThat(response.timeSteps()).isEqualTo(FiniteDifferencePricingService.DEFAULT_TIME_STEPS);
+        assertThat(response.solves()).isEqualTo(1);
+        assertThat(response.results()).hasSize(3);
+        for (int j = 0; j < 3; j++) {
+            double strike = request.strikePrices().get(j);
+            assertThat(response.results().get(j).strikePrice()).isEqualTo(strike);
+            assertThat(response.results().get(j).price())
+                    .isCloseTo(BlackScholesKernel.priceAndGreeks(100.0, strike, 1.0, 0.05, 0.2, OptionType.PUT).price(), within(3e-4));
+        }
+        assertThat(response.input()).isEqualTo(request);
+        assertThat(meterRegistry.get(PricingMetrics.OPTIONS_COUNTER)
+                .tag("model", "FINITE_DIFFERENCE")
+                .tag("optionType", "PUT")
+                .counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void should_run_one_solve_per_strike_for_a_barrier_chain() {
+        // Given
+        FiniteDifferenceRequestDto request = request(List.of(90.0, 100.0))
+                .payoffType(PayoffType.DOWN_AND_OUT)
+                .barrier(80.0)
+                .build();
+
+        // When
+        FiniteDifferenceResponseDto response = finiteDifferencePricingService.calculate(request);
+
+        // Then
+        assertThat(response.solves()).isEqualTo(2);
+        assertThat(response.results().get(1).price()).isGreaterThan(response.results().get(0).price());
+        assertThat(response.results().get(1).price())
+                .isLessThan(BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT).price());
+    }
+
+    @Test
+    void should_add_vega_and_rho_only_when_requested() {
+        // Given
+        FiniteDifferenceRequestDto request = request(List.of(90.0, 100.0, 110.0)).greeks(true).build();
+
+        // When
+        FiniteDifferenceResponseDto response = finiteDifferencePricingService.calculate(request);
+        FiniteDifferenceResponseDto withoutGreeks = finiteDifferencePricingService.calculate(request(List.of(100.0)).build());
+
+        // Then
+        assertThat(response.solves()).isEqualTo(1);
+        for (int j = 0; j < 3; j++) {
+            Greeks expected = new GreeksCalculatorService().calculate(100.0, request.strikePrices().get(j), 1.0, 0.05,
+                    0.2, OptionType.PUT, EnumSet.allOf(Greek.class));
+            assertThat(response.results().get(j).vega()).isCloseTo(expected.vega(), within(1e-2));
+            assertThat(response.results().get(j).rho()).isCloseTo(expected.rho(), within(1e-2));
+        }
+        assertThat(withoutGreeks.results().get(0).vega()).isNull();
+        assertThat(withoutGreeks.results().get(0).rho()).isNull();
+    }
+
+    private static FiniteDifferenceRequestDto.FiniteDifferenceRequestDtoBuilder request(List<Double> strikePrices) {
+        return FiniteDifferenceRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrices(strikePrices)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GreeksCalculatorServiceTest {
+
+    private static final double S = 95.0;
+    private static final double K = 105.0;
+    private static final double T = 0.8;
+    private static final double R = 0.03;
+    private static final double SIGMA = 0.27;
+    private static final double H = 1e-5;
+
+    private final GreeksCalculatorService greeksCalculatorService = new GreeksCalculatorService();
+
+    @Test
+    void should_match_bump_and_reprice_for_every_greek() {
+        for (OptionType optionType : OptionType.values()) {
+            // When
+            Greeks greeks = greeksCalculatorService.calculate(S, K, T, R, SIGMA, optionType, EnumSet.allOf(Greek.class));
+
+            // Then: central differences of the fused kernel's price, delta and vega
+            PriceAndGreeks base = BlackScholesKernel.priceAndGreeks(S, K, T, R, SIGMA, optionType);
+            assertThat(greeks.delta()).isCloseTo(base.delta(), within(1e-12));
+            assertThat(greeks.gamma()).isCloseTo(base.gamma(), within(1e-12));
+            assertThat(greeks.vega()).isCloseTo(base.vega(), within(1e-10));
+
+            PriceAndGreeks laterMaturity = BlackScholesKernel.priceAndGreeks(S, K, T + H, R, SIGMA, optionType);
+            PriceAndGreeks earlierMaturity = BlackScholesKernel.priceAndGreeks(S, K, T - H, R, SIGMA, optionType);
+            assertThat(greeks.theta()).isCloseTo(-(laterMaturity.price() - earlierMaturity.price()) / (2 * H), within(1e-5));
+            assertThat(greeks.charm()).isCloseTo(-(laterMaturity.delta() - earlierMaturity.delta()) / (2 * H), within(1e-6));
+            assertThat(greeks.veta()).isCloseTo(-(laterMaturity.vega() - earlierMaturity.vega()) / (2 * H), within(1e-4));
+
+            double rateUp = BlackScholesKernel.priceAndGreeks(S, K, T, R + H, SIGMA, optionType).price();
+            double rateDown = BlackScholesKernel.priceAndGreeks(S, K, T, R - H, SIGMA, optionType).price();
+            assertThat(greeks.rho()).isCloseTo((rateUp - rateDown) / (2 * H), within(1e-4));
+
+            double spotUp = BlackScholesKernel.priceAndGreeks(S + H, K, T, R, SIGMA, optionType).vega();
+            double spotDown = BlackScholesKernel.priceAndGreeks(S - H, K, T, R, SIGMA, optionType).vega();
+            assertThat(greeks.vanna()).isCloseTo((spotUp - spotDown) / (2 * H), within(1e-6));
+
+            double volUp = BlackScholesKernel.priceAndGreeks(S, K, T, R, SIGMA + H, optionType).vega();
+            double volDown = BlackScholesKernel.priceAndGreeks(S, K, T, R, SIGMA - H, optionType).vega();
+            assertThat(greeks.volga()).isCloseTo((volUp - volDown) / (2 * H), within(1e-4));
+        }
+    }
+
+    @Test
+    void should_only_compute_the_requested_greeks() {
+        // When
+        Greeks greeks = greeksCalculatorService.calculate(S, K, T, R, SIGMA, OptionType.PUT,
+                EnumSet.of(Greek.VANNA, Greek.VOLGA));
+
+        // Then
+        Greeks all = greeksCalculatorService.calculate(S, K, T, R, SIGMA, OptionType.PUT, EnumSet.allOf(Greek.class));
+        assertThat(greeks.vanna()).isEqualTo(all.vanna());
+        assertThat(greeks.volga()).isEqualTo(all.volga());
+        assertThat(new double[]{greeks.delta(), greeks.gamma(), greeks.vega(), greeks.theta(), greeks.rho(),
+                greeks.charm(), greeks.veta()}).containsOnly(Double.NaN);
+    }
+}
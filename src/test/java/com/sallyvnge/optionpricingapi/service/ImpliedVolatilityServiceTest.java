@@ -0,0 +1,199 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.BatchPricingErrorDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityChainResponseDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ImpliedVolatilityResponseDto;
+import com.sallyvnge.optionpricingapi.dto.OptionChainDto;
+import com.sallyvnge.optionpricingapi.dto.OptionQuoteDto;
+import com.sallyvnge.optionpricingapi.exception.PriceOutsideArbitrageBoundsException;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.volatility.LinearSmileInterpolator;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import com.sallyvnge.optionpricingapi.volatility.VolSmile;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ImpliedVolatilityServiceTest {
+    private final PortfolioRevaluationService portfolioRevaluationService = new PortfolioRevaluationService(2, 2048);
+    private ImpliedVolatilityService impliedVolatilityService;
+
+    @AfterEach
+    void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        impliedVolatilityService = new ImpliedVolatilityService(Validation.buildDefaultValidatorFactory().getValidator(),
+                portfolioRevaluationService);
+    }
+
+    @Test
+    void should_invert_the_black_scholes_price() {
+        // Given
+        double price = BlackScholesKernel.priceAndGreeks(100.0, 95.0, 0.75, 0.02, 0.35, OptionType.PUT).price();
+        ImpliedVolatilityRequestDto request = ImpliedVolatilityRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(95.0)
+                .timeToMaturity(0.75)
+                .riskFreeRate(0.02)
+                .optionPrice(price)
+                .optionType(OptionType.PUT)
+                .build();
+
+        // When
+        ImpliedVolatilityResponseDto response = impliedVolatilityService.calculate(request);
+
+        // Then
+        assertThat(response.impliedVolatility()).isCloseTo(0.35, within(1e-14));
+        assertThat(response.input()).isEqualTo(request);
+    }
+
+    @Test
+    void should_reject_a_price_outside_the_no_arbitrage_bounds() {
+        // Given: a call worth more than the underlying
+        ImpliedVolatilityRequestDto request = ImpliedVolatilityRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionPrice(120.0)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // Then
+        assertThatThrownBy(() -> impliedVolatilityService.calculate(request))
+                .isInstanceOf(PriceOutsideArbitrageBoundsException.class);
+    }
+
+    @Test
+    void should_produce_vol_points_that_build_a_smile() {
+        // Given: a chain priced off a known smile, puts below the forward and calls above
+        double[] strikes = {80.0, 90.0, 100.0, 110.0, 120.0};
+        double[] volatilities = {0.32, 0.26, 0.22, 0.21, 0.23};
+        List<OptionQuoteDto> quotes = new ArrayList<>();
+        for (int i = 0; i < strikes.length; i++) {
+            OptionType optionType = strikes[i] < 100.0 ? OptionType.PUT : OptionType.CALL;
+            double price = BlackScholesKernel.priceAndGreeks(100.0, strikes[i], 0.5, 0.01, volatilities[i], optionType).price();
+            quotes.add(new OptionQuoteDto(strikes[i], price, optionType));
+        }
+        OptionChainDto chain = new OptionChainDto(100.0, 0.5, 0.01, quotes);
+
+        // When
+        List<ImpliedVolatilityChainResponseDto> responses = impliedVolatilityService.calculateChains(List.of(chain, chain));
+
+        // Then
+        assertThat(responses).hasSize(2);
+        ImpliedVolatilityChainResponseDto response = responses.get(0);
+        assertThat(response.errors()).isEmpty();
+        assertThat(response.timeToMaturity()).isEqualTo(0.5);
+        assertThat(response.volPoints()).hasSize(strikes.length);
+        for (int i = 0; i < strikes.length; i++) {
+            VolPoint point = response.volPoints().get(i);
+            assertThat(point.strike()).isEqualTo(strikes[i]);
+            assertThat(point.iv()).isCloseTo(volatilities[i], within(1e-13));
+        }
+        VolSmile smile = new VolSmile(response.volPoints());
+        assertThat(new LinearSmileInterpolator().ivAtStrike(smile, 105.0)).isCloseTo(0.215, within(1e-12));
+    }
+
+    @Test
+    void should_report_invalid_quotes_by_index_and_invert_the_others() {
+        // Given
+        List<OptionQuoteDto> quotes = Arrays.asList(
+                new OptionQuoteDto(100.0, 8.0, OptionType.CALL),
+                new OptionQuoteDto(-50.0, 8.0, OptionType.CALL),
+                null,
+                new OptionQuoteDto(100.0, 150.0, OptionType.CALL)
+        );
+        OptionChainDto chain = new OptionChainDto(100.0, 1.0, 0.0, quotes);
+
+        // When
+        ImpliedVolatilityChainResponseDto response = impliedVolatilityService.calculateChain(chain);
+
+        // Then
+        assertThat(response.volPoints()).hasSize(1);
+        assertThat(response.volPoints().get(0).strike()).isEqualTo(100.0);
+        assertThat(response.errors()).hasSize(3);
+        assertThat(response.errors().get(0).index()).isEqualTo(1);
+        assertThat(response.errors().get(0).fields()).containsKey("strikePrice");
+        assertThat(response.errors().get(1).index()).isEqualTo(2);
+        assertThat(response.errors().get(1).fields()).containsKey("element");
+        assertThat(response.errors().get(2).index()).isEqualTo(3);
+        assertThat(response.errors().get(2).fields()).containsKey("optionPrice");
+    }
+
+    @Test
+    void should_reject_every_quote_of_an_invalid_chain() {
+        // Given
+        List<OptionQuoteDto> quotes = List.of(
+                new OptionQuoteDto(100.0, 8.0, OptionType.CALL),
+                new OptionQuoteDto(110.0, 4.0, OptionType.CALL)
+        );
+        OptionChainDto chain = new OptionChainDto(100.0, -1.0, 0.0, quotes);
+
+        // When
+        ImpliedVolatilityChainResponseDto response = impliedVolatilityService.calculateChain(chain);
+
+        // Then
+        assertThat(response.volPoints()).isEmpty();
+        assertThat(response.errors()).hasSize(2);
+        assertThat(response.errors()).allSatisfy(error -> assertThat(error.fields()).containsKey("timeToMaturity"));
+    }
+
+    @Test
+    void should_report_the_errors_of_a_chain_without_quotes_and_of_a_null_chain() {
+        // When
+        ImpliedVolatilityChainResponseDto empty = impliedVolatilityService.calculateChain(
+                new OptionChainDto(100.0, 1.0, 0.0, List.of()));
+        List<ImpliedVolatilityChainResponseDto> chains = impliedVolatilityService.calculateChains(Arrays.asList(
+                null, new OptionChainDto(100.0, 1.0, 0.0, List.of(new OptionQuoteDto(100.0, 8.0, OptionType.CALL)))));
+
+        // Then
+        assertThat(empty.volPoints()).isEmpty();
+        assertThat(empty.chainErrors()).containsKey("quotes");
+        assertThat(chains.get(0).chainErrors()).containsKey("chain");
+        assertThat(chains.get(1).volPoints()).hasSize(1);
+        assertThat(chains.get(1).chainErrors()).isEmpty();
+    }
+
+    @Test
+    void should_keep_the_out_of_the_money_quote_of_a_strike_quoted_twice() {
+        // Given: the forward is 100, so the put is out of the money at 90 and the call at 110
+        double put90 = blackScholes(100.0, 90.0, 0.25, OptionType.PUT);
+        double call110 = blackScholes(100.0, 110.0, 0.2, OptionType.CALL);
+        List<OptionQuoteDto> quotes = List.of(
+                new OptionQuoteDto(90.0, blackScholes(100.0, 90.0, 0.3, OptionType.CALL), OptionType.CALL),
+                new OptionQuoteDto(90.0, put90, OptionType.PUT),
+                new OptionQuoteDto(110.0, call110, OptionType.CALL),
+                new OptionQuoteDto(110.0, blackScholes(100.0, 110.0, 0.3, OptionType.PUT), OptionType.PUT)
+        );
+
+        // When
+        ImpliedVolatilityChainResponseDto response = impliedVolatilityService.calculateChain(
+                new OptionChainDto(100.0, 1.0, 0.0, quotes));
+
+        // Then: one vol point per strike, which builds a smile
+        assertThat(response.volPoints()).hasSize(2);
+        assertThat(response.volPoints().get(0).iv()).isCloseTo(0.25, within(1e-8));
+        assertThat(response.volPoints().get(1).iv()).isCloseTo(0.2, within(1e-8));
+        assertThat(response.errors()).extracting(BatchPricingErrorDto::index).containsExactly(0, 3);
+        assertThat(new VolSmile(response.volPoints()).size()).isEqualTo(2);
+    }
+
+    private static double blackScholes(double S, double K, double sigma, OptionType optionType) {
+        return BlackScholesKernel.priceAndGreeks(S, K, 1.0, 0.0, sigma, optionType).price();
+    }
+}
@@ -0,0 +1,114 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.boundary.ExerciseBoundaryPricer;
+import com.sallyvnge.optionpricingapi.dto.LatticeRequestDto;
+import com.sallyvnge.optionpricingapi.dto.LatticeResponseDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.ExerciseStyle;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatticePricingServiceTest {
+
+    private final LatticePricingService latticePricingService =
+            new LatticePricingService(new PricingMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void should_price_an_american_option_from_its_exercise_boundary_by_default() {
+        // Given
+        LatticeRequestDto request = request(OptionType.PUT).build();
+        double european = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT).price();
+
+        // When
+        LatticeResponseDto response = latticePricingService.calculate(request);
+
+        // Then
+        assertThat(response.exerciseStyle()).isEqualTo(ExerciseStyle.AMERICAN);
+        assertThat(response.pricingModel()).isEqualTo(PricingModel.INTEGRAL_EQUATION);
+        assertThat(response.steps()).isEqualTo(ExerciseBoundaryPricer.NODES);
+        assertThat(response.price()).isCloseTo(6.09037, within(1e-4));
+        assertThat(response.earlyExercisePremium()).isCloseTo(response.price() - european, within(1e-12));
+        assertThat(response.earlyExercisePremium()).isPositive();
+        assertThat(response.input()).isEqualTo(request);
+    }
+
+    @Test
+    void should_price_a_deep_in_the_money_american_put_to_trading_accuracy_by_default() {
+        // Given: close to the boundary, where the default lattice is 2e-2 off
+        LatticeRequestDto request = request(OptionType.PUT)
+                .underlyingPrice(80.0)
+                .timeToMaturity(2.0)
+                .riskFreeRate(0.08)
+                .volatility(0.25)
+                .build();
+
+        // When
+        LatticeResponseDto response = latticePricingService.calculate(request);
+
+        // Then: against extrapolated finite differences of 8000 time steps
+        assertThat(response.price()).isCloseTo(20.26593, within(1e-3));
+    }
+
+    @Test
+    void should_still_price_on_a_lattice_on_request() {
+        // Given
+        LatticeRequestDto request = request(OptionType.PUT).pricingModel(PricingModel.BINOMIAL).build();
+
+        // When
+        LatticeResponseDto response = latticePricingService.calculate(request);
+
+        // Then
+        assertThat(response.pricingModel()).isEqualTo(PricingModel.BINOMIAL);
+        assertThat(response.steps()).isEqualTo(LatticePricingService.DEFAULT_STEPS + 1);
+        assertThat(response.price()).isCloseTo(6.09037, within(5e-4));
+    }
+
+    @Test
+    void should_price_a_european_option_by_black_scholes_by_default() {
+        // Given
+        LatticeRequestDto request = request(OptionType.PUT).exerciseStyle(ExerciseStyle.EUROPEAN).build();
+
+        // When
+        LatticeResponseDto response = latticePricingService.calculate(request);
+
+        // Then
+        assertThat(response.price())
+                .isEqualTo(BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT).price());
+        assertThat(response.earlyExercisePremium()).isZero();
+    }
+
+    @Test
+    void should_report_no_early_exercise_premium_for_a_european_option() {
+        // Given
+        LatticeRequestDto request = request(OptionType.CALL)
+                .exerciseStyle(ExerciseStyle.EUROPEAN)
+                .pricingModel(PricingModel.TRINOMIAL)
+                .steps(100)
+                .build();
+
+        // When
+        LatticeResponseDto response = latticePricingService.calculate(request);
+
+        // Then
+        assertThat(response.steps()).isEqualTo(100);
+        assertThat(response.earlyExercisePremium()).isZero();
+        assertThat(response.price())
+                .isCloseTo(BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL).price(), within(2e-3));
+    }
+
+    private static LatticeRequestDto.LatticeRequestDtoBuilder request(OptionType optionType) {
+        return LatticeRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(optionType);
+    }
+}
@@ -0,0 +1,180 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.MonteCarloRequestDto;
+import com.sallyvnge.optionpricingapi.dto.MonteCarloResponseDto;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.Greek;
+import com.sallyvnge.optionpricingapi.model.Greeks;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PayoffType;
+import com.sallyvnge.optionpricingapi.model.PricingModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MonteCarloPricingServiceTest {
+
+    private PortfolioRevaluationService portfolioRevaluationService;
+    private MonteCarloPricingService monteCarloPricingService;
+
+    @BeforeEach
+    void setUp() {
+        portfolioRevaluationService = new PortfolioRevaluationService(4, 2048);
+        monteCarloPricingService = service(portfolioRevaluationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Test
+    void should_converge_to_black_scholes_for_a_european_payoff() {
+        // Given
+        MonteCarloRequestDto request = request(OptionType.PUT, PayoffType.EUROPEAN, null)
+                .paths(200_000L)
+                .antithetic(false)
+                .controlVariate(false)
+                .build();
+        double expected = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT).price();
+
+        // When
+        MonteCarloResponseDto response = monteCarloPricingService.calculate(request);
+
+        // Then
+        assertThat(response.pricingModel()).isEqualTo(PricingModel.MONTE_CARLO);
+        assertThat(response.paths()).isEqualTo(200_000L);
+        assertThat(response.standardError()).isBetween(0.01, 0.02);
+        assertThat(response.price()).isCloseTo(expected, within(4.0 * response.standardError()));
+    }
+
+    @Test
+    void should_give_the_same_result_whatever_the_number_of_workers() {
+        // Given
+        MonteCarloRequestDto request = request(OptionType.CALL, PayoffType.ASIAN, null)
+                .monitoringDates(12)
+                .paths(50_001L)
+                .seed(7L)
+                .build();
+        PortfolioRevaluationService singleWorker = new PortfolioRevaluationService(1, 2048);
+
+        // When
+        MonteCarloResponseDto parallel = monteCarloPricingService.calculate(request);
+        MonteCarloResponseDto sequential = service(singleWorker).calculate(request);
+        singleWorker.close();
+
+        // Then
+        assertThat(parallel.price()).isEqualTo(sequential.price());
+        assertThat(parallel.standardError()).isEqualTo(sequential.standardError());
+        assertThat(parallel.paths()).isEqualTo(50_002L);
+    }
+
+    @Test
+    void should_reduce_the_standard_error_with_antithetic_and_control_variates() {
+        // Given
+        MonteCarloRequestDto.MonteCarloRequestDtoBuilder asian = request(OptionType.CALL, PayoffType.ASIAN, null)
+                .monitoringDates(12)
+                .paths(100_000L);
+
+        // When
+        MonteCarloResponseDto plain = monteCarloPricingService.calculate(asian.antithetic(false).controlVariate(false).build());
+        MonteCarloResponseDto antithetic = monteCarloPricingService.calculate(asian.antithetic(true).controlVariate(false).build());
+        MonteCarloResponseDto controlled = monteCarloPricingService.calculate(asian.antithetic(true).controlVariate(true).build());
+
+        // Then
+        assertThat(antithetic.standardError()).isLessThan(plain.standardError());
+        assertThat(controlled.standardError()).isLessThan(antithetic.standardError());
+        assertThat(controlled.controlVariateBeta()).isPositive();
+        double tolerance = 4.0 * (plain.standardError() + controlled.standardError());
+        assertThat(controlled.price()).isCloseTo(plain.price(), within(tolerance));
+    }
+
+    @Test
+    void should_split_the_european_payoff_between_knock_in_and_knock_out() {
+        // Given
+        double european = BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL).price();
+
+        // When
+        MonteCarloResponseDto out = monteCarloPricingService.calculate(
+                request(OptionType.CALL, PayoffType.UP_AND_OUT, 120.0).controlVariate(false).build());
+        MonteCarloResponseDto in = monteCarloPricingService.calculate(
+                request(OptionType.CALL, PayoffType.UP_AND_IN, 120.0).controlVariate(false).build());
+
+        // Then
+        assertThat(out.price()).isPositive().isLessThan(european);
+        assertThat(out.price() + in.price()).isCloseTo(european, within(4.0 * (out.standardError() + in.standardError())));
+    }
+
+    @Test
+    void should_price_zero_for_a_knock_out_barrier_already_reached() {
+        // When
+        MonteCarloResponseDto response = monteCarloPricingService.calculate(
+                request(OptionType.PUT, PayoffType.DOWN_AND_OUT, 105.0).paths(1_000L).build());
+
+        // Then
+        assertThat(response.price()).isZero();
+        assertThat(response.standardError()).isZero();
+    }
+
+    @Test
+    void should_estimate_the_black_scholes_greeks_by_adjoint_differentiation() {
+        for (OptionType optionType : OptionType.values()) {
+            // Given
+            MonteCarloRequestDto.MonteCarloRequestDtoBuilder european = request(optionType, PayoffType.EUROPEAN, null)
+                    .paths(200_000L);
+            Greeks expected = new GreeksCalculatorService().calculate(100.0, 100.0, 1.0, 0.05, 0.2, optionType,
+                    EnumSet.allOf(Greek.class));
+
+            // When
+            MonteCarloResponseDto response = monteCarloPricingService.calculate(european.greeks(true).build());
+
+            // Then: the same price as without Greeks, a European payoff being simulated in a single step
+            assertThat(response.price()).isEqualTo(monteCarloPricingService.calculate(european.greeks(false).build()).price());
+            assertThat(response.delta()).isCloseTo(expected.delta(), within(0.005));
+            assertThat(response.vega()).isCloseTo(expected.vega(), within(0.5));
+            assertThat(response.rho()).isCloseTo(expected.rho(), within(0.5));
+            assertThat(response.theta()).isCloseTo(expected.theta(), within(0.1));
+        }
+    }
+
+    @Test
+    void should_estimate_asian_greeks_below_the_european_ones() {
+        // Given
+        MonteCarloRequestDto.MonteCarloRequestDtoBuilder asian = request(OptionType.CALL, PayoffType.ASIAN, null)
+                .monitoringDates(12)
+                .paths(50_000L);
+        Greeks european = new GreeksCalculatorService().calculate(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL,
+                EnumSet.allOf(Greek.class));
+
+        // When
+        MonteCarloResponseDto response = monteCarloPricingService.calculate(asian.greeks(true).build());
+
+        // Then
+        assertThat(response.delta()).isPositive().isLessThan(european.delta());
+        assertThat(response.vega()).isPositive().isLessThan(european.vega());
+        assertThat(monteCarloPricingService.calculate(asian.greeks(false).build()).delta()).isNull();
+    }
+
+    private static MonteCarloPricingService service(PortfolioRevaluationService portfolioRevaluationService) {
+        return new MonteCarloPricingService(portfolioRevaluationService, new PricingMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static MonteCarloRequestDto.MonteCarloRequestDtoBuilder request(OptionType optionType, PayoffType payoffType, Double barrier) {
+        return MonteCarloRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(optionType)
+                .payoffType(payoffType)
+                .barrier(barrier);
+    }
+}
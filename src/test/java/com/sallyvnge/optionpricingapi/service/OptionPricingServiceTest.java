@@ -1,26 +1,40 @@
 package com.sallyvnge.optionpricingapi.service;
 
+import com.sallyvnge.optionpricingapi.cache.PricingResultCache;
 import com.sallyvnge.optionpricingapi.dto.OptionPricingResponseDto;
 import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.VolSliceDto;
+import com.sallyvnge.optionpricingapi.dto.VolSurfaceDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.Greek;
 import com.sallyvnge.optionpricingapi.model.Greeks;
 import com.sallyvnge.optionpricingapi.model.OptionType;
 import com.sallyvnge.optionpricingapi.model.PricingModel;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.within;
 
 class OptionPricingServiceTest {
     private BlackScholesPricingService blackScholesPricingService;
     private GreeksCalculatorService greeksCalculatorService;
+    private VolSurfaceService volSurfaceService;
     private OptionPricingService optionPricingService;
 
     @BeforeEach
     void setUp() {
-        blackScholesPricingService = mock(BlackScholesPricingService.class);
-        greeksCalculatorService = mock(GreeksCalculatorService.class);
-        optionPricingService = new OptionPricingService(blackScholesPricingService, greeksCalculatorService);
+        blackScholesPricingService = new BlackScholesPricingService();
+        greeksCalculatorService = new GreeksCalculatorService();
+        volSurfaceService = new VolSurfaceService();
+        optionPricingService = new OptionPricingService(volSurfaceService, PricingResultCache.disabled(),
+                new PricingMetrics(new SimpleMeterRegistry()), ProxyPricingService.disabled());
     }
 
     @Test
@@ -35,24 +49,217 @@ class OptionPricingServiceTest {
                 .optionType(OptionType.CALL)
                 .build();
 
-        when(blackScholesPricingService.calculatePrice(request)).thenReturn(10.45);
-        when(greeksCalculatorService.calculate(request))
-                .thenReturn(new Greeks(0.6368, 0.0188, 37.52));
-
         // When
         OptionPricingResponseDto response = optionPricingService.calculate(request);
 
         // Then
-        assertThat(response.price()).isEqualTo(10.45);
-        assertThat(response.delta()).isEqualTo(0.6368);
-        assertThat(response.gamma()).isEqualTo(0.0188);
-        assertThat(response.vega()).isEqualTo(37.52);
+        assertThat(response.price()).isCloseTo(10.45, within(0.01));
+        assertThat(response.delta()).isCloseTo(0.6368, within(1e-4));
+        assertThat(response.gamma()).isCloseTo(0.0188, within(1e-4));
+        assertThat(response.vega()).isCloseTo(37.52, within(0.01));
         assertThat(response.volatilityUsed()).isEqualTo(0.2);
         assertThat(response.pricingModel()).isEqualTo(PricingModel.BLACK_SCHOLES);
         assertThat(response.input()).isEqualTo(request);
+    }
+
+    @Test
+    void should_match_separate_price_and_greeks_services() {
+        for (OptionType optionType : OptionType.values()) {
+            // Given
+            OptionRequestDto request = OptionRequestDto.builder()
+                    .underlyingPrice(95.0)
+                    .strikePrice(110.0)
+                    .timeToMaturity(0.75)
+                    .riskFreeRate(0.02)
+                    .volatility(0.35)
+                    .optionType(optionType)
+                    .build();
+
+            // When
+            OptionPricingResponseDto response = optionPricingService.calculate(request);
+
+            // Then
+            Greeks greeks = greeksCalculatorService.calculate(request);
+            assertThat(response.price()).isCloseTo(blackScholesPricingService.calculatePrice(request), within(1e-12));
+            assertThat(response.delta()).isCloseTo(greeks.delta(), within(1e-12));
+            assertThat(response.gamma()).isCloseTo(greeks.gamma(), within(1e-12));
+            assertThat(response.vega()).isCloseTo(greeks.vega(), within(1e-12));
+        }
+    }
+
+    @Test
+    void should_price_with_the_volatility_of_the_referenced_surface() {
+        // Given: a surface at 30% around the strike, and a request without volatility
+        volSurfaceService.register("SPX", new VolSurfaceDto(List.of(
+                new VolSliceDto(0.5, List.of(new VolPoint(90.0, 0.30), new VolPoint(110.0, 0.30))),
+                new VolSliceDto(2.0, List.of(new VolPoint(90.0, 0.30), new VolPoint(110.0, 0.30)))
+        )));
+        OptionRequestDto request = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.CALL)
+                .surfaceId("SPX")
+                .build();
+        OptionRequestDto flat = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.30)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // When
+        OptionPricingResponseDto response = optionPricingService.calculate(request);
 
-        // And verify interactions
-        verify(blackScholesPricingService).calculatePrice(request);
-        verify(greeksCalculatorService).calculate(request);
+        // Then
+        assertThat(response.volatilityUsed()).isCloseTo(0.30, within(1e-15));
+        assertThat(response.price()).isCloseTo(optionPricingService.calculate(flat).price(), within(1e-12));
+    }
+
+    @Test
+    void should_serve_quantized_results_from_the_cache_unless_bypassed() {
+        // Given: a cache rounding the underlying price to 0.05
+        OptionPricingService cachedService = new OptionPricingService(volSurfaceService,
+                new PricingResultCache(100, Duration.ofMinutes(1), 0.05, 0.0, 0.0), new PricingMetrics(new SimpleMeterRegistry()),
+                ProxyPricingService.disabled());
+        OptionRequestDto request = OptionRequestDto.builder()
+                .underlyingPrice(100.01)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+        OptionRequestDto quantized = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // When
+        OptionPricingResponseDto cached = cachedService.calculate(request);
+        OptionPricingResponseDto exact = cachedService.calculate(request, false);
+
+        // Then
+        assertThat(cached.price()).isEqualTo(optionPricingService.calculate(quantized).price());
+        assertThat(cached.input()).isEqualTo(request);
+        assertThat(exact.price()).isEqualTo(optionPricingService.calculate(request).price());
+        assertThat(exact.price()).isNotEqualTo(cached.price());
+    }
+
+    @Test
+    void should_add_only_the_requested_higher_order_greeks_priced_at_the_exact_inputs() {
+        // Given: a cache rounding the underlying price to 0.05
+        OptionPricingService cachedService = new OptionPricingService(volSurfaceService,
+                new PricingResultCache(100, Duration.ofMinutes(1), 0.05, 0.0, 0.0), new PricingMetrics(new SimpleMeterRegistry()),
+                ProxyPricingService.disabled());
+        OptionRequestDto request = OptionRequestDto.builder()
+                .underlyingPrice(100.01)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.PUT)
+                .build();
+
+        // When
+        OptionPricingResponseDto response = cachedService.calculate(request, true, EnumSet.of(Greek.THETA, Greek.VANNA));
+
+        // Then
+        Greeks greeks = greeksCalculatorService.calculate(request);
+        assertThat(response.price()).isEqualTo(optionPricingService.calculate(request).price());
+        assertThat(response.theta()).isEqualTo(greeks.theta());
+        assertThat(response.vanna()).isEqualTo(greeks.vanna());
+        assertThat(response.rho()).isNull();
+        assertThat(response.volga()).isNull();
+        assertThat(response.charm()).isNull();
+        assertThat(response.veta()).isNull();
+        assertThat(optionPricingService.calculate(request).theta()).isNull();
+    }
+
+    @Test
+    void should_compute_every_higher_order_greek_in_the_pricing_pass_as_the_greeks_service_does() {
+        for (OptionType optionType : OptionType.values()) {
+            // Given
+            OptionRequestDto request = OptionRequestDto.builder()
+                    .underlyingPrice(95.0)
+                    .strikePrice(110.0)
+                    .timeToMaturity(0.75)
+                    .riskFreeRate(0.02)
+                    .volatility(0.35)
+                    .optionType(optionType)
+                    .build();
+
+            // When
+            OptionPricingResponseDto response = optionPricingService.calculate(request, true, EnumSet.allOf(Greek.class));
+
+            // Then
+            Greeks greeks = greeksCalculatorService.calculate(request);
+            assertThat(response.price()).isEqualTo(optionPricingService.calculate(request).price());
+            assertThat(response.delta()).isCloseTo(greeks.delta(), within(1e-12));
+            assertThat(response.gamma()).isCloseTo(greeks.gamma(), within(1e-12));
+            assertThat(response.vega()).isCloseTo(greeks.vega(), within(1e-12));
+            assertThat(response.theta()).isCloseTo(greeks.theta(), within(1e-12));
+            assertThat(response.rho()).isCloseTo(greeks.rho(), within(1e-12));
+            assertThat(response.vanna()).isCloseTo(greeks.vanna(), within(1e-12));
+            assertThat(response.volga()).isCloseTo(greeks.volga(), within(1e-12));
+            assertThat(response.charm()).isCloseTo(greeks.charm(), within(1e-12));
+            assertThat(response.veta()).isCloseTo(greeks.veta(), within(1e-12));
+        }
+    }
+
+    @Test
+    void should_interpolate_from_the_proxy_table_within_its_domain_and_price_exactly_outside() throws InterruptedException {
+        // Given
+        ProxyPricingService proxyPricingService = new ProxyPricingService(blackScholesPricingService,
+                greeksCalculatorService, true, 121, 101, 1e-4, 1e-2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OptionPricingService proxiedService = new OptionPricingService(volSurfaceService, PricingResultCache.disabled(),
+                new PricingMetrics(registry), proxyPricingService);
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!proxyPricingService.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        OptionRequestDto inDomain = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(95.0)
+                .timeToMaturity(0.5)
+                .riskFreeRate(0.04)
+                .volatility(0.3)
+                .optionType(OptionType.PUT)
+                .build();
+        OptionRequestDto deepInTheMoney = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(40.0)
+                .timeToMaturity(0.1)
+                .riskFreeRate(0.04)
+                .volatility(0.1)
+                .optionType(OptionType.CALL)
+                .build();
+
+        // When
+        OptionPricingResponseDto proxied = proxiedService.calculate(inDomain);
+        OptionPricingResponseDto bypassed = proxiedService.calculate(inDomain, false);
+        OptionPricingResponseDto fallback = proxiedService.calculate(deepInTheMoney);
+
+        // Then
+        OptionPricingResponseDto exact = optionPricingService.calculate(inDomain);
+        assertThat(proxyPricingService.isReady()).isTrue();
+        assertThat(proxied.price()).isCloseTo(exact.price(), within(1e-2)).isNotEqualTo(exact.price());
+        assertThat(proxied.delta()).isCloseTo(exact.delta(), within(1e-4));
+        assertThat(proxied.gamma()).isCloseTo(exact.gamma(), within(1e-4));
+        assertThat(proxied.vega()).isCloseTo(exact.vega(), within(1e-2));
+        assertThat(bypassed.price()).isEqualTo(exact.price());
+        assertThat(fallback.price()).isEqualTo(optionPricingService.calculate(deepInTheMoney).price());
+        assertThat(registry.get(PricingMetrics.PROXY_LOOKUPS_COUNTER).tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get(PricingMetrics.PROXY_LOOKUPS_COUNTER).tag("result", "fallback").counter().count())
+                .isEqualTo(1.0);
     }
 }
@@ -0,0 +1,115 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesBatchKernel;
+import com.sallyvnge.optionpricingapi.kernel.OptionBatch;
+import com.sallyvnge.optionpricingapi.kernel.PricingResults;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PortfolioRevaluationServiceTest {
+
+    private PortfolioRevaluationService portfolioRevaluationService;
+
+    @BeforeEach
+    void setUp() {
+        portfolioRevaluationService = new PortfolioRevaluationService(4, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Test
+    void should_match_the_sequential_kernel_on_a_book_spanning_many_chunks() {
+        // Given: a book of 64 full chunks and a partial one
+        OptionBatch batch = randomBook(64 * 64 + 13);
+        PricingResults sequential = new PricingResults(batch.size());
+        BlackScholesBatchKernel.price(batch, sequential);
+
+        // When
+        PricingResults parallel = portfolioRevaluationService.price(batch);
+
+        // Then
+        assertThat(parallel.price()).containsExactly(sequential.price());
+        assertThat(parallel.delta()).containsExactly(sequential.delta());
+        assertThat(parallel.gamma()).containsExactly(sequential.gamma());
+        assertThat(parallel.vega()).containsExactly(sequential.vega());
+    }
+
+    @Test
+    void should_price_small_and_empty_books() {
+        // Given
+        OptionBatch small = randomBook(10);
+        OptionBatch empty = new OptionBatch(0);
+        PricingResults expected = new PricingResults(small.size());
+        BlackScholesBatchKernel.price(small, expected);
+
+        // When / Then
+        assertThat(portfolioRevaluationService.price(small).price()).containsExactly(expected.price());
+        assertThat(portfolioRevaluationService.price(empty).capacity()).isZero();
+    }
+
+    @Test
+    void should_run_every_indexed_task_exactly_once_on_the_pool() {
+        // Given
+        int count = 1000;
+        AtomicIntegerArray runs = new AtomicIntegerArray(count);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // When
+        portfolioRevaluationService.forEach(count, i -> {
+            runs.incrementAndGet(i);
+            threads.add(Thread.currentThread().getName());
+        });
+
+        // Then
+        for (int i = 0; i < count; i++) {
+            assertThat(runs.get(i)).isEqualTo(1);
+        }
+        assertThat(threads).allMatch(name -> name.startsWith("revaluation-worker-") || name.equals(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void should_use_the_configured_parallelism_or_every_core() {
+        // When
+        PortfolioRevaluationService defaults = new PortfolioRevaluationService(0, 2048);
+
+        // Then
+        assertThat(portfolioRevaluationService.parallelism()).isEqualTo(4);
+        assertThat(portfolioRevaluationService.chunkSize()).isEqualTo(64);
+        assertThat(defaults.parallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        defaults.close();
+    }
+
+    @Test
+    void should_reject_invalid_configuration() {
+        // When / Then
+        assertThatThrownBy(() -> new PortfolioRevaluationService(-1, 2048))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Parallelism");
+        assertThatThrownBy(() -> new PortfolioRevaluationService(2, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Chunk size");
+    }
+
+    private static OptionBatch randomBook(int size) {
+        SplittableRandom random = new SplittableRandom(7);
+        OptionBatch batch = new OptionBatch(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(100.0, random.nextDouble(50.0, 150.0), random.nextDouble(0.02, 3.0),
+                    random.nextDouble(-0.01, 0.06), random.nextDouble(0.05, 0.8),
+                    random.nextBoolean() ? OptionType.CALL : OptionType.PUT);
+        }
+        return batch;
+    }
+}
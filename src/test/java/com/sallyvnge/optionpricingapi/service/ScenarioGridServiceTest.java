@@ -0,0 +1,176 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridRequestDto;
+import com.sallyvnge.optionpricingapi.dto.ScenarioGridResponseDto;
+import com.sallyvnge.optionpricingapi.dto.VolSliceDto;
+import com.sallyvnge.optionpricingapi.dto.VolSurfaceDto;
+import com.sallyvnge.optionpricingapi.exception.UnknownVolSurfaceException;
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.kernel.ScenarioGridKernel;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ScenarioGridServiceTest {
+
+    private static final double TOLERANCE = 1e-10;
+
+    private ScenarioGridService scenarioGridService;
+    private VolSurfaceService volSurfaceService;
+    private PortfolioRevaluationService portfolioRevaluationService;
+
+    @BeforeEach
+    void setUp() {
+        volSurfaceService = new VolSurfaceService();
+        portfolioRevaluationService = new PortfolioRevaluationService(2, 2048);
+        scenarioGridService = new ScenarioGridService(volSurfaceService, portfolioRevaluationService,
+                new PricingMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        portfolioRevaluationService.close();
+    }
+
+    @Test
+    void should_match_independent_pricing_of_every_scenario() {
+        // Given
+        List<OptionRequestDto> options = List.of(
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                request(80.0, 120.0, 0.25, -0.01, 0.45, OptionType.PUT),
+                request(150.0, 90.0, 3.0, 0.03, 0.1, OptionType.CALL)
+        );
+        List<Double> spotShocks = List.of(-0.2, -0.05, 0.0, 0.05, 0.2);
+        List<Double> volatilityShocks = List.of(-0.05, 0.0, 0.05);
+        List<Double> timeShifts = List.of(0.0, 1.0 / 12.0);
+
+        // When
+        ScenarioGridResponseDto response = scenarioGridService.calculate(
+                new ScenarioGridRequestDto(options, spotShocks, volatilityShocks, timeShifts));
+
+        // Then
+        assertThat(response.grids()).hasSize(options.size());
+        for (int i = 0; i < options.size(); i++) {
+            OptionRequestDto option = options.get(i);
+            ScenarioGridDto grid = response.grids().get(i);
+            assertThat(grid.basePrice()).isCloseTo(BlackScholesKernel.priceAndGreeks(option).price(), within(TOLERANCE));
+            for (int t = 0; t < timeShifts.size(); t++) {
+                for (int v = 0; v < volatilityShocks.size(); v++) {
+                    for (int s = 0; s < spotShocks.size(); s++) {
+                        double expected = BlackScholesKernel.priceAndGreeks(
+                                option.underlyingPrice() * (1.0 + spotShocks.get(s)), option.strikePrice(),
+                                option.timeToMaturity() - timeShifts.get(t), option.riskFreeRate(),
+                                option.volatility() + volatilityShocks.get(v), option.optionType()).price();
+                        assertThat(grid.prices()[t][v][s]).isCloseTo(expected, within(TOLERANCE));
+                        assertThat(grid.pnl()[t][v][s]).isCloseTo(expected - grid.basePrice(), within(TOLERANCE));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void should_sum_the_pnl_of_every_option_per_scenario() {
+        // Given
+        List<OptionRequestDto> options = List.of(
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.CALL),
+                request(100.0, 100.0, 1.0, 0.05, 0.2, OptionType.PUT)
+        );
+
+        // When
+        ScenarioGridResponseDto response = scenarioGridService.calculate(
+                new ScenarioGridRequestDto(options, List.of(-0.1, 0.1), List.of(0.0, 0.1), null));
+
+        // Then
+        assertThat(response.timeShifts()).containsExactly(0.0);
+        for (int v = 0; v < 2; v++) {
+            for (int s = 0; s < 2; s++) {
+                double expected = response.grids().get(0).pnl()[0][v][s] + response.grids().get(1).pnl()[0][v][s];
+                assertThat(response.totalPnl()[0][v][s]).isCloseTo(expected, within(TOLERANCE));
+            }
+        }
+    }
+
+    @Test
+    void should_price_the_payoff_past_maturity_and_floor_the_shocked_volatility() {
+        // Given
+        OptionRequestDto put = request(100.0, 100.0, 0.5, 0.05, 0.2, OptionType.PUT);
+
+        // When
+        ScenarioGridDto grid = scenarioGridService.calculate(
+                new ScenarioGridRequestDto(List.of(put), List.of(-0.1, 0.1), List.of(-0.5), List.of(0.0, 0.5, 1.0))).grids().get(0);
+
+        // Then
+        double floored = BlackScholesKernel.priceAndGreeks(90.0, 100.0, 0.5, 0.05, ScenarioGridKernel.MIN_VOLATILITY, OptionType.PUT).price();
+        assertThat(grid.prices()[0][0][0]).isCloseTo(floored, within(TOLERANCE));
+        assertThat(grid.prices()[1][0]).containsExactly(10.0, 0.0);
+        assertThat(grid.prices()[2][0]).containsExactly(10.0, 0.0);
+    }
+
+    @Test
+    void should_shock_the_volatility_read_from_the_surface() {
+        // Given
+        volSurfaceService.register("grid-surface", new VolSurfaceDto(List.of(
+                new VolSliceDto(1.0, List.of(new VolPoint(80.0, 0.3), new VolPoint(120.0, 0.2)))
+        )));
+        OptionRequestDto option = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .optionType(OptionType.CALL)
+                .surfaceId("grid-surface")
+                .build();
+
+        // When
+        ScenarioGridDto grid = scenarioGridService.calculate(
+                new ScenarioGridRequestDto(List.of(option), List.of(0.0), List.of(0.01), null)).grids().get(0);
+
+        // Then
+        double volatility = volSurfaceService.resolveVolatility(option);
+        assertThat(grid.volatilityUsed()).isEqualTo(volatility);
+        assertThat(grid.prices()[0][0][0]).isCloseTo(
+                BlackScholesKernel.priceAndGreeks(100.0, 100.0, 1.0, 0.05, volatility + 0.01, OptionType.CALL).price(),
+                within(TOLERANCE));
+    }
+
+    @Test
+    void should_throw_given_an_unknown_surface() {
+        // Given
+        OptionRequestDto option = OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .optionType(OptionType.CALL)
+                .surfaceId("missing")
+                .build();
+
+        // When / Then
+        assertThatThrownBy(() -> scenarioGridService.calculate(
+                new ScenarioGridRequestDto(List.of(option), List.of(0.0), List.of(0.0), null)))
+                .isInstanceOf(UnknownVolSurfaceException.class);
+    }
+
+    private static OptionRequestDto request(double S, double K, double T, double r, double sigma, OptionType optionType) {
+        return OptionRequestDto.builder()
+                .underlyingPrice(S)
+                .strikePrice(K)
+                .timeToMaturity(T)
+                .riskFreeRate(r)
+                .volatility(sigma)
+                .optionType(optionType)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.metrics.PricingMetrics;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StreamingPricingServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BlackScholesPricingService blackScholesPricingService;
+    private StreamingPricingService streamingPricingService;
+
+    @BeforeEach
+    void setUp() {
+        BatchPricingService batchPricingService = new BatchPricingService(
+                Validation.buildDefaultValidatorFactory().getValidator(), new VolSurfaceService(),
+                new PricingMetrics(new SimpleMeterRegistry()), new PortfolioRevaluationService(1, 2048));
+        blackScholesPricingService = new BlackScholesPricingService();
+        streamingPricingService = new StreamingPricingService(batchPricingService, objectMapper, 2, 1024);
+    }
+
+    @Test
+    void should_write_one_line_per_record_in_input_order() throws Exception {
+        // Given: five records spread over three chunks, with a blank line, an invalid and a malformed record
+        List<OptionRequestDto> requests = List.of(
+                request(100.0, 100.0, OptionType.CALL),
+                request(100.0, 110.0, OptionType.PUT),
+                request(100.0, 90.0, OptionType.CALL));
+        String body = json(requests.get(0)) + "\n"
+                + "\n"
+                + json(request(100.0, -50.0, OptionType.CALL)) + "\n"
+                + json(requests.get(1)) + "\n"
+                + "{\"underlyingPrice\": 100.0, \"strikePrice\": \n"
+                + json(requests.get(2));
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long records = streamingPricingService.price(inputStream(body), output);
+
+        // Then
+        List<JsonNode> lines = lines(output);
+        assertThat(records).isEqualTo(5);
+        assertThat(lines).hasSize(5);
+
+        assertThat(lines.get(0).get("price").asDouble())
+                .isCloseTo(blackScholesPricingService.calculatePrice(requests.get(0)), within(1e-12));
+        assertThat(lines.get(1).get("index").asInt()).isEqualTo(1);
+        assertThat(lines.get(1).get("fields").has("strikePrice")).isTrue();
+        assertThat(lines.get(2).get("price").asDouble())
+                .isCloseTo(blackScholesPricingService.calculatePrice(requests.get(1)), within(1e-12));
+        assertThat(lines.get(3).get("index").asInt()).isEqualTo(3);
+        assertThat(lines.get(3).get("fields").get("element").asText()).isEqualTo("malformed JSON record");
+        assertThat(lines.get(4).get("price").asDouble())
+                .isCloseTo(blackScholesPricingService.calculatePrice(requests.get(2)), within(1e-12));
+        assertThat(lines.get(4).get("input").get("strikePrice").asDouble()).isEqualTo(90.0);
+    }
+
+    @Test
+    void should_write_each_chunk_before_reading_the_next_one() throws Exception {
+        // Given: the second part of the input only becomes readable after the first chunk of two records
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<Integer> linesWrittenBeforeSecondPart = new ArrayList<>();
+        InputStream firstPart = inputStream(json(request(100.0, 100.0, OptionType.CALL)) + "\n"
+                + json(request(100.0, 105.0, OptionType.CALL)) + "\n");
+        InputStream secondPart = new ByteArrayInputStream((json(request(100.0, 95.0, OptionType.PUT)) + "\n")
+                .getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                if (linesWrittenBeforeSecondPart.isEmpty()) {
+                    linesWrittenBeforeSecondPart.add(lines(output).size());
+                }
+                return super.read(b, off, len);
+            }
+        };
+
+        // When
+        streamingPricingService.price(new SequenceInputStream(firstPart, secondPart), output);
+
+        // Then
+        assertThat(linesWrittenBeforeSecondPart).containsExactly(2);
+        assertThat(lines(output)).hasSize(3);
+    }
+
+    @Test
+    void should_report_records_longer_than_the_limit_and_keep_reading() throws Exception {
+        // Given: a line far longer than the 1024 character limit between two records, the second after a CRLF
+        OptionRequestDto last = request(100.0, 95.0, OptionType.PUT);
+        String body = json(request(100.0, 100.0, OptionType.CALL)) + "\n"
+                + "x".repeat(1_000_000) + "\n"
+                + " ".repeat(1024 - json(last).length()) + json(last) + "\r\n";
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long records = streamingPricingService.price(inputStream(body), output);
+
+        // Then
+        List<JsonNode> lines = lines(output);
+        assertThat(records).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).has("price")).isTrue();
+        assertThat(lines.get(1).get("index").asInt()).isEqualTo(1);
+        assertThat(lines.get(1).get("fields").get("element").asText()).isEqualTo("record longer than 1024 characters");
+        assertThat(lines.get(2).get("price").asDouble())
+                .isCloseTo(blackScholesPricingService.calculatePrice(last), within(1e-12));
+    }
+
+    @Test
+    void should_write_nothing_for_an_empty_stream() throws Exception {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long records = streamingPricingService.price(inputStream(""), output);
+
+        // Then
+        assertThat(records).isZero();
+        assertThat(output.size()).isZero();
+    }
+
+    @Test
+    void should_leave_out_the_input_of_result_lines_when_not_echoed() throws Exception {
+        // Given
+        String body = json(request(100.0, 100.0, OptionType.CALL)) + "\n" + json(request(100.0, -50.0, OptionType.PUT));
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamingPricingService.price(inputStream(body), output, false);
+
+        // Then
+        List<JsonNode> lines = lines(output);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).has("input")).isFalse();
+        assertThat(lines.get(0).get("volatilityUsed").asDouble()).isEqualTo(0.2);
+        assertThat(lines.get(1).get("index").asInt()).isEqualTo(1);
+    }
+
+    private OptionRequestDto request(double S, double K, OptionType optionType) {
+        return OptionRequestDto.builder()
+                .underlyingPrice(S)
+                .strikePrice(K)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(optionType)
+                .build();
+    }
+
+    private String json(OptionRequestDto request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InputStream inputStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream output) {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                try {
+                    lines.add(objectMapper.readTree(line));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return lines;
+    }
+}
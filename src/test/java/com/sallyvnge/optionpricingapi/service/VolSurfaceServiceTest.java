@@ -0,0 +1,103 @@
+package com.sallyvnge.optionpricingapi.service;
+
+import com.sallyvnge.optionpricingapi.dto.OptionRequestDto;
+import com.sallyvnge.optionpricingapi.dto.VolSliceDto;
+import com.sallyvnge.optionpricingapi.dto.VolSurfaceDto;
+import com.sallyvnge.optionpricingapi.exception.InvalidVolSurfaceException;
+import com.sallyvnge.optionpricingapi.exception.UnknownVolSurfaceException;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.volatility.VolPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VolSurfaceServiceTest {
+    private VolSurfaceService volSurfaceService;
+
+    @BeforeEach
+    void setUp() {
+        volSurfaceService = new VolSurfaceService();
+    }
+
+    @Test
+    void should_register_replace_and_remove_surfaces() {
+        // When
+        volSurfaceService.register("SPX", surface(0.2));
+        volSurfaceService.register("SPX", surface(0.3));
+
+        // Then
+        assertThat(volSurfaceService.find("SPX")).isPresent();
+        assertThat(volSurfaceService.get("SPX").slices().get(0).volPoints().get(0).iv()).isEqualTo(0.3);
+        assertThat(volSurfaceService.remove("SPX")).isTrue();
+        assertThat(volSurfaceService.remove("SPX")).isFalse();
+        assertThat(volSurfaceService.find("SPX")).isEmpty();
+    }
+
+    @Test
+    void should_resolve_the_volatility_of_the_referenced_surface() {
+        // Given
+        volSurfaceService.register("SPX", surface(0.3));
+        OptionRequestDto flat = request(null);
+        OptionRequestDto onSurface = request("SPX");
+
+        // Then
+        assertThat(volSurfaceService.resolveVolatility(flat)).isEqualTo(0.2);
+        assertThat(volSurfaceService.resolveVolatility(onSurface)).isEqualTo(0.3);
+        assertThatThrownBy(() -> volSurfaceService.resolveVolatility(request("NDX")))
+                .isInstanceOf(UnknownVolSurfaceException.class);
+        assertThatThrownBy(() -> volSurfaceService.get("NDX"))
+                .isInstanceOf(UnknownVolSurfaceException.class);
+    }
+
+    @Test
+    void should_reject_a_surface_with_duplicate_maturities() {
+        // Given
+        VolSurfaceDto duplicated = new VolSurfaceDto(List.of(
+                new VolSliceDto(1.0, List.of(new VolPoint(100.0, 0.2))),
+                new VolSliceDto(1.0, List.of(new VolPoint(100.0, 0.3)))
+        ));
+
+        // Then
+        assertThatThrownBy(() -> volSurfaceService.register("SPX", duplicated))
+                .isInstanceOf(InvalidVolSurfaceException.class);
+        assertThat(volSurfaceService.find("SPX")).isEmpty();
+    }
+
+    @Test
+    void should_reject_a_slice_with_a_non_positive_strike_or_volatility() {
+        // Given
+        VolSurfaceDto negativeStrike = new VolSurfaceDto(List.of(
+                new VolSliceDto(1.0, List.of(new VolPoint(-10.0, 0.2), new VolPoint(100.0, 0.2)))));
+        VolSurfaceDto zeroVolatility = new VolSurfaceDto(List.of(
+                new VolSliceDto(1.0, List.of(new VolPoint(90.0, 0.0), new VolPoint(100.0, 0.2)))));
+
+        // Then
+        assertThatThrownBy(() -> volSurfaceService.register("SPX", negativeStrike))
+                .isInstanceOf(InvalidVolSurfaceException.class)
+                .hasMessageContaining("Strikes");
+        assertThatThrownBy(() -> volSurfaceService.register("SPX", zeroVolatility))
+                .isInstanceOf(InvalidVolSurfaceException.class)
+                .hasMessageContaining("Implied volatilities");
+        assertThat(volSurfaceService.find("SPX")).isEmpty();
+    }
+
+    private static VolSurfaceDto surface(double iv) {
+        return new VolSurfaceDto(List.of(new VolSliceDto(1.0, List.of(new VolPoint(90.0, iv), new VolPoint(110.0, iv)))));
+    }
+
+    private static OptionRequestDto request(String surfaceId) {
+        return OptionRequestDto.builder()
+                .underlyingPrice(100.0)
+                .strikePrice(100.0)
+                .timeToMaturity(1.0)
+                .riskFreeRate(0.05)
+                .volatility(0.2)
+                .optionType(OptionType.CALL)
+                .surfaceId(surfaceId)
+                .build();
+    }
+}
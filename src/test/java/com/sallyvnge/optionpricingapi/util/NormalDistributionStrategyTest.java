@@ -0,0 +1,67 @@
+package com.sallyvnge.optionpricingapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class NormalDistributionStrategyTest {
+
+    private static final NormalDistributionStrategy REFERENCE = NormalDistributionStrategy.COMMONS_MATH;
+    private static final NormalDistributionStrategy RATIONAL = NormalDistributionStrategy.RATIONAL;
+
+    @Test
+    void should_stay_within_documented_cdf_error_over_whole_domain() {
+        // Given: every point of a 1e-4 grid over [-38, 38]
+        double maxError = 0.0;
+
+        // When
+        for (int i = -380_000; i <= 380_000; i++) {
+            double x = i * 1e-4;
+            maxError = Math.max(maxError, Math.abs(RATIONAL.cumulativeDistribution(x) - REFERENCE.cumulativeDistribution(x)));
+        }
+
+        // Then
+        assertThat(maxError).isLessThan(6e-16);
+    }
+
+    @Test
+    void should_stay_within_documented_pdf_error_over_whole_domain() {
+        // Given: every point of a 1e-4 grid over [-38, 38]
+        double maxError = 0.0;
+
+        // When
+        for (int i = -380_000; i <= 380_000; i++) {
+            double x = i * 1e-4;
+            maxError = Math.max(maxError, Math.abs(RATIONAL.probabilityDensity(x) - REFERENCE.probabilityDensity(x)));
+        }
+
+        // Then
+        assertThat(maxError).isLessThan(2e-16);
+    }
+
+    @Test
+    void should_keep_relative_accuracy_in_the_lower_tail() {
+        for (int i = -380_000; i <= -70_000; i++) {
+            // Given
+            double x = i * 1e-4;
+            double reference = REFERENCE.cumulativeDistribution(x);
+
+            // When
+            double value = RATIONAL.cumulativeDistribution(x);
+
+            // Then
+            assertThat(value).isCloseTo(reference, within(1e-8 * reference));
+        }
+    }
+
+    @Test
+    void should_be_symmetric_and_saturate_at_domain_bounds() {
+        assertThat(RATIONAL.cumulativeDistribution(0.0)).isEqualTo(0.5);
+        assertThat(RATIONAL.cumulativeDistribution(1.3) + RATIONAL.cumulativeDistribution(-1.3)).isCloseTo(1.0, within(1e-16));
+        assertThat(RATIONAL.cumulativeDistribution(-40.0)).isZero();
+        assertThat(RATIONAL.cumulativeDistribution(40.0)).isEqualTo(1.0);
+        assertThat(RATIONAL.cumulativeDistribution(Double.NEGATIVE_INFINITY)).isZero();
+        assertThat(RATIONAL.cumulativeDistribution(Double.POSITIVE_INFINITY)).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,136 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class CompiledVolSmileTest {
+
+    @Test
+    void should_match_a_linear_scan_on_a_uniform_strike_grid() {
+        // Given: evenly spaced strikes, located by bucket index
+        List<VolPoint> points = new ArrayList<>();
+        for (int i = 0; i < 41; i++) {
+            double strike = 60.0 + 2.0 * i;
+            points.add(new VolPoint(strike, 0.2 + 0.0001 * (strike - 100.0) * (strike - 100.0)));
+        }
+
+        // Then
+        assertMatchesLinearScan(new VolSmile(points), 55.0, 145.0);
+    }
+
+    @Test
+    void should_match_a_linear_scan_on_an_irregular_strike_grid() {
+        // Given: randomly spaced strikes, located by binary search
+        SplittableRandom random = new SplittableRandom(7);
+        List<VolPoint> points = new ArrayList<>();
+        double strike = 40.0;
+        for (int i = 0; i < 30; i++) {
+            strike += random.nextDouble(0.5, 10.0);
+            points.add(new VolPoint(strike, random.nextDouble(0.1, 0.5)));
+        }
+
+        // Then
+        assertMatchesLinearScan(new VolSmile(points), 30.0, strike + 10.0);
+    }
+
+    @Test
+    void should_match_a_linear_scan_in_log_moneyness_for_any_forward() {
+        // Given: strikes evenly spaced in log-strike
+        List<VolPoint> points = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            points.add(new VolPoint(100.0 * Math.exp(0.05 * (i - 10)), 0.25 - 0.004 * i));
+        }
+        VolSmile smile = new VolSmile(points);
+        CompiledVolSmile compiled = new CompiledVolSmile(smile);
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (int i = 0; i < 10_000; i++) {
+            double strike = random.nextDouble(50.0, 200.0);
+            double forward = random.nextDouble(80.0, 120.0);
+
+            // When
+            double iv = compiled.ivAtStrikeLogMoneyness(strike);
+
+            // Then
+            List<VolPoint> logMoneynessPoints = smile.volPoints().stream()
+                    .map(p -> new VolPoint(Math.log(p.strike() / forward), p.iv()))
+                    .toList();
+            assertThat(iv).isCloseTo(linearScan(logMoneynessPoints, Math.log(strike / forward)), within(1e-12));
+        }
+    }
+
+    @Test
+    void should_return_node_values_exactly_and_extrapolate_flat() {
+        // Given
+        CompiledVolSmile compiled = new CompiledVolSmile(new VolSmile(List.of(
+                new VolPoint(90.0, 0.25),
+                new VolPoint(100.0, 0.20),
+                new VolPoint(110.0, 0.30)
+        )));
+
+        // Then
+        assertThat(compiled.size()).isEqualTo(3);
+        assertThat(compiled.ivAtStrike(90.0)).isEqualTo(0.25);
+        assertThat(compiled.ivAtStrike(100.0)).isEqualTo(0.20);
+        assertThat(compiled.ivAtStrike(110.0)).isEqualTo(0.30);
+        assertThat(compiled.ivAtStrike(10.0)).isEqualTo(0.25);
+        assertThat(compiled.ivAtStrike(1000.0)).isEqualTo(0.30);
+        assertThat(compiled.ivAtStrikeLogMoneyness(100.0)).isEqualTo(0.20);
+        assertThat(compiled.ivAtStrikeLogMoneyness(1000.0)).isEqualTo(0.30);
+    }
+
+    @Test
+    void should_handle_single_point_smile() {
+        // Given
+        CompiledVolSmile compiled = new CompiledVolSmile(new VolSmile(List.of(new VolPoint(100.0, 0.2))));
+
+        // Then
+        assertThat(compiled.ivAtStrike(50.0)).isEqualTo(0.2);
+        assertThat(compiled.ivAtStrikeLogMoneyness(150.0)).isEqualTo(0.2);
+    }
+
+    @Test
+    void should_reject_empty_smile() {
+        assertThatThrownBy(() -> new CompiledVolSmile(new VolSmile(List.of())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cannot interpolate with empty points list");
+    }
+
+    private static void assertMatchesLinearScan(VolSmile smile, double minStrike, double maxStrike) {
+        CompiledVolSmile compiled = new CompiledVolSmile(smile);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 10_000; i++) {
+            double strike = random.nextDouble(minStrike, maxStrike);
+            assertThat(compiled.ivAtStrike(strike))
+                    .as("strike %s", strike)
+                    .isCloseTo(linearScan(smile.volPoints(), strike), within(1e-14));
+        }
+        for (VolPoint point : smile.volPoints()) {
+            assertThat(compiled.ivAtStrike(point.strike())).isCloseTo(point.iv(), within(1e-15));
+        }
+    }
+
+    /**
+     * Reference implementation: scans the sorted points for the surrounding pair.
+     */
+    private static double linearScan(List<VolPoint> points, double x) {
+        if (x <= points.get(0).strike()) {
+            return points.get(0).iv();
+        }
+        for (int i = 0; i < points.size() - 1; i++) {
+            VolPoint p1 = points.get(i);
+            VolPoint p2 = points.get(i + 1);
+            if (x <= p2.strike()) {
+                return p1.iv() + (p2.iv() - p1.iv()) / (p2.strike() - p1.strike()) * (x - p1.strike());
+            }
+        }
+        return points.get(points.size() - 1).iv();
+    }
+}
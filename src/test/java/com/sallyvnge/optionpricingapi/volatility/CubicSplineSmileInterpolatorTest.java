@@ -0,0 +1,120 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CubicSplineSmileInterpolatorTest {
+
+    private CubicSplineSmileInterpolator interpolator;
+    private VolSmile testSmile;
+
+    @BeforeEach
+    void setUp() {
+        interpolator = new CubicSplineSmileInterpolator();
+        testSmile = new VolSmile(List.of(
+                new VolPoint(80.0, 0.30),
+                new VolPoint(90.0, 0.24),
+                new VolPoint(100.0, 0.20),
+                new VolPoint(115.0, 0.22),
+                new VolPoint(130.0, 0.27)
+        ));
+    }
+
+    @Test
+    void should_return_exact_values_at_nodes() {
+        // When / Then
+        for (VolPoint point : testSmile.volPoints()) {
+            assertThat(interpolator.ivAtStrike(testSmile, point.strike())).isCloseTo(point.iv(), within(1e-14));
+        }
+    }
+
+    @Test
+    void should_extrapolate_flat_beyond_the_smile() {
+        // When / Then
+        assertThat(interpolator.ivAtStrike(testSmile, 60.0)).isEqualTo(0.30);
+        assertThat(interpolator.ivAtStrike(testSmile, 200.0)).isEqualTo(0.27);
+    }
+
+    @Test
+    void should_be_twice_continuously_differentiable_with_natural_ends() {
+        // Given
+        double h = 1e-4;
+
+        // When / Then: first and second derivatives match across every interior node
+        for (double node : new double[]{90.0, 100.0, 115.0}) {
+            double left = slope(node - h, h);
+            double right = slope(node + h, h);
+            assertThat(right).isCloseTo(left, within(1e-5));
+            assertThat(curvature(node + 2 * h, h)).isCloseTo(curvature(node - 2 * h, h), within(1e-4));
+        }
+        assertThat(curvature(80.0 + 2 * h, h)).isCloseTo(0.0, within(1e-4));
+        assertThat(curvature(130.0 - 2 * h, h)).isCloseTo(0.0, within(1e-4));
+    }
+
+    @Test
+    void should_reproduce_a_straight_line_exactly() {
+        // Given: a straight line has zero curvature everywhere, so the natural spline is exact
+        List<VolPoint> points = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            double strike = 70.0 + 10.0 * i + (i % 2) * 3.0;
+            points.add(new VolPoint(strike, 0.1 + 0.002 * strike));
+        }
+        Collections.reverse(points);
+        VolSmile line = new VolSmile(points);
+
+        // When / Then
+        for (double strike = 70.0; strike <= 130.0; strike += 2.5) {
+            assertThat(interpolator.ivAtStrike(line, strike)).isCloseTo(0.1 + 0.002 * strike, within(1e-12));
+        }
+    }
+
+    @Test
+    void should_handle_one_and_two_point_smiles() {
+        // Given
+        VolSmile single = new VolSmile(List.of(new VolPoint(100.0, 0.2)));
+        VolSmile pair = new VolSmile(List.of(new VolPoint(90.0, 0.3), new VolPoint(110.0, 0.2)));
+
+        // When / Then
+        assertThat(interpolator.ivAtStrike(single, 120.0)).isEqualTo(0.2);
+        assertThat(interpolator.ivAtStrike(pair, 100.0)).isCloseTo(0.25, within(1e-14));
+    }
+
+    @Test
+    void should_reuse_the_fitted_spline_for_the_same_smile() {
+        // When
+        CubicSplineVolSmile first = interpolator.fit(testSmile);
+        CubicSplineVolSmile second = interpolator.fit(testSmile);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.source()).isSameAs(testSmile);
+    }
+
+    @Test
+    void should_throw_exception_for_empty_smile() {
+        // Given
+        VolSmile emptySmile = new VolSmile(Collections.emptyList());
+
+        // When / Then
+        assertThatThrownBy(() -> interpolator.ivAtStrike(emptySmile, 100.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("empty points list");
+    }
+
+    private double slope(double strike, double h) {
+        return (interpolator.ivAtStrike(testSmile, strike + 0.5 * h) - interpolator.ivAtStrike(testSmile, strike - 0.5 * h)) / h;
+    }
+
+    private double curvature(double strike, double h) {
+        double up = interpolator.ivAtStrike(testSmile, strike + h);
+        double mid = interpolator.ivAtStrike(testSmile, strike);
+        double down = interpolator.ivAtStrike(testSmile, strike - h);
+        return (up - 2.0 * mid + down) / (h * h);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import com.sallyvnge.optionpricingapi.kernel.BlackScholesKernel;
+import com.sallyvnge.optionpricingapi.model.OptionType;
+import com.sallyvnge.optionpricingapi.model.PriceAndGreeks;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ImpliedVolatilitySolverTest {
+
+    @Test
+    void should_recover_the_pricing_volatility_across_strikes_maturities_and_volatilities() {
+        // Given
+        double S = 100.0;
+        double[] strikes = {40.0, 70.0, 90.0, 99.0, 100.0, 101.0, 110.0, 130.0, 200.0};
+        double[] maturities = {1.0 / 52.0, 0.25, 1.0, 5.0, 10.0};
+        double[] rates = {-0.01, 0.05};
+        double[] volatilities = {0.05, 0.1, 0.2, 0.4, 0.8, 1.5};
+
+        for (OptionType optionType : OptionType.values()) {
+            for (double K : strikes) {
+                for (double T : maturities) {
+                    for (double r : rates) {
+                        for (double sigma : volatilities) {
+                            PriceAndGreeks priced = BlackScholesKernel.priceAndGreeks(S, K, T, r, sigma, optionType);
+                            // Exact up to the rounding error of the price itself, amplified by 1 / vega
+                            double tolerance = 1e-12 * sigma + 1e-13 * S / priced.vega();
+                            if (priced.price() < 1e-200 || tolerance > 0.01 * sigma) {
+                                continue;
+                            }
+
+                            // When
+                            double iv = ImpliedVolatilitySolver.impliedVolatility(priced.price(), S, K, T, r, optionType);
+
+                            // Then
+                            assertThat(iv)
+                                    .as("%s K=%s T=%s r=%s sigma=%s", optionType, K, T, r, sigma)
+                                    .isCloseTo(sigma, within(tolerance));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void should_reach_full_precision_on_a_typical_quote() {
+        // Given
+        double price = BlackScholesKernel.priceAndGreeks(100.0, 110.0, 0.5, 0.03, 0.27, OptionType.CALL).price();
+
+        // When
+        double iv = ImpliedVolatilitySolver.impliedVolatility(price, 100.0, 110.0, 0.5, 0.03, OptionType.CALL);
+
+        // Then
+        assertThat(iv).isCloseTo(0.27, within(1e-15));
+    }
+
+    @Test
+    void should_recover_tiny_volatilities_of_far_out_of_the_money_options() {
+        // Given: a price around 1e-30
+        double price = BlackScholesKernel.priceAndGreeks(100.0, 150.0, 1.0, 0.0, 0.03, OptionType.CALL).price();
+
+        // When
+        double iv = ImpliedVolatilitySolver.impliedVolatility(price, 100.0, 150.0, 1.0, 0.0, OptionType.CALL);
+
+        // Then
+        assertThat(price).isLessThan(1e-20);
+        assertThat(iv).isCloseTo(0.03, within(1e-14));
+    }
+
+    @Test
+    void should_return_zero_at_the_intrinsic_value() {
+        // Given: the discounted intrinsic value of an in-the-money put
+        double intrinsic = 120.0 * Math.exp(-0.05) - 100.0;
+
+        // When
+        double iv = ImpliedVolatilitySolver.impliedVolatility(intrinsic, 100.0, 120.0, 1.0, 0.05, OptionType.PUT);
+
+        // Then
+        assertThat(iv).isZero();
+    }
+
+    @Test
+    void should_return_nan_outside_the_no_arbitrage_bounds() {
+        // Then: a call is worth less than the underlying and more than the discounted intrinsic value
+        assertThat(ImpliedVolatilitySolver.impliedVolatility(100.0, 100.0, 90.0, 1.0, 0.05, OptionType.CALL)).isNaN();
+        assertThat(ImpliedVolatilitySolver.impliedVolatility(10.0, 100.0, 80.0, 1.0, 0.05, OptionType.CALL)).isNaN();
+        // A put is worth less than the discounted strike
+        assertThat(ImpliedVolatilitySolver.impliedVolatility(96.0, 100.0, 100.0, 1.0, 0.05, OptionType.PUT)).isNaN();
+    }
+}
@@ -131,4 +131,22 @@ class LinearSmileInterpolatorTest {
             assertThat(ivLogMoneyness).isCloseTo(ivNormal, within(1e-10));
         }
     }
+
+    @Test
+    void should_reuse_the_compiled_form_of_the_same_smile() {
+        // When
+        CompiledVolSmile first = interpolator.compile(testSmile);
+        CompiledVolSmile second = interpolator.compile(testSmile);
+
+        // Then: an equal but distinct smile is compiled again
+        assertThat(second).isSameAs(first);
+        assertThat(first.source()).isSameAs(testSmile);
+        assertThat(interpolator.compile(new VolSmile(testSmile.volPoints()))).isNotSameAs(first);
+    }
+
+    @Test
+    void should_expose_unmodifiable_points() {
+        assertThatThrownBy(() -> testSmile.volPoints().add(new VolPoint(120.0, 0.35)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
 }
@@ -0,0 +1,107 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SviSmileInterpolatorTest {
+
+    private static final SviParameters TRUE_PARAMETERS =
+            new SviParameters(0.02, 0.1, -0.4, Math.log(105.0), 0.15);
+
+    private SviSmileInterpolator interpolator;
+    private VolSmile sviSmile;
+
+    @BeforeEach
+    void setUp() {
+        interpolator = new SviSmileInterpolator();
+
+        List<VolPoint> points = new ArrayList<>();
+        for (double strike = 60.0; strike <= 160.0; strike += 10.0) {
+            points.add(new VolPoint(strike, TRUE_PARAMETERS.ivAtStrike(strike)));
+        }
+        sviSmile = new VolSmile(points);
+    }
+
+    @Test
+    void should_recover_the_parameters_of_an_svi_smile() {
+        // When
+        SviParameters fitted = interpolator.calibrate(sviSmile);
+
+        // Then
+        assertThat(fitted.a()).isCloseTo(TRUE_PARAMETERS.a(), within(1e-5));
+        assertThat(fitted.b()).isCloseTo(TRUE_PARAMETERS.b(), within(1e-5));
+        assertThat(fitted.rho()).isCloseTo(TRUE_PARAMETERS.rho(), within(1e-4));
+        assertThat(fitted.m()).isCloseTo(TRUE_PARAMETERS.m(), within(1e-4));
+        assertThat(fitted.sigma()).isCloseTo(TRUE_PARAMETERS.sigma(), within(1e-4));
+    }
+
+    @Test
+    void should_interpolate_and_extrapolate_along_the_fitted_curve() {
+        // When / Then
+        for (double strike : new double[]{40.0, 75.0, 103.0, 147.0, 250.0}) {
+            assertThat(interpolator.ivAtStrike(sviSmile, strike))
+                    .isCloseTo(TRUE_PARAMETERS.ivAtStrike(strike), within(1e-6));
+        }
+    }
+
+    @Test
+    void should_fit_a_noisy_smile_with_admissible_parameters() {
+        // Given: a quadratic smile in log-moneyness with alternating noise
+        List<VolPoint> points = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            double strike = 70.0 + 7.5 * i;
+            double moneyness = Math.log(strike / 100.0);
+            points.add(new VolPoint(strike, 0.2 - 0.1 * moneyness + 0.5 * moneyness * moneyness + (i % 2 == 0 ? 0.002 : -0.002)));
+        }
+        VolSmile noisy = new VolSmile(points);
+
+        // When
+        SviParameters fitted = interpolator.calibrate(noisy);
+
+        // Then
+        assertThat(fitted.b()).isGreaterThanOrEqualTo(0.0);
+        assertThat(fitted.rho()).isBetween(-1.0, 1.0);
+        assertThat(fitted.sigma()).isPositive();
+        for (VolPoint point : noisy.volPoints()) {
+            assertThat(interpolator.ivAtStrike(noisy, point.strike())).isCloseTo(point.iv(), within(0.005));
+        }
+    }
+
+    @Test
+    void should_reuse_the_fit_for_the_same_smile() {
+        // When
+        SviParameters first = interpolator.calibrate(sviSmile);
+        SviParameters second = interpolator.calibrate(sviSmile);
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void should_reject_smiles_too_small_to_fit() {
+        // Given
+        VolSmile pair = new VolSmile(List.of(new VolPoint(90.0, 0.25), new VolPoint(110.0, 0.2)));
+
+        // When / Then
+        assertThatThrownBy(() -> interpolator.ivAtStrike(pair, 100.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least 3 points");
+    }
+
+    @Test
+    void should_reject_non_positive_strikes() {
+        // Given
+        VolSmile logMoneynessSmile = new VolSmile(List.of(
+                new VolPoint(-0.1, 0.25), new VolPoint(0.0, 0.2), new VolPoint(0.1, 0.22)));
+
+        // When / Then
+        assertThatThrownBy(() -> interpolator.calibrate(logMoneynessSmile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("positive strikes");
+    }
+}
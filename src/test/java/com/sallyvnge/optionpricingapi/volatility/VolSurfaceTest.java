@@ -0,0 +1,96 @@
+package com.sallyvnge.optionpricingapi.volatility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class VolSurfaceTest {
+
+    private VolSmile shortSmile;
+    private VolSmile longSmile;
+    private VolSurface surface;
+
+    @BeforeEach
+    void setUp() {
+        shortSmile = new VolSmile(List.of(
+                new VolPoint(90.0, 0.30),
+                new VolPoint(100.0, 0.25),
+                new VolPoint(110.0, 0.28)
+        ));
+        longSmile = new VolSmile(List.of(
+                new VolPoint(80.0, 0.24),
+                new VolPoint(100.0, 0.20),
+                new VolPoint(120.0, 0.22)
+        ));
+        // Given in reverse order on purpose
+        surface = new VolSurface(List.of(new VolSlice(2.0, longSmile), new VolSlice(0.5, shortSmile)));
+    }
+
+    @Test
+    void should_sort_slices_by_maturity() {
+        assertThat(surface.slices()).extracting(VolSlice::timeToMaturity).containsExactly(0.5, 2.0);
+    }
+
+    @Test
+    void should_return_slice_volatilities_at_slice_maturities() {
+        LinearSmileInterpolator interpolator = new LinearSmileInterpolator();
+
+        assertThat(surface.iv(0.5, 100.0)).isEqualTo(0.25);
+        assertThat(surface.iv(2.0, 120.0)).isEqualTo(0.22);
+        assertThat(surface.iv(0.5, 95.0)).isCloseTo(interpolator.ivAtStrikeLogMoneyness(shortSmile, 95.0, 100.0), within(1e-15));
+    }
+
+    @Test
+    void should_interpolate_total_variance_linearly_between_slices() {
+        // Given
+        double T = 1.25;
+        double K = 100.0;
+
+        // When
+        double iv = surface.iv(T, K);
+
+        // Then: sigma² T lies halfway between 0.25² * 0.5 and 0.20² * 2
+        double expectedVariance = 0.5 * (0.25 * 0.25 * 0.5) + 0.5 * (0.20 * 0.20 * 2.0);
+        assertThat(iv * iv * T).isCloseTo(expectedVariance, within(1e-15));
+    }
+
+    @Test
+    void should_extrapolate_flat_volatility_outside_the_maturity_range() {
+        assertThat(surface.iv(0.1, 100.0)).isEqualTo(0.25);
+        assertThat(surface.iv(10.0, 100.0)).isEqualTo(0.20);
+    }
+
+    @Test
+    void should_return_the_same_volatility_from_the_cache() {
+        // Given: enough distinct queries to evict each other from the cache
+        double[][] queries = new double[2000][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new double[]{0.25 + 0.001 * i, 70.0 + 0.03 * i};
+        }
+        double[] first = new double[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            first[i] = surface.iv(queries[i][0], queries[i][1]);
+        }
+
+        // Then
+        for (int i = queries.length - 1; i >= 0; i--) {
+            assertThat(surface.iv(queries[i][0], queries[i][1])).isEqualTo(first[i]);
+        }
+    }
+
+    @Test
+    void should_reject_duplicate_maturities_and_empty_surfaces() {
+        assertThatThrownBy(() -> new VolSurface(List.of(new VolSlice(1.0, shortSmile), new VolSlice(1.0, longSmile))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate maturity");
+        assertThatThrownBy(() -> new VolSurface(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new VolSlice(0.0, shortSmile))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}